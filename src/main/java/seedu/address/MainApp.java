@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +14,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -27,22 +29,22 @@ import seedu.address.model.ProductDatabase;
 import seedu.address.model.ReadOnlyDistributorBook;
 import seedu.address.model.ReadOnlyProductDatabase;
 import seedu.address.model.ReadOnlyUserDatabase;
+import seedu.address.model.ReminderScheduler;
 import seedu.address.model.UserDatabase;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.model.util.SampleDistributorsUtil;
 import seedu.address.model.util.SampleUsersUtil;
+import seedu.address.storage.DataStorageFactory;
 import seedu.address.storage.DistributorBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ParallelDataLoader;
 import seedu.address.storage.ProductDatabaseStorage;
 import seedu.address.storage.SalesHistoryStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserDatabaseStorage;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlDistributorBookStorage;
-import seedu.address.storage.XmlProductDatabaseStorage;
-import seedu.address.storage.XmlSalesHistoryStorage;
 import seedu.address.storage.XmlUserDatabaseStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -60,6 +62,7 @@ public class MainApp extends Application {
     protected Logic logic;
     protected Storage storage;
     protected Model model;
+    protected ReminderScheduler reminderScheduler;
     protected Config config;
     protected UserPrefs userPrefs;
 
@@ -77,19 +80,23 @@ public class MainApp extends Application {
         userPrefs = initPrefs(userPrefsStorage);
         UserDatabaseStorage usersStorage =
                 new XmlUserDatabaseStorage(userPrefs.getUsersFilePath());
-        ProductDatabaseStorage productDatabaseStorage =
-                new XmlProductDatabaseStorage(userPrefs.getProductDatabaseFilePath());
-        SalesHistoryStorage salesHistoryStorage =
-                new XmlSalesHistoryStorage(userPrefs.getSalesHistoryFilePath());
-        DistributorBookStorage distributorBookStorage =
-                new XmlDistributorBookStorage(userPrefs.getDistributorBookFilePath());
+        StorageFormat storageFormat = userPrefs.getStorageFormat();
+        ProductDatabaseStorage productDatabaseStorage = DataStorageFactory.createProductDatabaseStorage(
+                storageFormat, userPrefs.getProductDatabaseFilePath());
+        SalesHistoryStorage salesHistoryStorage = DataStorageFactory.createSalesHistoryStorage(
+                storageFormat, userPrefs.getSalesHistoryFilePath());
+        DistributorBookStorage distributorBookStorage = DataStorageFactory.createDistributorBookStorage(
+                storageFormat, userPrefs.getDistributorBookFilePath());
         storage = new StorageManager(productDatabaseStorage, distributorBookStorage,
-                userPrefsStorage, usersStorage, salesHistoryStorage);
+                userPrefsStorage, usersStorage, salesHistoryStorage, storageFormat);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
+        reminderScheduler = new ReminderScheduler(model.getAllReminders());
+        reminderScheduler.start();
+
         logic = new LogicManager(model);
 
         ui = new UiManager(logic, config, userPrefs);
@@ -102,14 +109,27 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s Product database is not found,
      * or an empty Product database will be usedinstead if errors occur when reading {@code storage}'s
      * Product database.
+     * The data files are read concurrently.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyProductDatabase> productDatabaseOptional;
-        ReadOnlyProductDatabase initialData;
+        CompletableFuture<ReadOnlyUserDatabase> users =
+                ParallelDataLoader.load("user database", () -> readUserDatabase(storage));
+        CompletableFuture<ReadOnlyProductDatabase> productDatabase =
+                ParallelDataLoader.load("product database", () -> readProductDatabase(storage));
+        CompletableFuture<ReadOnlyDistributorBook> distributorBook =
+                ParallelDataLoader.load("distributor book", () -> readDistributorBook(storage));
+
+        return new ModelManager(ParallelDataLoader.join(productDatabase), ParallelDataLoader.join(distributorBook),
+                userPrefs, ParallelDataLoader.join(users), this.storage);
+    }
+
+    /**
+     * Returns the user database in {@code storage}, the sample users if there is none,
+     * or an empty user database if it cannot be read.
+     */
+    private ReadOnlyUserDatabase readUserDatabase(Storage storage) {
         Optional<ReadOnlyUserDatabase> userDatabaseOptional;
         ReadOnlyUserDatabase initialUsers;
-        Optional<ReadOnlyDistributorBook> distributorBookOptional;
-        ReadOnlyDistributorBook initialDist;
         try {
             userDatabaseOptional = storage.readUserDatabase();
             if (!userDatabaseOptional.isPresent()) {
@@ -124,6 +144,16 @@ public class MainApp extends Application {
             logger.warning("Users while reading from the file. Will be starting with an empty ProductDatabase");
             initialUsers = new UserDatabase();
         }
+        return initialUsers;
+    }
+
+    /**
+     * Returns the product database in {@code storage}, the sample products if there is none,
+     * or an empty product database if it cannot be read.
+     */
+    private ReadOnlyProductDatabase readProductDatabase(Storage storage) {
+        Optional<ReadOnlyProductDatabase> productDatabaseOptional;
+        ReadOnlyProductDatabase initialData;
         try {
             productDatabaseOptional = storage.readProductDatabaseBook();
             if (!productDatabaseOptional.isPresent()) {
@@ -137,7 +167,16 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty ProductDatabase");
             initialData = new ProductDatabase();
         }
+        return initialData;
+    }
 
+    /**
+     * Returns the distributor book in {@code storage}, the sample distributors if there is none,
+     * or an empty distributor book if it cannot be read.
+     */
+    private ReadOnlyDistributorBook readDistributorBook(Storage storage) {
+        Optional<ReadOnlyDistributorBook> distributorBookOptional;
+        ReadOnlyDistributorBook initialDist;
         try {
             distributorBookOptional = storage.readDistributorBook();
             if (!distributorBookOptional.isPresent()) {
@@ -151,8 +190,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty DistributorBook");
             initialDist = new DistributorBook();
         }
-
-        return new ModelManager(initialData, initialDist, userPrefs, initialUsers, this.storage);
+        return initialDist;
     }
 
     private void initLogging(Config config) {
@@ -242,6 +280,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping ProductInfo Book ] =============================");
         ui.stop();
+        reminderScheduler.stop();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
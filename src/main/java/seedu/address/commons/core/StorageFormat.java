@@ -0,0 +1,30 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The file format in which the product database, distributor book and sales history are stored.
+ */
+public enum StorageFormat {
+    XML(".xml"),
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the extension of this format.
+     */
+    public Path getFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
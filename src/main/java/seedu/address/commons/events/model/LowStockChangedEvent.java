@@ -0,0 +1,26 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.product.Product;
+
+/**
+ * Indicates that the products with fewer remaining items than their reorder level have changed.
+ * {@code newlyLowProducts} are the products that fell below their reorder level with the change.
+ */
+public class LowStockChangedEvent extends BaseEvent {
+
+    public final List<Product> newlyLowProducts;
+    public final int lowStockProductCount;
+
+    public LowStockChangedEvent(List<Product> newlyLowProducts, int lowStockProductCount) {
+        this.newlyLowProducts = newlyLowProducts;
+        this.lowStockProductCount = lowStockProductCount;
+    }
+
+    @Override
+    public String toString() {
+        return lowStockProductCount + " products low on stock, " + newlyLowProducts.size() + " newly";
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+
+/**
+ * Indicates that {@code reminder} has been added to the sales history.
+ */
+public class ReminderAddedEvent extends BaseEvent {
+
+    public final Reminder reminder;
+
+    public ReminderAddedEvent(Reminder reminder) {
+        this.reminder = reminder;
+    }
+
+    @Override
+    public String toString() {
+        return "reminder added at " + reminder.getReminderTime();
+    }
+}
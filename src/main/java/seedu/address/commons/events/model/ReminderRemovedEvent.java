@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+
+/**
+ * Indicates that {@code reminder} has been removed from the sales history.
+ */
+public class ReminderRemovedEvent extends BaseEvent {
+
+    public final Reminder reminder;
+
+    public ReminderRemovedEvent(Reminder reminder) {
+        this.reminder = reminder;
+    }
+
+    @Override
+    public String toString() {
+        return "reminder removed at " + reminder.getReminderTime();
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+
+/**
+ * Indicates that {@code reminder} has been moved to another time.
+ */
+public class ReminderTimeChangedEvent extends BaseEvent {
+
+    public final Reminder reminder;
+
+    public ReminderTimeChangedEvent(Reminder reminder) {
+        this.reminder = reminder;
+    }
+
+    @Override
+    public String toString() {
+        return "reminder moved to " + reminder.getReminderTime();
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+
+/**
+ * Indicates that the time of each of {@code reminders} has come.
+ */
+public class RemindersDueEvent extends BaseEvent {
+
+    public final List<Reminder> reminders;
+
+    public RemindersDueEvent(List<Reminder> reminders) {
+        this.reminders = reminders;
+    }
+
+    /**
+     * Returns the due reminders in the same form as the {@code threadduereminders} command.
+     */
+    public String getMessage() {
+        StringBuilder message = new StringBuilder("Reminders due:\n");
+        for (Reminder reminder : reminders) {
+            message.append(reminder.getReminderTime()).append("\t\t").append(reminder.getReminderMessage())
+                    .append("\n");
+        }
+        return message.toString();
+    }
+
+    @Override
+    public String toString() {
+        return reminders.size() + " reminders due";
+    }
+}
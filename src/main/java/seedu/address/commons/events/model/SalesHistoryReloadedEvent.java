@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+
+/**
+ * Indicates that the whole sales history has been replaced with {@code data}, as when a user logs in.
+ */
+public class SalesHistoryReloadedEvent extends BaseEvent {
+
+    public final ReadOnlySalesHistory data;
+
+    public SalesHistoryReloadedEvent(ReadOnlySalesHistory data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "sales history reloaded with " + data.getRemindersAsObservableList().size() + " reminders";
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * Indicates that {@code transaction} has been added to the sales history {@code data}.
+ */
+public class TransactionAddedEvent extends BaseEvent {
+
+    public final ReadOnlySalesHistory data;
+    public final Transaction transaction;
+
+    public TransactionAddedEvent(ReadOnlySalesHistory data, Transaction transaction) {
+        this.data = data;
+        this.transaction = transaction;
+    }
+
+    @Override
+    public String toString() {
+        return "transaction added at " + transaction.getTransactionTime();
+    }
+}
@@ -2,9 +2,16 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +39,38 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the index pairs {@code {i, j}}, {@code i < j}, of all elements of {@code items} that are the same
+     * according to {@code isSame}, ordered by {@code j}.
+     * Only elements with equal {@code keyExtractor} keys are compared, so {@code isSame} must imply equal keys.
+     * Runs in a single pass when keys are mostly distinct.
+     */
+    public static <T> List<int[]> findDuplicatePairs(List<T> items, Function<? super T, ?> keyExtractor,
+                                                     BiPredicate<? super T, ? super T> isSame) {
+        requireAllNonNull(items, keyExtractor, isSame);
+        Map<Object, List<Integer>> indicesByKey = new HashMap<>();
+        List<int[]> duplicatePairs = new ArrayList<>();
+        for (int j = 0; j < items.size(); j++) {
+            List<Integer> indicesWithSameKey = indicesByKey.computeIfAbsent(keyExtractor.apply(items.get(j)),
+                unused -> new ArrayList<>(1));
+            for (int i : indicesWithSameKey) {
+                if (isSame.test(items.get(i), items.get(j))) {
+                    duplicatePairs.add(new int[] {i, j});
+                }
+            }
+            indicesWithSameKey.add(j);
+        }
+        return duplicatePairs;
+    }
+
+    /**
+     * Returns the pairs from {@link #findDuplicatePairs} as one-based positions, e.g. "1 and 3, 2 and 5".
+     */
+    public static String toPositionPairsString(List<int[]> indexPairs) {
+        requireNonNull(indexPairs);
+        return indexPairs.stream()
+                .map(pair -> (pair[0] + 1) + " and " + (pair[1] + 1))
+                .collect(Collectors.joining(", "));
+    }
 }
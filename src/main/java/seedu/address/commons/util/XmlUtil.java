@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +16,16 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * A {@code JAXBContext} is built once per class, and each thread reuses its own marshallers and unmarshallers,
+ * which are not thread-safe.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +47,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +70,49 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
+        Marshaller m = getMarshaller(data.getClass());
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the {@code JAXBContext} of {@code type}, building it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // two threads may build a context at the same time, but only one is kept
+            JAXBContext newContext = JAXBContext.newInstance(type);
+            JAXBContext existingContext = contexts.putIfAbsent(type, newContext);
+            context = existingContext != null ? existingContext : newContext;
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's marshaller of {@code type}, which writes formatted xml.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller m = threadMarshallers.get(type);
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, m);
+        }
+        return m;
+    }
+
+    /**
+     * Returns this thread's unmarshaller of {@code type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller um = threadUnmarshallers.get(type);
+        if (um == null) {
+            um = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, um);
+        }
+        return um;
+    }
+
 }
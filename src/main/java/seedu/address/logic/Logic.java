@@ -28,6 +28,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of products */
     ObservableList<Distributor> getFilteredDistributorList();
 
+    /** Returns the number of products with fewer remaining items than their reorder level */
+    int getLowStockProductCount();
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
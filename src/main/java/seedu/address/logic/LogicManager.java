@@ -68,6 +68,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredDistributorList();
     }
 
+    @Override
+    public int getLowStockProductCount() {
+        return model.getLowStockProductCount();
+    }
+
     @Override
     public ObservableList<Product> getFilteredProductList() {
         return model.getFilteredProductList();
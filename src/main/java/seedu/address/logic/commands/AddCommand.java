@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRIBUTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_INFO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMAINING_ITEMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REORDER_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -33,6 +34,7 @@ public class AddCommand extends Command {
             + PREFIX_DISTRIBUTOR + "DISTRIBUTOR "
             + PREFIX_PRODUCT_INFO + "PRODUCT INFO "
             + PREFIX_REMAINING_ITEMS + "REMAINING ITEMS "
+            + "[" + PREFIX_REORDER_LEVEL + "REORDER LEVEL] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "Pasta sallad "
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * Archives the transactions of a closed month into a read-only file that is read without loading it into memory.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+    public static final String MESSAGE_USAGE = ": Archives the transactions of a month before the current one "
+            + "into a read-only file\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " <yyyy/MM>";
+    public static final String MESSAGE_ARCHIVED = "Archived %1$d transactions of %2$s";
+    public static final String MESSAGE_NOTHING_TO_ARCHIVE = "%1$s is archived already or has no transactions";
+    public static final String MESSAGE_MONTH_NOT_CLOSED = "Only months before the current one can be archived";
+    public static final String MESSAGE_CANNOT_ARCHIVE = "Could not archive %1$s: %2$s";
+
+    private final String month;
+
+    /**
+     * Creates a command archiving the month {@code month}, in yyyy/MM format.
+     */
+    public ArchiveCommand(String month) {
+        requireNonNull(month);
+        this.month = month;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        long monthStart = TimeIdentifiedClass.toEpochSecond(month + "/01 00:00:00");
+        if (monthStart >= TimeIdentifiedClass.getStartOfMonth(TimeIdentifiedClass.getCurrentEpochSecond())) {
+            throw new CommandException(MESSAGE_MONTH_NOT_CLOSED);
+        }
+
+        int archivedCount;
+        try {
+            archivedCount = model.archiveSalesPeriod(monthStart);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_ARCHIVE, month, e.getMessage()));
+        }
+        if (archivedCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NOTHING_TO_ARCHIVE, month));
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVED, archivedCount, month));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && month.equals(((ArchiveCommand) other).month));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.NoSuchElementException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
+import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
+
+/**
+ * Moves a reminder to another time.
+ */
+public class ChangeReminderTimeCommand extends Command {
+    public static final String COMMAND_WORD = "changereminder";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves a reminder to another time.\nExample: "
+            + "changereminder "
+            + PREFIX_TIME
+            + "2018/08/15 15:06:00 "
+            + PREFIX_NEW_TIME
+            + "2018/08/16 09:00:00";
+
+    public static final String MESSAGE_SUCCESS = "Reminder at time %1$s moved to %2$s";
+    public static final String MESSAGE_NO_SUCH_REMINDER = "No such reminder has been set";
+
+    private final String reminderTime;
+    private final String newTime;
+
+    public ChangeReminderTimeCommand(String reminderTime, String newTime) {
+        requireNonNull(reminderTime);
+        requireNonNull(newTime);
+        this.reminderTime = reminderTime;
+        this.newTime = newTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        try {
+            model.changeReminderTime(reminderTime, newTime);
+        } catch (InvalidTimeFormatException e) {
+            throw new CommandException(e.getExceptionMessage() + ". Upon moving this reminder");
+        } catch (NoSuchElementException e) {
+            throw new CommandException(MESSAGE_NO_SUCH_REMINDER);
+        } catch (DuplicateReminderException e) {
+            throw new CommandException(e.getExceptionMessage());
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, reminderTime, newTime));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ChangeReminderTimeCommand // instanceof handles nulls
+                && reminderTime.equals(((ChangeReminderTimeCommand) other).reminderTime)
+                && newTime.equals(((ChangeReminderTimeCommand) other).newTime));
+    }
+}
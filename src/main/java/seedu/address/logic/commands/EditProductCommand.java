@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRIBUTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REORDER_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PRODUCTS;
@@ -25,6 +26,7 @@ import seedu.address.model.product.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductInfo;
 import seedu.address.model.product.RemainingItems;
+import seedu.address.model.product.ReorderLevel;
 import seedu.address.model.product.SerialNumber;
 import seedu.address.model.tag.Tag;
 
@@ -44,6 +46,7 @@ public class EditProductCommand extends Command {
             + "[" + PREFIX_SERIAL_NR + "Serial Number] "
             + "[" + PREFIX_DISTRIBUTOR + "Distributor] "
             + "[" + PREFIX_PRODUCT_INFO + "PRODUCT INFO] "
+            + "[" + PREFIX_REORDER_LEVEL + "REORDER LEVEL] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_SERIAL_NR + "91234567 "
@@ -106,9 +109,11 @@ public class EditProductCommand extends Command {
         ProductInfo updatedProductInfo = editProductDescriptor.getProductInfo().orElse(productToEdit.getProductInfo());
         RemainingItems updatedRemainingItems =
                 editProductDescriptor.getRemainingItems().orElse(productToEdit.getRemainingItems());
+        ReorderLevel updatedReorderLevel =
+                editProductDescriptor.getReorderLevel().orElse(productToEdit.getReorderLevel());
         Set<Tag> updatedTags = editProductDescriptor.getTags().orElse(productToEdit.getTags());
         return new Product(updatedName, updatedSerialNumber,
-                updatedDistName, updatedProductInfo, updatedRemainingItems, updatedTags);
+                updatedDistName, updatedProductInfo, updatedRemainingItems, updatedReorderLevel, updatedTags);
     }
 
     @Override
@@ -140,6 +145,7 @@ public class EditProductCommand extends Command {
         private DistributorName distname;
         private ProductInfo productInfo;
         private RemainingItems remainingItems;
+        private ReorderLevel reorderLevel;
         private Set<Tag> tags;
 
         public EditProductDescriptor() {}
@@ -154,6 +160,7 @@ public class EditProductCommand extends Command {
             setEmail(toCopy.distname);
             setProductInfo(toCopy.productInfo);
             setRemainingItems(toCopy.remainingItems);
+            setReorderLevel(toCopy.reorderLevel);
             setTags(toCopy.tags);
         }
 
@@ -161,7 +168,8 @@ public class EditProductCommand extends Command {
          * Returns true if at least one field is edited.
         */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, serialNumber, distname, productInfo, remainingItems, tags);
+            return CollectionUtil.isAnyNonNull(name, serialNumber, distname, productInfo, remainingItems, reorderLevel,
+                    tags);
         }
 
         public void setName(Name name) {
@@ -204,6 +212,14 @@ public class EditProductCommand extends Command {
             return Optional.ofNullable(remainingItems);
         }
 
+        public void setReorderLevel(ReorderLevel reorderLevel) {
+            this.reorderLevel = reorderLevel;
+        }
+
+        public Optional<ReorderLevel> getReorderLevel() {
+            return Optional.ofNullable(reorderLevel);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -241,6 +257,7 @@ public class EditProductCommand extends Command {
                     && getDistributor().equals(e.getDistributor())
                     && getProductInfo().equals(e.getProductInfo())
                     && getRemainingItems().equals(e.getRemainingItems())
+                    && getReorderLevel().equals(e.getReorderLevel())
                     && getTags().equals(e.getTags());
         }
     }
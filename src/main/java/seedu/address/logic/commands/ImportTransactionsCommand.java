@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.ClosedTransactionException;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
+import seedu.address.storage.SalesImportFile;
+
+/**
+ * Imports the sales in a CSV or JSON lines file as transactions.
+ * Sales with the same time become one transaction. The file is checked in one pass, and the accepted transactions
+ * are then added, and their products' remaining items reduced, as a single change that is committed and saved once.
+ */
+public class ImportTransactionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "importtransactions";
+    public static final String MESSAGE_USAGE = ": Imports sales from a CSV or JSON lines (.jsonl) file, "
+            + "one sale of one product per line\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " <file path>\n"
+            + "CSV lines: <yyyy/MM/dd HH:mm:ss>,<product name>,<quantity>\n"
+            + "JSON lines: {\"time\": \"<yyyy/MM/dd HH:mm:ss>\", \"product\": \"<product name>\", "
+            + "\"quantity\": <quantity>}";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d transactions from %2$d lines in %3$d ms "
+            + "(%4$d lines per second)";
+    public static final String MESSAGE_REJECTED_LINES = "\nRejected %1$d lines:";
+    public static final String MESSAGE_REJECTED_LINE = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_LINES = "\n... and %1$d more";
+    public static final String MESSAGE_PRODUCTS_RUN_SHORT = "\nFYI: The inventory does not seem to be uptodate. "
+            + "These products sold more than their remaining items: %1$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_TIME = "time must be in yyyy/MM/dd HH:mm:ss format";
+    public static final String MESSAGE_UNKNOWN_PRODUCT = "%1$s is not in the inventory";
+    public static final String MESSAGE_DUPLICATE_TRANSACTION = "a transaction is already recorded at %1$s";
+
+    /** Only the first few rejected lines are listed, so that a badly formed file does not flood the display. */
+    private static final int MAX_LISTED_REJECTED_LINES = 10;
+
+    private final Path filePath;
+
+    public ImportTransactionsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        SaleCollector collector = new SaleCollector(model);
+        try {
+            SalesImportFile.read(filePath, collector);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()));
+        }
+
+        List<Transaction> transactions = new ArrayList<>(collector.transactions.values());
+        List<String> productsRunShort;
+        try {
+            productsRunShort = model.addTransactions(transactions);
+        } catch (InvalidTimeFormatException | DuplicateTransactionException e) {
+            throw new AssertionError("Every imported transaction has been checked.", e);
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        int lineCount = collector.acceptedLineCount + collector.rejectedLineCount;
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, transactions.size(), lineCount,
+                elapsedNanos / 1_000_000, lineCount * 1_000_000_000L / elapsedNanos));
+        if (collector.rejectedLineCount > 0) {
+            result.append(String.format(MESSAGE_REJECTED_LINES, collector.rejectedLineCount));
+            collector.listedRejectedLines.forEach(result::append);
+            if (collector.rejectedLineCount > collector.listedRejectedLines.size()) {
+                result.append(String.format(MESSAGE_MORE_REJECTED_LINES,
+                        collector.rejectedLineCount - collector.listedRejectedLines.size()));
+            }
+        }
+        if (!productsRunShort.isEmpty()) {
+            result.append(String.format(MESSAGE_PRODUCTS_RUN_SHORT, String.join(", ", productsRunShort)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportTransactionsCommand // instanceof handles nulls
+                && filePath.equals(((ImportTransactionsCommand) other).filePath));
+    }
+
+    /**
+     * Checks the sales read from the file against the model, and groups the valid ones into transactions by time.
+     */
+    private static class SaleCollector implements SalesImportFile.SaleHandler {
+        private final Model model;
+        private final Map<Long, Transaction> transactions = new TreeMap<>();
+        private final List<String> listedRejectedLines = new ArrayList<>();
+        private int acceptedLineCount;
+        private int rejectedLineCount;
+
+        SaleCollector(Model model) {
+            this.model = model;
+        }
+
+        @Override
+        public void handleSale(int lineNumber, String time, String productName, int quantity) {
+            if (!Transaction.isValidTransactionTime(time)) {
+                handleRejectedLine(lineNumber, MESSAGE_INVALID_TIME);
+                return;
+            }
+            if (!model.hasProductName(productName)) {
+                handleRejectedLine(lineNumber, String.format(MESSAGE_UNKNOWN_PRODUCT, productName));
+                return;
+            }
+
+            long transactionTime = TimeIdentifiedClass.toEpochSecond(time);
+            Transaction transaction = transactions.get(transactionTime);
+            try {
+                if (transaction == null) {
+                    if (model.hasTransaction(time)) {
+                        handleRejectedLine(lineNumber, String.format(MESSAGE_DUPLICATE_TRANSACTION, time));
+                        return;
+                    }
+                    transaction = new Transaction(time);
+                    transaction.openTransaction();
+                    transactions.put(transactionTime, transaction);
+                }
+                transaction.addProduct(productName, quantity);
+            } catch (InvalidTimeFormatException | ClosedTransactionException e) {
+                throw new AssertionError("The time has been checked and the transaction is open.", e);
+            }
+            acceptedLineCount++;
+        }
+
+        @Override
+        public void handleRejectedLine(int lineNumber, String reason) {
+            rejectedLineCount++;
+            if (listedRejectedLines.size() < MAX_LISTED_REJECTED_LINES) {
+                listedRejectedLines.add(String.format(MESSAGE_REJECTED_LINE, lineNumber, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.product.Product;
+
+/**
+ * This command shows the products with fewer remaining items than their reorder level, those furthest below it
+ * first.
+ */
+public class LowStockCommand extends Command {
+
+    public static final String COMMAND_WORD = "lowstock";
+    public static final String MESSAGE_USAGE = ": Shows the products with fewer remaining items than their "
+            + "reorder level, those furthest below it first\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " [number of products]";
+    public static final String MESSAGE_NO_LOW_STOCK = "No products are low on stock";
+    public static final String MESSAGE_LOW_STOCK = "Products low on stock:";
+    public static final String MESSAGE_LOW_STOCK_PRODUCT = "\n%1$d. %2$s (%3$s): %4$d remaining, reorder level %5$d";
+    public static final String MESSAGE_MORE_LOW_STOCK = "\n... and %1$d more";
+    public static final int DEFAULT_COUNT = 10;
+
+    private final int count;
+
+    /**
+     * Creates a command showing up to {@code count} products low on stock.
+     */
+    public LowStockCommand(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Product> lowStockProducts = model.getLowStockProducts(count);
+        if (lowStockProducts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_LOW_STOCK);
+        }
+
+        StringBuilder result = new StringBuilder(MESSAGE_LOW_STOCK);
+        for (int i = 0; i < lowStockProducts.size(); i++) {
+            Product product = lowStockProducts.get(i);
+            result.append(String.format(MESSAGE_LOW_STOCK_PRODUCT, i + 1, product.getName(),
+                    product.getSerialNumber(), product.getRemainingItems().value, product.getReorderLevel().value));
+        }
+        int lowStockProductCount = model.getLowStockProductCount();
+        if (lowStockProductCount > lowStockProducts.size()) {
+            result.append(String.format(MESSAGE_MORE_LOW_STOCK, lowStockProductCount - lowStockProducts.size()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LowStockCommand // instanceof handles nulls
+                && count == ((LowStockCommand) other).count);
+    }
+}
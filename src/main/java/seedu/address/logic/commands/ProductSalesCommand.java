@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * This command shows the units of a product sold, over all time or between two dates.
+ */
+public class ProductSalesCommand extends Command {
+
+    public static final String COMMAND_WORD = "productsales";
+    public static final String MESSAGE_USAGE = ": Shows the units of a product sold, "
+            + "optionally only counting sales from one date to another, both inclusive\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " " + PREFIX_PRODUCT + "<product name> "
+            + "[" + PREFIX_FROM + "<yyyy/MM/dd> " + PREFIX_TO + "<yyyy/MM/dd>]";
+    public static final String MESSAGE_UNITS_SOLD = "Units of %1$s sold: %2$d";
+    public static final String MESSAGE_UNITS_SOLD_IN_RANGE = "Units of %1$s sold from %2$s to %3$s: %4$d";
+
+    private final String productName;
+    private final String fromDate;
+    private final String toDate;
+
+    /**
+     * Creates a command showing the units of {@code productName} sold over all time.
+     */
+    public ProductSalesCommand(String productName) {
+        requireNonNull(productName);
+        this.productName = productName;
+        this.fromDate = null;
+        this.toDate = null;
+    }
+
+    /**
+     * Creates a command showing the units of {@code productName} sold from {@code fromDate} to {@code toDate},
+     * both inclusive.
+     */
+    public ProductSalesCommand(String productName, String fromDate, String toDate) {
+        requireNonNull(productName);
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        this.productName = productName;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        if (fromDate == null) {
+            long unitsSold = model.getSalesAggregates().getUnitsSold(productName);
+            return new CommandResult(String.format(MESSAGE_UNITS_SOLD, productName, unitsSold));
+        }
+
+        long fromTime = TimeIdentifiedClass.toEpochSecond(fromDate + " 00:00:00");
+        long toTime = TimeIdentifiedClass.toEpochSecond(toDate + " 00:00:00") + TimeIdentifiedClass.SECONDS_IN_DAY;
+        long unitsSold = model.getSalesAggregates().getUnitsSold(productName, fromTime, toTime);
+        return new CommandResult(String.format(MESSAGE_UNITS_SOLD_IN_RANGE, productName, fromDate, toDate,
+                unitsSold));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ProductSalesCommand)) {
+            return false;
+        }
+        ProductSalesCommand otherCommand = (ProductSalesCommand) other;
+        return productName.equals(otherCommand.productName)
+                && Objects.equals(fromDate, otherCommand.fromDate)
+                && Objects.equals(toDate, otherCommand.toDate);
+    }
+}
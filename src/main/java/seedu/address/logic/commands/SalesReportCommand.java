@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * This command shows the number of transactions and units sold from one date to another.
+ */
+public class SalesReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "salesreport";
+    public static final String MESSAGE_USAGE = ": Shows the number of transactions and units sold "
+            + "from a start date to an end date, both inclusive\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " <yyyy/MM/dd> <yyyy/MM/dd>";
+    public static final String MESSAGE_SALES_REPORT = "Sales from %1$s to %2$s:\n"
+            + "Transactions: %3$d\n"
+            + "Units sold: %4$d";
+
+    private final String startDate;
+    private final String endDate;
+
+    public SalesReportCommand(String startDate, String endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        SalesRollup salesRollup = model.getSalesRollup();
+        long fromTime = TimeIdentifiedClass.toEpochSecond(startDate + " 00:00:00");
+        long toTime = TimeIdentifiedClass.toEpochSecond(endDate + " 00:00:00") + TimeIdentifiedClass.SECONDS_IN_DAY;
+        return new CommandResult(String.format(MESSAGE_SALES_REPORT, startDate, endDate,
+                salesRollup.getTransactionCount(fromTime, toTime), salesRollup.getUnitsSold(fromTime, toTime)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SalesReportCommand // instanceof handles nulls
+                && startDate.equals(((SalesReportCommand) other).startDate)
+                && endDate.equals(((SalesReportCommand) other).endDate));
+    }
+}
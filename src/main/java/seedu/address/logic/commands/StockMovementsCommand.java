@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.product.StockLedger;
+import seedu.address.model.product.StockLedger.Movement;
+
+/**
+ * This command shows the latest sales, restocks and adjustments of the remaining items of products, the newest
+ * first.
+ */
+public class StockMovementsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stockmovements";
+    public static final String MESSAGE_USAGE = ": Shows the latest sales, restocks and adjustments of the "
+            + "remaining items of products, the newest first\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " [number of movements]";
+    public static final String MESSAGE_NO_MOVEMENTS = "No stock movements since the application was started";
+    public static final String MESSAGE_MOVEMENTS = "Latest stock movements:";
+    public static final String MESSAGE_MOVEMENT = "\n%1$d. %2$s of product %3$s: %4$+d, %5$d remaining";
+    public static final int DEFAULT_COUNT = 20;
+
+    private final int count;
+
+    /**
+     * Creates a command showing up to {@code count} of the latest stock movements.
+     * At most {@link StockLedger#MOVEMENT_LOG_CAPACITY} movements are kept.
+     */
+    public StockMovementsCommand(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Movement> movements = model.getStockMovements(count);
+        if (movements.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MOVEMENTS);
+        }
+
+        StringBuilder result = new StringBuilder(MESSAGE_MOVEMENTS);
+        for (int i = 0; i < movements.size(); i++) {
+            Movement movement = movements.get(i);
+            result.append(String.format(MESSAGE_MOVEMENT, i + 1, movement.kind.toString().toLowerCase(),
+                    movement.serialNumber, movement.change, movement.remainingItems));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StockMovementsCommand // instanceof handles nulls
+                && count == ((StockMovementsCommand) other).count);
+    }
+}
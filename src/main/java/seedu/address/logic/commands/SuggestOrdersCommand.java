@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.distributor.Distributor;
+import seedu.address.model.distributor.DistributorProduct;
+import seedu.address.model.product.Product;
+import seedu.address.model.saleshistory.SalesVelocity;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * This command suggests how many units of each product to order from each distributor, so that the products
+ * expected to sell over the coming days are in stock without falling below their reorder level.
+ */
+public class SuggestOrdersCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggestorders";
+    public static final String MESSAGE_USAGE = ": Suggests the units of each product to order from each distributor "
+            + "to last a number of days at the rate the product has been selling\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " [number of days]";
+    public static final String MESSAGE_NO_ORDERS = "No products need to be ordered for the next %1$d days";
+    public static final String MESSAGE_ORDERS = "Suggested orders for the next %1$d days:";
+    public static final String MESSAGE_DISTRIBUTOR = "\nFrom %1$s:";
+    public static final String MESSAGE_ORDER = "\n  %1$s: %2$d (selling %3$.1f a day, %4$d remaining)";
+    public static final int DEFAULT_DAYS = 14;
+
+    private final int days;
+
+    /**
+     * Creates a command suggesting orders to last {@code days} days.
+     */
+    public SuggestOrdersCommand(int days) {
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        SalesVelocity salesVelocity = model.getSalesVelocity();
+        long now = Math.max(TimeIdentifiedClass.getCurrentEpochSecond(), salesVelocity.getLastSaleTime());
+
+        // products sharing a name are sold, and so ordered, as one; each sale takes its units from every one of them
+        Map<String, List<Product>> productsByName = new LinkedHashMap<>();
+        for (Product product : model.getProductInfoBook().getProductList()) {
+            productsByName.computeIfAbsent(product.getName().fullName, name -> new ArrayList<>()).add(product);
+        }
+
+        Map<String, Long> unitsToOrder = new HashMap<>();
+        for (Map.Entry<String, List<Product>> entry : productsByName.entrySet()) {
+            long units = getUnitsToOrder(getShortestStocked(entry.getValue()),
+                    salesVelocity.getDailySalesRate(entry.getKey(), now));
+            if (units > 0) {
+                unitsToOrder.put(entry.getKey(), units);
+            }
+        }
+        if (unitsToOrder.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_ORDERS, days));
+        }
+
+        // each product is ordered from the first distributor providing it, or else the distributor it was added with
+        Map<String, List<String>> ordersByDistributor = new LinkedHashMap<>();
+        Set<String> orderedProducts = new HashSet<>();
+        for (Distributor distributor : model.getDistributorInfoBook().getDistributorList()) {
+            for (DistributorProduct distributorProduct : distributor.getDistProds()) {
+                String productName = distributorProduct.distributorProducts;
+                if (unitsToOrder.containsKey(productName) && orderedProducts.add(productName)) {
+                    String distributorName = distributor.getDistName().fullDistName;
+                    ordersByDistributor.computeIfAbsent(distributorName, name -> new ArrayList<>()).add(productName);
+                }
+            }
+        }
+        for (Map.Entry<String, List<Product>> entry : productsByName.entrySet()) {
+            String productName = entry.getKey();
+            if (unitsToOrder.containsKey(productName) && orderedProducts.add(productName)) {
+                String distributorName = entry.getValue().get(0).getDistributor().fullDistName;
+                ordersByDistributor.computeIfAbsent(distributorName, name -> new ArrayList<>()).add(productName);
+            }
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_ORDERS, days));
+        for (Map.Entry<String, List<String>> orders : ordersByDistributor.entrySet()) {
+            result.append(String.format(MESSAGE_DISTRIBUTOR, orders.getKey()));
+            orders.getValue().sort(String::compareTo);
+            for (String productName : orders.getValue()) {
+                result.append(String.format(MESSAGE_ORDER, productName, unitsToOrder.get(productName),
+                        salesVelocity.getDailySalesRate(productName, now),
+                        getShortestStocked(productsByName.get(productName)).getRemainingItems().value));
+            }
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the units of {@code product} to order so that, after selling {@code dailySalesRate} units a day for
+     * {@code days} days, it still has as many remaining items as its reorder level.
+     */
+    private long getUnitsToOrder(Product product, double dailySalesRate) {
+        long expectedSales = (long) Math.ceil(dailySalesRate * days);
+        return expectedSales + product.getReorderLevel().value - product.getRemainingItems().value;
+    }
+
+    /**
+     * Returns the product of {@code products}, which share a name, with the fewest remaining items above its reorder
+     * level. As every sale of the name takes its units from each of them, it is the first to need restocking.
+     */
+    private static Product getShortestStocked(List<Product> products) {
+        Product shortestStocked = products.get(0);
+        for (Product product : products) {
+            if (product.getRemainingItems().value - product.getReorderLevel().value
+                    < shortestStocked.getRemainingItems().value - shortestStocked.getReorderLevel().value) {
+                shortestStocked = product;
+            }
+        }
+        return shortestStocked;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestOrdersCommand // instanceof handles nulls
+                && days == ((SuggestOrdersCommand) other).days);
+    }
+}
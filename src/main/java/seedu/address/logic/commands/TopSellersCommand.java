@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * This command shows the products with the most units sold, over all time or between two dates.
+ */
+public class TopSellersCommand extends Command {
+
+    public static final String COMMAND_WORD = "topsellers";
+    public static final String MESSAGE_USAGE = ": Shows the products with the most units sold, "
+            + "optionally only counting sales from one date to another, both inclusive\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " <number of products> "
+            + "[" + PREFIX_FROM + "<yyyy/MM/dd> " + PREFIX_TO + "<yyyy/MM/dd>]";
+    public static final String MESSAGE_NO_SALES = "No products were sold";
+    public static final String MESSAGE_TOP_SELLERS = "Top sellers:";
+    public static final String MESSAGE_TOP_SELLERS_IN_RANGE = "Top sellers from %1$s to %2$s:";
+    public static final String MESSAGE_TOP_SELLER = "\n%1$d. %2$s: %3$d";
+
+    private final int count;
+    private final String fromDate;
+    private final String toDate;
+
+    /**
+     * Creates a command showing the {@code count} best sellers over all time.
+     */
+    public TopSellersCommand(int count) {
+        this.count = count;
+        this.fromDate = null;
+        this.toDate = null;
+    }
+
+    /**
+     * Creates a command showing the {@code count} best sellers from {@code fromDate} to {@code toDate},
+     * both inclusive.
+     */
+    public TopSellersCommand(int count, String fromDate, String toDate) {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        this.count = count;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        SalesAggregates salesAggregates = model.getSalesAggregates();
+
+        List<Map.Entry<String, Long>> topSellers;
+        StringBuilder result = new StringBuilder();
+        if (fromDate == null) {
+            topSellers = salesAggregates.getTopSellers(count);
+            result.append(MESSAGE_TOP_SELLERS);
+        } else {
+            long fromTime = TimeIdentifiedClass.toEpochSecond(fromDate + " 00:00:00");
+            long toTime = TimeIdentifiedClass.toEpochSecond(toDate + " 00:00:00") + TimeIdentifiedClass.SECONDS_IN_DAY;
+            topSellers = salesAggregates.getTopSellers(count, fromTime, toTime);
+            result.append(String.format(MESSAGE_TOP_SELLERS_IN_RANGE, fromDate, toDate));
+        }
+
+        if (topSellers.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SALES);
+        }
+        for (int i = 0; i < topSellers.size(); i++) {
+            Map.Entry<String, Long> topSeller = topSellers.get(i);
+            result.append(String.format(MESSAGE_TOP_SELLER, i + 1, topSeller.getKey(), topSeller.getValue()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TopSellersCommand)) {
+            return false;
+        }
+        TopSellersCommand otherCommand = (TopSellersCommand) other;
+        return count == otherCommand.count
+                && Objects.equals(fromDate, otherCommand.fromDate)
+                && Objects.equals(toDate, otherCommand.toDate);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CURSOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.storage.SalesExportFile;
+
+/**
+ * This command shows the transactions from one date to another a page at a time, or exports them to a CSV file.
+ * A page ends with a cursor, the time of the next transaction, from which the following page is shown. The
+ * transactions are read from the sales history as they are shown or exported, so a long range is never held in
+ * memory at once.
+ */
+public class ViewTransactionsInRangeCommand extends Command {
+
+    public static final String COMMAND_WORD = "transactions";
+    public static final String MESSAGE_USAGE = ": Shows the transactions from one date to another, both inclusive, "
+            + "a page at a time, or exports all of them to a CSV file\n"
+            + "Format: "
+            + COMMAND_WORD
+            + " " + PREFIX_FROM + "<yyyy/MM/dd> " + PREFIX_TO + "<yyyy/MM/dd> "
+            + "[" + PREFIX_LIMIT + "<transactions per page>] "
+            + "[" + PREFIX_CURSOR + "<cursor>] "
+            + "[" + PREFIX_EXPORT + "<file path>]";
+    public static final String MESSAGE_NO_TRANSACTIONS = "No transactions found from %1$s to %2$s";
+    public static final String MESSAGE_TRANSACTIONS = "Transactions from %1$s to %2$s:";
+    public static final String MESSAGE_TRANSACTION = "\n%1$s:";
+    public static final String MESSAGE_TRANSACTION_LINE = " %1$s x%2$d";
+    public static final String MESSAGE_MORE_TRANSACTIONS = "\nMore transactions follow. To see them, add "
+            + PREFIX_CURSOR + "%1$d";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d transactions to %2$s";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write %1$s: %2$s";
+    public static final int DEFAULT_LIMIT = 20;
+
+    private final String fromDate;
+    private final String toDate;
+    private final int limit;
+    private final Long cursor;
+    private final Path exportPath;
+
+    /**
+     * Creates a command showing up to {@code limit} transactions from {@code fromDate} to {@code toDate}, both
+     * inclusive, starting from {@code cursor} if it is not null.
+     * If {@code exportPath} is not null, every transaction from there on is exported to it instead.
+     */
+    public ViewTransactionsInRangeCommand(String fromDate, String toDate, int limit, Long cursor, Path exportPath) {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.limit = limit;
+        this.cursor = cursor;
+        this.exportPath = exportPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        long fromTime = TimeIdentifiedClass.toEpochSecond(fromDate + " 00:00:00");
+        long toTime = TimeIdentifiedClass.toEpochSecond(toDate + " 00:00:00") + TimeIdentifiedClass.SECONDS_IN_DAY;
+        if (cursor != null) {
+            fromTime = Math.max(fromTime, cursor);
+        }
+        Iterator<Transaction> transactions = model.getTransactions(fromTime, toTime);
+
+        if (exportPath != null) {
+            try {
+                long transactionCount = SalesExportFile.write(exportPath, transactions);
+                return new CommandResult(String.format(MESSAGE_EXPORTED, transactionCount, exportPath));
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, exportPath, e.getMessage()));
+            }
+        }
+
+        if (!transactions.hasNext()) {
+            return new CommandResult(String.format(MESSAGE_NO_TRANSACTIONS, fromDate, toDate));
+        }
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_TRANSACTIONS, fromDate, toDate));
+        for (int i = 0; i < limit && transactions.hasNext(); i++) {
+            Transaction transaction = transactions.next();
+            result.append(String.format(MESSAGE_TRANSACTION, transaction.getTransactionTime()));
+            for (int line = 0; line < transaction.getLineCount(); line++) {
+                result.append(String.format(MESSAGE_TRANSACTION_LINE, transaction.getProductName(line),
+                        transaction.getQuantity(line)));
+            }
+        }
+        if (transactions.hasNext()) {
+            long nextTime = TimeIdentifiedClass.toEpochSecond(transactions.next().getTransactionTime());
+            result.append(String.format(MESSAGE_MORE_TRANSACTIONS, nextTime));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ViewTransactionsInRangeCommand)) {
+            return false;
+        }
+        ViewTransactionsInRangeCommand otherCommand = (ViewTransactionsInRangeCommand) other;
+        return fromDate.equals(otherCommand.fromDate)
+                && toDate.equals(otherCommand.toDate)
+                && limit == otherCommand.limit
+                && Objects.equals(cursor, otherCommand.cursor)
+                && Objects.equals(exportPath, otherCommand.exportPath);
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRIBUTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_INFO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMAINING_ITEMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REORDER_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -22,6 +23,7 @@ import seedu.address.model.product.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductInfo;
 import seedu.address.model.product.RemainingItems;
+import seedu.address.model.product.ReorderLevel;
 import seedu.address.model.product.SerialNumber;
 import seedu.address.model.tag.Tag;
 
@@ -38,7 +40,7 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SERIAL_NR, PREFIX_DISTRIBUTOR, PREFIX_PRODUCT_INFO,
-                         PREFIX_REMAINING_ITEMS, PREFIX_TAG);
+                         PREFIX_REMAINING_ITEMS, PREFIX_REORDER_LEVEL, PREFIX_TAG);
 
         if (!arePrefixesPresent(argMultimap,
                 PREFIX_NAME, PREFIX_PRODUCT_INFO, PREFIX_SERIAL_NR,
@@ -54,6 +56,9 @@ public class AddCommandParser implements Parser<AddCommand> {
         ProductInfo productInfo = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_PRODUCT_INFO).get());
         RemainingItems remainingItems = ParserUtil
                 .parseRemainingItems(argMultimap.getValue(PREFIX_REMAINING_ITEMS).get());
+        ReorderLevel reorderLevel = argMultimap.getValue(PREFIX_REORDER_LEVEL).isPresent()
+                ? ParserUtil.parseReorderLevel(argMultimap.getValue(PREFIX_REORDER_LEVEL).get())
+                : ReorderLevel.NONE;
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         DistributorPhone distphone = new DistributorPhone("00000000");
@@ -62,7 +67,8 @@ public class AddCommandParser implements Parser<AddCommand> {
         Set<DistributorProduct> distprodsSet = new HashSet<>();
         distprodsSet.add(distprod);
 
-        Product product = new Product(name, serialNumber, distname, productInfo, remainingItems, tagList);
+        Product product = new Product(name, serialNumber, distname, productInfo, remainingItems, reorderLevel,
+                tagList);
         Distributor distributor = new Distributor(distname, distphone, distprodsSet, tagList);
         return new AddCommand(product, distributor);
     }
@@ -10,7 +10,9 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddDistributorCommand;
 import seedu.address.logic.commands.AddReminderCommand;
 import seedu.address.logic.commands.AddTransactionCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ChangePasswordCommand;
+import seedu.address.logic.commands.ChangeReminderTimeCommand;
 import seedu.address.logic.commands.ClearDistributorsCommand;
 import seedu.address.logic.commands.ClearProductCommand;
 import seedu.address.logic.commands.Command;
@@ -26,17 +28,24 @@ import seedu.address.logic.commands.FindTagDistributorCommand;
 import seedu.address.logic.commands.FindTagProductCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportTransactionsCommand;
 import seedu.address.logic.commands.ListDistributorCommand;
 import seedu.address.logic.commands.ListDistributorProductsCommand;
 import seedu.address.logic.commands.ListProductCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
+import seedu.address.logic.commands.LowStockCommand;
+import seedu.address.logic.commands.ProductSalesCommand;
 import seedu.address.logic.commands.RedoDistributorCommand;
 import seedu.address.logic.commands.RedoProductCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.RemoveReminderCommand;
+import seedu.address.logic.commands.SalesReportCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StockMovementsCommand;
+import seedu.address.logic.commands.SuggestOrdersCommand;
 import seedu.address.logic.commands.ThreadDueRemindersCommand;
+import seedu.address.logic.commands.TopSellersCommand;
 import seedu.address.logic.commands.UndoDistributorCommand;
 import seedu.address.logic.commands.UndoProductCommand;
 import seedu.address.logic.commands.ViewAllRemindersCommand;
@@ -44,6 +53,7 @@ import seedu.address.logic.commands.ViewAllTransactionsInDayCommand;
 import seedu.address.logic.commands.ViewDueRemindersCommand;
 import seedu.address.logic.commands.ViewLastTransactionCommand;
 import seedu.address.logic.commands.ViewTransactionCommand;
+import seedu.address.logic.commands.ViewTransactionsInRangeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -169,6 +179,9 @@ public class AllCommandsParser {
         case RemoveReminderCommand.COMMAND_WORD:
             return new FinishedReminderCommandParser().parse(arguments);
 
+        case ChangeReminderTimeCommand.COMMAND_WORD:
+            return new ChangeReminderTimeCommandParser().parse(arguments);
+
         case ViewDueRemindersCommand.COMMAND_WORD:
             return new ViewDueRemindersCommand();
 
@@ -184,6 +197,33 @@ public class AllCommandsParser {
         case ViewTransactionCommand.COMMAND_WORD:
             return new ViewTransactionCommandParser().parse(arguments);
 
+        case ViewTransactionsInRangeCommand.COMMAND_WORD:
+            return new ViewTransactionsInRangeCommandParser().parse(arguments);
+
+        case TopSellersCommand.COMMAND_WORD:
+            return new TopSellersCommandParser().parse(arguments);
+
+        case ProductSalesCommand.COMMAND_WORD:
+            return new ProductSalesCommandParser().parse(arguments);
+
+        case SalesReportCommand.COMMAND_WORD:
+            return new SalesReportCommandParser().parse(arguments);
+
+        case ImportTransactionsCommand.COMMAND_WORD:
+            return new ImportTransactionsCommandParser().parse(arguments);
+
+        case LowStockCommand.COMMAND_WORD:
+            return new LowStockCommandParser().parse(arguments);
+
+        case SuggestOrdersCommand.COMMAND_WORD:
+            return new SuggestOrdersCommandParser().parse(arguments);
+
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommandParser().parse(arguments);
+
+        case StockMovementsCommand.COMMAND_WORD:
+            return new StockMovementsCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * This class is the parser for the Archive command
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    @Override
+    public ArchiveCommand parse(String args) throws ParseException {
+        String month = args.trim();
+        if (!TimeIdentifiedClass.isValidDate(month + "/01")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ArchiveCommand.COMMAND_WORD + ArchiveCommand.MESSAGE_USAGE));
+        }
+        return new ArchiveCommand(month);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ChangeReminderTimeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ChangeReminderTimeCommand object.
+ */
+public class ChangeReminderTimeCommandParser implements Parser<ChangeReminderTimeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of ChangeReminderTimeCommand
+     * and returns a ChangeReminderTimeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ChangeReminderTimeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TIME, PREFIX_NEW_TIME);
+        if (!arePrefixesPresent(argMultimap, PREFIX_TIME, PREFIX_NEW_TIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ChangeReminderTimeCommand.MESSAGE_USAGE));
+        }
+
+        String reminderTime = ParserUtil.parseReminderTime(argMultimap.getValue(PREFIX_TIME).get());
+        String newTime = ParserUtil.parseReminderTime(argMultimap.getValue(PREFIX_NEW_TIME).get());
+        return new ChangeReminderTimeCommand(reminderTime, newTime);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -14,13 +14,20 @@ public class CliSyntax {
     public static final Prefix PREFIX_DIST_PROD = new Prefix("pr/");
     public static final Prefix PREFIX_PRODUCT_INFO = new Prefix("i/");
     public static final Prefix PREFIX_REMAINING_ITEMS = new Prefix("inv/");
+    public static final Prefix PREFIX_REORDER_LEVEL = new Prefix("reorder/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_PRODUCT = new Prefix("pr/");
     public static final Prefix PREFIX_USERNAME = new Prefix("u/");
     public static final Prefix PREFIX_PASSWORD = new Prefix("p/");
     public static final Prefix PREFIX_NEW_PASSWORD = new Prefix("newp/");
     public static final Prefix PREFIX_TIME = new Prefix("time/");
+    public static final Prefix PREFIX_NEW_TIME = new Prefix("newtime/");
     public static final Prefix PREFIX_REMINDER_MESSAGE = new Prefix("message/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_CURSOR = new Prefix("cursor/");
+    public static final Prefix PREFIX_EXPORT = new Prefix("export/");
     // TODO: To add transaction items with quantity
     // public static final Prefix PREFIX_QUANTITY = new Prefix("q/");
 }
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRIBUTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_INFO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMAINING_ITEMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REORDER_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -35,7 +36,7 @@ public class EditCommandParser implements Parser<EditProductCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SERIAL_NR, PREFIX_DISTRIBUTOR,
-                         PREFIX_PRODUCT_INFO, PREFIX_REMAINING_ITEMS, PREFIX_TAG);
+                         PREFIX_PRODUCT_INFO, PREFIX_REMAINING_ITEMS, PREFIX_REORDER_LEVEL, PREFIX_TAG);
 
 
         Index index;
@@ -67,6 +68,10 @@ public class EditCommandParser implements Parser<EditProductCommand> {
             editProductDescriptor.setRemainingItems(ParserUtil.parseRemainingItems
                     (argMultimap.getValue(PREFIX_REMAINING_ITEMS).get()));
         }
+        if (argMultimap.getValue(PREFIX_REORDER_LEVEL).isPresent()) {
+            editProductDescriptor.setReorderLevel(ParserUtil.parseReorderLevel(
+                    argMultimap.getValue(PREFIX_REORDER_LEVEL).get()));
+        }
 
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editProductDescriptor::setTags);
 
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ImportTransactionsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the ImportTransactions command
+ */
+public class ImportTransactionsCommandParser implements Parser<ImportTransactionsCommand> {
+
+    @Override
+    public ImportTransactionsCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportTransactionsCommand.COMMAND_WORD + ImportTransactionsCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new ImportTransactionsCommand(Paths.get(filePath));
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportTransactionsCommand.COMMAND_WORD + ImportTransactionsCommand.MESSAGE_USAGE));
+        }
+    }
+}
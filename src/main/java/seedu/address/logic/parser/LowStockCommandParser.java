@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.LowStockCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the LowStock command
+ */
+public class LowStockCommandParser implements Parser<LowStockCommand> {
+
+    @Override
+    public LowStockCommand parse(String args) throws ParseException {
+        String count = args.trim();
+        if (count.isEmpty()) {
+            return new LowStockCommand(LowStockCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    LowStockCommand.COMMAND_WORD + LowStockCommand.MESSAGE_USAGE));
+        }
+        return new LowStockCommand(Integer.parseInt(count));
+    }
+}
@@ -18,6 +18,7 @@ import seedu.address.model.product.Name;
 import seedu.address.model.product.ProductInfo;
 import seedu.address.model.product.ProductsDistributorName;
 import seedu.address.model.product.RemainingItems;
+import seedu.address.model.product.ReorderLevel;
 import seedu.address.model.product.SerialNumber;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.timeidentifiedclass.Reminder;
@@ -29,6 +30,7 @@ import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date must not be after the end date";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -100,6 +102,19 @@ public class ParserUtil {
         }
         return date.trim();
     }
+
+    /**
+     * Checks that the dates of a date range, both already parsed by {@link #parseDate(String)}, are in order.
+     * @throws ParseException if {@code fromDate} is after {@code toDate}.
+     */
+    public static void checkDateRange(String fromDate, String toDate) throws ParseException {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        if (TimeIdentifiedClass.toEpochSecond(fromDate + " 00:00:00")
+                > TimeIdentifiedClass.toEpochSecond(toDate + " 00:00:00")) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+    }
     /**
      * Parses a {@code String name} into a {@code DistributorName}.
      * Leading and trailing whitespaces will be trimmed.
@@ -191,6 +206,21 @@ public class ParserUtil {
         return new RemainingItems(trimmedRemainingItems);
     }
 
+    /**
+     * Parses a {@code String reorderLevel} into a {@code ReorderLevel}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code reorderLevel} is invalid.
+     */
+    public static ReorderLevel parseReorderLevel(String reorderLevel) throws ParseException {
+        requireNonNull(reorderLevel);
+        String trimmedReorderLevel = reorderLevel.trim();
+        if (!ReorderLevel.isValidReorderLevel(trimmedReorderLevel)) {
+            throw new ParseException(ReorderLevel.MESSAGE_REORDER_LEVEL_CONSTRAINTS);
+        }
+        return new ReorderLevel(trimmedReorderLevel);
+    }
+
     /**
      * Parses a {@code String distributorproduct} into a {@code DistributorProduct}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.logic.commands.ProductSalesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the ProductSales command
+ */
+public class ProductSalesCommandParser implements Parser<ProductSalesCommand> {
+
+    @Override
+    public ProductSalesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PRODUCT, PREFIX_FROM, PREFIX_TO);
+        boolean hasFromDate = argMultimap.getValue(PREFIX_FROM).isPresent();
+        boolean hasToDate = argMultimap.getValue(PREFIX_TO).isPresent();
+        if (!argMultimap.getValue(PREFIX_PRODUCT).isPresent() || hasFromDate != hasToDate
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ProductSalesCommand.COMMAND_WORD + ProductSalesCommand.MESSAGE_USAGE));
+        }
+
+        String productName = ParserUtil.parseName(argMultimap.getValue(PREFIX_PRODUCT).get()).fullName;
+        if (!hasFromDate) {
+            return new ProductSalesCommand(productName);
+        }
+        String fromDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        String toDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        ParserUtil.checkDateRange(fromDate, toDate);
+        return new ProductSalesCommand(productName, fromDate, toDate);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SalesReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the SalesReport command
+ */
+public class SalesReportCommandParser implements Parser<SalesReportCommand> {
+
+    @Override
+    public SalesReportCommand parse(String args) throws ParseException {
+        String[] dates = args.trim().split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SalesReportCommand.COMMAND_WORD + SalesReportCommand.MESSAGE_USAGE));
+        }
+        String startDate = ParserUtil.parseDate(dates[0]);
+        String endDate = ParserUtil.parseDate(dates[1]);
+        ParserUtil.checkDateRange(startDate, endDate);
+        return new SalesReportCommand(startDate, endDate);
+    }
+}
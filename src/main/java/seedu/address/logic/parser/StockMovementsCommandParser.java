@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.StockMovementsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the StockMovements command
+ */
+public class StockMovementsCommandParser implements Parser<StockMovementsCommand> {
+
+    @Override
+    public StockMovementsCommand parse(String args) throws ParseException {
+        String count = args.trim();
+        if (count.isEmpty()) {
+            return new StockMovementsCommand(StockMovementsCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    StockMovementsCommand.COMMAND_WORD + StockMovementsCommand.MESSAGE_USAGE));
+        }
+        return new StockMovementsCommand(Integer.parseInt(count));
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SuggestOrdersCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the SuggestOrders command
+ */
+public class SuggestOrdersCommandParser implements Parser<SuggestOrdersCommand> {
+
+    @Override
+    public SuggestOrdersCommand parse(String args) throws ParseException {
+        String days = args.trim();
+        if (days.isEmpty()) {
+            return new SuggestOrdersCommand(SuggestOrdersCommand.DEFAULT_DAYS);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(days)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SuggestOrdersCommand.COMMAND_WORD + SuggestOrdersCommand.MESSAGE_USAGE));
+        }
+        return new SuggestOrdersCommand(Integer.parseInt(days));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.TopSellersCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the TopSellers command
+ */
+public class TopSellersCommandParser implements Parser<TopSellersCommand> {
+
+    @Override
+    public TopSellersCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        String count = argMultimap.getPreamble();
+        boolean hasFromDate = argMultimap.getValue(PREFIX_FROM).isPresent();
+        boolean hasToDate = argMultimap.getValue(PREFIX_TO).isPresent();
+        if (!StringUtil.isNonZeroUnsignedInteger(count) || hasFromDate != hasToDate) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    TopSellersCommand.COMMAND_WORD + TopSellersCommand.MESSAGE_USAGE));
+        }
+
+        if (!hasFromDate) {
+            return new TopSellersCommand(Integer.parseInt(count));
+        }
+        String fromDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        String toDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        ParserUtil.checkDateRange(fromDate, toDate);
+        return new TopSellersCommand(Integer.parseInt(count), fromDate, toDate);
+    }
+}
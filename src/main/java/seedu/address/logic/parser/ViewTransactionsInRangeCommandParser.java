@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CURSOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ViewTransactionsInRangeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * This class is the parser for the ViewTransactionsInRange command
+ */
+public class ViewTransactionsInRangeCommandParser implements Parser<ViewTransactionsInRangeCommand> {
+
+    @Override
+    public ViewTransactionsInRangeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_LIMIT,
+                PREFIX_CURSOR, PREFIX_EXPORT);
+        if (!argMultimap.getValue(PREFIX_FROM).isPresent() || !argMultimap.getValue(PREFIX_TO).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw invalidFormat();
+        }
+        String fromDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        String toDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        ParserUtil.checkDateRange(fromDate, toDate);
+
+        int limit = ViewTransactionsInRangeCommand.DEFAULT_LIMIT;
+        Optional<String> limitValue = argMultimap.getValue(PREFIX_LIMIT);
+        if (limitValue.isPresent()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(limitValue.get().trim())) {
+                throw invalidFormat();
+            }
+            limit = Integer.parseInt(limitValue.get().trim());
+        }
+
+        Long cursor = null;
+        Optional<String> cursorValue = argMultimap.getValue(PREFIX_CURSOR);
+        if (cursorValue.isPresent()) {
+            try {
+                cursor = Long.parseLong(cursorValue.get().trim());
+            } catch (NumberFormatException e) {
+                throw invalidFormat();
+            }
+        }
+
+        Path exportPath = null;
+        Optional<String> exportValue = argMultimap.getValue(PREFIX_EXPORT);
+        if (exportValue.isPresent()) {
+            if (exportValue.get().trim().isEmpty()) {
+                throw invalidFormat();
+            }
+            try {
+                exportPath = Paths.get(exportValue.get().trim());
+            } catch (InvalidPathException e) {
+                throw invalidFormat();
+            }
+        }
+        return new ViewTransactionsInRangeCommand(fromDate, toDate, limit, cursor, exportPath);
+    }
+
+    /**
+     * Returns the exception for arguments that do not follow the command format.
+     */
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ViewTransactionsInRangeCommand.COMMAND_WORD + ViewTransactionsInRangeCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.product.SerialNumber;
+import seedu.address.model.product.StockLedger;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.product.exceptions.ProductNotFoundException;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
+
+/**
+ * Lets several checkout registers record transactions against one {@link Model} at the same time.
+ * The stock of each sale is taken at once, on the register's thread, straight from the model's {@link StockLedger},
+ * whose counts are changed by compare-and-set, so that registers selling different products never wait for each
+ * other. The transactions themselves are queued and added to the model in batches on the thread that owns the
+ * model, such as the JavaFX application thread, so that the model and the UI see one change per batch rather than
+ * one per sale.
+ */
+public class CheckoutService {
+
+    private static final Logger logger = LogsCenter.getLogger(CheckoutService.class);
+
+    private final Model model;
+    private final StockLedger stockLedger;
+    private final Executor modelExecutor;
+    private final Queue<Checkout> pendingCheckouts = new ConcurrentLinkedQueue<>();
+    /** The times of the pending transactions, so that two registers cannot both sell at the same time. */
+    private final Set<Long> pendingTransactionTimes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean isPublishScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a service that takes stock from {@code stockLedger}, the ledger of {@code model}'s product database,
+     * and adds the transactions to {@code model} by running tasks on {@code modelExecutor}.
+     * {@code model} must only be used on the thread or threads that {@code modelExecutor} runs tasks on.
+     */
+    public CheckoutService(Model model, StockLedger stockLedger, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(stockLedger);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.stockLedger = stockLedger;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Takes the units sold in {@code transaction} out of stock and queues the transaction to be added to the model.
+     * May be called by several threads at once.
+     * Products with fewer remaining items than were sold are left with none, as when adding a transaction to
+     * the model. A queued transaction is dropped, and its units put back in stock, if the model turns out to
+     * already have a transaction at the same time.
+     * @return the names of the products that had fewer remaining items than were sold
+     * @throws ProductNotFoundException if a product sold is not in the product database, in which case no stock
+     *     is taken
+     * @throws DuplicateTransactionException if another queued transaction has the same time
+     */
+    public List<String> checkout(Transaction transaction) throws InvalidTimeFormatException,
+            DuplicateTransactionException {
+        requireNonNull(transaction);
+        if (!Transaction.isValidTransactionTime(transaction.getTransactionTime())) {
+            throw new InvalidTimeFormatException();
+        }
+        long transactionTime = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        if (!pendingTransactionTimes.add(transactionTime)) {
+            throw new DuplicateTransactionException();
+        }
+
+        Map<String, Long> unitsSold = getUnitsSold(transaction);
+        Map<String, List<SerialNumber>> productsSold = new HashMap<>();
+        for (String productName : unitsSold.keySet()) {
+            List<SerialNumber> serialNumbers = stockLedger.getSerialNumbers(productName);
+            if (serialNumbers.isEmpty()) {
+                pendingTransactionTimes.remove(transactionTime);
+                throw new ProductNotFoundException();
+            }
+            productsSold.put(productName, serialNumbers);
+        }
+
+        List<Withdrawal> withdrawals = new ArrayList<>();
+        List<String> productsRunShort = new ArrayList<>();
+        for (Map.Entry<String, List<SerialNumber>> product : productsSold.entrySet()) {
+            for (SerialNumber serialNumber : product.getValue()) {
+                Withdrawal withdrawal;
+                try {
+                    withdrawal = stockLedger.withdraw(serialNumber, unitsSold.get(product.getKey()));
+                } catch (ProductNotFoundException e) {
+                    continue; // removed from the product database since it was looked up
+                }
+                withdrawals.add(withdrawal);
+                if (withdrawal.isShort()) {
+                    productsRunShort.add(product.getKey());
+                }
+            }
+        }
+        transaction.closeTransaction();
+        pendingCheckouts.add(new Checkout(transaction, withdrawals));
+
+        // a publish that has been scheduled but has not started yet will also add this transaction
+        if (isPublishScheduled.compareAndSet(false, true)) {
+            modelExecutor.execute(this::publishPendingTransactions);
+        }
+        return productsRunShort;
+    }
+
+    /**
+     * Adds the queued transactions to the model as one batch. Runs on the model's thread.
+     */
+    private void publishPendingTransactions() {
+        isPublishScheduled.set(false);
+
+        List<Transaction> batch = new ArrayList<>();
+        List<Withdrawal> batchWithdrawals = new ArrayList<>();
+        Checkout checkout;
+        while ((checkout = pendingCheckouts.poll()) != null) {
+            if (hasTransaction(checkout.transaction)) {
+                logger.warning("Dropping the checkout at " + checkout.transaction.getTransactionTime()
+                        + " as another transaction is recorded at the same time");
+                checkout.withdrawals.forEach(stockLedger::putBack);
+                forgetPendingTime(checkout.transaction);
+            } else {
+                batch.add(checkout.transaction);
+                batchWithdrawals.addAll(checkout.withdrawals);
+            }
+        }
+
+        try {
+            model.addCheckedOutTransactions(batch, batchWithdrawals);
+        } catch (InvalidTimeFormatException | DuplicateTransactionException e) {
+            throw new AssertionError("Every transaction in the batch has been checked.", e);
+        }
+        batch.forEach(this::forgetPendingTime);
+    }
+
+    /**
+     * Returns true if the model already has a transaction at the time of {@code transaction}.
+     */
+    private boolean hasTransaction(Transaction transaction) {
+        try {
+            return model.hasTransaction(transaction.getTransactionTime());
+        } catch (InvalidTimeFormatException e) {
+            throw new AssertionError("The time of a queued transaction has been checked.", e);
+        }
+    }
+
+    /**
+     * Lets another transaction at the time of {@code transaction} be checked out.
+     */
+    private void forgetPendingTime(Transaction transaction) {
+        pendingTransactionTimes.remove(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()));
+    }
+
+    /**
+     * Returns the units of each product sold in {@code transaction}.
+     */
+    private static Map<String, Long> getUnitsSold(Transaction transaction) {
+        Map<String, Long> unitsSold = new HashMap<>();
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            unitsSold.merge(transaction.getProductName(line), (long) transaction.getQuantity(line), Long::sum);
+        }
+        return unitsSold;
+    }
+
+    /**
+     * A queued transaction and the stock its register took for it.
+     */
+    private static class Checkout {
+        private final Transaction transaction;
+        private final List<Withdrawal> withdrawals;
+
+        Checkout(Transaction transaction, List<Withdrawal> withdrawals) {
+            this.transaction = transaction;
+            this.withdrawals = withdrawals;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -14,6 +17,11 @@ import seedu.address.model.login.exceptions.AuthenticatedException;
 import seedu.address.model.login.exceptions.DuplicateUserException;
 import seedu.address.model.login.exceptions.UserNotFoundException;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
 import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
@@ -104,6 +112,22 @@ public interface Model {
      */
     void updateProduct(Product target, Product editedProduct);
 
+    /**
+     * Returns up to {@code limit} products with fewer remaining items than their reorder level, those furthest
+     * below it first.
+     */
+    List<Product> getLowStockProducts(int limit);
+
+    /**
+     * Returns the number of products with fewer remaining items than their reorder level.
+     */
+    int getLowStockProductCount();
+
+    /**
+     * Returns up to {@code limit} of the latest sales, restocks and adjustments of the remaining items of products,
+     * the newest first.
+     */
+    List<Movement> getStockMovements(int limit);
 
     /** Returns an unmodifiable view of the filtered product list */
     ObservableList<Product> getFilteredProductList();
@@ -180,6 +204,42 @@ public interface Model {
     void addTransaction(Transaction transaction) throws InvalidTimeFormatException,
             DuplicateTransactionException;
 
+    /**
+     * Returns true if a transaction is recorded at {@code transactionTime}.
+     * @throws InvalidTimeFormatException if {@code transactionTime} is invalid
+     */
+    boolean hasTransaction(String transactionTime) throws InvalidTimeFormatException;
+
+    /**
+     * Adds all of {@code transactions} and takes the units they sold out of the remaining items of the products
+     * with those names, as one change that is committed and saved once.
+     * Either every transaction is added or, if any is invalid, nothing is changed.
+     * Products with fewer remaining items than were sold are left with none.
+     * @return the names of the products that had fewer remaining items than were sold
+     * @throws InvalidTimeFormatException
+     * @throws DuplicateTransactionException if two transactions, or a transaction and the sales history,
+     *     have the same time
+     */
+    List<String> addTransactions(List<Transaction> transactions) throws InvalidTimeFormatException,
+            DuplicateTransactionException;
+
+    /**
+     * Adds {@code transactions}, checked out by the {@link CheckoutService}, as one change that is committed and
+     * saved once. The registers have already taken the units sold from stock, as {@code withdrawals}, which are
+     * recorded so that undoing the change puts them back.
+     * Either every transaction is added or, if any is invalid, nothing is changed.
+     * @throws InvalidTimeFormatException
+     * @throws DuplicateTransactionException if two transactions, or a transaction and the sales history,
+     *     have the same time
+     */
+    void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals)
+            throws InvalidTimeFormatException, DuplicateTransactionException;
+
+    /**
+     * Returns the service through which checkout registers, which may run on other threads, add transactions.
+     */
+    CheckoutService getCheckoutService();
+
     /**
      * Adds a reminder to the active business day.
      * @param reminder
@@ -196,6 +256,15 @@ public interface Model {
      */
     void removeReminder(String reminderTime) throws InvalidTimeFormatException, NoSuchElementException;
 
+    /**
+     * Moves the reminder at {@code reminderTime} to {@code newTime}.
+     * @throws InvalidTimeFormatException if either time is invalid
+     * @throws NoSuchElementException if there is no reminder at {@code reminderTime}
+     * @throws DuplicateReminderException if another reminder is set for {@code newTime}
+     */
+    void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+            NoSuchElementException, DuplicateReminderException;
+
     /**
      * Returns ALL the reminders
      */
@@ -216,6 +285,12 @@ public interface Model {
      */
     String getDaysTransactionsAsString(String date) throws InvalidTimeFormatException;
 
+    /**
+     * Returns an iterator over the transactions from {@code fromEpochSecond} inclusive to {@code toEpochSecond}
+     * exclusive, in time order, which finds them as it advances.
+     */
+    Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond);
+
     /**
      * Finds and returns a transaction
      */
@@ -226,6 +301,28 @@ public interface Model {
      */
     Transaction getLastTransaction();
 
+    /**
+     * Returns the running sales totals of every product in the sales history.
+     */
+    SalesAggregates getSalesAggregates();
+
+    /**
+     * Returns the moving average sales rate of every product in the sales history.
+     */
+    SalesVelocity getSalesVelocity();
+
+    /**
+     * Returns the store-wide transaction counts and units sold over time.
+     */
+    SalesRollup getSalesRollup();
+
+    /**
+     * Saves the sales history, then moves the transactions of the closed month starting at {@code monthStart} into
+     * a read-only archive. Returns the number of transactions archived, which is zero if the month was archived
+     * already or has no saved transactions.
+     */
+    int archiveSalesPeriod(long monthStart) throws IOException;
+
     /**
      * Saves the newest SalesHistory.
      */
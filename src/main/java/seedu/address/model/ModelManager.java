@@ -5,11 +5,20 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -17,8 +26,14 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.DistributorBookChangedEvent;
+import seedu.address.commons.events.model.LowStockChangedEvent;
 import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
+import seedu.address.commons.events.model.ReminderAddedEvent;
+import seedu.address.commons.events.model.ReminderRemovedEvent;
+import seedu.address.commons.events.model.ReminderTimeChangedEvent;
 import seedu.address.commons.events.model.SalesHistoryChangedEvent;
+import seedu.address.commons.events.model.SalesHistoryReloadedEvent;
+import seedu.address.commons.events.model.TransactionAddedEvent;
 import seedu.address.commons.events.model.UserDatabaseChangedEvent;
 import seedu.address.commons.events.model.UserDeletedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -31,15 +46,22 @@ import seedu.address.model.login.exceptions.AuthenticatedException;
 import seedu.address.model.login.exceptions.DuplicateUserException;
 import seedu.address.model.login.exceptions.UserNotFoundException;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesAggregates;
 import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
 import seedu.address.model.timeidentifiedclass.Transaction;
 import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
 import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
 import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.model.util.SampleDistributorsUtil;
+import seedu.address.storage.ParallelDataLoader;
 import seedu.address.storage.Storage;
 
 /**
@@ -55,16 +77,22 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedUserDatabase versionedUserDatabase;
     private final VersionedSalesHistory versionedSalesHistory;
 
+    private final CheckoutService checkoutService;
+
     private final FilteredList<Distributor> filteredDistributors;
     private final FilteredList<Product> filteredProducts;
-
+    /** The number of products low on stock when the UI was last told of it. */
+    private int lastLowStockProductCount;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * The transactions of checkout registers are added to the model by running tasks on {@code modelExecutor},
+     * which must run them on the thread that uses the model.
      */
     public ModelManager(ReadOnlyProductDatabase addressBook,
                         ReadOnlyDistributorBook distributorBook, UserPrefs userPrefs,
-                        ReadOnlyUserDatabase userDatabase, ReadOnlySalesHistory salesHistory, Storage storage) {
+                        ReadOnlyUserDatabase userDatabase, ReadOnlySalesHistory salesHistory, Storage storage,
+                        Executor modelExecutor) {
         super();
         requireAllNonNull(addressBook, userPrefs, userDatabase);
         logger.fine("Initializing with address book: " + addressBook
@@ -76,10 +104,22 @@ public class ModelManager extends ComponentManager implements Model {
         this.storage = storage;
         versionedUserDatabase = new VersionedUserDatabase(userDatabase);
         versionedDistributorBook = new VersionedDistributorBook(distributorBook);
-        versionedAddressBook = new VersionedProductDatabase(addressBook);
+        versionedAddressBook = new VersionedProductDatabase(addressBook, userPrefs.getUndoHistoryLimit());
         versionedSalesHistory = new VersionedSalesHistory(salesHistory);
         filteredDistributors = new FilteredList<>(versionedDistributorBook.getDistributorList());
         filteredProducts = new FilteredList<>(versionedAddressBook.getProductList());
+        lastLowStockProductCount = versionedAddressBook.getLowStockProductCount();
+        checkoutService = new CheckoutService(this, versionedAddressBook.getStockLedger(), modelExecutor);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * The transactions of checkout registers are added to the model on the JavaFX application thread.
+     */
+    public ModelManager(ReadOnlyProductDatabase addressBook,
+                        ReadOnlyDistributorBook distributorBook, UserPrefs userPrefs,
+                        ReadOnlyUserDatabase userDatabase, ReadOnlySalesHistory salesHistory, Storage storage) {
+        this(addressBook, distributorBook, userPrefs, userDatabase, salesHistory, storage, Platform::runLater);
     }
 
     /**
@@ -103,6 +143,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     public void setSalesHistory(ReadOnlySalesHistory salesHistory) {
         versionedSalesHistory.resetData(salesHistory);
+        raise(new SalesHistoryReloadedEvent(versionedSalesHistory));
     }
 
     // ============== ProductDatabase Modifiers =============================================================
@@ -115,6 +156,20 @@ public class ModelManager extends ComponentManager implements Model {
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
         raise(new ProductDatabaseChangedEvent(versionedAddressBook));
+        indicateLowStockChanged();
+    }
+
+    /**
+     * Raises an event if products fell below their reorder level, or the number of products below it changed,
+     * since this was last called.
+     */
+    private void indicateLowStockChanged() {
+        List<Product> newlyLowStockProducts = versionedAddressBook.takeNewlyLowStockProducts();
+        int lowStockProductCount = versionedAddressBook.getLowStockProductCount();
+        if (!newlyLowStockProducts.isEmpty() || lowStockProductCount != lastLowStockProductCount) {
+            lastLowStockProductCount = lowStockProductCount;
+            raise(new LowStockChangedEvent(newlyLowStockProducts, lowStockProductCount));
+        }
     }
 
     @Override
@@ -136,9 +191,9 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Updates the addressBook and its storage path.
+     * Reads the product database of the logged in user from storage.
      */
-    private void reloadAddressBook() {
+    private ReadOnlyProductDatabase readProductDatabase() {
         Optional<ReadOnlyProductDatabase> addressBookOptional;
         ReadOnlyProductDatabase newAddressBook;
 
@@ -155,13 +210,13 @@ public class ModelManager extends ComponentManager implements Model {
             newAddressBook = new ProductDatabase();
             logger.warning("Problem while reading from the file. Will be starting with an empty ProductDatabase");
         }
-        versionedAddressBook.resetData(newAddressBook);
+        return newAddressBook;
     }
 
     /**
-     * Reloads the sales history
+     * Reads the sales history of the logged in user from storage.
      */
-    private void reloadSalesHistory() {
+    private ReadOnlySalesHistory readSalesHistory() {
         Optional<ReadOnlySalesHistory> salesHistoryOptional;
         ReadOnlySalesHistory newSalesHistory;
 
@@ -178,8 +233,7 @@ public class ModelManager extends ComponentManager implements Model {
             newSalesHistory = new SalesHistory();
             logger.warning("Problem while reading from the file. Will be starting with an empty SalesHistory");
         }
-
-        versionedSalesHistory.resetData(newSalesHistory);
+        return newSalesHistory;
     }
 
     // ============== DistributorBook Modifiers =============================================================
@@ -228,9 +282,9 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Updates the distributorBook and its storage path.
+     * Reads the distributor book of the logged in user from storage.
      */
-    private void reloadDistributorBook() {
+    private ReadOnlyDistributorBook readDistributorBook() {
         Optional<ReadOnlyDistributorBook> distributorBookOptional;
         ReadOnlyDistributorBook newData;
 
@@ -247,7 +301,7 @@ public class ModelManager extends ComponentManager implements Model {
             newData = new DistributorBook();
             logger.warning("Problem while reading from the file. Will be starting with an empty DistributorBook");
         }
-        versionedDistributorBook.resetData(newData);
+        return newData;
     }
 
     //============== UserDatabase Modifiers =============================================================
@@ -286,13 +340,29 @@ public class ModelManager extends ComponentManager implements Model {
         boolean result = versionedUserDatabase.checkAuthentication(username, password);
         if (hasLoggedIn() && result) {
             storage.update(versionedUserDatabase.getUser(username));
-            reloadAddressBook();
-            reloadSalesHistory();
-            reloadDistributorBook();
+            reloadUserData();
         }
         return result;
     }
 
+    /**
+     * Reads the logged in user's files concurrently and then replaces the data in the model with them.
+     */
+    private void reloadUserData() {
+        CompletableFuture<ReadOnlyProductDatabase> productDatabase =
+                ParallelDataLoader.load("product database", this::readProductDatabase);
+        CompletableFuture<ReadOnlySalesHistory> salesHistory =
+                ParallelDataLoader.load("sales history", this::readSalesHistory);
+        CompletableFuture<ReadOnlyDistributorBook> distributorBook =
+                ParallelDataLoader.load("distributor book", this::readDistributorBook);
+
+        versionedAddressBook.resetData(ParallelDataLoader.join(productDatabase));
+        versionedSalesHistory.resetData(ParallelDataLoader.join(salesHistory));
+        versionedDistributorBook.resetData(ParallelDataLoader.join(distributorBook));
+        raise(new SalesHistoryReloadedEvent(versionedSalesHistory));
+        indicateLowStockChanged();
+    }
+
     @Override
     public boolean checkCredentials(Username username, Password password) throws AuthenticatedException {
         return versionedUserDatabase.checkCredentials(username, password);
@@ -329,6 +399,10 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void setLoginStatus(boolean status) {
+        if (!status) {
+            // the user's data must be on disk before another user can log in
+            storage.flush();
+        }
         versionedUserDatabase.setLoginStatus(status);
     }
 
@@ -353,6 +427,21 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public List<Product> getLowStockProducts(int limit) {
+        return versionedAddressBook.getLowStockProducts(limit);
+    }
+
+    @Override
+    public int getLowStockProductCount() {
+        return versionedAddressBook.getLowStockProductCount();
+    }
+
+    @Override
+    public List<Movement> getStockMovements(int limit) {
+        return versionedAddressBook.getStockLedger().getLatestMovements(limit);
+    }
+
 
 
     //=========== Filtered Distributor List Modifiers =============================================================
@@ -515,6 +604,11 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    @Override
+    public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+        return versionedSalesHistory.getTransactions(fromEpochSecond, toEpochSecond);
+    }
+
     @Override
     public String getTransactionAsString(String date) throws InvalidTimeFormatException {
         try {
@@ -535,7 +629,119 @@ public class ModelManager extends ComponentManager implements Model {
         } catch (InvalidTimeFormatException e) {
             throw e;
         }
-        indicateSalesHistoryChanged();
+        raise(new TransactionAddedEvent(versionedSalesHistory, transaction));
+    }
+
+    @Override
+    public boolean hasTransaction(String transactionTime) throws InvalidTimeFormatException {
+        requireNonNull(transactionTime);
+        if (!Transaction.isValidTransactionTime(transactionTime)) {
+            throw new InvalidTimeFormatException();
+        }
+        return versionedSalesHistory.hasTransaction(TimeIdentifiedClass.toEpochSecond(transactionTime));
+    }
+
+    @Override
+    public CheckoutService getCheckoutService() {
+        return checkoutService;
+    }
+
+    @Override
+    public List<String> addTransactions(List<Transaction> transactions) throws InvalidTimeFormatException,
+            DuplicateTransactionException {
+        requireNonNull(transactions);
+        if (transactions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Long> unitsSold = checkNewTransactions(transactions);
+        List<String> productsRunShort = takeFromStock(unitsSold);
+        recordTransactions(transactions);
+        return productsRunShort;
+    }
+
+    @Override
+    public void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals)
+            throws InvalidTimeFormatException, DuplicateTransactionException {
+        requireAllNonNull(transactions, withdrawals);
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        checkNewTransactions(transactions);
+        for (Withdrawal withdrawal : withdrawals) {
+            versionedAddressBook.recordWithdrawal(withdrawal);
+        }
+        recordTransactions(transactions);
+    }
+
+    /**
+     * Checks that {@code transactions} can all be added, before anything is changed, so that a failed batch changes
+     * nothing.
+     * @return the units of each product sold in {@code transactions}
+     * @throws DuplicateTransactionException if two transactions, or a transaction and the sales history,
+     *     have the same time
+     */
+    private Map<String, Long> checkNewTransactions(List<Transaction> transactions) throws InvalidTimeFormatException,
+            DuplicateTransactionException {
+        Set<Long> transactionTimes = new HashSet<>();
+        Map<String, Long> unitsSold = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            if (!Transaction.isValidTransactionTime(transaction.getTransactionTime())) {
+                throw new InvalidTimeFormatException();
+            }
+            long transactionTime = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+            if (!transactionTimes.add(transactionTime) || versionedSalesHistory.hasTransaction(transactionTime)) {
+                throw new DuplicateTransactionException();
+            }
+            for (int line = 0; line < transaction.getLineCount(); line++) {
+                unitsSold.merge(transaction.getProductName(line), (long) transaction.getQuantity(line), Long::sum);
+            }
+        }
+        return unitsSold;
+    }
+
+    /**
+     * Adds {@code transactions}, whose units sold have been taken from stock, to the sales history, and commits the
+     * product database and sales history as one change.
+     */
+    private void recordTransactions(List<Transaction> transactions) throws InvalidTimeFormatException,
+            DuplicateTransactionException {
+        for (Transaction transaction : transactions) {
+            transaction.closeTransaction();
+            versionedSalesHistory.addTransaction(transaction);
+        }
+
+        commitProductDatabase();
+        commitSalesHistory();
+        indicateAddressBookChanged();
+        if (transactions.size() == 1) {
+            // a single transaction is appended to the journal instead of saving the whole sales history
+            raise(new TransactionAddedEvent(versionedSalesHistory, transactions.get(0)));
+        } else {
+            indicateSalesHistoryChanged();
+        }
+    }
+
+    /**
+     * Takes the units in {@code unitsSold} out of the remaining items of the products with those names, leaving
+     * products with fewer remaining items than were sold with none.
+     * The products are found through the product name index and their remaining items changed in the stock ledger,
+     * so this takes time proportional to the number of products sold and replaces no product.
+     * @return the names of the products that had fewer remaining items than were sold
+     */
+    private List<String> takeFromStock(Map<String, Long> unitsSold) {
+        List<String> productsRunShort = new ArrayList<>();
+        for (Map.Entry<String, Long> productUnitsSold : unitsSold.entrySet()) {
+            for (Product product : versionedAddressBook.getProductsWithName(productUnitsSold.getKey())) {
+                long unitsTaken = versionedAddressBook.takeStock(product.getSerialNumber(),
+                        productUnitsSold.getValue());
+                if (unitsTaken < productUnitsSold.getValue()) {
+                    productsRunShort.add(product.getName().fullName);
+                }
+            }
+        }
+        return productsRunShort;
     }
 
     @Override
@@ -549,11 +755,14 @@ public class ModelManager extends ComponentManager implements Model {
         }
         commitSalesHistory();
         indicateSalesHistoryChanged();
+        raise(new ReminderAddedEvent(reminder));
     }
 
     @Override
     public void removeReminder(String reminderTime) throws InvalidTimeFormatException, NoSuchElementException {
+        Reminder removedReminder;
         try {
+            removedReminder = versionedSalesHistory.getReminder(reminderTime.trim());
             versionedSalesHistory.removeReminder(reminderTime);
         } catch (InvalidTimeFormatException e) {
             throw e;
@@ -562,6 +771,16 @@ public class ModelManager extends ComponentManager implements Model {
         }
         commitSalesHistory();
         indicateSalesHistoryChanged();
+        raise(new ReminderRemovedEvent(removedReminder));
+    }
+
+    @Override
+    public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+            NoSuchElementException, DuplicateReminderException {
+        Reminder movedReminder = versionedSalesHistory.changeReminderTime(reminderTime, newTime);
+        commitSalesHistory();
+        indicateSalesHistoryChanged();
+        raise(new ReminderTimeChangedEvent(movedReminder));
     }
 
     @Override
@@ -578,4 +797,25 @@ public class ModelManager extends ComponentManager implements Model {
     public Transaction getLastTransaction() {
         return versionedSalesHistory.getLastTransaction();
     }
+
+    @Override
+    public SalesAggregates getSalesAggregates() {
+        return versionedSalesHistory.getSalesAggregates();
+    }
+
+    @Override
+    public SalesVelocity getSalesVelocity() {
+        return versionedSalesHistory.getSalesVelocity();
+    }
+
+    @Override
+    public SalesRollup getSalesRollup() {
+        return versionedSalesHistory.getSalesRollup();
+    }
+
+    @Override
+    public int archiveSalesPeriod(long monthStart) throws IOException {
+        indicateSalesHistoryChanged();
+        return storage.archiveMonth(monthStart);
+    }
 }
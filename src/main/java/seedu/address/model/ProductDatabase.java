@@ -2,20 +2,30 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 
+import seedu.address.model.product.LowStockIndex;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.SerialNumber;
+import seedu.address.model.product.StockLedger;
+import seedu.address.model.product.StockLedger.MovementKind;
+import seedu.address.model.product.StockLedger.Withdrawal;
 import seedu.address.model.product.UniqueProductList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameProduct comparison)
+ * The remaining items of the products are kept in a {@link StockLedger}, so the database holds its own copies of
+ * the products it is given, and stock changes such as sales do not replace them.
  */
 public class ProductDatabase implements ReadOnlyProductDatabase {
 
     private final UniqueProductList products;
+    private final StockLedger stockLedger = new StockLedger();
+    private final LowStockIndex lowStockIndex = new LowStockIndex();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -47,7 +57,13 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
      * {@code products} must not contain duplicate products.
      */
     public void setProducts(List<Product> products) {
-        this.products.setProducts(products);
+        List<Product> copies = new ArrayList<>(products.size());
+        for (Product product : products) {
+            copies.add(copyOf(product));
+        }
+        this.products.setProducts(copies);
+        stockLedger.reset(copies);
+        lowStockIndex.reset(copies);
     }
 
     //// product-level operations
@@ -73,13 +89,16 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
      * Returns true if a product with the same name as {@code product} exists in the Product database.
      */
     public boolean hasProductName(String name) {
-        for (Product product : products) {
+        requireNonNull(name);
+        return products.containsName(name);
+    }
 
-            if (product.getName().fullName.equals(name)) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Returns the products whose name is exactly {@code name}.
+     */
+    public List<Product> getProductsWithName(String name) {
+        requireNonNull(name);
+        return products.getProductsWithName(name);
     }
 
     /**
@@ -87,7 +106,28 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
      * The product must not already exist in the address book.
      */
     public void addProduct(Product p) {
-        products.add(p);
+        Product copy = copyOf(p);
+        products.add(copy);
+        stockLedger.keep(copy);
+        lowStockIndex.add(copy);
+    }
+
+    /**
+     * Inserts a product at {@code index} of the product list.
+     * The product must not already exist in the address book.
+     */
+    void addProduct(int index, Product p) {
+        Product copy = copyOf(p);
+        products.add(index, copy);
+        stockLedger.keep(copy);
+        lowStockIndex.add(copy);
+    }
+
+    /**
+     * Returns the position of {@code product} in the product list, or -1 if it is not in the address book.
+     */
+    int indexOfProduct(Product product) {
+        return products.indexOf(product);
     }
 
     /**
@@ -97,7 +137,10 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
      */
     public void updateProducts(Product target, Product editedProduct) {
         requireNonNull(editedProduct);
-        products.setProduct(target, editedProduct);
+        Product copy = copyOf(editedProduct);
+        products.setProduct(target, copy);
+        stockLedger.replace(target.getSerialNumber(), copy);
+        lowStockIndex.replace(target.getSerialNumber(), copy);
     }
 
     /**
@@ -106,6 +149,86 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
      */
     public void removeProduct(Product key) {
         products.remove(key);
+        stockLedger.release(key.getSerialNumber());
+        lowStockIndex.remove(key.getSerialNumber());
+    }
+
+    /**
+     * Takes {@code units} sold from the remaining items of the product with {@code serialNumber}, or all of them
+     * if there are fewer. The product is not replaced.
+     * @return the units taken
+     */
+    public long takeStock(SerialNumber serialNumber, long units) {
+        long taken = stockLedger.take(serialNumber, units, MovementKind.SALE);
+        lowStockIndex.update(serialNumber);
+        return taken;
+    }
+
+    /**
+     * Accounts for {@code withdrawal}, which a checkout register took straight from the stock ledger.
+     * A withdrawal from a product that has since been replaced or removed is ignored, as its remaining items were
+     * set afresh after the sale.
+     * @return true if the withdrawal was taken from a product in this database
+     */
+    public boolean recordWithdrawal(Withdrawal withdrawal) {
+        if (!stockLedger.isCurrent(withdrawal)) {
+            return false;
+        }
+        lowStockIndex.update(withdrawal.serialNumber);
+        return true;
+    }
+
+    /**
+     * Adds {@code change}, which may be negative, to the remaining items of the product with {@code serialNumber}.
+     * The remaining items must not become negative.
+     */
+    void adjustStock(SerialNumber serialNumber, long change) {
+        if (change >= 0) {
+            stockLedger.add(serialNumber, change, MovementKind.ADJUSTMENT);
+        } else {
+            stockLedger.take(serialNumber, -change, MovementKind.ADJUSTMENT);
+        }
+        lowStockIndex.update(serialNumber);
+    }
+
+    /**
+     * Returns up to {@code limit} products with fewer remaining items than their reorder level, those furthest
+     * below it first.
+     */
+    public List<Product> getLowStockProducts(int limit) {
+        return lowStockIndex.getLowProducts(limit);
+    }
+
+    /**
+     * Returns the number of products with fewer remaining items than their reorder level.
+     */
+    public int getLowStockProductCount() {
+        return lowStockIndex.getLowProductCount();
+    }
+
+    /**
+     * Returns the products that fell below their reorder level since this was last called.
+     */
+    public List<Product> takeNewlyLowStockProducts() {
+        return lowStockIndex.takeNewlyLowProducts();
+    }
+
+    /**
+     * Returns the ledger of the remaining items of the products, with the log of their movements.
+     * The remaining items should only be changed through this {@code ProductDatabase}.
+     */
+    public StockLedger getStockLedger() {
+        return stockLedger;
+    }
+
+    /**
+     * Returns a copy of {@code product} whose remaining items can be kept in the stock ledger without changing
+     * {@code product}.
+     */
+    private static Product copyOf(Product product) {
+        return new Product(product.getName(), product.getSerialNumber(), product.getDistributor(),
+                product.getProductInfo(), product.getRemainingItems(), product.getReorderLevel(),
+                product.getTags());
     }
     //// util methods
 
@@ -124,7 +247,8 @@ public class ProductDatabase implements ReadOnlyProductDatabase {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ProductDatabase // instanceof handles nulls
-                && products.equals(((ProductDatabase) other).products));
+                && products.equals(((ProductDatabase) other).products)
+                && stockLedger.hasSameRemainingItems(((ProductDatabase) other).stockLedger));
 
     }
 
@@ -0,0 +1,244 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ReminderAddedEvent;
+import seedu.address.commons.events.model.ReminderRemovedEvent;
+import seedu.address.commons.events.model.ReminderTimeChangedEvent;
+import seedu.address.commons.events.model.RemindersDueEvent;
+import seedu.address.commons.events.model.SalesHistoryReloadedEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * Raises a {@link RemindersDueEvent} when the time of a reminder comes.
+ * The pending reminders are kept in a queue ordered by time, and the scheduler's thread sleeps until the first of
+ * them is due, waking early only when the queue changes. Nothing is done while no reminder is due.
+ */
+public class ReminderScheduler extends ComponentManager {
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final LongSupplier clock;
+    private final PriorityQueue<ScheduledReminder> pendingReminders =
+            new PriorityQueue<>(Comparator.comparingLong(scheduledReminder -> scheduledReminder.dueTime));
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled whenever {@code pendingReminders} changes or the scheduler is stopped. */
+    private final Condition queueChanged = lock.newCondition();
+    private Thread thread;
+    private boolean isRunning;
+
+    /**
+     * Creates a scheduler for {@code reminders} that uses the current time.
+     */
+    public ReminderScheduler(List<Reminder> reminders) {
+        this(reminders, TimeIdentifiedClass::getCurrentEpochSecond);
+    }
+
+    /**
+     * Creates a scheduler for {@code reminders} that takes the current epoch second from {@code clock}.
+     */
+    public ReminderScheduler(List<Reminder> reminders, LongSupplier clock) {
+        requireNonNull(reminders);
+        requireNonNull(clock);
+        this.clock = clock;
+        reminders.forEach(this::addPendingReminder);
+    }
+
+    /**
+     * Starts the thread that raises the due reminders.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (isRunning) {
+                return;
+            }
+            isRunning = true;
+            thread = new Thread(this::deliverReminders, "reminder-scheduler");
+            thread.setDaemon(true);
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the thread that raises the due reminders.
+     */
+    public void stop() {
+        lock.lock();
+        try {
+            isRunning = false;
+            queueChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds {@code reminder} to the pending reminders.
+     */
+    public void schedule(Reminder reminder) {
+        requireNonNull(reminder);
+        lock.lock();
+        try {
+            addPendingReminder(reminder);
+            queueChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes {@code reminder} from the pending reminders, if it is there.
+     */
+    public void cancel(Reminder reminder) {
+        requireNonNull(reminder);
+        lock.lock();
+        try {
+            pendingReminders.removeIf(scheduledReminder -> scheduledReminder.reminder == reminder);
+            queueChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves {@code reminder} to its current time, after its time has been changed.
+     */
+    public void reschedule(Reminder reminder) {
+        requireNonNull(reminder);
+        lock.lock();
+        try {
+            pendingReminders.removeIf(scheduledReminder -> scheduledReminder.reminder == reminder);
+            addPendingReminder(reminder);
+            queueChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces all the pending reminders with {@code reminders}.
+     */
+    public void reset(List<Reminder> reminders) {
+        requireNonNull(reminders);
+        lock.lock();
+        try {
+            pendingReminders.clear();
+            reminders.forEach(this::addPendingReminder);
+            queueChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Subscribe
+    public void handleReminderAddedEvent(ReminderAddedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        schedule(event.reminder);
+    }
+
+    @Subscribe
+    public void handleReminderRemovedEvent(ReminderRemovedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        cancel(event.reminder);
+    }
+
+    @Subscribe
+    public void handleReminderTimeChangedEvent(ReminderTimeChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        reschedule(event.reminder);
+    }
+
+    @Subscribe
+    public void handleSalesHistoryReloadedEvent(SalesHistoryReloadedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        reset(event.data.getRemindersAsObservableList());
+    }
+
+    /**
+     * Queues {@code reminder} at its time, unless it has already been shown.
+     * The caller must hold {@code lock}, or be the constructor.
+     */
+    private void addPendingReminder(Reminder reminder) {
+        if (!reminder.hasBeenShownByThread()) {
+            pendingReminders.add(new ScheduledReminder(
+                    TimeIdentifiedClass.toEpochSecond(reminder.getReminderTime()), reminder));
+        }
+    }
+
+    /**
+     * Sleeps until the first pending reminder is due and raises it along with any others due by then,
+     * until the scheduler is stopped.
+     */
+    private void deliverReminders() {
+        lock.lock();
+        try {
+            while (isRunning) {
+                ScheduledReminder next = pendingReminders.peek();
+                if (next == null) {
+                    queueChanged.await();
+                    continue;
+                }
+
+                long currentTime = clock.getAsLong();
+                if (next.dueTime > currentTime) {
+                    queueChanged.await(next.dueTime - currentTime, TimeUnit.SECONDS);
+                    continue;
+                }
+
+                List<Reminder> dueReminders = new ArrayList<>();
+                while (!pendingReminders.isEmpty() && pendingReminders.peek().dueTime <= currentTime) {
+                    Reminder dueReminder = pendingReminders.poll().reminder;
+                    // the reminder may have been shown by the threadduereminders command since it was queued
+                    if (!dueReminder.hasBeenShownByThread()) {
+                        dueReminder.declareAsShownByThread();
+                        dueReminders.add(dueReminder);
+                    }
+                }
+                if (!dueReminders.isEmpty()) {
+                    // handlers are called without the lock, so that they may change the pending reminders
+                    lock.unlock();
+                    try {
+                        raise(new RemindersDueEvent(dueReminders));
+                    } finally {
+                        lock.lock();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A pending reminder and the epoch second it is due at.
+     */
+    private static class ScheduledReminder {
+        private final long dueTime;
+        private final Reminder reminder;
+
+        ScheduledReminder(long dueTime, Reminder reminder) {
+            this.dueTime = dueTime;
+            this.reminder = reminder;
+        }
+    }
+}
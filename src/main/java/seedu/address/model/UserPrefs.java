@@ -3,19 +3,26 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
     private Path distributorBookFilePath = Paths.get("data", "distributorbook.xml");
     private Path usersFilePath = Paths.get("data", "users.xml");
     private Path salesHistoryFilePath = Paths.get("data", "saleshistory.xml");
+    private int undoHistoryLimit = VersionedProductDatabase.DEFAULT_HISTORY_LIMIT;
+    private StorageFormat storageFormat = StorageFormat.XML;
 
     public UserPrefs() {
         setGuiSettings(400, 600, 0, 0);
@@ -61,6 +68,31 @@ public class UserPrefs {
         this.usersFilePath = usersFilePath;
     }
 
+    /**
+     * Returns the number of product database states kept for undo, or the default if the preferences file gives
+     * one below 1.
+     */
+    public int getUndoHistoryLimit() {
+        if (undoHistoryLimit < 1) {
+            logger.warning("Undo history limit " + undoHistoryLimit + " is not positive, using "
+                    + VersionedProductDatabase.DEFAULT_HISTORY_LIMIT + " instead");
+            undoHistoryLimit = VersionedProductDatabase.DEFAULT_HISTORY_LIMIT;
+        }
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
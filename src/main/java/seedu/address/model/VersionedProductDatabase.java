@@ -2,36 +2,114 @@ package seedu.address.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.product.Product;
+import seedu.address.model.product.SerialNumber;
+import seedu.address.model.product.StockLedger.Withdrawal;
 
 /**
  * {@code ProductDatabase} that keeps track of its own history.
+ * Instead of a full copy of the database per state, the history stores the products changed by each commit,
+ * and the units taken from stock without replacing a product,
+ * so committing, undoing and redoing cost time proportional to the size of the change.
+ * A product replaced or removed keeps the remaining items it had, as the stock ledger no longer changes them.
+ * Since {@code Product.equals} leaves the remaining items out, the recorded products are also compared by their
+ * remaining items, so that an edit of the remaining items alone is kept in the history.
  */
 public class VersionedProductDatabase extends ProductDatabase {
 
-    private final List<ReadOnlyProductDatabase> productDatabaseStateList;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    /** {@code committedChanges.get(i)} turns state {@code i} of the history into state {@code i + 1}. */
+    private final List<List<ProductChange>> committedChanges;
+    private final List<ProductChange> uncommittedChanges;
+    private final int historyLimit;
     private int currentStatePointer;
+    private boolean isReplayingHistory;
 
     public VersionedProductDatabase(ReadOnlyProductDatabase initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedProductDatabase} that remembers at most {@code historyLimit} undoable states.
+     */
+    public VersionedProductDatabase(ReadOnlyProductDatabase initialState, int historyLimit) {
+        if (historyLimit < 1) {
+            throw new IllegalArgumentException("History limit must be positive.");
+        }
 
-        productDatabaseStateList = new ArrayList<>();
-        productDatabaseStateList.add(new ProductDatabase(initialState));
+        committedChanges = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
+        this.historyLimit = historyLimit;
         currentStatePointer = 0;
+
+        resetData(initialState);
+        uncommittedChanges.clear();
+    }
+
+    @Override
+    public void setProducts(List<Product> products) {
+        List<Product> productsBefore = new ArrayList<>(getProductList());
+        super.setProducts(products);
+        record(new ProductListReplacement(productsBefore, new ArrayList<>(products)));
+    }
+
+    @Override
+    public void addProduct(Product p) {
+        super.addProduct(p);
+        record(new ProductEdit(getProductList().size() - 1, null, p));
+    }
+
+    @Override
+    public void updateProducts(Product target, Product editedProduct) {
+        int index = indexOfProduct(target);
+        super.updateProducts(target, editedProduct);
+        record(new ProductEdit(index, target, editedProduct));
+    }
+
+    @Override
+    public void removeProduct(Product key) {
+        int index = indexOfProduct(key);
+        super.removeProduct(key);
+        record(new ProductEdit(index, key, null));
+    }
+
+    @Override
+    public long takeStock(SerialNumber serialNumber, long units) {
+        long taken = super.takeStock(serialNumber, units);
+        record(new StockChange(serialNumber, -taken));
+        return taken;
+    }
+
+    @Override
+    public boolean recordWithdrawal(Withdrawal withdrawal) {
+        boolean isRecorded = super.recordWithdrawal(withdrawal);
+        if (isRecorded) {
+            record(new StockChange(withdrawal.serialNumber, -withdrawal.unitsTaken));
+        }
+        return isRecorded;
     }
 
     /**
-     * Saves a copy of the current {@code ProductDatabase} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit as the newest state of the history.
+     * Undone states are removed from the history, and the oldest state is dropped once the limit is exceeded.
      */
-
     public void commit() {
         removeStatesAfterCurrentPointer();
-        productDatabaseStateList.add(new ProductDatabase(this));
+        committedChanges.add(new ArrayList<>(uncommittedChanges));
+        uncommittedChanges.clear();
         currentStatePointer++;
+
+        if (committedChanges.size() > historyLimit) {
+            committedChanges.remove(0);
+            currentStatePointer--;
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
-        productDatabaseStateList.subList(currentStatePointer + 1, productDatabaseStateList.size()).clear();
+        committedChanges.subList(currentStatePointer, committedChanges.size()).clear();
     }
 
     /**
@@ -41,8 +119,9 @@ public class VersionedProductDatabase extends ProductDatabase {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardUncommittedChanges();
         currentStatePointer--;
-        resetData(productDatabaseStateList.get(currentStatePointer));
+        replay(() -> revertAll(committedChanges.get(currentStatePointer)));
     }
 
     /**
@@ -52,8 +131,9 @@ public class VersionedProductDatabase extends ProductDatabase {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        replay(() -> committedChanges.get(currentStatePointer).forEach(change -> change.apply(this)));
         currentStatePointer++;
-        resetData(productDatabaseStateList.get(currentStatePointer));
     }
 
     /**
@@ -67,7 +147,42 @@ public class VersionedProductDatabase extends ProductDatabase {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < productDatabaseStateList.size() - 1;
+        return currentStatePointer < committedChanges.size();
+    }
+
+    /**
+     * Adds {@code change} to the uncommitted changes, unless it is being replayed or leaves the list as it was.
+     */
+    private void record(ProductChange change) {
+        if (!isReplayingHistory && !change.isNoOp()) {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    /**
+     * Brings the address book back to the last committed state.
+     */
+    private void discardUncommittedChanges() {
+        replay(() -> revertAll(uncommittedChanges));
+        uncommittedChanges.clear();
+    }
+
+    private void revertAll(List<ProductChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(this);
+        }
+    }
+
+    /**
+     * Runs {@code action} without recording the changes it makes.
+     */
+    private void replay(Runnable action) {
+        isReplayingHistory = true;
+        try {
+            action.run();
+        } finally {
+            isReplayingHistory = false;
+        }
     }
 
     @Override
@@ -86,10 +201,188 @@ public class VersionedProductDatabase extends ProductDatabase {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && productDatabaseStateList.equals(otherVersionedAddressBook.productDatabaseStateList)
+                && committedChanges.equals(otherVersionedAddressBook.committedChanges)
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * Returns true if {@code product} and {@code otherProduct} are equal and have the same remaining items.
+     * Either may be null.
+     */
+    private static boolean isSameState(Product product, Product otherProduct) {
+        return Objects.equals(product, otherProduct)
+                && (product == null || product.getRemainingItems().equals(otherProduct.getRemainingItems()));
+    }
+
+    /**
+     * Returns true if {@code products} and {@code otherProducts} hold the same products in the same order, with the
+     * same remaining items.
+     */
+    private static boolean isSameState(List<Product> products, List<Product> otherProducts) {
+        if (products.size() != otherProducts.size()) {
+            return false;
+        }
+        for (int i = 0; i < products.size(); i++) {
+            if (!isSameState(products.get(i), otherProducts.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A reversible change to the product list.
+     */
+    private interface ProductChange {
+        void apply(ProductDatabase productDatabase);
+
+        void revert(ProductDatabase productDatabase);
+
+        /** Returns true if applying this change leaves the product list unchanged. */
+        boolean isNoOp();
+    }
+
+    /**
+     * The addition ({@code before} is null), removal ({@code after} is null) or replacement
+     * of the product at {@code index}.
+     */
+    private static class ProductEdit implements ProductChange {
+        private final int index;
+        private final Product before;
+        private final Product after;
+
+        ProductEdit(int index, Product before, Product after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(ProductDatabase productDatabase) {
+            if (before == null) {
+                productDatabase.addProduct(index, after);
+            } else if (after == null) {
+                productDatabase.removeProduct(before);
+            } else {
+                productDatabase.updateProducts(before, after);
+            }
+        }
+
+        @Override
+        public void revert(ProductDatabase productDatabase) {
+            if (before == null) {
+                productDatabase.removeProduct(after);
+            } else if (after == null) {
+                productDatabase.addProduct(index, before);
+            } else {
+                productDatabase.updateProducts(after, before);
+            }
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return isSameState(before, after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ProductEdit // instanceof handles nulls
+                    && index == ((ProductEdit) other).index
+                    && isSameState(before, ((ProductEdit) other).before)
+                    && isSameState(after, ((ProductEdit) other).after));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, before, after);
+        }
+    }
+
+    /**
+     * A change of {@code change} units to the remaining items of the product with {@code serialNumber}, made without
+     * replacing the product.
+     */
+    private static class StockChange implements ProductChange {
+        private final SerialNumber serialNumber;
+        private final long change;
+
+        StockChange(SerialNumber serialNumber, long change) {
+            this.serialNumber = serialNumber;
+            this.change = change;
+        }
+
+        @Override
+        public void apply(ProductDatabase productDatabase) {
+            productDatabase.adjustStock(serialNumber, change);
+        }
+
+        @Override
+        public void revert(ProductDatabase productDatabase) {
+            productDatabase.adjustStock(serialNumber, -change);
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return change == 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StockChange // instanceof handles nulls
+                    && serialNumber.equals(((StockChange) other).serialNumber)
+                    && change == ((StockChange) other).change);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serialNumber, change);
+        }
+    }
+
+    /**
+     * The replacement of the whole product list, as done by {@code resetData}.
+     * The replaced products are shared with the history rather than copied.
+     */
+    private static class ProductListReplacement implements ProductChange {
+        private final List<Product> before;
+        private final List<Product> after;
+
+        ProductListReplacement(List<Product> before, List<Product> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(ProductDatabase productDatabase) {
+            productDatabase.setProducts(after);
+        }
+
+        @Override
+        public void revert(ProductDatabase productDatabase) {
+            productDatabase.setProducts(before);
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return isSameState(before, after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ProductListReplacement // instanceof handles nulls
+                    && isSameState(before, ((ProductListReplacement) other).before)
+                    && isSameState(after, ((ProductListReplacement) other).after));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -1,37 +1,22 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
-import seedu.address.model.saleshistory.SalesHistory;
 import seedu.address.model.saleshistory.SalesHistoryManager;
 
 /**
- * {@link SalesHistoryManager} that keeps track fo its own history.
+ * {@link SalesHistoryManager} whose changes are committed by the model.
+ * Sales and reminders cannot be undone, so no earlier versions are kept, and a commit costs nothing however large
+ * the sales history grows.
  */
 public class VersionedSalesHistory extends SalesHistoryManager {
-    private final List<ReadOnlySalesHistory> salesHistoriesStateList;
-    private int currentStatePointer;
 
     public VersionedSalesHistory(ReadOnlySalesHistory initialState) {
         super(initialState);
-        salesHistoriesStateList = new ArrayList<>();
-        salesHistoriesStateList.add(initialState);
-        currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code giSalesHistory} state at the end of the state list
-     * Undone states are removed from the state list.
+     * Marks the end of a change to the sales history. Nothing is recorded, as the change cannot be undone.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        salesHistoriesStateList.add(new SalesHistory(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        salesHistoriesStateList.subList(currentStatePointer + 1, salesHistoriesStateList.size()).clear();;
     }
 }
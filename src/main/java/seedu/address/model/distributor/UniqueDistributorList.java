@@ -1,8 +1,11 @@
 package seedu.address.model.distributor;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toPositionPairsString;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -106,8 +109,11 @@ public class UniqueDistributorList implements Iterable<Distributor> {
      */
     public void setDistributors(List<Distributor> distributors) {
         requireAllNonNull(distributors);
-        if (!distributorsAreUnique(distributors)) {
-            throw new DuplicateDistributorException();
+        List<int[]> duplicatePairs = findDuplicatePairs(distributors,
+            distributor -> Arrays.asList(distributor.getDistName(), distributor.getDistPhone()),
+            Distributor::isSameDistributor);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateDistributorException(toPositionPairsString(duplicatePairs));
         }
 
         internalList.setAll(distributors);
@@ -136,19 +142,5 @@ public class UniqueDistributorList implements Iterable<Distributor> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code distributors} contains only unique distributors.
-     */
-    private boolean distributorsAreUnique(List<Distributor> distributors) {
-        for (int i = 0; i < distributors.size() - 1; i++) {
-            for (int j = i + 1; j < distributors.size(); j++) {
-                if (distributors.get(i).isSameDistributor(distributors.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
 
@@ -8,4 +8,11 @@ public class DuplicateDistributorException extends RuntimeException {
     public DuplicateDistributorException() {
         super("Operation would result in duplicate distributors");
     }
+
+    /**
+     * @param duplicatePositions describes the positions of every duplicate pair that was found.
+     */
+    public DuplicateDistributorException(String duplicatePositions) {
+        super("Operation would result in duplicate distributors at positions " + duplicatePositions);
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.model.login;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toPositionPairsString;
 
 import java.util.Iterator;
 import java.util.List;
@@ -97,8 +99,10 @@ public class UniqueUserList implements Iterable<User> {
 
     public void setUsers(List<User> users) throws DuplicateUserException {
         requireAllNonNull(users);
-        if (!usersAreUnique(users)) {
-            throw new DuplicateUserException();
+        // users can only be the same if their usernames match, so only those are compared pairwise
+        List<int[]> duplicatePairs = findDuplicatePairs(users, User::getUsername, User::isSameUser);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateUserException(toPositionPairsString(duplicatePairs));
         }
 
         internalList.setAll(users);
@@ -123,20 +127,6 @@ public class UniqueUserList implements Iterable<User> {
                 && this.internalList.equals(((UniqueUserList) other).internalList));
     }
 
-    /**
-     * Returns true if {@code products} contains only unique users.
-     */
-    private boolean usersAreUnique(List<User> products) {
-        for (int i = 0; i < products.size() - 1; i++) {
-            for (int j = i + 1; j < products.size(); j++) {
-                if (products.get(i).isSameUser(products.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     @Override
     public int hashCode() {
         return internalList.hashCode();
@@ -7,4 +7,11 @@ public class DuplicateUserException extends RuntimeException {
     public DuplicateUserException() {
         super("Operation would result in duplicate users");
     }
+
+    /**
+     * @param duplicatePositions describes the positions of every duplicate pair that was found.
+     */
+    public DuplicateUserException(String duplicatePositions) {
+        super("Operation would result in duplicate users at positions " + duplicatePositions);
+    }
 }
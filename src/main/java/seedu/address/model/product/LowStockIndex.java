@@ -0,0 +1,158 @@
+package seedu.address.model.product;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Orders the products that have a reorder level by their remaining items less their reorder level, so that the
+ * products low on stock are found without scanning every product.
+ * The index must be told of every change to the products it orders and to their remaining items. It remembers the
+ * products that became low on stock through such changes until they are taken with {@link #takeNewlyLowProducts}.
+ */
+public class LowStockIndex {
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry>comparingLong(entry -> entry.margin)
+            .thenComparing(entry -> entry.product.getSerialNumber().value);
+
+    private final TreeSet<Entry> entries = new TreeSet<>(ENTRY_ORDER);
+    private final Map<SerialNumber, Entry> entriesBySerialNumber = new HashMap<>();
+    private final List<Product> newlyLowProducts = new ArrayList<>();
+    private int lowProductCount;
+
+    /**
+     * Orders {@code products} in place of the products ordered so far. Products already low on stock are not
+     * remembered as newly low.
+     */
+    public void reset(List<Product> products) {
+        requireNonNull(products);
+        entries.clear();
+        entriesBySerialNumber.clear();
+        newlyLowProducts.clear();
+        lowProductCount = 0;
+        for (Product product : products) {
+            put(product, true);
+        }
+    }
+
+    /**
+     * Orders {@code product}, which was added to the product database.
+     */
+    public void add(Product product) {
+        requireNonNull(product);
+        put(product, false);
+    }
+
+    /**
+     * Stops ordering the product with {@code serialNumber}, which was removed from the product database.
+     */
+    public void remove(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        Entry entry = entriesBySerialNumber.remove(serialNumber);
+        if (entry != null) {
+            entries.remove(entry);
+            if (entry.isLow()) {
+                lowProductCount--;
+            }
+        }
+    }
+
+    /**
+     * Orders {@code product} in place of the product with {@code serialNumber}, which it replaced.
+     */
+    public void replace(SerialNumber serialNumber, Product product) {
+        requireNonNull(product);
+        Entry entry = entriesBySerialNumber.get(serialNumber);
+        boolean wasLow = entry != null && entry.isLow();
+        remove(serialNumber);
+        put(product, wasLow);
+    }
+
+    /**
+     * Reorders the product with {@code serialNumber}, whose remaining items changed.
+     */
+    public void update(SerialNumber serialNumber) {
+        Entry entry = entriesBySerialNumber.get(serialNumber);
+        if (entry != null) {
+            replace(serialNumber, entry.product);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} products low on stock, those furthest below their reorder level first.
+     */
+    public List<Product> getLowProducts(int limit) {
+        List<Product> lowProducts = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (lowProducts.size() == limit || !entry.isLow()) {
+                break;
+            }
+            lowProducts.add(entry.product);
+        }
+        return lowProducts;
+    }
+
+    /**
+     * Returns the number of products low on stock.
+     */
+    public int getLowProductCount() {
+        return lowProductCount;
+    }
+
+    /**
+     * Returns the products that became low on stock since this was last called, and forgets them.
+     * Products no longer ordered, or no longer low on stock, are left out.
+     */
+    public List<Product> takeNewlyLowProducts() {
+        List<Product> stillLowProducts = new ArrayList<>();
+        for (Product product : newlyLowProducts) {
+            Entry entry = entriesBySerialNumber.get(product.getSerialNumber());
+            if (entry != null && entry.product == product && entry.isLow()) {
+                stillLowProducts.add(product);
+            }
+        }
+        newlyLowProducts.clear();
+        return stillLowProducts;
+    }
+
+    /**
+     * Orders {@code product} if it has a reorder level, remembering it as newly low on stock unless
+     * {@code wasLow}.
+     */
+    private void put(Product product, boolean wasLow) {
+        if (product.getReorderLevel().value == 0) {
+            return;
+        }
+        Entry entry = new Entry(product);
+        entries.add(entry);
+        entriesBySerialNumber.put(product.getSerialNumber(), entry);
+        if (entry.isLow()) {
+            lowProductCount++;
+            if (!wasLow) {
+                newlyLowProducts.add(product);
+            }
+        }
+    }
+
+    /**
+     * A product and its remaining items less its reorder level, as they were when it was ordered.
+     */
+    private static class Entry {
+        private final Product product;
+        private final long margin;
+
+        Entry(Product product) {
+            this.product = product;
+            this.margin = product.getRemainingItems().value - product.getReorderLevel().value;
+        }
+
+        boolean isLow() {
+            return margin < 0;
+        }
+    }
+}
@@ -6,13 +6,15 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.model.distributor.DistributorName;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Product in the productInfo book.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated, immutable except for the remaining
+ * items of a product kept in a {@link StockLedger}, which are read from the ledger.
  */
 public class Product {
 
@@ -20,10 +22,12 @@ public class Product {
     private final Name name;
     private final SerialNumber serialNumber;
     private final DistributorName distname;
-    private final RemainingItems remainingItems;
+    /** Changed only by the {@link StockLedger} that the product is kept in, if any. */
+    private final AtomicLong stock;
 
     // Data fields
     private final ProductInfo productInfo;
+    private final ReorderLevel reorderLevel;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
@@ -31,12 +35,21 @@ public class Product {
      */
     public Product(Name name, SerialNumber serialNumber, DistributorName distname,
                    ProductInfo productInfo, RemainingItems remainingItems, Set<Tag> tags) {
-        requireAllNonNull(name, serialNumber, distname, productInfo, remainingItems, tags);
+        this(name, serialNumber, distname, productInfo, remainingItems, ReorderLevel.NONE, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Product(Name name, SerialNumber serialNumber, DistributorName distname, ProductInfo productInfo,
+                   RemainingItems remainingItems, ReorderLevel reorderLevel, Set<Tag> tags) {
+        requireAllNonNull(name, serialNumber, distname, productInfo, remainingItems, reorderLevel, tags);
         this.name = name;
         this.serialNumber = serialNumber;
         this.distname = distname;
         this.productInfo = productInfo;
-        this.remainingItems = remainingItems;
+        this.stock = new AtomicLong(remainingItems.value);
+        this.reorderLevel = reorderLevel;
         this.tags.addAll(tags);
     }
 
@@ -57,7 +70,25 @@ public class Product {
     }
 
     public RemainingItems getRemainingItems() {
-        return remainingItems;
+        return new RemainingItems(stock.get());
+    }
+
+    public ReorderLevel getReorderLevel() {
+        return reorderLevel;
+    }
+
+    /**
+     * Returns true if the product has fewer remaining items than its reorder level.
+     */
+    public boolean isLowOnStock() {
+        return stock.get() < reorderLevel.value;
+    }
+
+    /**
+     * Returns the stock count that a {@link StockLedger} keeping this product changes.
+     */
+    AtomicLong getStock() {
+        return stock;
     }
 
     /**
@@ -84,6 +115,8 @@ public class Product {
     /**
      * Returns true if both products have the same identity and data fields.
      * This defines a stronger notion of equality between two products.
+     * The remaining items are left out, as those of a product kept in a {@link StockLedger} change with every sale;
+     * they are compared through the ledger instead.
      */
     @Override
     public boolean equals(Object other) {
@@ -100,14 +133,14 @@ public class Product {
                 && otherProduct.getSerialNumber().equals(getSerialNumber())
                 && otherProduct.getDistributor().equals(getDistributor())
                 && otherProduct.getProductInfo().equals(getProductInfo())
-                && otherProduct.getRemainingItems().equals(getRemainingItems())
+                && otherProduct.getReorderLevel().equals(getReorderLevel())
                 && otherProduct.getTags().equals(getTags());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, serialNumber, distname, productInfo, tags, remainingItems);
+        return Objects.hash(name, serialNumber, distname, productInfo, tags, reorderLevel);
     }
 
     @Override
@@ -122,6 +155,8 @@ public class Product {
                 .append(getProductInfo())
                 .append ("\nRemaining products: ")
                 .append(getRemainingItems())
+                .append("\nReorder level: ")
+                .append(getReorderLevel())
                 .append("\nTags: ");
         getTags().forEach(builder::append);
         return builder.toString();
@@ -13,7 +13,7 @@ public class RemainingItems {
     public static final String MESSAGE_REMAINING_ITEMS_CONSTRAINTS =
             "Remaining items should only contain numbers, and it can not be negative";
     public static final String REMAINING_ITEMS_VALIDATION_REGEX = "^\\d+$";
-    public final String value;
+    public final long value;
 
     /**
      * Constructs a {@code RemainingItems}.
@@ -23,31 +23,47 @@ public class RemainingItems {
     public RemainingItems(String remainingItems) {
         requireNonNull(remainingItems);
         checkArgument(isValidRemainingItems(remainingItems), MESSAGE_REMAINING_ITEMS_CONSTRAINTS);
+        value = Long.parseLong(remainingItems);
+    }
+
+    /**
+     * Constructs a {@code RemainingItems} of {@code remainingItems}, which must not be negative.
+     */
+    public RemainingItems(long remainingItems) {
+        checkArgument(remainingItems >= 0, MESSAGE_REMAINING_ITEMS_CONSTRAINTS);
         value = remainingItems;
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid number of remaining items.
      */
     public static boolean isValidRemainingItems(String test) {
-        return test.matches(REMAINING_ITEMS_VALIDATION_REGEX);
+        if (!test.matches(REMAINING_ITEMS_VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            Long.parseLong(test);
+            return true;
+        } catch (NumberFormatException e) {
+            return false; // too large to count
+        }
     }
 
     @Override
     public String toString() {
-        return value;
+        return Long.toString(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RemainingItems // instanceof handles nulls
-                && value.equals(((RemainingItems) other).value)); // state check
+                && value == ((RemainingItems) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
 }
@@ -0,0 +1,53 @@
+package seedu.address.model.product;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a Product's reorder level in the Product database: the product is low on stock when it has fewer
+ * remaining items than this. A reorder level of 0 means that the product is never low on stock.
+ * Guarantees: immutable; is valid as declared in {@link #isValidReorderLevel(String)}
+ */
+public class ReorderLevel {
+
+    public static final String MESSAGE_REORDER_LEVEL_CONSTRAINTS =
+            "Reorder level should only contain numbers, and it can not be negative";
+    public static final ReorderLevel NONE = new ReorderLevel("0");
+
+    public final long value;
+
+    /**
+     * Constructs a {@code ReorderLevel}.
+     *
+     * @param reorderLevel A valid reorder level.
+     */
+    public ReorderLevel(String reorderLevel) {
+        requireNonNull(reorderLevel);
+        checkArgument(isValidReorderLevel(reorderLevel), MESSAGE_REORDER_LEVEL_CONSTRAINTS);
+        value = Long.parseLong(reorderLevel);
+    }
+
+    /**
+     * Returns true if a given string is a valid reorder level.
+     */
+    public static boolean isValidReorderLevel(String test) {
+        return RemainingItems.isValidRemainingItems(test);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReorderLevel // instanceof handles nulls
+                && value == ((ReorderLevel) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
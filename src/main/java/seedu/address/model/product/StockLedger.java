@@ -0,0 +1,387 @@
+package seedu.address.model.product;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.model.product.exceptions.ProductNotFoundException;
+
+/**
+ * Keeps the remaining items of products as primitive counts keyed by serial number, together with a log of the
+ * latest stock movements.
+ * A product kept in the ledger reads its remaining items from the ledger, so a sale or restock changes a count
+ * instead of replacing the {@code Product}, whose other fields are immutable. The ledger never changes the count of
+ * a product it does not keep, so products given to it by callers must be copies that are not shared elsewhere.
+ * Each count is changed by compare-and-set rather than under a lock, so that several checkout registers can take
+ * stock at once: sales of different products never wait for each other, and sales of the same product never lose
+ * an update. Products start and stop being kept under the ledger's lock, which sales do not take.
+ * Only sales, restocks and adjustments of the counts are logged, not products starting or stopping to be kept, and
+ * the log holds the latest {@link #MOVEMENT_LOG_CAPACITY} movements, so that it does not grow with the session.
+ */
+public class StockLedger {
+
+    /**
+     * The reason for a stock movement.
+     */
+    public enum MovementKind {
+        SALE, RESTOCK, ADJUSTMENT
+    }
+
+    public static final int MOVEMENT_LOG_CAPACITY = 1000;
+
+    private static final MovementKind[] MOVEMENT_KINDS = MovementKind.values();
+    private static final int INITIAL_LOG_CAPACITY = 64;
+
+    private final Map<SerialNumber, Product> products = new ConcurrentHashMap<>();
+    /** The serial numbers of the kept products with each name, in lists that are replaced rather than changed. */
+    private final Map<String, List<SerialNumber>> serialNumbersByName = new ConcurrentHashMap<>();
+    private final Object logLock = new Object();
+
+    // the movement log, kept in parallel arrays so that an entry costs no more than its primitive fields;
+    // once the arrays reach the log capacity, they are used as a ring in which the oldest movement is overwritten.
+    // The log is guarded by its own lock, which is only held to append or read an entry.
+    private byte[] movementKinds = new byte[INITIAL_LOG_CAPACITY];
+    private SerialNumber[] movementProducts = new SerialNumber[INITIAL_LOG_CAPACITY];
+    private long[] movementChanges = new long[INITIAL_LOG_CAPACITY];
+    private long[] movementBalances = new long[INITIAL_LOG_CAPACITY];
+    private int oldestMovement;
+    private int movementCount;
+
+    /**
+     * Starts keeping the remaining items of {@code product}.
+     * Any product with the same serial number stops being kept.
+     */
+    public synchronized void keep(Product product) {
+        requireNonNull(product);
+        Product previous = products.put(product.getSerialNumber(), product);
+        if (previous != null) {
+            removeFromNameIndex(previous);
+        }
+        serialNumbersByName.compute(product.getName().fullName, (name, serialNumbers) ->
+                withSerialNumber(serialNumbers, product.getSerialNumber()));
+    }
+
+    /**
+     * Stops keeping the remaining items of the product with {@code serialNumber}.
+     * The product keeps the remaining items it had.
+     */
+    public synchronized void release(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        Product released = products.remove(serialNumber);
+        if (released == null) {
+            throw new ProductNotFoundException();
+        }
+        removeFromNameIndex(released);
+    }
+
+    /**
+     * Keeps the remaining items of {@code product} in place of those of the product with {@code serialNumber}.
+     * If the serial number is unchanged, the difference in remaining items is logged as one movement: a restock if
+     * they went up, or an adjustment if they went down.
+     */
+    public synchronized void replace(SerialNumber serialNumber, Product product) {
+        requireNonNull(product);
+        if (!serialNumber.equals(product.getSerialNumber())) {
+            release(serialNumber);
+            keep(product);
+            return;
+        }
+
+        long before = getStock(serialNumber).get();
+        keep(product);
+        AtomicLong stock = product.getStock();
+        if (stock.get() != before) {
+            log(stock.get() > before ? MovementKind.RESTOCK : MovementKind.ADJUSTMENT, serialNumber,
+                    stock.get() - before, stock.get());
+        }
+    }
+
+    /**
+     * Stops keeping every product and starts keeping {@code products} instead.
+     */
+    public synchronized void reset(List<Product> products) {
+        requireNonNull(products);
+        this.products.clear();
+        serialNumbersByName.clear();
+        products.forEach(this::keep);
+    }
+
+    /**
+     * Returns the remaining items of the product with {@code serialNumber}.
+     * @throws ProductNotFoundException if the product is not kept in this ledger
+     */
+    public long getRemainingItems(SerialNumber serialNumber) {
+        return getStock(serialNumber).get();
+    }
+
+    /**
+     * Returns the serial numbers of the kept products named {@code name}, which is empty if there are none.
+     * May be called while products start or stop being kept.
+     */
+    public List<SerialNumber> getSerialNumbers(String name) {
+        requireNonNull(name);
+        return serialNumbersByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Returns true if {@code other} keeps the same products, by serial number, with the same remaining items.
+     */
+    public boolean hasSameRemainingItems(StockLedger other) {
+        requireNonNull(other);
+        if (products.size() != other.products.size()) {
+            return false;
+        }
+        for (Map.Entry<SerialNumber, Product> entry : products.entrySet()) {
+            Product otherProduct = other.products.get(entry.getKey());
+            if (otherProduct == null || otherProduct.getStock().get() != entry.getValue().getStock().get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds {@code units} to the remaining items of the product with {@code serialNumber}.
+     * @return the remaining items after the addition
+     * @throws ProductNotFoundException if the product is not kept in this ledger
+     */
+    public long add(SerialNumber serialNumber, long units, MovementKind kind) {
+        checkArgument(units >= 0, "Units must not be negative.");
+        requireNonNull(kind);
+        AtomicLong stock = getStock(serialNumber);
+        long balance = stock.addAndGet(units);
+        if (units > 0) {
+            log(kind, serialNumber, units, balance);
+        }
+        return balance;
+    }
+
+    /**
+     * Takes {@code units} from the remaining items of the product with {@code serialNumber}, or all of them if
+     * there are fewer.
+     * @return the units taken
+     * @throws ProductNotFoundException if the product is not kept in this ledger
+     */
+    public long take(SerialNumber serialNumber, long units, MovementKind kind) {
+        checkArgument(units >= 0, "Units must not be negative.");
+        requireNonNull(kind);
+        return takeFrom(getStock(serialNumber), serialNumber, units, kind);
+    }
+
+    /**
+     * Takes {@code units} sold from the remaining items of the product with {@code serialNumber}, or all of them if
+     * there are fewer, as {@link #take} does. The returned withdrawal can later be told apart from one taken from a
+     * product that has since been replaced or released.
+     * @throws ProductNotFoundException if the product is not kept in this ledger
+     */
+    public Withdrawal withdraw(SerialNumber serialNumber, long units) {
+        checkArgument(units >= 0, "Units must not be negative.");
+        AtomicLong stock = getStock(serialNumber);
+        return new Withdrawal(serialNumber, units, takeFrom(stock, serialNumber, units, MovementKind.SALE), stock);
+    }
+
+    /**
+     * Returns true if {@code withdrawal} was taken from the remaining items that this ledger still keeps for its
+     * product, rather than from those of a product that has since been replaced or released.
+     */
+    public boolean isCurrent(Withdrawal withdrawal) {
+        requireNonNull(withdrawal);
+        Product product = products.get(withdrawal.serialNumber);
+        return product != null && product.getStock() == withdrawal.stock;
+    }
+
+    /**
+     * Puts the units taken by {@code withdrawal} back into the remaining items of its product, logging them as an
+     * adjustment. Nothing is put back if the product has since been replaced or released, as its remaining items
+     * were then set afresh.
+     */
+    public void putBack(Withdrawal withdrawal) {
+        if (isCurrent(withdrawal) && withdrawal.unitsTaken > 0) {
+            long balance = withdrawal.stock.addAndGet(withdrawal.unitsTaken);
+            log(MovementKind.ADJUSTMENT, withdrawal.serialNumber, withdrawal.unitsTaken, balance);
+        }
+    }
+
+    /**
+     * Returns the number of movements in the log, which is at most {@link #MOVEMENT_LOG_CAPACITY}.
+     */
+    public int getMovementCount() {
+        synchronized (logLock) {
+            return movementCount;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the latest movements in the log, the newest first.
+     */
+    public List<Movement> getLatestMovements(int limit) {
+        checkArgument(limit >= 0, "Limit must not be negative.");
+        synchronized (logLock) {
+            List<Movement> movements = new ArrayList<>(Math.min(limit, movementCount));
+            for (int i = movementCount - 1; i >= 0 && movements.size() < limit; i--) {
+                int slot = (oldestMovement + i) % movementKinds.length;
+                movements.add(new Movement(MOVEMENT_KINDS[movementKinds[slot]], movementProducts[slot],
+                        movementChanges[slot], movementBalances[slot]));
+            }
+            return movements;
+        }
+    }
+
+    /**
+     * Takes {@code units} from {@code stock}, the count of the product with {@code serialNumber}, or all of them if
+     * there are fewer. The count is changed by compare-and-set, retrying if another thread changed it first.
+     * @return the units taken
+     */
+    private long takeFrom(AtomicLong stock, SerialNumber serialNumber, long units, MovementKind kind) {
+        long remaining;
+        long taken;
+        do {
+            remaining = stock.get();
+            taken = Math.min(units, remaining);
+        } while (!stock.compareAndSet(remaining, remaining - taken));
+        if (taken > 0) {
+            log(kind, serialNumber, -taken, remaining - taken);
+        }
+        return taken;
+    }
+
+    /**
+     * Returns the stock count of the product with {@code serialNumber}.
+     * @throws ProductNotFoundException if the product is not kept in this ledger
+     */
+    private AtomicLong getStock(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        Product product = products.get(serialNumber);
+        if (product == null) {
+            throw new ProductNotFoundException();
+        }
+        return product.getStock();
+    }
+
+    /**
+     * Removes {@code product} from the serial numbers of the products with its name.
+     * The caller must hold the ledger's lock.
+     */
+    private void removeFromNameIndex(Product product) {
+        serialNumbersByName.computeIfPresent(product.getName().fullName, (name, serialNumbers) -> {
+            List<SerialNumber> remaining = new ArrayList<>(serialNumbers);
+            remaining.remove(product.getSerialNumber());
+            return remaining.isEmpty() ? null : Collections.unmodifiableList(remaining);
+        });
+    }
+
+    /**
+     * Returns a new list of {@code serialNumbers}, which may be null, followed by {@code serialNumber}.
+     */
+    private static List<SerialNumber> withSerialNumber(List<SerialNumber> serialNumbers, SerialNumber serialNumber) {
+        List<SerialNumber> extended = serialNumbers == null ? new ArrayList<>() : new ArrayList<>(serialNumbers);
+        extended.add(serialNumber);
+        return Collections.unmodifiableList(extended);
+    }
+
+    /**
+     * Appends a movement to the log, overwriting the oldest one if the log is full.
+     */
+    private void log(MovementKind kind, SerialNumber serialNumber, long change, long balance) {
+        synchronized (logLock) {
+            appendToLog(kind, serialNumber, change, balance);
+        }
+    }
+
+    /**
+     * Appends a movement to the log. The caller must hold the log's lock.
+     */
+    private void appendToLog(MovementKind kind, SerialNumber serialNumber, long change, long balance) {
+        if (movementCount == movementKinds.length && movementCount < MOVEMENT_LOG_CAPACITY) {
+            // the log has not wrapped around yet, so the oldest movement is still in the first slot
+            int capacity = Math.min(movementCount * 2, MOVEMENT_LOG_CAPACITY);
+            movementKinds = Arrays.copyOf(movementKinds, capacity);
+            movementProducts = Arrays.copyOf(movementProducts, capacity);
+            movementChanges = Arrays.copyOf(movementChanges, capacity);
+            movementBalances = Arrays.copyOf(movementBalances, capacity);
+        }
+        int slot = (oldestMovement + movementCount) % movementKinds.length;
+        movementKinds[slot] = (byte) kind.ordinal();
+        movementProducts[slot] = serialNumber;
+        movementChanges[slot] = change;
+        movementBalances[slot] = balance;
+        if (movementCount == movementKinds.length) {
+            oldestMovement = (oldestMovement + 1) % movementKinds.length;
+        } else {
+            movementCount++;
+        }
+    }
+
+    /**
+     * The units sold taken from the remaining items of one product by {@link #withdraw}.
+     */
+    public static class Withdrawal {
+        public final SerialNumber serialNumber;
+        public final long unitsSold;
+        /** The units taken, which are fewer than those sold if the product ran short. */
+        public final long unitsTaken;
+        /** The count the units were taken from. */
+        private final AtomicLong stock;
+
+        private Withdrawal(SerialNumber serialNumber, long unitsSold, long unitsTaken, AtomicLong stock) {
+            this.serialNumber = serialNumber;
+            this.unitsSold = unitsSold;
+            this.unitsTaken = unitsTaken;
+            this.stock = stock;
+        }
+
+        /**
+         * Returns true if the product had fewer remaining items than were sold.
+         */
+        public boolean isShort() {
+            return unitsTaken < unitsSold;
+        }
+    }
+
+    /**
+     * A change to the remaining items of one product.
+     */
+    public static class Movement {
+        public final MovementKind kind;
+        public final SerialNumber serialNumber;
+        /** The units added, or the negated units removed. */
+        public final long change;
+        /** The remaining items after the change. */
+        public final long remainingItems;
+
+        public Movement(MovementKind kind, SerialNumber serialNumber, long change, long remainingItems) {
+            this.kind = kind;
+            this.serialNumber = serialNumber;
+            this.change = change;
+            this.remainingItems = remainingItems;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Movement // instanceof handles nulls
+                    && kind == ((Movement) other).kind
+                    && serialNumber.equals(((Movement) other).serialNumber)
+                    && change == ((Movement) other).change
+                    && remainingItems == ((Movement) other).remainingItems);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, serialNumber, change, remainingItems);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + serialNumber + " " + change + " -> " + remainingItems;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.model.product;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicatePairs;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toPositionPairsString;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,18 +26,41 @@ import seedu.address.model.product.exceptions.ProductNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the observable list, secondary hash indexes from serial number to list position and from
+ * product name to products are kept in sync, so that identity and name lookups do not scan the list.
+ *
  * @see Product#isSameProduct(Product)
  */
 public class UniqueProductList implements Iterable<Product> {
 
     private final ObservableList<Product> internalList = FXCollections.observableArrayList();
+    private final Map<SerialNumber, Integer> serialNumberIndex = new HashMap<>();
+    private final Map<String, List<Product>> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent product as the given argument.
      */
     public boolean contains(Product toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProduct);
+        return serialNumberIndex.containsKey(toCheck.getSerialNumber());
+    }
+
+    /**
+     * Returns true if the list contains a product whose name is exactly {@code name}.
+     */
+    public boolean containsName(String name) {
+        requireNonNull(name);
+        return nameIndex.containsKey(name);
+    }
+
+    /**
+     * Returns the products whose name is exactly {@code name}, in no particular order.
+     * Changing the returned list does not change this list.
+     */
+    public List<Product> getProductsWithName(String name) {
+        requireNonNull(name);
+        List<Product> productsWithName = nameIndex.get(name);
+        return productsWithName == null ? new ArrayList<>() : new ArrayList<>(productsWithName);
     }
 
     /**
@@ -45,6 +73,22 @@ public class UniqueProductList implements Iterable<Product> {
             throw new DuplicateProductException();
         }
         internalList.add(toAdd);
+        serialNumberIndex.put(toAdd.getSerialNumber(), internalList.size() - 1);
+        addToNameIndex(toAdd);
+    }
+
+    /**
+     * Inserts a product into the list at {@code index}, shifting later products back by one position.
+     * The product must not already exist in the list.
+     */
+    public void add(int index, Product toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateProductException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+        addToNameIndex(toAdd);
     }
 
     /**
@@ -55,7 +99,7 @@ public class UniqueProductList implements Iterable<Product> {
     public void setProduct(Product target, Product editedProduct) {
         requireAllNonNull(target, editedProduct);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ProductNotFoundException();
         }
@@ -65,6 +109,10 @@ public class UniqueProductList implements Iterable<Product> {
         }
 
         internalList.set(index, editedProduct);
+        serialNumberIndex.remove(target.getSerialNumber());
+        serialNumberIndex.put(editedProduct.getSerialNumber(), index);
+        removeFromNameIndex(target);
+        addToNameIndex(editedProduct);
     }
 
     /**
@@ -73,14 +121,21 @@ public class UniqueProductList implements Iterable<Product> {
      */
     public void remove(Product toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ProductNotFoundException();
         }
+
+        internalList.remove(index);
+        serialNumberIndex.remove(toRemove.getSerialNumber());
+        removeFromNameIndex(toRemove);
+        reindexFrom(index);
     }
 
     public void setProducts(UniqueProductList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -89,11 +144,13 @@ public class UniqueProductList implements Iterable<Product> {
      */
     public void setProducts(List<Product> products) {
         requireAllNonNull(products);
-        if (!productsAreUnique(products)) {
-            throw new DuplicateProductException();
+        List<int[]> duplicatePairs = findDuplicatePairs(products, Product::getSerialNumber, Product::isSameProduct);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateProductException(toPositionPairsString(duplicatePairs));
         }
 
         internalList.setAll(products);
+        rebuildIndexes();
     }
 
     /**
@@ -121,16 +178,55 @@ public class UniqueProductList implements Iterable<Product> {
     }
 
     /**
-     * Returns true if {@code products} contains only unique products.
+     * Returns the position of the product that is equal to {@code product}, or -1 if there is none.
+     */
+    public int indexOf(Product product) {
+        requireNonNull(product);
+        Integer index = serialNumberIndex.get(product.getSerialNumber());
+        if (index == null || !internalList.get(index).equals(product)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Updates the serial number index for products at {@code index} and after, whose positions have shifted.
+     */
+    private void reindexFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            serialNumberIndex.put(internalList.get(i).getSerialNumber(), i);
+        }
+    }
+
+    private void addToNameIndex(Product product) {
+        nameIndex.computeIfAbsent(product.getName().fullName, unused -> new ArrayList<>(1)).add(product);
+    }
+
+    /**
+     * Removes {@code product} from the name index, dropping the name once no product carries it.
+     */
+    private void removeFromNameIndex(Product product) {
+        String name = product.getName().fullName;
+        List<Product> productsWithName = nameIndex.get(name);
+        if (productsWithName == null) {
+            return;
+        }
+        productsWithName.remove(product);
+        if (productsWithName.isEmpty()) {
+            nameIndex.remove(name);
+        }
+    }
+
+    /**
+     * Recomputes both indexes from {@code internalList}.
      */
-    private boolean productsAreUnique(List<Product> products) {
-        for (int i = 0; i < products.size() - 1; i++) {
-            for (int j = i + 1; j < products.size(); j++) {
-                if (products.get(i).isSameProduct(products.get(j))) {
-                    return false;
-                }
-            }
+    private void rebuildIndexes() {
+        serialNumberIndex.clear();
+        nameIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Product product = internalList.get(i);
+            serialNumberIndex.put(product.getSerialNumber(), i);
+            addToNameIndex(product);
         }
-        return true;
     }
 }
@@ -8,4 +8,11 @@ public class DuplicateProductException extends RuntimeException {
     public DuplicateProductException() {
         super("Operation would result in duplicate products");
     }
+
+    /**
+     * @param duplicatePositions describes the positions of every duplicate pair that was found.
+     */
+    public DuplicateProductException(String duplicatePositions) {
+        super("Operation would result in duplicate products at positions " + duplicatePositions);
+    }
 }
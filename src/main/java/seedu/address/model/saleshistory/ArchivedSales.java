@@ -0,0 +1,65 @@
+package seedu.address.model.saleshistory;
+
+import java.util.Map;
+
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * The transactions of a closed month, kept in a read-only archive outside the heap, in time order.
+ * The archive is read a column at a time, so scanning it creates no objects; a {@link Transaction} is only created
+ * for a transaction that is asked for.
+ */
+public interface ArchivedSales {
+
+    int getTransactionCount();
+
+    /**
+     * Returns the {@link seedu.address.model.timeidentifiedclass.TimeIdentifiedClass#toEpochSecond(String) epoch
+     * second} of the transaction at {@code index}.
+     */
+    long getTransactionTime(int index);
+
+    /**
+     * Returns the transaction at {@code index}, created from the archive.
+     */
+    Transaction getTransaction(int index);
+
+    /**
+     * Returns the units of {@code productName} sold from {@code fromEpochSecond} inclusive to {@code toEpochSecond}
+     * exclusive, scanning the columns without creating any objects.
+     */
+    long getUnitsSold(String productName, long fromEpochSecond, long toEpochSecond);
+
+    /**
+     * Adds the units of each product sold from {@code fromEpochSecond} inclusive to {@code toEpochSecond} exclusive
+     * to {@code unitsSold}. The columns are scanned without creating any objects, and only one entry is made for each
+     * product sold.
+     */
+    void addUnitsSold(Map<String, Long> unitsSold, long fromEpochSecond, long toEpochSecond);
+
+    /**
+     * Returns the index of the first transaction that is not earlier than {@code epochSecond}, or
+     * {@link #getTransactionCount()} if there is none.
+     */
+    default int ceilingIndex(long epochSecond) {
+        int low = 0;
+        int high = getTransactionCount();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getTransactionTime(middle) < epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if a transaction is archived at {@code epochSecond}.
+     */
+    default boolean hasTransaction(long epochSecond) {
+        int index = ceilingIndex(epochSecond);
+        return index < getTransactionCount() && getTransactionTime(index) == epochSecond;
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.address.model.saleshistory;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * The transactions of past months that a {@link SalesHistory} keeps out of memory, one {@link SalesPartition} per
+ * month. Only the manifests of the months are held; the transactions of a month are loaded the first time a query
+ * needs them, and at most {@code maxResidentMonths} months of transactions are held at once, the least recently used
+ * month being dropped first. Archived months are never loaded: their transactions are read from the
+ * {@link ArchivedSales} one at a time as queries reach them, and their units sold are scanned from its columns.
+ */
+public class ColdSalesPartitions {
+
+    public static final int DEFAULT_MAX_RESIDENT_MONTHS = 3;
+
+    /** No months kept out of memory. */
+    public static final ColdSalesPartitions NONE = new ColdSalesPartitions(Collections.emptyList(),
+        monthStart -> Collections.emptyList());
+
+    private static final Logger logger = LogsCenter.getLogger(ColdSalesPartitions.class);
+
+    private final TimeKeyedMap<SalesPartition> partitions = new TimeKeyedMap<>();
+    private final NavigableMap<Long, ArchivedSales> archives;
+    private final PartitionLoader loader;
+    private final int maxResidentMonths;
+    private final Map<Long, TimeKeyedMap<Transaction>> residentMonths;
+    private long transactionCount;
+
+    public ColdSalesPartitions(List<SalesPartition> partitions, PartitionLoader loader) {
+        this(partitions, Collections.emptyMap(), loader, DEFAULT_MAX_RESIDENT_MONTHS);
+    }
+
+    public ColdSalesPartitions(List<SalesPartition> partitions, PartitionLoader loader, int maxResidentMonths) {
+        this(partitions, Collections.emptyMap(), loader, maxResidentMonths);
+    }
+
+    /**
+     * Keeps the months of {@code partitions} out of memory, loading their transactions with {@code loader} and
+     * holding at most {@code maxResidentMonths} months of transactions at once.
+     * The months in {@code archives}, keyed by the start of the month, are read from their archives instead.
+     */
+    public ColdSalesPartitions(List<SalesPartition> partitions, Map<Long, ArchivedSales> archives,
+            PartitionLoader loader, int maxResidentMonths) {
+        requireNonNull(partitions);
+        requireNonNull(archives);
+        requireNonNull(loader);
+        if (maxResidentMonths < 1) {
+            throw new IllegalArgumentException("Number of resident months must be positive.");
+        }
+        for (SalesPartition partition : partitions) {
+            this.partitions.put(partition.getMonthStart(), partition);
+            transactionCount += partition.getTransactionCount();
+        }
+        this.archives = new TreeMap<>(archives);
+        this.loader = loader;
+        this.maxResidentMonths = maxResidentMonths;
+        this.residentMonths = new LinkedHashMap<Long, TimeKeyedMap<Transaction>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TimeKeyedMap<Transaction>> eldest) {
+                return size() > ColdSalesPartitions.this.maxResidentMonths;
+            }
+        };
+    }
+
+    public boolean isEmpty() {
+        return partitions.isEmpty();
+    }
+
+    /**
+     * Returns the manifests of the months, in time order.
+     */
+    public List<SalesPartition> getPartitions() {
+        return Collections.unmodifiableList(partitions.values());
+    }
+
+    /**
+     * Returns true if the month starting at {@code monthStart} is read from its archive.
+     */
+    public boolean isArchived(long monthStart) {
+        return archives.containsKey(monthStart);
+    }
+
+    /**
+     * Returns the archives of the archived months, keyed by the start of the month, in time order.
+     */
+    public NavigableMap<Long, ArchivedSales> getArchives() {
+        return Collections.unmodifiableNavigableMap(archives);
+    }
+
+    /**
+     * Returns the archives of the archived months with any time from {@code fromEpochSecond} inclusive to
+     * {@code toEpochSecond} exclusive, keyed by the start of the month, in time order.
+     */
+    public NavigableMap<Long, ArchivedSales> getArchives(long fromEpochSecond, long toEpochSecond) {
+        // the month before fromEpochSecond may contain it
+        Long firstMonth = archives.floorKey(fromEpochSecond);
+        long rangeStart = firstMonth == null ? fromEpochSecond : firstMonth;
+        if (rangeStart >= toEpochSecond) {
+            return Collections.emptyNavigableMap();
+        }
+        return Collections.unmodifiableNavigableMap(archives.subMap(rangeStart, true, toEpochSecond, false));
+    }
+
+    /**
+     * Returns the number of transactions in all the months.
+     */
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Returns the time of the earliest transaction, or {@code Long.MAX_VALUE} if there are no transactions.
+     */
+    public long getFirstTime() {
+        return isEmpty() ? Long.MAX_VALUE : partitions.valueAt(0).getFirstTime();
+    }
+
+    /**
+     * Returns the time of the latest transaction, or {@code Long.MIN_VALUE} if there are no transactions.
+     */
+    public long getLastTime() {
+        return isEmpty() ? Long.MIN_VALUE : partitions.lastValue().getLastTime();
+    }
+
+    /**
+     * Returns the transaction at {@code epochSecond}, or null if there is none.
+     * The month of {@code epochSecond} is loaded if it is kept out of memory.
+     */
+    public Transaction get(long epochSecond) {
+        long monthStart = TimeIdentifiedClass.getStartOfMonth(epochSecond);
+        if (!partitions.containsKey(monthStart)) {
+            return null;
+        }
+        ArchivedSales archive = archives.get(monthStart);
+        if (archive != null) {
+            int index = archive.ceilingIndex(epochSecond);
+            boolean isArchived = index < archive.getTransactionCount()
+                    && archive.getTransactionTime(index) == epochSecond;
+            return isArchived ? archive.getTransaction(index) : null;
+        }
+        return getMonth(monthStart).get(epochSecond);
+    }
+
+    /**
+     * Returns the latest transaction, or null if there are no transactions.
+     */
+    public Transaction getLastTransaction() {
+        if (isEmpty()) {
+            return null;
+        }
+        long monthStart = partitions.keyAt(partitions.size() - 1);
+        ArchivedSales archive = archives.get(monthStart);
+        if (archive != null) {
+            int transactionCount = archive.getTransactionCount();
+            return transactionCount == 0 ? null : archive.getTransaction(transactionCount - 1);
+        }
+        return getMonth(monthStart).lastValue();
+    }
+
+    /**
+     * Returns an iterator over the transactions from {@code fromEpochSecond} inclusive to {@code toEpochSecond}
+     * exclusive, in time order. Each month is loaded only when the iterator reaches it.
+     */
+    public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+        int firstIndex = partitions.ceilingIndex(fromEpochSecond);
+        // the month before may contain fromEpochSecond
+        if (firstIndex > 0 && partitions.valueAt(firstIndex - 1).getLastTime() >= fromEpochSecond) {
+            firstIndex--;
+        }
+        int fromIndex = firstIndex;
+        int toIndex = Math.max(fromIndex, partitions.ceilingIndex(toEpochSecond));
+        return new Iterator<Transaction>() {
+            private int index = fromIndex;
+            private Iterator<Transaction> monthTransactions = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!monthTransactions.hasNext() && index < toIndex) {
+                    monthTransactions = getMonthTransactions(partitions.keyAt(index++), fromEpochSecond,
+                            toEpochSecond);
+                }
+                return monthTransactions.hasNext();
+            }
+
+            @Override
+            public Transaction next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return monthTransactions.next();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the transactions of the month starting at {@code monthStart} from
+     * {@code fromEpochSecond} inclusive to {@code toEpochSecond} exclusive, in time order.
+     */
+    private Iterator<Transaction> getMonthTransactions(long monthStart, long fromEpochSecond, long toEpochSecond) {
+        ArchivedSales archive = archives.get(monthStart);
+        if (archive == null) {
+            return getMonth(monthStart).valuesInRangeIterator(fromEpochSecond, toEpochSecond);
+        }
+
+        int fromIndex = archive.ceilingIndex(fromEpochSecond);
+        int toIndex = Math.max(fromIndex, archive.ceilingIndex(toEpochSecond));
+        return new Iterator<Transaction>() {
+            private int index = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return index < toIndex;
+            }
+
+            @Override
+            public Transaction next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return archive.getTransaction(index++);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of months whose transactions are held in memory.
+     */
+    public synchronized int getResidentMonthCount() {
+        return residentMonths.size();
+    }
+
+    /**
+     * Returns the transactions of the month starting at {@code monthStart}, loading them if they are not held.
+     * A month that cannot be loaded is treated as having no transactions, and is tried again when next needed.
+     */
+    private synchronized TimeKeyedMap<Transaction> getMonth(long monthStart) {
+        TimeKeyedMap<Transaction> month = residentMonths.get(monthStart);
+        if (month != null) {
+            return month;
+        }
+
+        month = new TimeKeyedMap<>();
+        try {
+            for (Transaction transaction : loader.load(monthStart)) {
+                month.putIfAbsent(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()), transaction);
+            }
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Could not load the transactions of the month starting at " + monthStart + ": "
+                    + e.getMessage());
+            return month;
+        }
+        residentMonths.put(monthStart, month);
+        return month;
+    }
+
+    /**
+     * Loads the transactions of a month kept out of memory.
+     */
+    @FunctionalInterface
+    public interface PartitionLoader {
+        List<Transaction> load(long monthStart) throws IOException, DataConversionException;
+    }
+}
@@ -15,4 +15,16 @@ public interface ReadOnlySalesHistory {
     ObservableList<Transaction> getTransactionsAsObservableList();
 
     ObservableList<Reminder> getRemindersAsObservableList();
+
+    /**
+     * Returns the store-wide transaction counts and units sold over time.
+     */
+    SalesRollup getSalesRollup();
+
+    /**
+     * Returns the months of transactions kept out of memory, which are not in the transaction list.
+     */
+    default ColdSalesPartitions getColdPartitions() {
+        return ColdSalesPartitions.NONE;
+    }
 }
@@ -0,0 +1,144 @@
+package seedu.address.model.saleshistory;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * Units sold of each product, updated as transactions are added to a {@link SalesHistory}.
+ * Totals for any range of whole hours are answered from {@link SalesBuckets} without going through the
+ * transactions. The units sold in archived months are not kept in buckets: they are scanned from the columns of
+ * the {@link ArchivedSales}, which is exact to the second and keeps them out of the heap.
+ */
+public class SalesAggregates {
+
+    /** Orders product totals by units sold, then by product name for products that sold equally well. */
+    private static final Comparator<Map.Entry<String, Long>> BEST_SELLERS_FIRST =
+            Comparator.<Map.Entry<String, Long>>comparingLong(Map.Entry::getValue).reversed()
+                    .thenComparing(Map.Entry::getKey);
+
+    private final Map<String, SalesBuckets> productSales = new HashMap<>();
+    private ColdSalesPartitions coldPartitions = ColdSalesPartitions.NONE;
+    /** The units of each product sold in the archived months over all time. */
+    private final Map<String, Long> archivedUnitsSold = new HashMap<>();
+
+    /**
+     * Reads the units sold in the archived months of {@code coldPartitions} from their archives.
+     */
+    void setArchives(ColdSalesPartitions coldPartitions) {
+        this.coldPartitions = coldPartitions;
+        archivedUnitsSold.clear();
+        for (ArchivedSales archive : coldPartitions.getArchives().values()) {
+            archive.addUnitsSold(archivedUnitsSold, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Adds the units sold in {@code transaction} to the totals of its products.
+     */
+    void addTransaction(Transaction transaction) {
+        long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            productSales.computeIfAbsent(transaction.getProductName(line), name -> new SalesBuckets())
+                    .add(time, transaction.getQuantity(line));
+        }
+    }
+
+    /**
+     * Adds {@code unitsSold} of {@code productName}, sold at {@code epochSecond}, to its totals.
+     */
+    void addUnits(String productName, long epochSecond, long unitsSold) {
+        productSales.computeIfAbsent(productName, name -> new SalesBuckets()).add(epochSecond, unitsSold);
+    }
+
+    /**
+     * Returns the units of {@code productName} sold over all time.
+     */
+    public long getUnitsSold(String productName) {
+        requireNonNull(productName);
+        SalesBuckets sales = productSales.get(productName);
+        return (sales == null ? 0 : sales.getTotal()) + archivedUnitsSold.getOrDefault(productName, 0L);
+    }
+
+    /**
+     * Returns the units of {@code productName} sold from {@code fromEpochSecond} inclusive to {@code toEpochSecond}
+     * exclusive, both at the start of an hour.
+     */
+    public long getUnitsSold(String productName, long fromEpochSecond, long toEpochSecond) {
+        requireNonNull(productName);
+        SalesBuckets sales = productSales.get(productName);
+        long unitsSold = sales == null ? 0 : sales.getTotal(fromEpochSecond, toEpochSecond);
+        for (ArchivedSales archive : coldPartitions.getArchives(fromEpochSecond, toEpochSecond).values()) {
+            unitsSold += archive.getUnitsSold(productName, fromEpochSecond, toEpochSecond);
+        }
+        return unitsSold;
+    }
+
+    /**
+     * Returns at most {@code count} products with the most units sold over all time, best seller first.
+     */
+    public List<Map.Entry<String, Long>> getTopSellers(int count) {
+        checkTopSellerCount(count);
+        Map<String, Long> unitsSold = new HashMap<>(archivedUnitsSold);
+        for (Map.Entry<String, SalesBuckets> entry : productSales.entrySet()) {
+            unitsSold.merge(entry.getKey(), entry.getValue().getTotal(), Long::sum);
+        }
+        return getTopSellers(count, unitsSold);
+    }
+
+    /**
+     * Returns at most {@code count} products with the most units sold from {@code fromEpochSecond} inclusive to
+     * {@code toEpochSecond} exclusive, best seller first. Products without sales in the range are left out.
+     */
+    public List<Map.Entry<String, Long>> getTopSellers(int count, long fromEpochSecond, long toEpochSecond) {
+        checkTopSellerCount(count);
+        Map<String, Long> unitsSold = new HashMap<>();
+        for (Map.Entry<String, SalesBuckets> entry : productSales.entrySet()) {
+            unitsSold.put(entry.getKey(), entry.getValue().getTotal(fromEpochSecond, toEpochSecond));
+        }
+        for (ArchivedSales archive : coldPartitions.getArchives(fromEpochSecond, toEpochSecond).values()) {
+            archive.addUnitsSold(unitsSold, fromEpochSecond, toEpochSecond);
+        }
+        return getTopSellers(count, unitsSold);
+    }
+
+    /**
+     * Returns at most {@code count} of the products in {@code unitsSold} with the most units sold, best seller first.
+     * Products without sales are left out.
+     */
+    private static List<Map.Entry<String, Long>> getTopSellers(int count, Map<String, Long> unitsSold) {
+        // keeps the best sellers seen so far, with the worst of them at the head
+        PriorityQueue<Map.Entry<String, Long>> topSellers = new PriorityQueue<>(BEST_SELLERS_FIRST.reversed());
+        for (Map.Entry<String, Long> entry : unitsSold.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            topSellers.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+            if (topSellers.size() > count) {
+                topSellers.poll();
+            }
+        }
+
+        List<Map.Entry<String, Long>> sortedTopSellers = new ArrayList<>(topSellers);
+        sortedTopSellers.sort(BEST_SELLERS_FIRST);
+        return sortedTopSellers;
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if {@code count} top sellers cannot be asked for.
+     */
+    private static void checkTopSellerCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Number of top sellers must be positive.");
+        }
+    }
+}
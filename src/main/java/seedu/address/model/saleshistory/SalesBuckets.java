@@ -0,0 +1,147 @@
+package seedu.address.model.saleshistory;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+/**
+ * Counts of something sold, kept in hourly, daily, weekly, monthly and yearly buckets.
+ * The total for a range of hours is the sum of the largest buckets that fit in the range, so it takes time
+ * proportional to the number of buckets needed rather than to the number of transactions in the range.
+ * Weeks start on Monday.
+ */
+public class SalesBuckets {
+
+    private static final long SECONDS_IN_HOUR = 60 * 60;
+    private static final long SECONDS_IN_WEEK = 7 * TimeIdentifiedClass.SECONDS_IN_DAY;
+    /** 1970/01/01 was a Thursday, three days after the start of its week. */
+    private static final long EPOCH_DAY_OF_WEEK = 3;
+
+    private final TimeKeyedMap<long[]> hourlyCounts = new TimeKeyedMap<>();
+    private final TimeKeyedMap<long[]> dailyCounts = new TimeKeyedMap<>();
+    private final TimeKeyedMap<long[]> weeklyCounts = new TimeKeyedMap<>();
+    private final TimeKeyedMap<long[]> monthlyCounts = new TimeKeyedMap<>();
+    private final TimeKeyedMap<long[]> yearlyCounts = new TimeKeyedMap<>();
+    private long totalCount;
+
+    /**
+     * Adds {@code count} to the buckets containing {@code epochSecond}.
+     */
+    void add(long epochSecond, long count) {
+        addToBucket(hourlyCounts, Math.floorDiv(epochSecond, SECONDS_IN_HOUR) * SECONDS_IN_HOUR, count);
+        addToBucket(dailyCounts, getStartOfDay(epochSecond), count);
+        addToBucket(weeklyCounts, getStartOfWeek(epochSecond), count);
+        addToBucket(monthlyCounts, TimeIdentifiedClass.getStartOfMonth(epochSecond), count);
+        addToBucket(yearlyCounts, TimeIdentifiedClass.getStartOfYear(epochSecond), count);
+        totalCount += count;
+    }
+
+    /**
+     * Returns the count over all time.
+     */
+    public long getTotal() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the count from {@code fromEpochSecond} inclusive to {@code toEpochSecond} exclusive.
+     * Both must be at the start of an hour.
+     */
+    public long getTotal(long fromEpochSecond, long toEpochSecond) {
+        if (fromEpochSecond % SECONDS_IN_HOUR != 0 || toEpochSecond % SECONDS_IN_HOUR != 0) {
+            throw new IllegalArgumentException("Ranges must start and end on the hour.");
+        }
+
+        long total = 0;
+        long time = fromEpochSecond;
+        while (time < toEpochSecond) {
+            // hours without sales are skipped, so sparse ranges are cheap however long they are
+            int nextSale = hourlyCounts.ceilingIndex(time);
+            if (nextSale == hourlyCounts.size() || hourlyCounts.keyAt(nextSale) >= toEpochSecond) {
+                break;
+            }
+            time = hourlyCounts.keyAt(nextSale);
+
+            // takes the largest bucket that starts at time and ends within the range
+            long nextYear = TimeIdentifiedClass.getStartOfNextYear(time);
+            long nextMonth = TimeIdentifiedClass.getStartOfNextMonth(time);
+            long nextWeek = getStartOfWeek(time) + SECONDS_IN_WEEK;
+            long nextDay = getStartOfDay(time) + TimeIdentifiedClass.SECONDS_IN_DAY;
+            if (TimeIdentifiedClass.getStartOfYear(time) == time && nextYear <= toEpochSecond) {
+                total += getBucket(yearlyCounts, time);
+                time = nextYear;
+            } else if (TimeIdentifiedClass.getStartOfMonth(time) == time && nextMonth <= toEpochSecond) {
+                total += getBucket(monthlyCounts, time);
+                time = nextMonth;
+            } else if (getStartOfWeek(time) == time && nextWeek <= toEpochSecond
+                    && (nextWeek <= nextMonth || TimeIdentifiedClass.getStartOfNextMonth(nextMonth) > toEpochSecond)) {
+                // a week that runs into the next month is only taken if that month does not fit in the range,
+                // so that the range can still continue in whole months
+                total += getBucket(weeklyCounts, time);
+                time = nextWeek;
+            } else if (getStartOfDay(time) == time && nextDay <= toEpochSecond) {
+                total += getBucket(dailyCounts, time);
+                time = nextDay;
+            } else {
+                total += getBucket(hourlyCounts, time);
+                time += SECONDS_IN_HOUR;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of hours with a count.
+     */
+    public int getHourCount() {
+        return hourlyCounts.size();
+    }
+
+    /**
+     * Returns the start of the {@code index}th hour with a count, in time order.
+     */
+    public long getHourStart(int index) {
+        return hourlyCounts.keyAt(index);
+    }
+
+    /**
+     * Returns the count in the {@code index}th hour with a count, in time order.
+     */
+    public long getHourTotal(int index) {
+        return hourlyCounts.valueAt(index)[0];
+    }
+
+    /**
+     * Returns the start of the day containing {@code epochSecond}.
+     */
+    private static long getStartOfDay(long epochSecond) {
+        return Math.floorDiv(epochSecond, TimeIdentifiedClass.SECONDS_IN_DAY) * TimeIdentifiedClass.SECONDS_IN_DAY;
+    }
+
+    /**
+     * Returns the start of the week containing {@code epochSecond}.
+     */
+    private static long getStartOfWeek(long epochSecond) {
+        long startOfDay = getStartOfDay(epochSecond);
+        long dayOfWeek = Math.floorMod(startOfDay / TimeIdentifiedClass.SECONDS_IN_DAY + EPOCH_DAY_OF_WEEK, 7);
+        return startOfDay - dayOfWeek * TimeIdentifiedClass.SECONDS_IN_DAY;
+    }
+
+    /**
+     * Adds {@code count} to the bucket of {@code buckets} starting at {@code bucketStart}.
+     */
+    private static void addToBucket(TimeKeyedMap<long[]> buckets, long bucketStart, long count) {
+        long[] bucket = buckets.get(bucketStart);
+        if (bucket == null) {
+            buckets.put(bucketStart, new long[] {count});
+        } else {
+            bucket[0] += count;
+        }
+    }
+
+    /**
+     * Returns the count in the bucket of {@code buckets} starting at {@code bucketStart}.
+     */
+    private static long getBucket(TimeKeyedMap<long[]> buckets, long bucketStart) {
+        long[] bucket = buckets.get(bucketStart);
+        return bucket == null ? 0 : bucket[0];
+    }
+}
@@ -5,10 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
-import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,45 +19,49 @@ import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatExcep
 
 /**
  * This class stores all the transactions and reminders. Each day and reminder must have a unique date.
+ * Transactions and reminders are keyed by the {@link TimeIdentifiedClass#toEpochSecond(String) epoch second}
+ * of their time, which is only converted from and to strings when records are added or looked up.
+ * Transactions of past months may be kept out of memory in {@link ColdSalesPartitions}; queries by time look
+ * through them as well, while the units sold, sales rates and rollup include them through their manifests.
  */
 public class SalesHistory implements ReadOnlySalesHistory {
-    private TreeMap<String, Transaction> transactionRecord;
-    private TreeMap<String, Reminder> reminderRecord;
+    private TimeKeyedMap<Transaction> transactionRecord;
+    private TimeKeyedMap<Reminder> reminderRecord;
     private ObservableList<Transaction> transactionObservableList;
     private ObservableList<Reminder> reminderObservableList;
+    private SalesAggregates salesAggregates;
+    private SalesVelocity salesVelocity;
+    /** Built from the transactions when first needed, unless a saved rollup is restored before then. */
+    private SalesRollup salesRollup;
+    private ColdSalesPartitions coldPartitions = ColdSalesPartitions.NONE;
 
     /**
      * The following constructor creates a blank sales history.
      */
     public SalesHistory() {
-        this.transactionRecord = new TreeMap<>();
-        this.reminderRecord = new TreeMap<>();
+        this.transactionRecord = new TimeKeyedMap<>();
+        this.reminderRecord = new TimeKeyedMap<>();
         this.transactionObservableList = FXCollections.observableArrayList();
         this.reminderObservableList = FXCollections.observableArrayList();
+        this.salesAggregates = new SalesAggregates();
+        this.salesVelocity = new SalesVelocity();
     }
 
     /**
      * Creates {@code SalesHistory} given {@code transactionRecord} and {@code salesHistory}
      */
-    public SalesHistory(TreeMap<String, Transaction> transactionRecord, TreeMap<String, Reminder> reminderRecord) {
+    public SalesHistory(TimeKeyedMap<Transaction> transactionRecord, TimeKeyedMap<Reminder> reminderRecord) {
         requireAllNonNull(transactionRecord, reminderRecord);
         this.transactionRecord = transactionRecord;
         this.reminderRecord = reminderRecord;
-        this.transactionObservableList = FXCollections.observableArrayList();
-        this.reminderObservableList = FXCollections.observableArrayList();
-
-        Iterator it = reminderRecord.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            reminderObservableList.add((Reminder) entry.getValue());
+        this.transactionObservableList = FXCollections.observableArrayList(transactionRecord.values());
+        this.reminderObservableList = FXCollections.observableArrayList(reminderRecord.values());
+        this.salesAggregates = new SalesAggregates();
+        this.salesVelocity = new SalesVelocity();
+        for (int i = 0; i < transactionRecord.size(); i++) {
+            salesAggregates.addTransaction(transactionRecord.valueAt(i));
+            salesVelocity.addTransaction(transactionRecord.valueAt(i));
         }
-
-        it = transactionRecord.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            transactionObservableList.add((Transaction) entry.getValue());
-        }
-
     }
 
     /**
@@ -77,6 +78,9 @@ public class SalesHistory implements ReadOnlySalesHistory {
      * @param toBeCopied
      */
     private void copyReadOnlySalesHistory(ReadOnlySalesHistory toBeCopied) {
+        // the rollup of toBeCopied is copied once the transactions are in, instead of being rebuilt from them
+        salesRollup = null;
+        setColdPartitions(toBeCopied.getColdPartitions());
         for (Transaction transaction : toBeCopied.getTransactionsAsObservableList()) {
             // These exceptions should never be thrown. Printing the stack trace will help debugging.
             try {
@@ -97,13 +101,14 @@ public class SalesHistory implements ReadOnlySalesHistory {
                 e.printStackTrace();
             }
         }
+        salesRollup = toBeCopied.getSalesRollup().copy();
     }
 
-    public TreeMap<String, Transaction> getTransactionRecord() {
+    public TimeKeyedMap<Transaction> getTransactionRecord() {
         return transactionRecord;
     }
 
-    public TreeMap<String, Reminder> getReminderRecord() {
+    public TimeKeyedMap<Reminder> getReminderRecord() {
         return reminderRecord;
     }
 
@@ -115,19 +120,41 @@ public class SalesHistory implements ReadOnlySalesHistory {
             throw new InvalidTimeFormatException();
         }
 
-        final String initialTime = trimmedDate + " 00:00:00";
-        final String finalTime = trimmedDate + " 24:00:00";
+        final long startOfDay = TimeIdentifiedClass.toEpochSecond(trimmedDate + " 00:00:00");
+        final long startOfNextDay = startOfDay + TimeIdentifiedClass.SECONDS_IN_DAY;
 
-        // To get the day's transactions...
         ArrayList<Transaction> daysTransactions = new ArrayList<>();
-        Set transactionSet = transactionRecord.subMap(initialTime, finalTime).entrySet();
-        Iterator it = transactionSet.iterator();
+        getTransactions(startOfDay, startOfNextDay).forEachRemaining(daysTransactions::add);
+        return daysTransactions;
+    }
 
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            daysTransactions.add((Transaction) entry.getValue());
+    /**
+     * Returns an iterator over the transactions from {@code fromEpochSecond} inclusive to {@code toEpochSecond}
+     * exclusive, in time order. The transactions are found as the iterator advances, instead of being collected
+     * first, and no transaction may be added while the iterator is in use.
+     * Months kept out of memory are loaded as the iterator reaches them.
+     */
+    public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+        Iterator<Transaction> transactions = transactionRecord.valuesInRangeIterator(fromEpochSecond, toEpochSecond);
+        if (coldPartitions.isEmpty()) {
+            return transactions;
         }
-        return daysTransactions;
+        return new MergingIterator(transactions, coldPartitions.getTransactions(fromEpochSecond, toEpochSecond));
+    }
+
+    /**
+     * Returns true if a transaction is recorded at {@code epochSecond}.
+     */
+    public boolean hasTransaction(long epochSecond) {
+        return getTransaction(epochSecond) != null;
+    }
+
+    /**
+     * Returns the transaction recorded at {@code epochSecond}, or null if there is none.
+     */
+    private Transaction getTransaction(long epochSecond) {
+        Transaction transaction = transactionRecord.get(epochSecond);
+        return transaction != null ? transaction : coldPartitions.get(epochSecond);
     }
 
     /**
@@ -142,11 +169,17 @@ public class SalesHistory implements ReadOnlySalesHistory {
         if (!Transaction.isValidTransactionTime(transaction.getTransactionTime())) {
             throw new InvalidTimeFormatException();
         }
-        if (transactionRecord.containsKey(transaction.getTransactionTime())) {
+        long transactionTime = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        if (coldPartitions.get(transactionTime) != null
+                || transactionRecord.putIfAbsent(transactionTime, transaction) != null) {
             throw new DuplicateTransactionException();
         }
-        transactionRecord.put(transaction.getTransactionTime(), transaction);
         transactionObservableList.add(transaction);
+        salesAggregates.addTransaction(transaction);
+        salesVelocity.addTransaction(transaction);
+        if (salesRollup != null) {
+            salesRollup.addTransaction(transaction);
+        }
     }
 
     /**
@@ -160,10 +193,10 @@ public class SalesHistory implements ReadOnlySalesHistory {
         if (!Reminder.isValidReminderTime(reminder.getReminderTime())) {
             throw new InvalidTimeFormatException();
         }
-        if (reminderRecord.containsKey(reminder.getReminderTime())) {
+        long reminderTime = TimeIdentifiedClass.toEpochSecond(reminder.getReminderTime());
+        if (reminderRecord.putIfAbsent(reminderTime, reminder) != null) {
             throw new DuplicateReminderException();
         }
-        reminderRecord.put(reminder.getReminderTime(), reminder);
         reminderObservableList.add(reminder);
     }
 
@@ -181,15 +214,61 @@ public class SalesHistory implements ReadOnlySalesHistory {
             throw new InvalidTimeFormatException();
         }
 
-        if (!reminderRecord.containsKey(reminderTime)) {
+        Reminder toRemove = reminderRecord.remove(TimeIdentifiedClass.toEpochSecond(reminderTime));
+        if (toRemove == null) {
             throw new NoSuchElementException();
         }
-
-        Reminder toRemove = reminderRecord.get(reminderTime);
-        reminderRecord.remove(reminderTime);
         reminderObservableList.remove(toRemove);
     }
 
+    /**
+     * Moves the reminder at {@code reminderTime} to {@code newTime}, so that it is shown again at that time.
+     * @return the reminder moved
+     * @throws InvalidTimeFormatException if either time is invalid
+     * @throws NoSuchElementException if there is no reminder at {@code reminderTime}
+     * @throws DuplicateReminderException if another reminder is set for {@code newTime}
+     */
+    public Reminder changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+            NoSuchElementException, DuplicateReminderException {
+        requireNonNull(reminderTime);
+        requireNonNull(newTime);
+        reminderTime = reminderTime.trim();
+        newTime = newTime.trim();
+
+        if (!Reminder.isValidReminderTime(reminderTime) || !Reminder.isValidReminderTime(newTime)) {
+            throw new InvalidTimeFormatException();
+        }
+        long oldKey = TimeIdentifiedClass.toEpochSecond(reminderTime);
+        long newKey = TimeIdentifiedClass.toEpochSecond(newTime);
+        Reminder toMove = reminderRecord.get(oldKey);
+        if (toMove == null) {
+            throw new NoSuchElementException();
+        }
+        if (newKey != oldKey && reminderRecord.containsKey(newKey)) {
+            throw new DuplicateReminderException();
+        }
+
+        reminderRecord.remove(oldKey);
+        toMove.changeTime(newTime);
+        reminderRecord.put(newKey, toMove);
+        // set again so that lists of the reminders show the new time
+        reminderObservableList.set(reminderObservableList.indexOf(toMove), toMove);
+        return toMove;
+    }
+
+    /**
+     * Returns the reminder at {@code reminderTime}, or null if there is none.
+     * @param reminderTime
+     * @throws InvalidTimeFormatException if {@code reminderTime} is invalid
+     */
+    public Reminder getReminder(String reminderTime) throws InvalidTimeFormatException {
+        requireNonNull(reminderTime);
+        if (!Reminder.isValidReminderTime(reminderTime)) {
+            throw new InvalidTimeFormatException();
+        }
+        return reminderRecord.get(TimeIdentifiedClass.toEpochSecond(reminderTime));
+    }
+
     /**
      * Returns the transaction details as a string.
      * @param time
@@ -200,10 +279,11 @@ public class SalesHistory implements ReadOnlySalesHistory {
         if (!Transaction.isValidTransactionTime(time)) {
             throw new InvalidTimeFormatException();
         }
-        if (!transactionRecord.containsKey(time)) {
+        Transaction transaction = getTransaction(TimeIdentifiedClass.toEpochSecond(time));
+        if (transaction == null) {
             return "No transaction found at the specified time";
         }
-        return transactionRecord.get(time).getTransactionRecordAsString();
+        return transaction.getTransactionRecordAsString();
     }
 
     /**
@@ -213,9 +293,109 @@ public class SalesHistory implements ReadOnlySalesHistory {
     public void resetData(ReadOnlySalesHistory src) {
         transactionRecord.clear();
         reminderRecord.clear();
+        transactionObservableList.clear();
+        reminderObservableList.clear();
+        salesAggregates = new SalesAggregates();
+        salesVelocity = new SalesVelocity();
+        coldPartitions = ColdSalesPartitions.NONE;
         copyReadOnlySalesHistory(src);
     }
 
+    /**
+     * Returns the units sold of each product, which are kept up to date as transactions are added.
+     */
+    public SalesAggregates getSalesAggregates() {
+        return salesAggregates;
+    }
+
+    /**
+     * Returns the moving average sales rate of each product, which is kept up to date as transactions are added.
+     */
+    public SalesVelocity getSalesVelocity() {
+        return salesVelocity;
+    }
+
+    @Override
+    public ColdSalesPartitions getColdPartitions() {
+        return coldPartitions;
+    }
+
+    /**
+     * Keeps the months of {@code coldPartitions} out of memory as part of this sales history, adding their
+     * manifests to the units sold, sales rates and rollup. The months must not overlap the transactions held.
+     *
+     * @throws IllegalStateException if months are already kept out of memory.
+     */
+    public void setColdPartitions(ColdSalesPartitions coldPartitions) {
+        requireNonNull(coldPartitions);
+        if (!this.coldPartitions.isEmpty()) {
+            throw new IllegalStateException("Months are already kept out of memory.");
+        }
+        this.coldPartitions = coldPartitions;
+        // the units sold in archived months are scanned from their archives when asked for
+        salesAggregates.setArchives(coldPartitions);
+        for (SalesPartition partition : coldPartitions.getPartitions()) {
+            if (!coldPartitions.isArchived(partition.getMonthStart())) {
+                partition.addTo(salesAggregates);
+            }
+            partition.addTo(salesVelocity);
+        }
+        // a rollup restored so far does not include the months, so it is rebuilt when next needed
+        salesRollup = null;
+    }
+
+    @Override
+    public SalesRollup getSalesRollup() {
+        if (salesRollup == null) {
+            salesRollup = new SalesRollup();
+            for (SalesPartition partition : coldPartitions.getPartitions()) {
+                partition.addTo(salesRollup);
+            }
+            for (int i = 0; i < transactionRecord.size(); i++) {
+                salesRollup.addTransaction(transactionRecord.valueAt(i));
+            }
+        }
+        return salesRollup;
+    }
+
+    /**
+     * Uses {@code savedRollup} as the rollup of the transactions, instead of building it from them.
+     * The rollup is only used if it has the same number of transactions, and the same first and last hour with
+     * transactions, as this sales history, including the months kept out of memory.
+     *
+     * @return true if the rollup was used.
+     */
+    public boolean restoreSalesRollup(SalesRollup savedRollup) {
+        requireNonNull(savedRollup);
+        int hourCount = savedRollup.getHourCount();
+        if (savedRollup.getTransactionCount() != transactionRecord.size() + coldPartitions.getTransactionCount()) {
+            return false;
+        }
+        if (hourCount == 0) {
+            salesRollup = savedRollup;
+            return true;
+        }
+        long firstTime = coldPartitions.getFirstTime();
+        long lastTime = coldPartitions.getLastTime();
+        if (!transactionRecord.isEmpty()) {
+            firstTime = Math.min(firstTime, transactionRecord.keyAt(0));
+            lastTime = Math.max(lastTime, transactionRecord.keyAt(transactionRecord.size() - 1));
+        }
+        if (savedRollup.getHourStart(0) != getStartOfHour(firstTime)
+                || savedRollup.getHourStart(hourCount - 1) != getStartOfHour(lastTime)) {
+            return false;
+        }
+        salesRollup = savedRollup;
+        return true;
+    }
+
+    /**
+     * Returns the start of the hour containing {@code epochSecond}.
+     */
+    private static long getStartOfHour(long epochSecond) {
+        return epochSecond - Math.floorMod(epochSecond, 60 * 60);
+    }
+
     @Override
     public ObservableList<Transaction> getTransactionsAsObservableList() {
         return FXCollections.unmodifiableObservableList(transactionObservableList);
@@ -225,4 +405,53 @@ public class SalesHistory implements ReadOnlySalesHistory {
     public ObservableList<Reminder> getRemindersAsObservableList() {
         return FXCollections.unmodifiableObservableList(reminderObservableList);
     }
+
+    /**
+     * Merges the transactions held in memory with those of the months kept out of memory, both in time order.
+     * A transaction in both is returned once, as held in memory.
+     */
+    private static class MergingIterator implements Iterator<Transaction> {
+        private final Iterator<Transaction> heldTransactions;
+        private final Iterator<Transaction> coldTransactions;
+        private Transaction nextHeld;
+        private Transaction nextCold;
+
+        MergingIterator(Iterator<Transaction> heldTransactions, Iterator<Transaction> coldTransactions) {
+            this.heldTransactions = heldTransactions;
+            this.coldTransactions = coldTransactions;
+            nextHeld = heldTransactions.hasNext() ? heldTransactions.next() : null;
+            nextCold = coldTransactions.hasNext() ? coldTransactions.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextHeld != null || nextCold != null;
+        }
+
+        @Override
+        public Transaction next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long heldTime = nextHeld == null ? Long.MAX_VALUE : getTime(nextHeld);
+            long coldTime = nextCold == null ? Long.MAX_VALUE : getTime(nextCold);
+            if (coldTime <= heldTime) {
+                Transaction cold = nextCold;
+                nextCold = coldTransactions.hasNext() ? coldTransactions.next() : null;
+                if (coldTime < heldTime) {
+                    return cold;
+                }
+            }
+            Transaction held = nextHeld;
+            nextHeld = heldTransactions.hasNext() ? heldTransactions.next() : null;
+            return held;
+        }
+
+        /**
+         * Returns the epoch second of {@code transaction}'s time.
+         */
+        private static long getTime(Transaction transaction) {
+            return TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        }
+    }
 }
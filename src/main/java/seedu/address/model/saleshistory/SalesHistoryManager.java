@@ -2,9 +2,7 @@ package seedu.address.model.saleshistory;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
 
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
@@ -54,29 +52,37 @@ public class SalesHistoryManager extends SalesHistory {
      * @throws InvalidTimeFormatException
      */
     public String getDaysTransactionsAsString(String day) throws InvalidTimeFormatException {
-        ArrayList<Transaction> daysTransactions;
-        try {
-            daysTransactions = super.getDaysTransactions(day);
-        } catch (InvalidTimeFormatException e) {
-            throw e;
+        if (!TimeIdentifiedClass.isValidDate(day.trim())) {
+            throw new InvalidTimeFormatException();
         }
-        if (daysTransactions == null || daysTransactions.isEmpty()) {
+        long startOfDay = TimeIdentifiedClass.toEpochSecond(day.trim() + " 00:00:00");
+        Iterator<Transaction> daysTransactions = getTransactions(startOfDay,
+                startOfDay + TimeIdentifiedClass.SECONDS_IN_DAY);
+        if (!daysTransactions.hasNext()) {
             return "No transactions found on the specified date!";
         }
 
         StringBuilder ret = new StringBuilder();
         ret.append("TIMINGS FOR TRANSACTIONS ON " + day + "\n");
         int i = 1;
-        for (Transaction transaction : daysTransactions) {
-            ret.append(i + ") " + transaction.getTransactionTime() + "\n");
+        while (daysTransactions.hasNext()) {
+            ret.append(i + ") " + daysTransactions.next().getTransactionTime() + "\n");
             i++;
         }
 
         return ret.toString();
     }
 
+    /**
+     * Returns the latest transaction, or null if there are no transactions.
+     */
     public Transaction getLastTransaction() {
-        return getTransactionRecord().lastEntry().getValue();
+        TimeKeyedMap<Transaction> transactionRecord = getTransactionRecord();
+        if (!transactionRecord.isEmpty()
+                && transactionRecord.keyAt(transactionRecord.size() - 1) >= getColdPartitions().getLastTime()) {
+            return transactionRecord.lastValue();
+        }
+        return getColdPartitions().getLastTransaction();
     }
 
     /**
@@ -117,28 +123,10 @@ public class SalesHistoryManager extends SalesHistory {
      * @return reminder list.
      */
     public ArrayList<Reminder> getOverdueReminders() {
-        final String currentTime = TimeIdentifiedClass.getCurrentDateAndTime();
-
-        Set reminderSet = getReminderRecord().entrySet();
-        Iterator it = reminderSet.iterator();
-
-        ArrayList<Reminder> remindersToReturn = new ArrayList<>();
-
-        // set to true in order to enter subsequent while-loop
-        boolean isLesserTime = true;
+        final long currentTime = TimeIdentifiedClass.getCurrentEpochSecond();
 
-        while (it.hasNext() && isLesserTime) {
-            Map.Entry reminderEntry = (Map.Entry) it.next();
-            String reminderTime = (String) reminderEntry.getKey();
-            Reminder reminderToAdd = (Reminder) reminderEntry.getValue();
-
-            // checking if reminder time is lesser than current time
-            isLesserTime = (reminderTime.compareTo(currentTime) <= 0);
-            if (isLesserTime) {
-                remindersToReturn.add(reminderToAdd);
-            }
-        }
-        return remindersToReturn;
+        // reminders at or before the current time
+        return new ArrayList<>(getReminderRecord().valuesInRange(Long.MIN_VALUE, currentTime + 1));
     }
 
     /**
@@ -147,25 +135,15 @@ public class SalesHistoryManager extends SalesHistory {
      * @return reminder list.
      */
     public ArrayList<Reminder> getOverDueRemindersForThread() {
-        final String currentTime = TimeIdentifiedClass.getCurrentDateAndTime();
-
-        Set reminderSet = getReminderRecord().entrySet();
-        Iterator it = reminderSet.iterator();
+        final long currentTime = TimeIdentifiedClass.getCurrentEpochSecond();
 
         ArrayList<Reminder> remindersToReturn = new ArrayList<>();
+        TimeKeyedMap<Reminder> reminderRecord = getReminderRecord();
 
-        // set to true to enter the following while block
-        boolean isLesserTime = true;
-
-        while (it.hasNext() && isLesserTime) {
-            Map.Entry entry = (Map.Entry) it.next();
-            String reminderTime = (String) entry.getKey();
-            Reminder reminderToAdd = (Reminder) entry.getValue();
-
-            // true if reminder time is lesser than or equal to the current time.
-            isLesserTime = (reminderTime.compareTo(currentTime) <= 0);
-
-            if (isLesserTime && !reminderToAdd.hasBeenShownByThread()) {
+        // reminders are in time order, so the overdue ones are at the start
+        for (int i = 0; i < reminderRecord.size() && reminderRecord.keyAt(i) <= currentTime; i++) {
+            Reminder reminderToAdd = reminderRecord.valueAt(i);
+            if (!reminderToAdd.hasBeenShownByThread()) {
                 remindersToReturn.add(reminderToAdd);
                 reminderToAdd.declareAsShownByThread();
             }
@@ -0,0 +1,177 @@
+package seedu.address.model.saleshistory;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * The manifest of the transactions of one calendar month that are kept out of memory in a
+ * {@link ColdSalesPartitions}: their number and time span, the units of each product sold each day, and the
+ * transactions and units sold each hour.
+ * The manifest is all that is needed to bring the units sold, sales rates and rollup of a sales history up to date
+ * without reading the transactions themselves.
+ */
+public class SalesPartition {
+
+    private static final long SECONDS_IN_HOUR = 60 * 60;
+
+    private final long monthStart;
+    private final long transactionCount;
+    private final long firstTime;
+    private final long lastTime;
+    private final List<String> productNames = new ArrayList<>();
+    /** The start of the day and the units sold that day of the product at the same index in productNames. */
+    private final List<long[]> productDays = new ArrayList<>();
+    /** The start of the hour, the transactions and the units sold that hour. */
+    private final List<long[]> hours = new ArrayList<>();
+
+    /**
+     * Creates the manifest of {@code transactionCount} transactions of the month starting at {@code monthStart},
+     * from {@code firstTime} to {@code lastTime}. Daily and hourly totals are added separately.
+     */
+    public SalesPartition(long monthStart, long transactionCount, long firstTime, long lastTime) {
+        this.monthStart = monthStart;
+        this.transactionCount = transactionCount;
+        this.firstTime = firstTime;
+        this.lastTime = lastTime;
+    }
+
+    /**
+     * Returns the manifest of {@code transactions}, which must all be in the month starting at {@code monthStart}.
+     */
+    public static SalesPartition summarize(long monthStart, List<Transaction> transactions) {
+        requireNonNull(transactions);
+        long firstTime = Long.MAX_VALUE;
+        long lastTime = Long.MIN_VALUE;
+        Map<String, TreeMap<Long, Long>> productDayUnits = new TreeMap<>();
+        TreeMap<Long, long[]> hourTotals = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+            firstTime = Math.min(firstTime, time);
+            lastTime = Math.max(lastTime, time);
+
+            long dayStart = time - Math.floorMod(time, TimeIdentifiedClass.SECONDS_IN_DAY);
+            long transactionUnits = 0;
+            for (int line = 0; line < transaction.getLineCount(); line++) {
+                productDayUnits.computeIfAbsent(transaction.getProductName(line), name -> new TreeMap<>())
+                        .merge(dayStart, (long) transaction.getQuantity(line), Long::sum);
+                transactionUnits += transaction.getQuantity(line);
+            }
+            long hourStart = time - Math.floorMod(time, SECONDS_IN_HOUR);
+            long[] hourTotal = hourTotals.computeIfAbsent(hourStart, start -> new long[2]);
+            hourTotal[0]++;
+            hourTotal[1] += transactionUnits;
+        }
+
+        SalesPartition partition = new SalesPartition(monthStart, transactions.size(), firstTime, lastTime);
+        for (Map.Entry<String, TreeMap<Long, Long>> product : productDayUnits.entrySet()) {
+            for (Map.Entry<Long, Long> day : product.getValue().entrySet()) {
+                partition.addProductDay(product.getKey(), day.getKey(), day.getValue());
+            }
+        }
+        for (Map.Entry<Long, long[]> hour : hourTotals.entrySet()) {
+            partition.addHour(hour.getKey(), hour.getValue()[0], hour.getValue()[1]);
+        }
+        return partition;
+    }
+
+    /**
+     * Adds the units of {@code productName} sold on the day starting at {@code dayStart}.
+     */
+    public void addProductDay(String productName, long dayStart, long unitsSold) {
+        requireNonNull(productName);
+        productNames.add(productName);
+        productDays.add(new long[] {dayStart, unitsSold});
+    }
+
+    /**
+     * Adds the transactions and units sold in the hour starting at {@code hourStart}.
+     */
+    public void addHour(long hourStart, long hourTransactionCount, long hourUnitsSold) {
+        hours.add(new long[] {hourStart, hourTransactionCount, hourUnitsSold});
+    }
+
+    public long getMonthStart() {
+        return monthStart;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public long getFirstTime() {
+        return firstTime;
+    }
+
+    public long getLastTime() {
+        return lastTime;
+    }
+
+    public int getProductDayCount() {
+        return productNames.size();
+    }
+
+    public String getProductName(int index) {
+        return productNames.get(index);
+    }
+
+    public long getProductDayStart(int index) {
+        return productDays.get(index)[0];
+    }
+
+    public long getProductDayUnitsSold(int index) {
+        return productDays.get(index)[1];
+    }
+
+    public int getHourCount() {
+        return hours.size();
+    }
+
+    public long getHourStart(int index) {
+        return hours.get(index)[0];
+    }
+
+    public long getHourTransactionCount(int index) {
+        return hours.get(index)[1];
+    }
+
+    public long getHourUnitsSold(int index) {
+        return hours.get(index)[2];
+    }
+
+    /**
+     * Adds the daily units sold of each product to {@code salesAggregates}, as sold at the start of the day.
+     */
+    void addTo(SalesAggregates salesAggregates) {
+        for (int i = 0; i < getProductDayCount(); i++) {
+            salesAggregates.addUnits(getProductName(i), getProductDayStart(i), getProductDayUnitsSold(i));
+        }
+    }
+
+    /**
+     * Adds the daily units sold of each product to {@code salesVelocity}.
+     * Each day's units count as sold at noon that day, kept within the time span of the month's transactions.
+     */
+    void addTo(SalesVelocity salesVelocity) {
+        for (int i = 0; i < getProductDayCount(); i++) {
+            long dayStart = getProductDayStart(i);
+            long saleTime = Math.max(firstTime, Math.min(lastTime, dayStart + TimeIdentifiedClass.SECONDS_IN_DAY / 2));
+            salesVelocity.addUnits(getProductName(i), saleTime, getProductDayUnitsSold(i));
+        }
+    }
+
+    /**
+     * Adds the hourly totals to {@code salesRollup}.
+     */
+    void addTo(SalesRollup salesRollup) {
+        for (int i = 0; i < getHourCount(); i++) {
+            salesRollup.addHour(getHourStart(i), getHourTransactionCount(i), getHourUnitsSold(i));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.saleshistory;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * The number of transactions and units sold in the whole store, rolled up into {@link SalesBuckets} as
+ * transactions are added to a {@link SalesHistory}.
+ * Every bucket is derived from the hourly totals, which are all that is needed to save and restore a rollup.
+ */
+public class SalesRollup {
+
+    private final SalesBuckets transactionCounts = new SalesBuckets();
+    private final SalesBuckets unitsSold = new SalesBuckets();
+
+    /**
+     * Adds {@code transaction} and its units sold to the rollup.
+     */
+    void addTransaction(Transaction transaction) {
+        long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        long transactionUnits = 0;
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            transactionUnits += transaction.getQuantity(line);
+        }
+        transactionCounts.add(time, 1);
+        unitsSold.add(time, transactionUnits);
+    }
+
+    /**
+     * Adds the totals of an hour, as saved from {@link #getHourStart(int)} and the hourly totals of another rollup.
+     */
+    public void addHour(long hourStart, long hourTransactionCount, long hourUnitsSold) {
+        transactionCounts.add(hourStart, hourTransactionCount);
+        unitsSold.add(hourStart, hourUnitsSold);
+    }
+
+    /**
+     * Returns a copy of this rollup that is updated separately.
+     */
+    public SalesRollup copy() {
+        SalesRollup copy = new SalesRollup();
+        for (int i = 0; i < getHourCount(); i++) {
+            copy.addHour(getHourStart(i), getHourTransactionCount(i), getHourUnitsSold(i));
+        }
+        return copy;
+    }
+
+    public long getTransactionCount() {
+        return transactionCounts.getTotal();
+    }
+
+    /**
+     * Returns the number of transactions from {@code fromEpochSecond} inclusive to {@code toEpochSecond} exclusive,
+     * both at the start of an hour.
+     */
+    public long getTransactionCount(long fromEpochSecond, long toEpochSecond) {
+        return transactionCounts.getTotal(fromEpochSecond, toEpochSecond);
+    }
+
+    public long getUnitsSold() {
+        return unitsSold.getTotal();
+    }
+
+    /**
+     * Returns the units sold from {@code fromEpochSecond} inclusive to {@code toEpochSecond} exclusive,
+     * both at the start of an hour.
+     */
+    public long getUnitsSold(long fromEpochSecond, long toEpochSecond) {
+        return unitsSold.getTotal(fromEpochSecond, toEpochSecond);
+    }
+
+    /**
+     * Returns the number of hours with transactions.
+     */
+    public int getHourCount() {
+        return transactionCounts.getHourCount();
+    }
+
+    /**
+     * Returns the start of the {@code index}th hour with transactions, in time order.
+     */
+    public long getHourStart(int index) {
+        return transactionCounts.getHourStart(index);
+    }
+
+    /**
+     * Returns the number of transactions in the {@code index}th hour with transactions, in time order.
+     */
+    public long getHourTransactionCount(int index) {
+        return transactionCounts.getHourTotal(index);
+    }
+
+    /**
+     * Returns the units sold in the {@code index}th hour with transactions, in time order.
+     */
+    public long getHourUnitsSold(int index) {
+        return unitsSold.getHourTotal(index);
+    }
+}
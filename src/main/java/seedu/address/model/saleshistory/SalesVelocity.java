@@ -0,0 +1,104 @@
+package seedu.address.model.saleshistory;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * The rate at which each product sells, as an exponentially weighted moving average of its sales over time,
+ * updated as transactions are added to a {@link SalesHistory}.
+ * Each product keeps only its decayed units sold as of its latest sale, so adding a transaction line and reading
+ * a rate both take constant time. A sale counts for half as much after {@link #HALF_LIFE_IN_DAYS} days.
+ */
+public class SalesVelocity {
+
+    public static final int HALF_LIFE_IN_DAYS = 7;
+
+    /** The mean lifetime of a sale's weight, in seconds. */
+    private static final double DECAY_TIME = HALF_LIFE_IN_DAYS * TimeIdentifiedClass.SECONDS_IN_DAY / Math.log(2);
+
+    private final Map<String, ProductVelocity> productVelocities = new HashMap<>();
+    private long firstSaleTime = Long.MAX_VALUE;
+    private long lastSaleTime = Long.MIN_VALUE;
+
+    /**
+     * Adds the units sold in {@code transaction} to the moving averages of its products.
+     */
+    void addTransaction(Transaction transaction) {
+        long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            productVelocities.computeIfAbsent(transaction.getProductName(line), name -> new ProductVelocity())
+                    .add(time, transaction.getQuantity(line));
+        }
+        firstSaleTime = Math.min(firstSaleTime, time);
+        lastSaleTime = Math.max(lastSaleTime, time);
+    }
+
+    /**
+     * Adds {@code unitsSold} of {@code productName}, sold at {@code epochSecond}, to its moving average.
+     */
+    void addUnits(String productName, long epochSecond, long unitsSold) {
+        productVelocities.computeIfAbsent(productName, name -> new ProductVelocity()).add(epochSecond, unitsSold);
+        firstSaleTime = Math.min(firstSaleTime, epochSecond);
+        lastSaleTime = Math.max(lastSaleTime, epochSecond);
+    }
+
+    /**
+     * Returns the time of the latest sale of any product, or {@code Long.MIN_VALUE} if nothing was sold.
+     */
+    public long getLastSaleTime() {
+        return lastSaleTime;
+    }
+
+    /**
+     * Returns the average units of {@code productName} sold a day, as of {@code epochSecond}.
+     * While the sales history is younger than a few half-lives, the average is taken over the history only, so
+     * that the days before the first sale of any product do not count as days without sales.
+     */
+    public double getDailySalesRate(String productName, long epochSecond) {
+        requireNonNull(productName);
+        ProductVelocity velocity = productVelocities.get(productName);
+        if (velocity == null) {
+            return 0;
+        }
+
+        long historyLength = Math.max(Math.max(epochSecond, lastSaleTime) - firstSaleTime,
+                TimeIdentifiedClass.SECONDS_IN_DAY);
+        double historyWeight = 1 - Math.exp(-historyLength / DECAY_TIME);
+        return velocity.getUnitsAt(epochSecond) / DECAY_TIME * TimeIdentifiedClass.SECONDS_IN_DAY / historyWeight;
+    }
+
+    /**
+     * The decayed units sold of a product, as of its latest sale.
+     */
+    private static class ProductVelocity {
+        private double units;
+        private long time = Long.MIN_VALUE;
+
+        /**
+         * Adds {@code quantity} sold at {@code epochSecond}, which may be before the latest sale.
+         */
+        void add(long epochSecond, long quantity) {
+            if (epochSecond >= time) {
+                units = getUnitsAt(epochSecond) + quantity;
+                time = epochSecond;
+            } else {
+                units += quantity * Math.exp((epochSecond - time) / DECAY_TIME);
+            }
+        }
+
+        /**
+         * Returns the decayed units as of {@code epochSecond}, or as of the latest sale if that is later.
+         */
+        double getUnitsAt(long epochSecond) {
+            if (epochSecond <= time || units == 0) {
+                return units;
+            }
+            return units * Math.exp((time - epochSecond) / DECAY_TIME);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.model.saleshistory;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A map from epoch-second times to values, kept in time order.
+ * Keys are stored as primitive {@code long}s in a sorted array, so lookups and range queries are binary searches
+ * over the array, and adding a value later than every other value, the usual case for sales records, takes
+ * constant time.
+ *
+ * @see seedu.address.model.timeidentifiedclass.TimeIdentifiedClass#toEpochSecond(String)
+ */
+public class TimeKeyedMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value from the map.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value at {@code key}, or null if there is none.
+     */
+    public V get(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    /**
+     * Puts {@code value} at {@code key}, replacing any value already there.
+     *
+     * @return the replaced value, or null if there was none.
+     */
+    public V put(long key, V value) {
+        requireNonNull(value);
+        int index = indexOf(key);
+        if (index >= 0) {
+            V replaced = valueAt(index);
+            values[index] = value;
+            return replaced;
+        }
+        insert(-(index + 1), key, value);
+        return null;
+    }
+
+    /**
+     * Puts {@code value} at {@code key} only if there is no value there yet.
+     *
+     * @return the value already at {@code key}, or null if {@code value} was added.
+     */
+    public V putIfAbsent(long key, V value) {
+        requireNonNull(value);
+        int index = indexOf(key);
+        if (index >= 0) {
+            return valueAt(index);
+        }
+        insert(-(index + 1), key, value);
+        return null;
+    }
+
+    /**
+     * Removes the value at {@code key}.
+     *
+     * @return the removed value, or null if there was none.
+     */
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V removed = valueAt(index);
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        values[--size] = null;
+        return removed;
+    }
+
+    /**
+     * Returns the value with the latest key, or null if the map is empty.
+     */
+    public V lastValue() {
+        return isEmpty() ? null : valueAt(size - 1);
+    }
+
+    /**
+     * Returns the key at {@code index} in time order.
+     */
+    public long keyAt(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    /**
+     * Returns the value at {@code index} in time order.
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int index) {
+        checkIndex(index);
+        return (V) values[index];
+    }
+
+    /**
+     * Returns the index of the first key that is not earlier than {@code key}, or {@link #size()} if there is none.
+     */
+    public int ceilingIndex(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * Returns the values with keys from {@code fromKey} inclusive to {@code toKey} exclusive, in time order.
+     */
+    public List<V> valuesInRange(long fromKey, long toKey) {
+        int fromIndex = ceilingIndex(fromKey);
+        int toIndex = Math.max(fromIndex, ceilingIndex(toKey));
+        List<V> rangeValues = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            rangeValues.add(valueAt(i));
+        }
+        return rangeValues;
+    }
+
+    /**
+     * Returns an iterator over the values with keys from {@code fromKey} inclusive to {@code toKey} exclusive, in
+     * time order. Values are read from the map as the iterator advances, so the map must not be changed while the
+     * iterator is in use.
+     */
+    public Iterator<V> valuesInRangeIterator(long fromKey, long toKey) {
+        int fromIndex = ceilingIndex(fromKey);
+        int toIndex = Math.max(fromIndex, ceilingIndex(toKey));
+        return new Iterator<V>() {
+            private int index = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return index < toIndex;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return valueAt(index++);
+            }
+        };
+    }
+
+    /**
+     * Returns all values in time order.
+     */
+    public List<V> values() {
+        List<V> allValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            allValues.add(valueAt(i));
+        }
+        return allValues;
+    }
+
+    /**
+     * Returns the index of {@code key}, or {@code -(insertion index) - 1} if it is not in the map.
+     */
+    private int indexOf(long key) {
+        // values are usually added and looked up in time order, so the last key is checked first
+        if (size == 0 || key > keys[size - 1]) {
+            return -(size + 1);
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Inserts {@code key} and {@code value} at {@code index}, moving later entries up by one.
+     */
+    private void insert(int index, long key, V value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Throws an {@code IndexOutOfBoundsException} if {@code index} is not the index of an entry.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.timeidentifiedclass;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives each product name sold in a {@link Transaction} a small int id, so that transactions store ids instead of
+ * their own copies of the names.
+ * Ids are never reused or removed, and are shared by every sales history, including those loaded on background
+ * threads.
+ */
+public class ProductNameDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    /** Reassigned after each new name is stored, so that readers on other threads see the name. */
+    private static volatile String[] names = new String[INITIAL_CAPACITY];
+    private static int size;
+
+    /**
+     * Returns the id of {@code name}, giving it a new id if it does not have one yet.
+     */
+    public static int getId(String name) {
+        requireNonNull(name);
+        Integer id = ids.get(name);
+        return id != null ? id : addName(name);
+    }
+
+    /**
+     * Returns the name with the given id.
+     */
+    public static String getName(int id) {
+        String[] currentNames = names;
+        if (id < 0 || id >= currentNames.length || currentNames[id] == null) {
+            throw new IllegalArgumentException("Unknown product name id " + id);
+        }
+        return currentNames[id];
+    }
+
+    /**
+     * Gives {@code name} the next id, unless another thread has just given it one.
+     */
+    private static synchronized int addName(String name) {
+        Integer existingId = ids.get(name);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        String[] newNames = size == names.length ? Arrays.copyOf(names, size * 2) : names;
+        int id = size++;
+        newNames[id] = name;
+        names = newNames;
+        // the name is published before its id, so any thread that finds the id can also find the name
+        ids.put(name, id);
+        return id;
+    }
+}
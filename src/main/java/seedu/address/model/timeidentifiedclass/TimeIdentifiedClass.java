@@ -1,7 +1,5 @@
 package seedu.address.model.timeidentifiedclass;
 
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -10,6 +8,8 @@ import java.time.format.DateTimeFormatter;
  * Some of the classes, such as {@link Reminder} and {@link Transaction}, are identified using time.
  */
 public abstract class TimeIdentifiedClass {
+    public static final long SECONDS_IN_DAY = 24 * 60 * 60;
+
     private static final int NUMBER_OF_MONTHS_IN_YEAR = 12;
     private static final int MAXIMUM_NUMBER_OF_DAYS_IN_MONTH = 31;
     private static final int NUMBER_OF_HOURS_IN_DAY = 24;
@@ -18,6 +18,18 @@ public abstract class TimeIdentifiedClass {
     private static final int FEBRUARY_MONTH_NUMBER = 2;
     private static final int[] DAYS_IN_MONTH_NON_LEAP_YEAR = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
     private static final int FEBRUARY_LEAP_YEAR_DAYS = 29;
+    private static final int EPOCH_YEAR = 1970;
+    private static final int DAYS_IN_NON_LEAP_YEAR = 365;
+    private static final int SECONDS_IN_HOUR = 60 * 60;
+    private static final int SECONDS_IN_MINUTE = 60;
+
+    /** Length of a trimmed date and time in the form yyyy/MM/dd HH:mm:ss. */
+    private static final int DATE_AND_TIME_LENGTH = 19;
+    /** Length of a date in the form yyyy/MM/dd. */
+    private static final int DATE_LENGTH = 10;
+    private static final char DATE_SEPARATOR = '/';
+    /** Returned by the parsers in place of an epoch second when the input is not valid. */
+    private static final long INVALID_TIME = Long.MIN_VALUE;
 
     private static DateTimeFormatter dateAndTimeFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
     private static DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
@@ -44,16 +56,11 @@ public abstract class TimeIdentifiedClass {
      * @return true if the month is valid
      */
     public static boolean isValidMonth(String month) {
-        if (month == null) {
+        if (month == null || month.length() != 2) {
             return false;
         }
-        if (month.matches("\\d{2}")) {
-            int monthValue = Integer.parseInt(month);
-            if (monthValue <= NUMBER_OF_MONTHS_IN_YEAR && monthValue > 0) {
-                return true;
-            }
-        }
-        return false;
+        int monthValue = parseDigits(month, 0, 2);
+        return monthValue <= NUMBER_OF_MONTHS_IN_YEAR && monthValue > 0;
     }
 
     /**
@@ -63,16 +70,11 @@ public abstract class TimeIdentifiedClass {
      * @return true if the day is valid
      */
     public static boolean isValidDay(String day) {
-        if (day == null) {
+        if (day == null || day.length() != 2) {
             return false;
         }
-        if (day.matches("\\d{2}")) {
-            int dayValue = Integer.parseInt(day);
-            if (dayValue <= MAXIMUM_NUMBER_OF_DAYS_IN_MONTH && dayValue > 0) {
-                return true;
-            }
-        }
-        return false;
+        int dayValue = parseDigits(day, 0, 2);
+        return dayValue <= MAXIMUM_NUMBER_OF_DAYS_IN_MONTH && dayValue > 0;
     }
 
     /**
@@ -82,13 +84,7 @@ public abstract class TimeIdentifiedClass {
      * @return true if the year is valid.
      */
     public static boolean isValidYear(String year) {
-        if (year == null) {
-            return false;
-        }
-        if (year.matches("\\d{4}")) {
-            return true;
-        }
-        return false;
+        return year != null && year.length() == 4 && parseDigits(year, 0, 4) >= 0;
     }
 
     /**
@@ -98,13 +94,7 @@ public abstract class TimeIdentifiedClass {
      * @return true if the hour is valid
      */
     public static boolean isValidHour(String hour) {
-        if (hour.matches("\\d{2}")) {
-            int hourValue = Integer.parseInt(hour);
-            if (hourValue < NUMBER_OF_HOURS_IN_DAY && hourValue >= 0) {
-                return true;
-            }
-        }
-        return false;
+        return hour.length() == 2 && isValidHourValue(parseDigits(hour, 0, 2));
     }
 
     /**
@@ -114,13 +104,7 @@ public abstract class TimeIdentifiedClass {
      * @return true if the minute is valid
      */
     public static boolean isValidMinute(String minute) {
-        if (minute.matches("\\d{2}")) {
-            int minuteValue = Integer.parseInt(minute);
-            if (minuteValue < NUMBER_OF_MINUTES_IN_HOUR && minuteValue >= 0) {
-                return true;
-            }
-        }
-        return false;
+        return minute.length() == 2 && isValidMinuteValue(parseDigits(minute, 0, 2));
     }
 
     /**
@@ -130,13 +114,7 @@ public abstract class TimeIdentifiedClass {
      * @return true if the second is valid.
      */
     public static boolean isValidSecond(String second) {
-        if (second.matches("\\d{2}")) {
-            int secondValue = Integer.parseInt(second);
-            if (secondValue < NUMBER_OF_SECONDS_IN_HOUR && secondValue >= 0) {
-                return true;
-            }
-        }
-        return false;
+        return second.length() == 2 && isValidSecondValue(parseDigits(second, 0, 2));
     }
 
     /**
@@ -146,89 +124,264 @@ public abstract class TimeIdentifiedClass {
      * @return true if the string is in valid day and time format
      */
     public static boolean isValidDateAndTime(String dateAndTime) {
-        if (dateAndTime == null) {
+        return parseDateAndTime(dateAndTime) != INVALID_TIME;
+    }
+
+    /**
+     * The following method splits a given date and checks if it is valid.
+     * @param date
+     * @return true if and only if the date is valid.
+     */
+    public static boolean isValidDate(String date) {
+        if (date == null) {
             return false;
         }
-        String[] splitDateAndTime = dateAndTime.trim().split("[/ \\s+ :]");
-        if (splitDateAndTime.length != 6) {
+        // trailing separators are allowed, as they were when the date was split on them
+        int end = date.length();
+        while (end > DATE_LENGTH && date.charAt(end - 1) == DATE_SEPARATOR) {
+            end--;
+        }
+        if (end != DATE_LENGTH || date.charAt(4) != DATE_SEPARATOR || date.charAt(7) != DATE_SEPARATOR) {
             return false;
         }
-        for (int i = 0; i < splitDateAndTime.length; i++) {
-            splitDateAndTime[i].trim();
+        return isValidDateFields(parseDigits(date, 0, 4), parseDigits(date, 5, 2), parseDigits(date, 8, 2));
+    }
+
+    /**
+     * Returns the number of seconds from 1970/01/01 00:00:00 to {@code dateAndTime}.
+     * This is the key by which sales history records are stored and compared. It matches the Unix epoch for years
+     * 1901 to 2099; outside them it follows the leap year rule of {@link #isValidDate(String)}, so that every valid
+     * date and time still has its own key.
+     *
+     * @throws IllegalArgumentException if {@code dateAndTime} is not a valid date and time.
+     */
+    public static long toEpochSecond(String dateAndTime) {
+        long epochSecond = parseDateAndTime(dateAndTime);
+        if (epochSecond == INVALID_TIME) {
+            throw new IllegalArgumentException("Invalid date and time: " + dateAndTime);
         }
-        // checks on the different components of the given date and time.
-        return (isValidDate(splitDateAndTime[0], splitDateAndTime[1], splitDateAndTime[2])
-                && isValidTime(splitDateAndTime[3], splitDateAndTime[4], splitDateAndTime[5]));
+        return epochSecond;
     }
 
     /**
-     * The following method checks if a given year is a leap year
-     * @param year
-     * @return true if and only if the year is in the correct format and is a leap year
+     * Returns the {@link #toEpochSecond(String) epoch second} of the given date and time fields.
      */
-    private static boolean isLeapYear(String year) {
-        if (!isValidYear(year)) {
-            return false;
+    private static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return toEpochDay(year, month, day) * SECONDS_IN_DAY + hour * SECONDS_IN_HOUR + minute * SECONDS_IN_MINUTE
+                + second;
+    }
+
+    /**
+     * Returns the number of days from 1970/01/01 to the given date.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        // leap years between 1970 and the start of the year: multiples of four in [1970, year)
+        long leapDays = Math.floorDiv(year + 3, 4) - Math.floorDiv(EPOCH_YEAR + 3, 4);
+        long days = (long) (year - EPOCH_YEAR) * DAYS_IN_NON_LEAP_YEAR + leapDays + day - 1;
+        for (int i = 0; i < month - 1; i++) {
+            days += DAYS_IN_MONTH_NON_LEAP_YEAR[i];
+        }
+        if (month > FEBRUARY_MONTH_NUMBER && isLeapYear(year)) {
+            days++;
         }
-        int yearNumber = Integer.parseInt(year);
-        return (yearNumber % 4 == 0);
+        return days;
     }
 
     /**
-     * The following method checks if the given time is valid.
-     * @param hour
-     * @param minute
-     * @param second
-     * @return true if and only if time is valid
+     * Returns the {@link #toEpochSecond(String) epoch second} at which the month containing {@code epochSecond}
+     * starts.
      */
-    private static boolean isValidTime(String hour, String minute, String second) {
-        return (isValidHour(hour) && isValidMinute(minute) && isValidSecond(second));
+    public static long getStartOfMonth(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_IN_DAY);
+        int year = getYear(epochDay);
+        return toEpochDay(year, getMonth(year, epochDay), 1) * SECONDS_IN_DAY;
     }
 
     /**
-     * The following method checks whether a string is in the correct date format of dd/MM/yyyy
+     * Returns the date and time in the form yyyy/MM/dd HH:mm:ss whose {@link #toEpochSecond(String) epoch second}
+     * is {@code epochSecond}.
+     */
+    public static String toDateAndTime(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_IN_DAY);
+        int year = getYear(epochDay);
+        int month = getMonth(year, epochDay);
+        long day = epochDay - toEpochDay(year, month, 1) + 1;
+        long secondOfDay = Math.floorMod(epochSecond, SECONDS_IN_DAY);
+        return String.format("%04d/%02d/%02d %02d:%02d:%02d", year, month, day, secondOfDay / SECONDS_IN_HOUR,
+                secondOfDay % SECONDS_IN_HOUR / SECONDS_IN_MINUTE, secondOfDay % SECONDS_IN_MINUTE);
+    }
+
+    /**
+     * Returns the {@link #toEpochSecond(String) epoch second} at which the month after the one containing
+     * {@code epochSecond} starts.
+     */
+    public static long getStartOfNextMonth(long epochSecond) {
+        // every month is shorter than 32 days
+        return getStartOfMonth(getStartOfMonth(epochSecond) + 32 * SECONDS_IN_DAY);
+    }
+
+    /**
+     * Returns the {@link #toEpochSecond(String) epoch second} at which the year containing {@code epochSecond}
+     * starts.
+     */
+    public static long getStartOfYear(long epochSecond) {
+        return toEpochDay(getYear(Math.floorDiv(epochSecond, SECONDS_IN_DAY)), 1, 1) * SECONDS_IN_DAY;
+    }
+
+    /**
+     * Returns the {@link #toEpochSecond(String) epoch second} at which the year after the one containing
+     * {@code epochSecond} starts.
+     */
+    public static long getStartOfNextYear(long epochSecond) {
+        return toEpochDay(getYear(Math.floorDiv(epochSecond, SECONDS_IN_DAY)) + 1, 1, 1) * SECONDS_IN_DAY;
+    }
+
+    /**
+     * Returns the month of {@code year} containing the day {@code epochDay} days after 1970/01/01.
+     */
+    private static int getMonth(int year, long epochDay) {
+        int month = 1;
+        while (month < NUMBER_OF_MONTHS_IN_YEAR && toEpochDay(year, month + 1, 1) <= epochDay) {
+            month++;
+        }
+        return month;
+    }
+
+    /**
+     * Returns the year containing the day {@code epochDay} days after 1970/01/01.
+     */
+    private static int getYear(long epochDay) {
+        // ignoring leap days puts the estimate within a few years of the real year, which the loops then correct
+        int year = (int) (EPOCH_YEAR + Math.floorDiv(epochDay, DAYS_IN_NON_LEAP_YEAR));
+        while (toEpochDay(year, 1, 1) > epochDay) {
+            year--;
+        }
+        while (toEpochDay(year + 1, 1, 1) <= epochDay) {
+            year++;
+        }
+        return year;
+    }
+
+    /**
+     * Returns the {@link #toEpochSecond(String) epoch second} of the current date and time.
+     */
+    public static long getCurrentEpochSecond() {
+        LocalDateTime now = LocalDateTime.now();
+        return toEpochSecond(now.getYear(), now.getMonthValue(), now.getDayOfMonth(), now.getHour(),
+                now.getMinute(), now.getSecond());
+    }
+
+    /**
+     * Validates {@code dateAndTime} and decodes it into its epoch second in a single pass, without creating any
+     * objects.
+     * Apart from surrounding whitespace, the fields must be separated by one of {@code / : +} or a whitespace
+     * character, and may be followed by more separators, as when the string was split on these characters.
+     *
+     * @return the epoch second, or {@code INVALID_TIME} if {@code dateAndTime} is not a valid date and time.
+     */
+    private static long parseDateAndTime(String dateAndTime) {
+        if (dateAndTime == null) {
+            return INVALID_TIME;
+        }
+        int start = 0;
+        int end = dateAndTime.length();
+        while (start < end && dateAndTime.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && dateAndTime.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        while (end - start > DATE_AND_TIME_LENGTH && isDateAndTimeSeparator(dateAndTime.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != DATE_AND_TIME_LENGTH) {
+            return INVALID_TIME;
+        }
+        for (int separator = start + 4; separator < end; separator += 3) {
+            if (!isDateAndTimeSeparator(dateAndTime.charAt(separator))) {
+                return INVALID_TIME;
+            }
+        }
+
+        int year = parseDigits(dateAndTime, start, 4);
+        int month = parseDigits(dateAndTime, start + 5, 2);
+        int day = parseDigits(dateAndTime, start + 8, 2);
+        int hour = parseDigits(dateAndTime, start + 11, 2);
+        int minute = parseDigits(dateAndTime, start + 14, 2);
+        int second = parseDigits(dateAndTime, start + 17, 2);
+        if (!isValidDateFields(year, month, day) || !isValidHourValue(hour) || !isValidMinuteValue(minute)
+                || !isValidSecondValue(second)) {
+            return INVALID_TIME;
+        }
+        return toEpochSecond(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * Returns the value of the {@code length} decimal digits at {@code offset} in {@code text},
+     * or -1 if any of them is not a digit from 0 to 9.
+     */
+    private static int parseDigits(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if {@code c} may separate the fields of a date and time.
+     */
+    private static boolean isDateAndTimeSeparator(char c) {
+        return c == DATE_SEPARATOR || c == ':' || c == '+' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B'
+                || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The following method checks if a given year is a leap year
+     * @param year
+     * @return true if and only if the year is a leap year
+     */
+    private static boolean isLeapYear(int year) {
+        return year % 4 == 0;
+    }
+
+    /**
+     * The following method checks whether the given date fields form a valid date.
+     * Fields that could not be parsed are negative.
      * @param year
      * @param month
      * @param day
-     * @return true if valid format, false otherwise.
+     * @return true if valid, false otherwise.
      */
-    private static boolean isValidDate(String year, String month, String day) {
-        requireAllNonNull(year, month, day);
-
-        // Checking the individual components of the date
-        if (!isValidYear(year)
-                || !isValidMonth(month)
-                || !isValidDay(day)) {
+    private static boolean isValidDateFields(int year, int month, int day) {
+        if (year < 0 || month <= 0 || month > NUMBER_OF_MONTHS_IN_YEAR || day <= 0) {
             return false;
         }
 
-        int monthNumber = Integer.parseInt(month);
-        int dayNumber = Integer.parseInt(day);
-
         // Checking for feb 29th case on a leap year.
         if (isLeapYear(year)
-                && monthNumber == FEBRUARY_MONTH_NUMBER
-                && dayNumber <= FEBRUARY_LEAP_YEAR_DAYS) {
+                && month == FEBRUARY_MONTH_NUMBER
+                && day <= FEBRUARY_LEAP_YEAR_DAYS) {
             return true;
         }
 
         // For a non leap year.
-        return (dayNumber <= DAYS_IN_MONTH_NON_LEAP_YEAR[monthNumber - 1]);
+        return (day <= DAYS_IN_MONTH_NON_LEAP_YEAR[month - 1]);
     }
 
-    /**
-     * The following method splits a given date and checks if it is valid.
-     * @param date
-     * @return true if and only if the date is valid.
-     */
-    public static boolean isValidDate(String date) {
-        if (date == null) {
-            return false;
-        }
-        String[] splitDate = date.split("/");
-        if (splitDate.length != 3) {
-            return false;
-        }
-        return isValidDate(splitDate[0], splitDate[1], splitDate[2]);
+    private static boolean isValidHourValue(int hour) {
+        return hour < NUMBER_OF_HOURS_IN_DAY && hour >= 0;
+    }
+
+    private static boolean isValidMinuteValue(int minute) {
+        return minute < NUMBER_OF_MINUTES_IN_HOUR && minute >= 0;
+    }
+
+    private static boolean isValidSecondValue(int second) {
+        return second < NUMBER_OF_SECONDS_IN_HOUR && second >= 0;
     }
 }
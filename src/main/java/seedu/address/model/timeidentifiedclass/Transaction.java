@@ -3,9 +3,7 @@ package seedu.address.model.timeidentifiedclass;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 
 import seedu.address.model.timeidentifiedclass.exceptions.ClosedTransactionException;
@@ -14,16 +12,20 @@ import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatExcep
 /**
  * A basic Transaction class, where the Product is taken to be a string. This will be updated with actual Product
  * objects in a later version.
+ * The products sold are stored as lines of {@link ProductNameDictionary} ids and quantities in two parallel int
+ * arrays, sorted by product name, rather than as a map of names to boxed quantities.
  */
 public class Transaction extends TimeIdentifiedClass {
 
-    private TreeMap<String, Integer> transactionRecord;
+    private static final int[] NO_LINES = new int[0];
+
+    private int[] productIds = NO_LINES;
+    private int[] quantities = NO_LINES;
     private String transactionTime;
     private boolean isActiveTransaction;
 
     public Transaction() {
         this.transactionTime = super.getCurrentDateAndTime();
-        this.transactionRecord = new TreeMap<>();
         this.openTransaction();
     }
 
@@ -42,7 +44,14 @@ public class Transaction extends TimeIdentifiedClass {
             throw new InvalidTimeFormatException();
         }
         this.transactionTime = transactionTime;
-        this.transactionRecord = transactionRecord;
+        this.productIds = new int[transactionRecord.size()];
+        this.quantities = new int[transactionRecord.size()];
+        int line = 0;
+        for (Map.Entry<String, Integer> entry : transactionRecord.entrySet()) {
+            productIds[line] = ProductNameDictionary.getId(entry.getKey());
+            quantities[line] = entry.getValue();
+            line++;
+        }
     }
 
     /**
@@ -57,7 +66,6 @@ public class Transaction extends TimeIdentifiedClass {
             throw new InvalidTimeFormatException();
         }
         this.transactionTime = transactionTime;
-        this.transactionRecord = new TreeMap<>();
     }
 
     public String getTransactionTime() {
@@ -84,11 +92,27 @@ public class Transaction extends TimeIdentifiedClass {
         requireAllNonNull(itemName, quantity);
         if (!isActiveTransaction) {
             throw new ClosedTransactionException();
-        } else if (transactionRecord.containsKey(itemName)) {
-            transactionRecord.replace(itemName, transactionRecord.get(itemName) + quantity);
-        } else {
-            transactionRecord.put(itemName, quantity);
         }
+
+        int line = findLine(itemName);
+        if (line >= 0) {
+            quantities[line] += quantity;
+            return;
+        }
+
+        // transactions have few lines, so the arrays are kept at their exact length
+        int insertionLine = -(line + 1);
+        int lineCount = productIds.length;
+        int[] newProductIds = new int[lineCount + 1];
+        int[] newQuantities = new int[lineCount + 1];
+        System.arraycopy(productIds, 0, newProductIds, 0, insertionLine);
+        System.arraycopy(quantities, 0, newQuantities, 0, insertionLine);
+        System.arraycopy(productIds, insertionLine, newProductIds, insertionLine + 1, lineCount - insertionLine);
+        System.arraycopy(quantities, insertionLine, newQuantities, insertionLine + 1, lineCount - insertionLine);
+        newProductIds[insertionLine] = ProductNameDictionary.getId(itemName);
+        newQuantities[insertionLine] = quantity;
+        productIds = newProductIds;
+        quantities = newQuantities;
     }
 
     public void closeTransaction() {
@@ -99,21 +123,55 @@ public class Transaction extends TimeIdentifiedClass {
         this.isActiveTransaction = true;
     }
 
+    /**
+     * Returns the number of different products sold in the transaction.
+     */
+    public int getLineCount() {
+        return productIds.length;
+    }
+
+    /**
+     * Returns the name of the product on {@code line}, in order of product name.
+     */
+    public String getProductName(int line) {
+        return ProductNameDictionary.getName(productIds[line]);
+    }
+
+    /**
+     * Returns the {@link ProductNameDictionary} id of the product on {@code line}, in order of product name.
+     */
+    public int getProductId(int line) {
+        return productIds[line];
+    }
+
+    /**
+     * Returns the quantity sold on {@code line}, in order of product name.
+     */
+    public int getQuantity(int line) {
+        return quantities[line];
+    }
+
+    /**
+     * Returns a new map of the products sold to their quantities.
+     * Changing the map does not change the transaction.
+     */
     public TreeMap<String, Integer> getTransactionRecord() {
+        TreeMap<String, Integer> transactionRecord = new TreeMap<>();
+        for (int line = 0; line < productIds.length; line++) {
+            transactionRecord.put(getProductName(line), quantities[line]);
+        }
         return transactionRecord;
     }
 
     public String getTransactionRecordAsString() {
         StringBuilder ret = new StringBuilder();
-        Set set = transactionRecord.entrySet();
-        Iterator it = set.iterator();
 
         ret.append("================== Transaction Record " + this.getTransactionTime() + "==================\n");
         ret.append("PRODUCT NAME: QUANTITY\n");
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            if (entry.getKey() != null && !entry.getKey().equals("")) {
-                ret.append(entry.getKey() + ": " + entry.getValue() + "\n");
+        for (int line = 0; line < productIds.length; line++) {
+            String productName = getProductName(line);
+            if (!productName.equals("")) {
+                ret.append(productName + ": " + quantities[line] + "\n");
             }
         }
         ret.trimToSize();
@@ -129,4 +187,24 @@ public class Transaction extends TimeIdentifiedClass {
         transactionTime = transactionTime.trim();
         return isValidDateAndTime(transactionTime);
     }
+
+    /**
+     * Returns the line of {@code productName}, or {@code -(insertion line) - 1} if it is not in the transaction.
+     */
+    private int findLine(String productName) {
+        int low = 0;
+        int high = productIds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = getProductName(middle).compareTo(productName);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
 }
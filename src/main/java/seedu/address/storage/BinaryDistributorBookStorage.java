@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyDistributorBook;
+import seedu.address.model.login.User;
+
+/**
+ * A class to access DistributorBook data stored as a binary file on the hard disk.
+ */
+public class BinaryDistributorBookStorage implements DistributorBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDistributorBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryDistributorBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getDistributorBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyDistributorBook> readDistributorBook() throws DataConversionException, IOException {
+        return readDistributorBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readDistributorBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyDistributorBook> readDistributorBook(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("DistributorBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryFileStorage.loadDistributorBook(filePath));
+        } catch (DataConversionException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveDistributorBook(ReadOnlyDistributorBook distributorBook) throws IOException {
+        saveDistributorBook(distributorBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveDistributorBook(ReadOnlyDistributorBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveDistributorBook(ReadOnlyDistributorBook distributorBook, Path filePath) throws IOException {
+        requireNonNull(distributorBook);
+        requireNonNull(filePath);
+
+        BinaryFileStorage.saveDistributorBook(filePath, distributorBook);
+    }
+
+    /**
+     * Similar to {@link #deleteDistributorBook(User)}
+     * @param user location of the data. Cannot be null
+     */
+    public void deleteDistributorBook(User user) throws IOException {
+        requireNonNull(filePath);
+        Files.delete(filePath);
+    }
+
+}
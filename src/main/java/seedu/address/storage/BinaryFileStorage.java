@@ -0,0 +1,362 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.DistributorBook;
+import seedu.address.model.ProductDatabase;
+import seedu.address.model.ReadOnlyDistributorBook;
+import seedu.address.model.ReadOnlyProductDatabase;
+import seedu.address.model.distributor.Distributor;
+import seedu.address.model.distributor.DistributorProduct;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.ReorderLevel;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesPartition;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.TimeKeyedMap;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * Stores product database, distributor book and sales history data in binary files.
+ * Records are converted through the xml adapted classes, so the data is validated exactly as in the xml files.
+ */
+public class BinaryFileStorage {
+
+    private static final String PRODUCT_DATABASE = "products";
+    private static final String DISTRIBUTOR_BOOK = "distributors";
+    private static final String SALES_HISTORY = "saleshistory";
+    private static final String SALES_ROLLUP = "salesrollup";
+    private static final String SALES_PARTITION = "salespartition";
+
+    private static final int PRODUCT_RECORD = 1;
+    private static final int PRODUCT_WITH_REORDER_LEVEL_RECORD = 2;
+    private static final int DISTRIBUTOR_RECORD = 1;
+    private static final int TRANSACTION_RECORD = 1;
+    private static final int REMINDER_RECORD = 2;
+    private static final int HOUR_RECORD = 1;
+    private static final int PARTITION_RECORD = 1;
+    private static final int PRODUCT_DAY_RECORD = 2;
+    private static final int PARTITION_HOUR_RECORD = 3;
+
+    private static final String MESSAGE_UNKNOWN_RECORD = "Unknown record type %d found";
+    private static final String MESSAGE_MISSING_PARTITION_RECORD = "Sales partition record not found";
+
+    /**
+     * Saves the given product database to the specified file.
+     */
+    public static void saveProductDatabase(Path file, ReadOnlyProductDatabase productDatabase) throws IOException {
+        writeAtomically(file, PRODUCT_DATABASE, out -> {
+            for (Product product : productDatabase.getProductList()) {
+                out.writeString(product.getName().fullName);
+                out.writeString(product.getSerialNumber().value);
+                out.writeString(product.getDistributor().fullDistName);
+                out.writeString(product.getProductInfo().value);
+                out.writeString(product.getRemainingItems().toString());
+                out.writeStrings(toTagNames(product.getTags()));
+                if (product.getReorderLevel().equals(ReorderLevel.NONE)) {
+                    out.endRecord(PRODUCT_RECORD);
+                } else {
+                    // the reorder level follows the fields of the original record, which older files only have
+                    out.writeString(product.getReorderLevel().toString());
+                    out.endRecord(PRODUCT_WITH_REORDER_LEVEL_RECORD);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the product database in the file.
+     *
+     * @throws DataConversionException if the file is not a valid product database file.
+     */
+    public static ProductDatabase loadProductDatabase(Path file) throws DataConversionException, IOException {
+        ProductDatabase productDatabase = new ProductDatabase();
+        readRecords(file, PRODUCT_DATABASE, (recordType, in) -> {
+            if (recordType != PRODUCT_WITH_REORDER_LEVEL_RECORD) {
+                requireRecordType(PRODUCT_RECORD, recordType);
+            }
+            String name = in.readString();
+            String serialNumber = in.readString();
+            String distributor = in.readString();
+            String info = in.readString();
+            String remainingItems = in.readString();
+            List<XmlAdaptedTag> tags = toAdaptedTags(in.readStrings());
+            String reorderLevel = recordType == PRODUCT_WITH_REORDER_LEVEL_RECORD ? in.readString() : null;
+            Product product = new XmlAdaptedProduct(name, serialNumber, distributor, info, tags, remainingItems,
+                    reorderLevel).toModelType();
+            if (productDatabase.hasProduct(product)) {
+                throw new IllegalValueException(XmlSerializableProductDatabase.MESSAGE_DUPLICATE_PRODUCT);
+            }
+            productDatabase.addProduct(product);
+        });
+        return productDatabase;
+    }
+
+    /**
+     * Saves the given distributor book to the specified file.
+     */
+    public static void saveDistributorBook(Path file, ReadOnlyDistributorBook distributorBook) throws IOException {
+        writeAtomically(file, DISTRIBUTOR_BOOK, out -> {
+            for (Distributor distributor : distributorBook.getDistributorList()) {
+                out.writeString(distributor.getDistName().fullDistName);
+                out.writeString(distributor.getDistPhone().value);
+                List<String> productNames = new ArrayList<>();
+                for (DistributorProduct product : distributor.getDistProds()) {
+                    productNames.add(product.distributorProducts);
+                }
+                out.writeStrings(productNames);
+                out.writeStrings(toTagNames(distributor.getTags()));
+                out.endRecord(DISTRIBUTOR_RECORD);
+            }
+        });
+    }
+
+    /**
+     * Returns the distributor book in the file.
+     *
+     * @throws DataConversionException if the file is not a valid distributor book file.
+     */
+    public static DistributorBook loadDistributorBook(Path file) throws DataConversionException, IOException {
+        DistributorBook distributorBook = new DistributorBook();
+        readRecords(file, DISTRIBUTOR_BOOK, (recordType, in) -> {
+            requireRecordType(DISTRIBUTOR_RECORD, recordType);
+            String name = in.readString();
+            String phone = in.readString();
+            List<XmlAdaptedDistProd> products = new ArrayList<>();
+            for (String productName : in.readStrings()) {
+                products.add(new XmlAdaptedDistProd(productName));
+            }
+            Distributor distributor = new XmlAdaptedDistributor(name, phone, products,
+                    toAdaptedTags(in.readStrings())).toModelType();
+            if (distributorBook.hasDistributor(distributor)) {
+                throw new IllegalValueException(XmlSerializableDistributorBook.MESSAGE_DUPLICATE_DISTRIBUTOR);
+            }
+            distributorBook.addDistributor(distributor);
+        });
+        return distributorBook;
+    }
+
+    /**
+     * Saves the given sales history to the specified file.
+     */
+    public static void saveSalesHistory(Path file, ReadOnlySalesHistory salesHistory) throws IOException {
+        writeAtomically(file, SALES_HISTORY, out -> {
+            for (Transaction transaction : salesHistory.getTransactionsAsObservableList()) {
+                out.writeString(transaction.getTransactionTime());
+                out.writeInt(transaction.getLineCount());
+                for (int line = 0; line < transaction.getLineCount(); line++) {
+                    out.writeString(transaction.getProductName(line));
+                    out.writeInt(transaction.getQuantity(line));
+                }
+                out.endRecord(TRANSACTION_RECORD);
+            }
+            for (Reminder reminder : salesHistory.getRemindersAsObservableList()) {
+                out.writeString(reminder.getReminderTime());
+                out.writeString(reminder.getReminderMessage());
+                out.endRecord(REMINDER_RECORD);
+            }
+        });
+    }
+
+    /**
+     * Returns the sales history in the file.
+     *
+     * @throws DataConversionException if the file is not a valid sales history file.
+     */
+    public static SalesHistory loadSalesHistory(Path file) throws DataConversionException, IOException {
+        TimeKeyedMap<Transaction> transactions = new TimeKeyedMap<>();
+        TimeKeyedMap<Reminder> reminders = new TimeKeyedMap<>();
+        readRecords(file, SALES_HISTORY, (recordType, in) -> {
+            if (recordType == TRANSACTION_RECORD) {
+                String time = in.readString();
+                int productCount = in.readInt();
+                List<String> productNames = new ArrayList<>();
+                List<String> productQuantities = new ArrayList<>();
+                for (int i = 0; i < productCount; i++) {
+                    productNames.add(in.readString());
+                    productQuantities.add(String.valueOf(in.readInt()));
+                }
+                Transaction transaction = new XmlAdaptedTransaction(time, productNames, productQuantities)
+                        .toModelType();
+                XmlSerializableSalesHistory.addTransaction(transactions, transaction);
+            } else {
+                requireRecordType(REMINDER_RECORD, recordType);
+                Reminder reminder = new XmlAdaptedReminder(in.readString(), in.readString()).toModelType();
+                XmlSerializableSalesHistory.addReminder(reminders, reminder);
+            }
+        });
+        return new SalesHistory(transactions, reminders);
+    }
+
+    /**
+     * Saves the hourly totals of the given sales rollup to the specified file.
+     */
+    public static void saveSalesRollup(Path file, SalesRollup salesRollup) throws IOException {
+        writeAtomically(file, SALES_ROLLUP, out -> {
+            for (int i = 0; i < salesRollup.getHourCount(); i++) {
+                out.writeLong(salesRollup.getHourStart(i));
+                out.writeLong(salesRollup.getHourTransactionCount(i));
+                out.writeLong(salesRollup.getHourUnitsSold(i));
+                out.endRecord(HOUR_RECORD);
+            }
+        });
+    }
+
+    /**
+     * Returns the sales rollup in the file.
+     *
+     * @throws DataConversionException if the file is not a valid sales rollup file.
+     */
+    public static SalesRollup loadSalesRollup(Path file) throws DataConversionException, IOException {
+        SalesRollup salesRollup = new SalesRollup();
+        readRecords(file, SALES_ROLLUP, (recordType, in) -> {
+            requireRecordType(HOUR_RECORD, recordType);
+            salesRollup.addHour(in.readLong(), in.readLong(), in.readLong());
+        });
+        return salesRollup;
+    }
+
+    /**
+     * Saves the manifest of the given sales partition to the specified file.
+     */
+    public static void saveSalesPartition(Path file, SalesPartition partition) throws IOException {
+        writeAtomically(file, SALES_PARTITION, out -> {
+            out.writeLong(partition.getMonthStart());
+            out.writeLong(partition.getTransactionCount());
+            out.writeLong(partition.getFirstTime());
+            out.writeLong(partition.getLastTime());
+            out.endRecord(PARTITION_RECORD);
+            for (int i = 0; i < partition.getProductDayCount(); i++) {
+                out.writeString(partition.getProductName(i));
+                out.writeLong(partition.getProductDayStart(i));
+                out.writeLong(partition.getProductDayUnitsSold(i));
+                out.endRecord(PRODUCT_DAY_RECORD);
+            }
+            for (int i = 0; i < partition.getHourCount(); i++) {
+                out.writeLong(partition.getHourStart(i));
+                out.writeLong(partition.getHourTransactionCount(i));
+                out.writeLong(partition.getHourUnitsSold(i));
+                out.endRecord(PARTITION_HOUR_RECORD);
+            }
+        });
+    }
+
+    /**
+     * Returns the sales partition manifest in the file.
+     *
+     * @throws DataConversionException if the file is not a valid sales partition manifest.
+     */
+    public static SalesPartition loadSalesPartition(Path file) throws DataConversionException, IOException {
+        List<SalesPartition> partition = new ArrayList<>(1);
+        readRecords(file, SALES_PARTITION, (recordType, in) -> {
+            if (recordType == PARTITION_RECORD && partition.isEmpty()) {
+                partition.add(new SalesPartition(in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+                return;
+            }
+            if (partition.isEmpty()) {
+                throw new IllegalValueException(MESSAGE_MISSING_PARTITION_RECORD);
+            }
+            if (recordType == PRODUCT_DAY_RECORD) {
+                partition.get(0).addProductDay(in.readString(), in.readLong(), in.readLong());
+            } else {
+                requireRecordType(PARTITION_HOUR_RECORD, recordType);
+                partition.get(0).addHour(in.readLong(), in.readLong(), in.readLong());
+            }
+        });
+        if (partition.isEmpty()) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_PARTITION_RECORD));
+        }
+        return partition.get(0);
+    }
+
+    /**
+     * Returns the names of {@code tags}.
+     */
+    private static List<String> toTagNames(Iterable<Tag> tags) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : tags) {
+            tagNames.add(tag.tagName);
+        }
+        return tagNames;
+    }
+
+    /**
+     * Returns xml adapted tags named {@code tagNames}, to be validated by the product or distributor.
+     */
+    private static List<XmlAdaptedTag> toAdaptedTags(List<String> tagNames) {
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            tags.add(new XmlAdaptedTag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if {@code recordType} is not {@code expectedType}.
+     */
+    private static void requireRecordType(int expectedType, int recordType) throws IllegalValueException {
+        if (recordType != expectedType) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, recordType));
+        }
+    }
+
+    /**
+     * Writes the records of {@code dataSetName} to a temporary file, which then replaces {@code file},
+     * so that a failed save leaves the previous file intact.
+     */
+    private static void writeAtomically(Path file, String dataSetName, RecordsWriter recordsWriter)
+            throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        FileUtil.createIfMissing(temporaryFile);
+        try (OutputStream fileOut = Files.newOutputStream(temporaryFile);
+             BinaryRecordWriter out = new BinaryRecordWriter(fileOut, dataSetName)) {
+            recordsWriter.write(out);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Passes each record of the {@code dataSetName} file to {@code recordHandler}.
+     */
+    private static void readRecords(Path file, String dataSetName, RecordHandler recordHandler)
+            throws DataConversionException, IOException {
+        try (InputStream fileIn = Files.newInputStream(file);
+             BinaryRecordReader in = new BinaryRecordReader(fileIn, dataSetName)) {
+            int recordType;
+            while ((recordType = in.nextRecord()) != -1) {
+                recordHandler.handle(recordType, in);
+            }
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes every record of a data set.
+     */
+    @FunctionalInterface
+    private interface RecordsWriter {
+        void write(BinaryRecordWriter out) throws IOException;
+    }
+
+    /**
+     * Converts one record of a data set into the model.
+     */
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(int recordType, BinaryRecordReader in) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyProductDatabase;
+import seedu.address.model.login.User;
+
+/**
+ * A class to access ProductDatabase data stored as a binary file on the hard disk.
+ */
+public class BinaryProductDatabaseStorage implements ProductDatabaseStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryProductDatabaseStorage.class);
+
+    private Path filePath;
+
+    public BinaryProductDatabaseStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getProductInfoBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyProductDatabase> readProductDatabaseBook() throws DataConversionException, IOException {
+        return readProductDatabaseBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readProductDatabaseBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyProductDatabase> readProductDatabaseBook(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("ProductDatabase file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryFileStorage.loadProductDatabase(filePath));
+        } catch (DataConversionException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyProductDatabase addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyProductDatabase)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyProductDatabase addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryFileStorage.saveProductDatabase(filePath, addressBook);
+    }
+
+    /**
+     * Similar to {@link #deleteAddressBook(User)}
+     * @param user location of the data. Cannot be null
+     */
+    public void deleteAddressBook(User user) throws IOException {
+        requireNonNull(filePath);
+        Files.delete(filePath);
+    }
+
+}
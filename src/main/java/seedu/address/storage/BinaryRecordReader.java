@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads a binary data file written by {@link BinaryRecordWriter}, one record at a time.
+ */
+public class BinaryRecordReader implements Closeable {
+
+    public static final String MESSAGE_NOT_BINARY_DATA_FILE = "Not a binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary format version %d";
+    public static final String MESSAGE_WRONG_DATA_SET = "Expected %s data but found %s data";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Corrupted record found";
+
+    private static final int END_OF_FILE = -1;
+    /** Longer records can only be the result of a damaged length field. */
+    private static final int MAXIMUM_RECORD_LENGTH = 1 << 24;
+
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+    private DataInputStream record;
+    private int recordLength;
+    private ByteArrayInputStream recordBytes;
+
+    /**
+     * Opens a binary data file that must hold the data set named {@code dataSetName}.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of a supported version and data set.
+     */
+    public BinaryRecordReader(InputStream in, String dataSetName) throws IOException, IllegalValueException {
+        requireNonNull(dataSetName);
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        try {
+            if (this.in.readInt() != BinaryRecordWriter.MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+            }
+            int version = this.in.readInt();
+            if (version != BinaryRecordWriter.FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            String fileDataSetName = this.in.readUTF();
+            if (!fileDataSetName.equals(dataSetName)) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_DATA_SET, dataSetName, fileDataSetName));
+            }
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+        }
+    }
+
+    /**
+     * Moves to the next record and returns its type, or -1 if there are no more records.
+     *
+     * @throws IllegalValueException if the previous record was not read exactly to its end,
+     *     or the next record is cut short.
+     */
+    public int nextRecord() throws IOException, IllegalValueException {
+        if (recordBytes != null && recordBytes.available() != 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+
+        int recordType = in.read();
+        if (recordType == END_OF_FILE) {
+            return END_OF_FILE;
+        }
+        try {
+            recordLength = in.readInt();
+            if (recordLength < 0 || recordLength > MAXIMUM_RECORD_LENGTH) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+            }
+            byte[] bytes = new byte[recordLength];
+            in.readFully(bytes);
+            recordBytes = new ByteArrayInputStream(bytes);
+            record = new DataInputStream(recordBytes);
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+        return recordType;
+    }
+
+    /**
+     * Reads an int from the current record.
+     */
+    public int readInt() throws IllegalValueException {
+        try {
+            return record.readInt();
+        } catch (IOException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+    }
+
+    /**
+     * Reads a long from the current record.
+     */
+    public long readLong() throws IllegalValueException {
+        try {
+            return record.readLong();
+        } catch (IOException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+    }
+
+    /**
+     * Reads a string from the current record, resolving interned strings.
+     */
+    public String readString() throws IllegalValueException {
+        int id = readInt();
+        if (id == strings.size()) {
+            try {
+                strings.add(record.readUTF());
+            } catch (IOException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+            }
+        } else if (id < 0 || id > strings.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+        return strings.get(id);
+    }
+
+    /**
+     * Reads a list of strings written by {@link BinaryRecordWriter#writeStrings} from the current record.
+     */
+    public List<String> readStrings() throws IllegalValueException {
+        int size = readInt();
+        if (size < 0 || size > recordLength) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_RECORD);
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
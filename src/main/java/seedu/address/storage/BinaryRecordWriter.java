@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a binary data file as a header followed by length-prefixed records.
+ * Strings are interned: the first occurrence of a string in the file is written in full along with a new id,
+ * and every later occurrence is written as that id only.
+ *
+ * @see BinaryRecordReader
+ */
+public class BinaryRecordWriter implements Closeable {
+
+    /** Identifies the file as a binary data file of this application. */
+    public static final int MAGIC_NUMBER = 0x49505242;
+    /** Incremented whenever the layout of the records changes. */
+    public static final int FORMAT_VERSION = 1;
+
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    /**
+     * Starts a binary data file holding the data set named {@code dataSetName}.
+     */
+    public BinaryRecordWriter(OutputStream out, String dataSetName) throws IOException {
+        requireNonNull(dataSetName);
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC_NUMBER);
+        this.out.writeInt(FORMAT_VERSION);
+        this.out.writeUTF(dataSetName);
+    }
+
+    public void writeInt(int value) throws IOException {
+        record.writeInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        record.writeLong(value);
+    }
+
+    /**
+     * Adds {@code value} to the current record, as an id if it has been written before.
+     */
+    public void writeString(String value) throws IOException {
+        requireNonNull(value);
+        Integer id = stringIds.get(value);
+        if (id != null) {
+            record.writeInt(id);
+            return;
+        }
+
+        // a new id is one past the last id, which tells the reader that the string follows
+        int newId = stringIds.size();
+        stringIds.put(value, newId);
+        record.writeInt(newId);
+        record.writeUTF(value);
+    }
+
+    /**
+     * Adds the number of {@code values} followed by each of them to the current record.
+     */
+    public void writeStrings(Collection<String> values) throws IOException {
+        record.writeInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    /**
+     * Writes the current record, marked with {@code recordType}, to the file and starts a new one.
+     */
+    public void endRecord(int recordType) throws IOException {
+        out.writeByte(recordType);
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        recordBytes.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * A class to access and modify {@link SalesHistory} stored on the hard disk in binary form.
+ * Transactions added since the binary file was last saved are kept in a {@link SalesJournal} next to it.
+ * The store-wide sales rollup is saved next to it too, in a {@link SalesRollupFile}.
+ */
+public class BinarySalesHistoryStorage implements SalesHistoryStorage {
+    private static Logger logger = LogsCenter.getLogger(BinarySalesHistoryStorage.class);
+
+    private Path filePath;
+
+    public BinarySalesHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSalesHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySalesHistory> readSalesHistory() throws DataConversionException, IOException {
+        return readSalesHistory(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlySalesHistory> readSalesHistory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        List<Transaction> journaledTransactions = new SalesJournal(filePath).readTransactions();
+        if (!Files.exists(filePath) && journaledTransactions.isEmpty()) {
+            logger.info("Saleshistory file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        SalesHistory salesHistory = new SalesHistory();
+        if (Files.exists(filePath)) {
+            try {
+                salesHistory = BinaryFileStorage.loadSalesHistory(filePath);
+            } catch (DataConversionException e) {
+                logger.info("Invalid values found in " + filePath + e.getMessage());
+                throw e;
+            }
+        }
+
+        new SalesRollupFile(filePath).restoreInto(salesHistory);
+        SalesJournal.replay(journaledTransactions, salesHistory);
+        return Optional.of(salesHistory);
+    }
+
+    @Override
+    public void saveSalesHistory(ReadOnlySalesHistory salesHistory) throws IOException {
+        saveSalesHistory(salesHistory, filePath);
+    }
+
+    @Override
+    public void saveSalesHistory(ReadOnlySalesHistory salesHistory, Path filePath) throws IOException {
+        requireAllNonNull(salesHistory, filePath);
+
+        BinaryFileStorage.saveSalesHistory(filePath, salesHistory);
+
+        new SalesRollupFile(filePath).save(salesHistory);
+
+        // the saved file now contains the journaled transactions
+        new SalesJournal(filePath).clear();
+    }
+
+    @Override
+    public void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException {
+        requireAllNonNull(transactions, filePath);
+        new SalesJournal(filePath).append(transactions);
+    }
+
+    @Override
+    public void deleteSalesHistory() throws IOException {
+        requireNonNull(filePath);
+        // the journal goes first, as sales that were only ever journaled leave no sales history file
+        new SalesJournal(filePath).clear();
+        new SalesRollupFile(filePath).delete();
+        Files.deleteIfExists(filePath);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes data files on a background thread.
+ * Saves requested for the same file within {@code coalescingDelayMillis} of each other, or while that file is
+ * being written, are coalesced so that only the newest one is written.
+ */
+public class CoalescingFileWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(CoalescingFileWriter.class);
+
+    private final ScheduledExecutorService executor;
+    private final long coalescingDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    private final Map<Path, SaveTask> pendingSaves = new LinkedHashMap<>();
+
+    /**
+     * @param failureHandler is called on the writer thread with the exception of every save that fails.
+     */
+    public CoalescingFileWriter(long coalescingDelayMillis, Consumer<IOException> failureHandler) {
+        requireAllNonNull(failureHandler);
+        this.coalescingDelayMillis = coalescingDelayMillis;
+        this.failureHandler = failureHandler;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-file-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code saveTask} to write {@code filePath}, replacing any save of that file that has not started.
+     * {@code saveTask} must only read data that will not be modified afterwards.
+     */
+    public void submit(Path filePath, SaveTask saveTask) {
+        requireAllNonNull(filePath, saveTask);
+        boolean isSaveScheduled;
+        synchronized (pendingSaves) {
+            isSaveScheduled = pendingSaves.put(filePath, saveTask) != null;
+        }
+        if (!isSaveScheduled) {
+            executor.schedule(() -> runPendingSave(filePath), coalescingDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all pending saves and blocks until they, and any save in progress, are done.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::runAllPendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for data files to be saved");
+        } catch (ExecutionException e) {
+            throw new AssertionError("Save failures are passed to the failure handler.", e);
+        }
+    }
+
+    /**
+     * Writes the pending save of {@code filePath}, if it has not been written by a flush already.
+     */
+    private void runPendingSave(Path filePath) {
+        SaveTask saveTask;
+        synchronized (pendingSaves) {
+            saveTask = pendingSaves.remove(filePath);
+        }
+        if (saveTask != null) {
+            runSave(saveTask);
+        }
+    }
+
+    /**
+     * Writes every pending save.
+     */
+    private void runAllPendingSaves() {
+        List<SaveTask> saveTasks;
+        synchronized (pendingSaves) {
+            saveTasks = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+        }
+        saveTasks.forEach(this::runSave);
+    }
+
+    /**
+     * Runs {@code saveTask}, reporting an I/O failure to the failure handler.
+     */
+    private void runSave(SaveTask saveTask) {
+        try {
+            saveTask.save();
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while saving a data file: " + e);
+        }
+    }
+
+    /**
+     * Writes a data file.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+}
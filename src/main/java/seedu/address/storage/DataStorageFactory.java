@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Creates the product database, distributor book and sales history storages for a {@link StorageFormat}.
+ * If a data file does not exist yet in the requested format but exists in another format,
+ * it is converted first, so that switching formats keeps the user's data.
+ * The file converted from is then retired, by adding {@code RETIRED_FILE_SUFFIX} to its name, so that switching
+ * back converts the data as last saved rather than finding the file left behind.
+ */
+public class DataStorageFactory {
+
+    public static final String RETIRED_FILE_SUFFIX = ".old";
+
+    private static final Logger logger = LogsCenter.getLogger(DataStorageFactory.class);
+
+    /**
+     * Returns a storage for the product database at {@code filePath}, with its extension replaced by {@code format}'s.
+     */
+    public static ProductDatabaseStorage createProductDatabaseStorage(StorageFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        convertIfMissing(format, filePath, StorageFormatConverter::convertProductDatabase);
+        return newProductDatabaseStorage(format, format.getFilePath(filePath));
+    }
+
+    /**
+     * Returns a storage for the distributor book at {@code filePath}, with its extension replaced by {@code format}'s.
+     */
+    public static DistributorBookStorage createDistributorBookStorage(StorageFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        convertIfMissing(format, filePath, StorageFormatConverter::convertDistributorBook);
+        return newDistributorBookStorage(format, format.getFilePath(filePath));
+    }
+
+    /**
+     * Returns a storage for the sales history at {@code filePath}, with its extension replaced by {@code format}'s.
+     * Past months are kept in partition files next to the sales history file, which may be in any format.
+     */
+    public static SalesHistoryStorage createSalesHistoryStorage(StorageFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        convertIfMissing(format, filePath, StorageFormatConverter::convertSalesHistory);
+        SalesHistoryStorage currentStorage = newSalesHistoryStorage(format, format.getFilePath(filePath));
+        return new PartitionedSalesHistoryStorage(format, currentStorage);
+    }
+
+    /**
+     * Returns a storage for the product database in {@code format} at exactly {@code filePath}.
+     */
+    static ProductDatabaseStorage newProductDatabaseStorage(StorageFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryProductDatabaseStorage(filePath);
+        default:
+            return new XmlProductDatabaseStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a storage for the distributor book in {@code format} at exactly {@code filePath}.
+     */
+    static DistributorBookStorage newDistributorBookStorage(StorageFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryDistributorBookStorage(filePath);
+        default:
+            return new XmlDistributorBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a storage for the sales history in {@code format} at exactly {@code filePath}.
+     */
+    static SalesHistoryStorage newSalesHistoryStorage(StorageFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinarySalesHistoryStorage(filePath);
+        default:
+            return new XmlSalesHistoryStorage(filePath);
+        }
+    }
+
+    /**
+     * Converts the data file at {@code filePath} into {@code format} with {@code conversion}
+     * if it only exists in another format, and retires the file converted from.
+     * A file that cannot be converted is left alone, so the data starts out as if there was no file.
+     */
+    private static void convertIfMissing(StorageFormat format, Path filePath, Conversion conversion) {
+        if (Files.exists(format.getFilePath(filePath))) {
+            return;
+        }
+        for (StorageFormat sourceFormat : StorageFormat.values()) {
+            Path sourceFilePath = sourceFormat.getFilePath(filePath);
+            if (sourceFormat == format || !Files.exists(sourceFilePath)) {
+                continue;
+            }
+            try {
+                if (conversion.convert(filePath, sourceFormat, format)) {
+                    retire(sourceFilePath);
+                    retire(new SalesJournal(sourceFilePath).getJournalPath());
+                    return;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert data file " + sourceFilePath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Renames the file at {@code filePath}, if there is one, so that it is no longer read as a data file.
+     * A file that cannot be renamed is left in place.
+     */
+    private static void retire(Path filePath) {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        Path retiredFilePath = filePath.resolveSibling(filePath.getFileName() + RETIRED_FILE_SUFFIX);
+        try {
+            Files.move(filePath, retiredFilePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Retired converted data file " + filePath + " as " + retiredFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not retire converted data file " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts one kind of data file between formats.
+     */
+    @FunctionalInterface
+    private interface Conversion {
+        boolean convert(Path filePath, StorageFormat sourceFormat, StorageFormat targetFormat)
+                throws DataConversionException, IOException;
+    }
+}
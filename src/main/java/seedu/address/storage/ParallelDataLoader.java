@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Reads independent data files concurrently on a small pool of background threads.
+ * The caller joins every load before using the data, so the model is only ever changed on the calling thread.
+ */
+public class ParallelDataLoader {
+
+    /** One thread for each of the product database, distributor book and sales history. */
+    private static final int MAXIMUM_CONCURRENT_LOADS = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(ParallelDataLoader.class);
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(MAXIMUM_CONCURRENT_LOADS,
+        runnable -> {
+            Thread thread = new Thread(runnable, "data-file-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    /**
+     * Starts reading {@code dataName} with {@code loader} on a loader thread, logging how long it takes.
+     * {@code loader} must not modify the model.
+     */
+    public static <T> CompletableFuture<T> load(String dataName, Supplier<T> loader) {
+        requireAllNonNull(dataName, loader);
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            T data = loader.get();
+            logger.info(String.format("Loaded %s in %d ms", dataName, (System.nanoTime() - startTime) / 1_000_000));
+            return data;
+        }, executor);
+    }
+
+    /**
+     * Waits for {@code load} to finish and returns its data.
+     * An unchecked exception thrown by the loader is rethrown as is.
+     */
+    public static <T> T join(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
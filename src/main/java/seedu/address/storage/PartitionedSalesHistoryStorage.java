@@ -0,0 +1,502 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.saleshistory.ArchivedSales;
+import seedu.address.model.saleshistory.ColdSalesPartitions;
+import seedu.address.model.saleshistory.ColdSalesPartitions.PartitionLoader;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesPartition;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.TimeKeyedMap;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * A {@link SalesHistoryStorage} that keeps the transactions of past months out of the sales history file.
+ * When the sales history is saved, the transactions before the current month are moved into one partition file
+ * per month, such as {@code saleshistory.2018-10.xml}, each with a small binary manifest such as
+ * {@code saleshistory.2018-10.manifest}. The sales history file keeps the current month and the reminders.
+ * When the sales history is read, only the sales history file and the manifests are read; the transactions of a
+ * past month are read from its partition file when a query first needs them, through {@link ColdSalesPartitions}.
+ * A closed month can be archived, replacing its partition file with a read-only {@link SalesArchiveFile} such as
+ * {@code saleshistory.2018-10.archive}, which is mapped into memory instead of being read.
+ */
+public class PartitionedSalesHistoryStorage implements SalesHistoryStorage {
+
+    public static final String MANIFEST_FILE_SUFFIX = ".manifest";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedSalesHistoryStorage.class);
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final StorageFormat format;
+    private final SalesHistoryStorage currentStorage;
+    /**
+     * The number and the sum of the times of the transactions last merged into each partition file, by file path,
+     * so that transactions of past months held in memory are not merged again on every save.
+     */
+    private final Map<Path, List<Long>> mergedSignatures = new HashMap<>();
+
+    /**
+     * Creates a storage keeping past months out of the sales history file of {@code currentStorage}, with
+     * partition files in {@code format}.
+     */
+    public PartitionedSalesHistoryStorage(StorageFormat format, SalesHistoryStorage currentStorage) {
+        requireAllNonNull(format, currentStorage);
+        this.format = format;
+        this.currentStorage = currentStorage;
+    }
+
+    @Override
+    public Path getSalesHistoryFilePath() {
+        return currentStorage.getSalesHistoryFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySalesHistory> readSalesHistory() throws DataConversionException, IOException {
+        return readSalesHistory(getSalesHistoryFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlySalesHistory> readSalesHistory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlySalesHistory> currentSalesHistory = currentStorage.readSalesHistory(filePath);
+        List<SalesPartition> partitions = readManifests(filePath);
+        if (partitions.isEmpty()) {
+            return currentSalesHistory;
+        }
+
+        SalesHistory salesHistory = new SalesHistory();
+        if (currentSalesHistory.isPresent()) {
+            salesHistory = removePartitionedTransactions(filePath, currentSalesHistory.get(), partitions);
+        }
+        PartitionLoader partitionLoader = monthStart -> readPartition(filePath, monthStart);
+        salesHistory.setColdPartitions(new ColdSalesPartitions(partitions, openArchives(filePath, partitions),
+                partitionLoader, ColdSalesPartitions.DEFAULT_MAX_RESIDENT_MONTHS));
+        return Optional.of(salesHistory);
+    }
+
+    @Override
+    public void saveSalesHistory(ReadOnlySalesHistory salesHistory) throws IOException {
+        saveSalesHistory(salesHistory, getSalesHistoryFilePath());
+    }
+
+    @Override
+    public void saveSalesHistory(ReadOnlySalesHistory salesHistory, Path filePath) throws IOException {
+        requireAllNonNull(salesHistory, filePath);
+        long currentMonthStart = TimeIdentifiedClass.getStartOfMonth(TimeIdentifiedClass.getCurrentEpochSecond());
+        List<Transaction> lateTransactions = new ArrayList<>();
+        List<Transaction> currentTransactions = new ArrayList<>();
+        TreeMap<Long, List<Transaction>> pastMonths = new TreeMap<>();
+        for (Transaction transaction : salesHistory.getTransactionsAsObservableList()) {
+            long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+            if (time >= currentMonthStart) {
+                currentTransactions.add(transaction);
+            } else {
+                long monthStart = TimeIdentifiedClass.getStartOfMonth(time);
+                pastMonths.computeIfAbsent(monthStart, month -> new ArrayList<>()).add(transaction);
+            }
+        }
+
+        // the partitions are written first, so that a failed save leaves the past months in the sales history file
+        for (Map.Entry<Long, List<Transaction>> pastMonth : pastMonths.entrySet()) {
+            SalesArchiveFile archive = openArchive(filePath, pastMonth.getKey());
+            if (archive == null) {
+                mergeIntoPartition(filePath, pastMonth.getKey(), pastMonth.getValue());
+                continue;
+            }
+            // an archive is never rewritten, so transactions added to its month stay in the sales history file
+            for (Transaction transaction : pastMonth.getValue()) {
+                if (!archive.hasTransaction(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()))) {
+                    lateTransactions.add(transaction);
+                }
+            }
+        }
+        lateTransactions.addAll(currentTransactions);
+        currentStorage.saveSalesHistory(new CurrentSalesHistory(lateTransactions, salesHistory), filePath);
+    }
+
+    @Override
+    public void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException {
+        currentStorage.appendTransactions(transactions, filePath);
+    }
+
+    @Override
+    public void deleteSalesHistory() throws IOException {
+        Path filePath = getSalesHistoryFilePath();
+        for (Path manifestPath : getManifestPaths(filePath)) {
+            String month = getMonth(filePath, manifestPath);
+            for (StorageFormat partitionFormat : StorageFormat.values()) {
+                Files.deleteIfExists(getPartitionPath(filePath, month, partitionFormat));
+            }
+            Files.deleteIfExists(getArchivePath(filePath, month));
+            Files.delete(manifestPath);
+        }
+        mergedSignatures.clear();
+        currentStorage.deleteSalesHistory();
+    }
+
+    @Override
+    public int archiveMonth(long monthStart) throws IOException {
+        Path filePath = getSalesHistoryFilePath();
+        String month = formatMonth(monthStart);
+        Path archivePath = getArchivePath(filePath, month);
+        if (Files.exists(archivePath)) {
+            return 0;
+        }
+
+        List<Transaction> transactions;
+        try {
+            transactions = readPartition(filePath, monthStart);
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (DataConversionException e) {
+            throw new IOException("Partition file of " + month + " is damaged: " + e.getMessage(), e);
+        }
+        SalesArchiveFile.write(archivePath, transactions);
+        for (StorageFormat partitionFormat : StorageFormat.values()) {
+            Path partitionPath = getPartitionPath(filePath, month, partitionFormat);
+            Files.deleteIfExists(partitionPath);
+            mergedSignatures.remove(partitionPath);
+        }
+        logger.info("Archived " + transactions.size() + " transactions of " + month + " to " + archivePath);
+        return transactions.size();
+    }
+
+    /**
+     * Adds {@code transactions}, all in the month starting at {@code monthStart}, to the partition file of the
+     * month, and updates its manifest. Nothing is written if the transactions were merged already.
+     */
+    private void mergeIntoPartition(Path filePath, long monthStart, List<Transaction> transactions)
+            throws IOException {
+        String month = formatMonth(monthStart);
+        Path partitionPath = getPartitionPath(filePath, month, format);
+        long timeSum = 0;
+        for (Transaction transaction : transactions) {
+            timeSum += TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        }
+        List<Long> mergedSignature = Arrays.asList((long) transactions.size(), timeSum);
+        if (mergedSignature.equals(mergedSignatures.get(partitionPath))) {
+            return;
+        }
+
+        TimeKeyedMap<Transaction> monthTransactions;
+        try {
+            monthTransactions = readPartitionRecord(filePath, monthStart);
+        } catch (DataConversionException e) {
+            throw new IOException("Partition file of " + month + " is damaged: " + e.getMessage(), e);
+        }
+        for (Transaction transaction : transactions) {
+            monthTransactions.put(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()), transaction);
+        }
+
+        List<Transaction> mergedTransactions = monthTransactions.values();
+        writePartitionFile(partitionPath, new SalesHistory(monthTransactions, new TimeKeyedMap<>()));
+        BinaryFileStorage.saveSalesPartition(getManifestPath(filePath, month),
+                SalesPartition.summarize(monthStart, mergedTransactions));
+        mergedSignatures.put(partitionPath, mergedSignature);
+    }
+
+    /**
+     * Returns the sales history read from the sales history file, without the transactions that are in a
+     * partition file already. Such transactions are only left behind if a save was interrupted; transactions of
+     * past months added since the last save are not in a partition file yet, and are kept.
+     */
+    private SalesHistory removePartitionedTransactions(Path filePath, ReadOnlySalesHistory salesHistory,
+            List<SalesPartition> partitions) throws DataConversionException, IOException {
+        SalesHistory currentSalesHistory = salesHistory instanceof SalesHistory
+                ? (SalesHistory) salesHistory
+                : new SalesHistory(salesHistory);
+        TimeKeyedMap<Transaction> transactionRecord = currentSalesHistory.getTransactionRecord();
+        long partitionsEnd = TimeIdentifiedClass.getStartOfNextMonth(partitions.get(partitions.size() - 1)
+                .getMonthStart());
+        if (transactionRecord.isEmpty() || transactionRecord.keyAt(0) >= partitionsEnd) {
+            return currentSalesHistory;
+        }
+
+        Map<Long, TimeKeyedMap<Transaction>> partitionedMonths = new HashMap<>();
+        for (SalesPartition partition : partitions) {
+            partitionedMonths.put(partition.getMonthStart(), null);
+        }
+        TimeKeyedMap<Transaction> keptTransactions = new TimeKeyedMap<>();
+        for (int i = 0; i < transactionRecord.size(); i++) {
+            long time = transactionRecord.keyAt(i);
+            long monthStart = TimeIdentifiedClass.getStartOfMonth(time);
+            if (partitionedMonths.containsKey(monthStart)) {
+                if (partitionedMonths.get(monthStart) == null) {
+                    partitionedMonths.put(monthStart, readPartitionRecord(filePath, monthStart));
+                }
+                if (partitionedMonths.get(monthStart).containsKey(time)) {
+                    continue;
+                }
+            }
+            keptTransactions.put(time, transactionRecord.valueAt(i));
+        }
+        if (keptTransactions.size() == transactionRecord.size()) {
+            return currentSalesHistory;
+        }
+        logger.info("Dropped " + (transactionRecord.size() - keptTransactions.size())
+                + " transactions already in partition files from " + filePath);
+        return new SalesHistory(keptTransactions, currentSalesHistory.getReminderRecord());
+    }
+
+    /**
+     * Returns the transactions in the partition file of the month starting at {@code monthStart} keyed by their
+     * time, or none if the month has no partition file.
+     */
+    private TimeKeyedMap<Transaction> readPartitionRecord(Path filePath, long monthStart)
+            throws DataConversionException, IOException {
+        try {
+            return toTransactionRecord(readPartition(filePath, monthStart));
+        } catch (NoSuchFileException e) {
+            return new TimeKeyedMap<>();
+        }
+    }
+
+    /**
+     * Returns the manifests of the partition files of the sales history at {@code filePath}, in time order.
+     * Damaged manifests are left out, so their months are as if they had no transactions.
+     */
+    private List<SalesPartition> readManifests(Path filePath) throws IOException {
+        List<SalesPartition> partitions = new ArrayList<>();
+        for (Path manifestPath : getManifestPaths(filePath)) {
+            try {
+                partitions.add(BinaryFileStorage.loadSalesPartition(manifestPath));
+            } catch (DataConversionException e) {
+                logger.warning("Manifest file " + manifestPath + " is damaged, leaving out its month: "
+                        + e.getMessage());
+            }
+        }
+        partitions.sort((first, second) -> Long.compare(first.getMonthStart(), second.getMonthStart()));
+        return partitions;
+    }
+
+    /**
+     * Returns the archives of the months of {@code partitions} that were archived, keyed by the start of the month.
+     * Damaged archives are left out, so their months are read from their partition files, if any.
+     */
+    private Map<Long, ArchivedSales> openArchives(Path filePath, List<SalesPartition> partitions)
+            throws IOException {
+        Map<Long, ArchivedSales> archives = new HashMap<>();
+        for (SalesPartition partition : partitions) {
+            try {
+                SalesArchiveFile archive = openArchive(filePath, partition.getMonthStart());
+                if (archive != null) {
+                    archives.put(partition.getMonthStart(), archive);
+                }
+            } catch (IOException e) {
+                logger.warning("Archive file of " + formatMonth(partition.getMonthStart())
+                        + " could not be opened, leaving it out: " + e.getMessage());
+            }
+        }
+        return archives;
+    }
+
+    /**
+     * Returns the archive of the month starting at {@code monthStart}, or null if the month was not archived.
+     *
+     * @throws IOException if the archive file is damaged.
+     */
+    private static SalesArchiveFile openArchive(Path filePath, long monthStart) throws IOException {
+        Path archivePath = getArchivePath(filePath, formatMonth(monthStart));
+        if (!Files.exists(archivePath)) {
+            return null;
+        }
+        try {
+            return new SalesArchiveFile(archivePath);
+        } catch (DataConversionException e) {
+            throw new IOException("Archive file " + archivePath + " is damaged: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the transactions in the partition file of the month starting at {@code monthStart}, or in its
+     * archive if it was archived since the sales history was read.
+     * The partition file may be in any format, so that the partitions need not be converted when the storage
+     * format changes.
+     *
+     * @throws NoSuchFileException if the month has no partition file and no archive.
+     */
+    private List<Transaction> readPartition(Path filePath, long monthStart)
+            throws DataConversionException, IOException {
+        String month = formatMonth(monthStart);
+        if (Files.exists(getPartitionPath(filePath, month, format))) {
+            return readPartitionFile(format, getPartitionPath(filePath, month, format));
+        }
+        for (StorageFormat partitionFormat : StorageFormat.values()) {
+            Path partitionPath = getPartitionPath(filePath, month, partitionFormat);
+            if (Files.exists(partitionPath)) {
+                return readPartitionFile(partitionFormat, partitionPath);
+            }
+        }
+        SalesArchiveFile archive = openArchive(filePath, monthStart);
+        if (archive != null) {
+            return archive.getTransactions();
+        }
+        throw new NoSuchFileException(getPartitionPath(filePath, month, format).toString());
+    }
+
+    /**
+     * Returns the transactions in the partition file at {@code partitionPath}, which is in {@code partitionFormat}.
+     */
+    private static List<Transaction> readPartitionFile(StorageFormat partitionFormat, Path partitionPath)
+            throws DataConversionException, IOException {
+        switch (partitionFormat) {
+        case BINARY:
+            return BinaryFileStorage.loadSalesHistory(partitionPath).getTransactionRecord().values();
+        default:
+            return XmlStreamingLoader.loadSalesHistory(partitionPath).getTransactionRecord().values();
+        }
+    }
+
+    /**
+     * Writes the transactions of {@code partition} to the partition file at {@code partitionPath}.
+     */
+    private void writePartitionFile(Path partitionPath, SalesHistory partition) throws IOException {
+        switch (format) {
+        case BINARY:
+            BinaryFileStorage.saveSalesHistory(partitionPath, partition);
+            break;
+        default:
+            Path temporaryFilePath = partitionPath.resolveSibling(partitionPath.getFileName() + ".tmp");
+            FileUtil.createIfMissing(temporaryFilePath);
+            XmlFileStorage.saveSalesHistoryToFile(temporaryFilePath, new XmlSerializableSalesHistory(partition));
+            Files.move(temporaryFilePath, partitionPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Returns the paths of the manifest files of the sales history at {@code filePath}.
+     */
+    private static List<Path> getManifestPaths(Path filePath) throws IOException {
+        List<Path> manifestPaths = new ArrayList<>();
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return manifestPaths;
+        }
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(directory,
+                getBaseName(filePath) + ".*" + MANIFEST_FILE_SUFFIX)) {
+            for (Path manifestPath : manifests) {
+                if (getMonth(filePath, manifestPath) != null) {
+                    manifestPaths.add(filePath.resolveSibling(manifestPath.getFileName()));
+                }
+            }
+        }
+        return manifestPaths;
+    }
+
+    /**
+     * Returns the month of the manifest file at {@code manifestPath}, or null if it is not the manifest of a month.
+     */
+    private static String getMonth(Path filePath, Path manifestPath) {
+        String fileName = manifestPath.getFileName().toString();
+        String month = fileName.substring(getBaseName(filePath).length() + 1,
+                fileName.length() - MANIFEST_FILE_SUFFIX.length());
+        try {
+            YearMonth.parse(month, MONTH_FORMATTER);
+            return month;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Path getManifestPath(Path filePath, String month) {
+        return filePath.resolveSibling(getBaseName(filePath) + "." + month + MANIFEST_FILE_SUFFIX);
+    }
+
+    private static Path getArchivePath(Path filePath, String month) {
+        return filePath.resolveSibling(getBaseName(filePath) + "." + month + SalesArchiveFile.ARCHIVE_FILE_SUFFIX);
+    }
+
+    private static Path getPartitionPath(Path filePath, String month, StorageFormat partitionFormat) {
+        // the placeholder extension is replaced by the extension of the format
+        return partitionFormat.getFilePath(filePath.resolveSibling(getBaseName(filePath) + "." + month + ".data"));
+    }
+
+    /**
+     * Returns the file name of {@code filePath} without its extension.
+     */
+    private static String getBaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    /**
+     * Returns the month starting at {@code monthStart} as it appears in file names.
+     */
+    private static String formatMonth(long monthStart) {
+        return LocalDate.ofEpochDay(Math.floorDiv(monthStart, TimeIdentifiedClass.SECONDS_IN_DAY))
+                .format(MONTH_FORMATTER);
+    }
+
+    /**
+     * Returns {@code transactions} keyed by their time.
+     */
+    private static TimeKeyedMap<Transaction> toTransactionRecord(List<Transaction> transactions) {
+        TimeKeyedMap<Transaction> transactionRecord = new TimeKeyedMap<>();
+        for (Transaction transaction : transactions) {
+            transactionRecord.put(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()), transaction);
+        }
+        return transactionRecord;
+    }
+
+    /**
+     * The part of a sales history that is kept in the sales history file: the transactions of the current month,
+     * all the reminders and the rollup of all the transactions.
+     */
+    private static class CurrentSalesHistory implements ReadOnlySalesHistory {
+        private final ObservableList<Transaction> transactions;
+        private final ReadOnlySalesHistory salesHistory;
+
+        CurrentSalesHistory(List<Transaction> transactions, ReadOnlySalesHistory salesHistory) {
+            this.transactions = FXCollections.observableArrayList(transactions);
+            this.salesHistory = salesHistory;
+        }
+
+        @Override
+        public ObservableList<Transaction> getTransactionsAsObservableList() {
+            return FXCollections.unmodifiableObservableList(transactions);
+        }
+
+        @Override
+        public ObservableList<Reminder> getRemindersAsObservableList() {
+            return salesHistory.getRemindersAsObservableList();
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            return salesHistory.getSalesRollup();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.saleshistory.ArchivedSales;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
+
+/**
+ * The transactions of a closed month in a read-only columnar file, read through a {@link MappedByteBuffer} so that
+ * they stay outside the heap.
+ * After a header and a dictionary of the product names, the file holds four primitive columns: the time of each
+ * transaction, the index of the first line of each transaction, and the product id and quantity of each line.
+ * A line is read from the columns without creating any objects, until a {@link Transaction} is asked for.
+ */
+public class SalesArchiveFile implements ArchivedSales {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    /** Identifies the file as a sales archive of this application. */
+    public static final int MAGIC_NUMBER = 0x49505241;
+    /** Incremented whenever the layout of the file changes. */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_ARCHIVE_FILE = "Not a sales archive file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported sales archive version %d";
+    public static final String MESSAGE_CORRUPTED_ARCHIVE = "Corrupted sales archive found";
+
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final int transactionCount;
+    private final int lineCount;
+    private final String[] productNames;
+    private final int timesStart;
+    private final int lineStartsStart;
+    private final int productIdsStart;
+    private final int quantitiesStart;
+
+    /**
+     * Maps the archive file at {@code file} into memory, reading only its header and dictionary.
+     *
+     * @throws DataConversionException if the file is not a valid sales archive.
+     */
+    public SalesArchiveFile(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_ARCHIVE_FILE));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt(0) != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_ARCHIVE_FILE);
+            }
+            if (buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                        buffer.getInt(Integer.BYTES)));
+            }
+            transactionCount = buffer.getInt(2 * Integer.BYTES);
+            lineCount = buffer.getInt(3 * Integer.BYTES);
+            productNames = readDictionary(buffer, buffer.getInt(4 * Integer.BYTES));
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED_ARCHIVE));
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        // the size is worked out in longs, so that damaged counts cannot overflow into a matching size
+        long expectedSize = buffer.position() + (long) transactionCount * Long.BYTES
+                + ((long) transactionCount + 1) * Integer.BYTES + 2L * lineCount * Integer.BYTES;
+        if (transactionCount < 0 || lineCount < 0 || expectedSize != buffer.capacity()) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED_ARCHIVE));
+        }
+        timesStart = buffer.position();
+        lineStartsStart = timesStart + transactionCount * Long.BYTES;
+        productIdsStart = lineStartsStart + (transactionCount + 1) * Integer.BYTES;
+        quantitiesStart = productIdsStart + lineCount * Integer.BYTES;
+    }
+
+    /**
+     * Writes {@code transactions}, in time order, to an archive file at {@code file}.
+     * A temporary file is written first, so that a failed write leaves no partial archive behind.
+     */
+    public static void write(Path file, List<Transaction> transactions) throws IOException {
+        requireNonNull(file);
+        requireNonNull(transactions);
+        Map<String, Integer> productIds = new HashMap<>();
+        List<String> productNames = new ArrayList<>();
+        int lineCount = 0;
+        for (Transaction transaction : transactions) {
+            for (int line = 0; line < transaction.getLineCount(); line++) {
+                if (productIds.putIfAbsent(transaction.getProductName(line), productNames.size()) == null) {
+                    productNames.add(transaction.getProductName(line));
+                }
+            }
+            lineCount += transaction.getLineCount();
+        }
+
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        FileUtil.createIfMissing(temporaryFile);
+        try (OutputStream fileOut = Files.newOutputStream(temporaryFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(transactions.size());
+            out.writeInt(lineCount);
+            out.writeInt(productNames.size());
+            for (String productName : productNames) {
+                byte[] nameBytes = productName.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(nameBytes.length);
+                out.write(nameBytes);
+            }
+
+            for (Transaction transaction : transactions) {
+                out.writeLong(TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime()));
+            }
+            int lineStart = 0;
+            for (Transaction transaction : transactions) {
+                out.writeInt(lineStart);
+                lineStart += transaction.getLineCount();
+            }
+            out.writeInt(lineStart);
+            for (Transaction transaction : transactions) {
+                for (int line = 0; line < transaction.getLineCount(); line++) {
+                    out.writeInt(productIds.get(transaction.getProductName(line)));
+                }
+            }
+            for (Transaction transaction : transactions) {
+                for (int line = 0; line < transaction.getLineCount(); line++) {
+                    out.writeInt(transaction.getQuantity(line));
+                }
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    @Override
+    public long getTransactionTime(int index) {
+        return buffer.getLong(timesStart + index * Long.BYTES);
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public long getUnitsSold(String productName, long fromEpochSecond, long toEpochSecond) {
+        requireNonNull(productName);
+        int productId = -1;
+        for (int i = 0; i < productNames.length && productId < 0; i++) {
+            if (productNames[i].equals(productName)) {
+                productId = i;
+            }
+        }
+        if (productId < 0) {
+            return 0;
+        }
+
+        int fromIndex = ceilingIndex(fromEpochSecond);
+        int toIndex = Math.max(fromIndex, ceilingIndex(toEpochSecond));
+        long unitsSold = 0;
+        for (int line = getLineStart(fromIndex); line < getLineStart(toIndex); line++) {
+            if (getProductId(line) == productId) {
+                unitsSold += getQuantity(line);
+            }
+        }
+        return unitsSold;
+    }
+
+    @Override
+    public void addUnitsSold(Map<String, Long> unitsSold, long fromEpochSecond, long toEpochSecond) {
+        requireNonNull(unitsSold);
+        int fromIndex = ceilingIndex(fromEpochSecond);
+        int toIndex = Math.max(fromIndex, ceilingIndex(toEpochSecond));
+        long[] productUnitsSold = new long[productNames.length];
+        for (int line = getLineStart(fromIndex); line < getLineStart(toIndex); line++) {
+            productUnitsSold[getProductId(line)] += getQuantity(line);
+        }
+        for (int productId = 0; productId < productNames.length; productId++) {
+            if (productUnitsSold[productId] > 0) {
+                unitsSold.merge(getProductName(productId), productUnitsSold[productId], Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns all the archived transactions, in time order.
+     */
+    public List<Transaction> getTransactions() {
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(getTransaction(i));
+        }
+        return transactions;
+    }
+
+    @Override
+    public Transaction getTransaction(int index) {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        for (int line = getLineStart(index); line < getLineStart(index + 1); line++) {
+            record.merge(getProductName(getProductId(line)), getQuantity(line), Integer::sum);
+        }
+        try {
+            return new Transaction(TimeIdentifiedClass.toDateAndTime(getTransactionTime(index)), record);
+        } catch (InvalidTimeFormatException e) {
+            throw new IllegalStateException(MESSAGE_CORRUPTED_ARCHIVE, e);
+        }
+    }
+
+    /**
+     * Returns the index of the first line of the transaction at {@code index}. The lines of a transaction end where
+     * the lines of the next one start, and {@code getLineStart(getTransactionCount())} is the number of lines.
+     */
+    private int getLineStart(int index) {
+        return buffer.getInt(lineStartsStart + index * Integer.BYTES);
+    }
+
+    /**
+     * Returns the id in the dictionary of the product sold in the line at {@code line}.
+     */
+    private int getProductId(int line) {
+        return buffer.getInt(productIdsStart + line * Integer.BYTES);
+    }
+
+    private int getQuantity(int line) {
+        return buffer.getInt(quantitiesStart + line * Integer.BYTES);
+    }
+
+    private String getProductName(int productId) {
+        return productNames[productId];
+    }
+
+    /**
+     * Reads the {@code productCount} product names following the header of {@code buffer}, leaving its position
+     * at the end of the dictionary.
+     */
+    private static String[] readDictionary(ByteBuffer buffer, int productCount) throws IllegalValueException {
+        if (productCount < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_ARCHIVE);
+        }
+        String[] productNames = new String[productCount];
+        buffer.position(HEADER_SIZE);
+        for (int i = 0; i < productCount; i++) {
+            if (buffer.remaining() < Integer.BYTES) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_ARCHIVE);
+            }
+            int nameLength = buffer.getInt();
+            if (nameLength < 0 || nameLength > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_ARCHIVE);
+            }
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(nameBytes);
+            productNames[i] = new String(nameBytes, StandardCharsets.UTF_8);
+        }
+        return productNames;
+    }
+}
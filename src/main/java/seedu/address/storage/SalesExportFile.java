@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * Writes transactions to a CSV file that {@link SalesImportFile} can read back, one sale of one product per line.
+ * Each transaction is written as it is taken from an iterator, so that the number of transactions written is not
+ * limited by memory.
+ */
+public class SalesExportFile {
+
+    public static final String CSV_HEADER = "time,product,quantity";
+
+    /**
+     * Writes the transactions left in {@code transactions} to {@code filePath}, replacing any file already there.
+     * @return the number of transactions written
+     * @throws IOException if the file cannot be written.
+     */
+    public static long write(Path filePath, Iterator<Transaction> transactions) throws IOException {
+        requireAllNonNull(filePath, transactions);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            return writeCsv(writer, transactions);
+        }
+    }
+
+    /**
+     * Appends the transactions left in {@code transactions} to {@code out} as CSV, starting with a header line.
+     * @return the number of transactions appended
+     */
+    public static long writeCsv(Appendable out, Iterator<Transaction> transactions) throws IOException {
+        requireAllNonNull(out, transactions);
+        out.append(CSV_HEADER).append('\n');
+        long transactionCount = 0;
+        while (transactions.hasNext()) {
+            Transaction transaction = transactions.next();
+            for (int line = 0; line < transaction.getLineCount(); line++) {
+                out.append(transaction.getTransactionTime()).append(',')
+                        .append(transaction.getProductName(line)).append(',')
+                        .append(Integer.toString(transaction.getQuantity(line))).append('\n');
+            }
+            transactionCount++;
+        }
+        return transactionCount;
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
 import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
 
 /**
  * Interface for the {@link SalesHistory} storage.
@@ -42,5 +44,23 @@ public interface SalesHistoryStorage {
      */
     void saveSalesHistory(ReadOnlySalesHistory salesHistory, Path filePath) throws IOException;
 
+    /**
+     * Records {@code transactions}, which were added after the sales history was last saved to {@code filePath},
+     * without rewriting the whole sales history.
+     * They are part of the sales history read from {@code filePath} until it is saved again.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException;
+
     void deleteSalesHistory() throws IOException;
+
+    /**
+     * Moves the saved transactions of the closed month starting at {@code monthStart} into a read-only archive,
+     * and returns the number of transactions archived.
+     * Storages that keep every month in the sales history file have nothing to archive.
+     * @throws IOException if there was any problem reading or writing to the storage.
+     */
+    default int archiveMonth(long monthStart) throws IOException {
+        return 0;
+    }
 }
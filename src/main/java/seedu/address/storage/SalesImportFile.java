@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the sales in a file exported from another point of sale system, one sale of one product per line.
+ * Files ending in {@code .jsonl} hold a JSON object per line, such as
+ * {@code {"time": "2018/11/01 10:00:00", "product": "Apple", "quantity": 2}}. Any other file is read as CSV with
+ * the fields {@code time,product,quantity}, and may start with a header line. The quantity may be left out, in
+ * which case it is 1.
+ * The file is read one line at a time, so that its size is not limited by memory.
+ */
+public class SalesImportFile {
+
+    public static final String JSONL_SUFFIX = ".jsonl";
+    public static final String MESSAGE_MALFORMED_LINE = "expected time, product and optionally quantity";
+    public static final String MESSAGE_INVALID_QUANTITY = "quantity must be a positive whole number";
+
+    private static final String CSV_HEADER_FIRST_FIELD = "time";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Receives the lines of a sales import file in order.
+     */
+    public interface SaleHandler {
+        /**
+         * Handles the sale of {@code quantity} units of {@code productName} at {@code time}, read from
+         * {@code lineNumber}. The time has not been validated.
+         */
+        void handleSale(int lineNumber, String time, String productName, int quantity);
+
+        /**
+         * Handles {@code lineNumber}, which could not be read as a sale because of {@code reason}.
+         */
+        void handleRejectedLine(int lineNumber, String reason);
+    }
+
+    /**
+     * Reads the sales in {@code filePath} and passes them to {@code handler}. Blank lines are skipped.
+     * @throws IOException if the file cannot be read.
+     */
+    public static void read(Path filePath, SaleHandler handler) throws IOException {
+        requireAllNonNull(filePath, handler);
+        boolean isJsonLines = filePath.getFileName().toString().endsWith(JSONL_SUFFIX);
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (isJsonLines) {
+                    readJsonLine(lineNumber, line, handler);
+                } else {
+                    readCsvLine(lineNumber, line, handler);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads {@code line} as a sale in CSV.
+     */
+    private static void readCsvLine(int lineNumber, String line, SaleHandler handler) {
+        String[] fields = line.split(",", -1);
+        if (lineNumber == 1 && fields[0].trim().equalsIgnoreCase(CSV_HEADER_FIRST_FIELD)) {
+            return;
+        }
+        if (fields.length < 2 || fields.length > 3) {
+            handler.handleRejectedLine(lineNumber, MESSAGE_MALFORMED_LINE);
+            return;
+        }
+        readSale(lineNumber, fields[0], fields[1], fields.length == 3 ? fields[2] : null, handler);
+    }
+
+    /**
+     * Reads {@code line} as a sale in JSON.
+     */
+    private static void readJsonLine(int lineNumber, String line, SaleHandler handler) {
+        JsonNode sale;
+        try {
+            sale = objectMapper.readTree(line);
+        } catch (IOException e) {
+            handler.handleRejectedLine(lineNumber, MESSAGE_MALFORMED_LINE);
+            return;
+        }
+        if (sale == null || !sale.isObject() || !sale.path("time").isTextual() || !sale.path("product").isTextual()) {
+            handler.handleRejectedLine(lineNumber, MESSAGE_MALFORMED_LINE);
+            return;
+        }
+        JsonNode quantity = sale.get("quantity");
+        readSale(lineNumber, sale.get("time").asText(), sale.get("product").asText(),
+                quantity == null ? null : quantity.asText(), handler);
+    }
+
+    /**
+     * Passes the sale with the given fields to {@code handler}, or rejects it if a field is missing or invalid.
+     * A null {@code quantity} is taken as 1.
+     */
+    private static void readSale(int lineNumber, String time, String productName, String quantity,
+                                 SaleHandler handler) {
+        String trimmedTime = time.trim();
+        String trimmedProductName = productName.trim();
+        if (trimmedTime.isEmpty() || trimmedProductName.isEmpty()) {
+            handler.handleRejectedLine(lineNumber, MESSAGE_MALFORMED_LINE);
+            return;
+        }
+
+        int parsedQuantity = 1;
+        if (quantity != null) {
+            try {
+                parsedQuantity = Integer.parseInt(quantity.trim());
+            } catch (NumberFormatException e) {
+                parsedQuantity = 0;
+            }
+        }
+        if (parsedQuantity <= 0) {
+            handler.handleRejectedLine(lineNumber, MESSAGE_INVALID_QUANTITY);
+            return;
+        }
+        handler.handleSale(lineNumber, trimmedTime, trimmedProductName, parsedQuantity);
+    }
+}
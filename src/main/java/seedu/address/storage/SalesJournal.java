@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.ClosedTransactionException;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
+
+/**
+ * An append-only journal of the {@link Transaction}s added to a sales history since its file was last saved.
+ * Each transaction is one record of its time and product quantities, followed by a checksum, so that a record
+ * cut short by a crash is detected and dropped when the journal is read back.
+ */
+public class SalesJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Longer records can only be the result of a damaged length field. */
+    private static final int MAXIMUM_RECORD_LENGTH = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SalesJournal.class);
+
+    private final Path journalPath;
+
+    /**
+     * Creates the journal of the sales history saved at {@code salesHistoryFilePath}.
+     */
+    public SalesJournal(Path salesHistoryFilePath) {
+        requireNonNull(salesHistoryFilePath);
+        journalPath = salesHistoryFilePath.resolveSibling(salesHistoryFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Appends {@code transactions} to the journal and forces them to the disk with a single sync.
+     */
+    public void append(List<Transaction> transactions) throws IOException {
+        requireNonNull(transactions);
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (Transaction transaction : transactions) {
+            writeRecord(transaction, bytes);
+        }
+
+        if (journalPath.getParent() != null) {
+            Files.createDirectories(journalPath.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the transactions in the journal, in the order they were appended.
+     * A damaged record at the end of the journal, left by a crash during an append, is dropped and cut off
+     * the file so that later appends follow the last complete record.
+     *
+     * @throws DataConversionException if a complete record does not describe a valid transaction.
+     */
+    public List<Transaction> readTransactions() throws IOException, DataConversionException {
+        List<Transaction> transactions = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return transactions;
+        }
+
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            byte[] record;
+            while ((record = readRecord(in)) != null) {
+                transactions.add(toTransaction(record));
+                validLength += Integer.BYTES + record.length + Long.BYTES;
+            }
+        }
+
+        if (validLength < Files.size(journalPath)) {
+            logger.warning("Dropping incomplete record at the end of " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+                channel.force(false);
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the number of complete records in the journal, without converting them into transactions.
+     */
+    public int countRecords() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        int recordCount = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            while (readRecord(in) != null) {
+                recordCount++;
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * Adds the {@code journaledTransactions} to {@code salesHistory}.
+     * Transactions that are already in it were journaled just before the sales history file was last saved.
+     */
+    public static void replay(List<Transaction> journaledTransactions, SalesHistory salesHistory)
+            throws DataConversionException {
+        int replayedCount = 0;
+        for (Transaction transaction : journaledTransactions) {
+            try {
+                salesHistory.addTransaction(transaction);
+                replayedCount++;
+            } catch (DuplicateTransactionException e) {
+                // already saved in the sales history file
+            } catch (InvalidTimeFormatException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        if (replayedCount > 0) {
+            logger.info("Recovered " + replayedCount + " transactions from the sales journal");
+        }
+    }
+
+    /**
+     * Removes every record from the journal.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * Writes {@code transaction} as a length-prefixed record followed by the record's checksum.
+     */
+    private static void writeRecord(Transaction transaction, ByteArrayOutputStream out) throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeUTF(transaction.getTransactionTime());
+        record.writeInt(transaction.getLineCount());
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            record.writeUTF(transaction.getProductName(line));
+            record.writeInt(transaction.getQuantity(line));
+        }
+
+        byte[] payload = recordBytes.toByteArray();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(payload.length);
+        data.write(payload);
+        data.writeLong(checksumOf(payload));
+    }
+
+    /**
+     * Returns the next complete record of {@code in}, or null if there is none.
+     */
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0 || length > MAXIMUM_RECORD_LENGTH) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            return in.readLong() == checksumOf(payload) ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a record read from the journal back into a closed {@code Transaction}.
+     */
+    private static Transaction toTransaction(byte[] payload) throws IOException, DataConversionException {
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            Transaction transaction = new Transaction(record.readUTF());
+            transaction.openTransaction();
+            int productCount = record.readInt();
+            for (int i = 0; i < productCount; i++) {
+                transaction.addProduct(record.readUTF(), record.readInt());
+            }
+            transaction.closeTransaction();
+            return transaction;
+        } catch (InvalidTimeFormatException | ClosedTransactionException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code payload}.
+     */
+    private static long checksumOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesRollup;
+
+/**
+ * The {@link SalesRollup} of a sales history, saved in a binary file next to the sales history file.
+ * The rollup can always be rebuilt from the transactions, so a missing, damaged or outdated rollup file
+ * is ignored rather than reported as an error.
+ */
+public class SalesRollupFile {
+
+    public static final String ROLLUP_FILE_SUFFIX = ".rollup";
+
+    private static final Logger logger = LogsCenter.getLogger(SalesRollupFile.class);
+
+    private final Path rollupPath;
+
+    /**
+     * Creates the rollup file of the sales history saved at {@code salesHistoryFilePath}.
+     */
+    public SalesRollupFile(Path salesHistoryFilePath) {
+        requireNonNull(salesHistoryFilePath);
+        rollupPath = salesHistoryFilePath.resolveSibling(salesHistoryFilePath.getFileName() + ROLLUP_FILE_SUFFIX);
+    }
+
+    public Path getRollupPath() {
+        return rollupPath;
+    }
+
+    /**
+     * Gives {@code salesHistory}, just loaded from the sales history file, the saved rollup of its transactions.
+     */
+    public void restoreInto(SalesHistory salesHistory) throws IOException {
+        requireNonNull(salesHistory);
+        if (!Files.exists(rollupPath)) {
+            return;
+        }
+
+        try {
+            if (!salesHistory.restoreSalesRollup(BinaryFileStorage.loadSalesRollup(rollupPath))) {
+                logger.info("Rollup file " + rollupPath + " is outdated, rebuilding it from the transactions");
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Rollup file " + rollupPath + " is damaged, rebuilding it from the transactions: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the rollup of {@code salesHistory}.
+     */
+    public void save(ReadOnlySalesHistory salesHistory) throws IOException {
+        requireNonNull(salesHistory);
+        BinaryFileStorage.saveSalesRollup(rollupPath, salesHistory.getSalesRollup());
+    }
+
+    /**
+     * Deletes the rollup file if it exists.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(rollupPath);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.events.model.DistributorBookChangedEvent;
 import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
 import seedu.address.commons.events.model.SalesHistoryChangedEvent;
+import seedu.address.commons.events.model.TransactionAddedEvent;
 import seedu.address.commons.events.model.UserDatabaseChangedEvent;
 import seedu.address.commons.events.model.UserDeletedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -84,6 +85,13 @@ public interface Storage extends ProductDatabaseStorage, DistributorBookStorage,
      */
     void handleSalesHistoryChangedEvent(SalesHistoryChangedEvent event);
 
+    /**
+     * Appends the added transaction to the sales journal, folding the journal into the sales history file
+     * once it grows long.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleTransactionAddedEvent(TransactionAddedEvent event);
+
     @Override
     Path getUserDatabaseFilePath();
 
@@ -108,8 +116,19 @@ public interface Storage extends ProductDatabaseStorage, DistributorBookStorage,
     @Override
     void deleteSalesHistory() throws IOException;
 
+    /**
+     * Archives the closed month starting at {@code monthStart} once all the handled data changes are written.
+     */
+    @Override
+    int archiveMonth(long monthStart) throws IOException;
+
     @Override
     void deleteDistributorBook(User user) throws IOException;
 
     void update(User user);
+
+    /**
+     * Blocks until all data changes that have been handled so far are written to the hard disk.
+     */
+    void flush();
 }
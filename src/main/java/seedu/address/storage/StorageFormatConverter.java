@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyDistributorBook;
+import seedu.address.model.ReadOnlyProductDatabase;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+
+/**
+ * Converts data files from one {@link StorageFormat} to another.
+ * The source file is left in place, so a conversion can always be repeated or reversed.
+ */
+public class StorageFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormatConverter.class);
+
+    /**
+     * Saves the product database at {@code filePath} in {@code sourceFormat} again in {@code targetFormat}.
+     *
+     * @return false if there is no product database file in {@code sourceFormat}.
+     * @throws DataConversionException if the source file is not in the correct format.
+     */
+    public static boolean convertProductDatabase(Path filePath, StorageFormat sourceFormat,
+                                                 StorageFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, sourceFormat, targetFormat);
+        Optional<ReadOnlyProductDatabase> productDatabase = DataStorageFactory
+                .newProductDatabaseStorage(sourceFormat, sourceFormat.getFilePath(filePath))
+                .readProductDatabaseBook();
+        if (!productDatabase.isPresent()) {
+            return false;
+        }
+        DataStorageFactory.newProductDatabaseStorage(targetFormat, targetFormat.getFilePath(filePath))
+                .saveAddressBook(productDatabase.get());
+        logConversion(filePath, sourceFormat, targetFormat);
+        return true;
+    }
+
+    /**
+     * Saves the distributor book at {@code filePath} in {@code sourceFormat} again in {@code targetFormat}.
+     *
+     * @return false if there is no distributor book file in {@code sourceFormat}.
+     * @throws DataConversionException if the source file is not in the correct format.
+     */
+    public static boolean convertDistributorBook(Path filePath, StorageFormat sourceFormat,
+                                                 StorageFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, sourceFormat, targetFormat);
+        Optional<ReadOnlyDistributorBook> distributorBook = DataStorageFactory
+                .newDistributorBookStorage(sourceFormat, sourceFormat.getFilePath(filePath))
+                .readDistributorBook();
+        if (!distributorBook.isPresent()) {
+            return false;
+        }
+        DataStorageFactory.newDistributorBookStorage(targetFormat, targetFormat.getFilePath(filePath))
+                .saveDistributorBook(distributorBook.get());
+        logConversion(filePath, sourceFormat, targetFormat);
+        return true;
+    }
+
+    /**
+     * Saves the sales history at {@code filePath} in {@code sourceFormat}, including its journaled transactions,
+     * again in {@code targetFormat}.
+     *
+     * @return false if there is no sales history file in {@code sourceFormat}.
+     * @throws DataConversionException if the source file is not in the correct format.
+     */
+    public static boolean convertSalesHistory(Path filePath, StorageFormat sourceFormat, StorageFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, sourceFormat, targetFormat);
+        Optional<ReadOnlySalesHistory> salesHistory = DataStorageFactory
+                .newSalesHistoryStorage(sourceFormat, sourceFormat.getFilePath(filePath))
+                .readSalesHistory();
+        if (!salesHistory.isPresent()) {
+            return false;
+        }
+        DataStorageFactory.newSalesHistoryStorage(targetFormat, targetFormat.getFilePath(filePath))
+                .saveSalesHistory(salesHistory.get());
+        logConversion(filePath, sourceFormat, targetFormat);
+        return true;
+    }
+
+    /**
+     * Logs that the data file at {@code filePath} was converted.
+     */
+    private static void logConversion(Path filePath, StorageFormat sourceFormat, StorageFormat targetFormat) {
+        logger.info("Converted data file " + sourceFormat.getFilePath(filePath) + " to "
+                + targetFormat.getFilePath(filePath));
+    }
+}
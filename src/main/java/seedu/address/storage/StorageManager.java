@@ -2,16 +2,22 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.events.model.DistributorBookChangedEvent;
 import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
 import seedu.address.commons.events.model.SalesHistoryChangedEvent;
+import seedu.address.commons.events.model.TransactionAddedEvent;
 import seedu.address.commons.events.model.UserDatabaseChangedEvent;
 import seedu.address.commons.events.model.UserDeletedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -20,31 +26,60 @@ import seedu.address.model.ReadOnlyDistributorBook;
 import seedu.address.model.ReadOnlyProductDatabase;
 import seedu.address.model.ReadOnlyUserDatabase;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.distributor.Distributor;
 import seedu.address.model.login.User;
+import seedu.address.model.product.Product;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
 
 /**
  * Manages storage of ProductDatabase data in local storage.
+ * Data changed events are saved on a background thread, writing only the newest data of a burst of changes.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long SAVE_COALESCING_DELAY_MILLIS = 200;
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 500;
 
     private DistributorBookStorage distributorBookStorage;
     private ProductDatabaseStorage productDatabaseStorage;
     private UserPrefsStorage userPrefsStorage;
     private UserDatabaseStorage userDatabaseStorage;
     private SalesHistoryStorage salesHistoryStorage;
+    private final StorageFormat storageFormat;
+    private final CoalescingFileWriter fileWriter;
+
+    /** Sales history changes that have not been written yet, guarded by {@code unsavedTransactions}. */
+    private final List<Transaction> unsavedTransactions = new ArrayList<>();
+    private ReadOnlySalesHistory unsavedSalesHistory;
+    private int journaledTransactionCount;
 
     public StorageManager(ProductDatabaseStorage productDatabaseStorage, DistributorBookStorage distributorBookStorage,
                           UserPrefsStorage userPrefsStorage, UserDatabaseStorage userDatabaseStorage,
                           SalesHistoryStorage salesHistoryStorage) {
+        this(productDatabaseStorage, distributorBookStorage, userPrefsStorage, userDatabaseStorage,
+                salesHistoryStorage, StorageFormat.XML);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that stores the data of users who log in later in {@code storageFormat}.
+     */
+    public StorageManager(ProductDatabaseStorage productDatabaseStorage, DistributorBookStorage distributorBookStorage,
+                          UserPrefsStorage userPrefsStorage, UserDatabaseStorage userDatabaseStorage,
+                          SalesHistoryStorage salesHistoryStorage, StorageFormat storageFormat) {
         super();
         this.productDatabaseStorage = productDatabaseStorage;
         this.distributorBookStorage = distributorBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.userDatabaseStorage = userDatabaseStorage;
         this.salesHistoryStorage = salesHistoryStorage;
+        this.storageFormat = storageFormat;
+        this.fileWriter = new CoalescingFileWriter(SAVE_COALESCING_DELAY_MILLIS,
+            e -> raise(new DataSavingExceptionEvent(e)));
+        this.journaledTransactionCount = countJournaledTransactions(salesHistoryStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -100,11 +135,12 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(ProductDatabaseChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        ProductDatabaseStorage storage = productDatabaseStorage;
+        Path filePath = storage.getProductInfoBookFilePath();
+        // the remaining items are read from the stock ledger when the file is written, so they are never older
+        // than this change
+        ObservableList<Product> products = FXCollections.observableArrayList(event.data.getProductList());
+        fileWriter.submit(filePath, () -> storage.saveAddressBook(() -> products, filePath));
     }
 
     // ================ DistributorBook methods ==============================
@@ -147,11 +183,10 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleDistributorBookChangedEvent(DistributorBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveDistributorBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        DistributorBookStorage storage = distributorBookStorage;
+        Path filePath = storage.getDistributorBookFilePath();
+        ObservableList<Distributor> distributors = FXCollections.observableArrayList(event.data.getDistributorList());
+        fileWriter.submit(filePath, () -> storage.saveDistributorBook(() -> distributors, filePath));
     }
 
     // ================ UserDatabase methods ==============================
@@ -204,6 +239,8 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleUserDeletedEvent(UserDeletedEvent event) throws IOException {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "User has been deleted, deleting files"));
+        // pending saves must not recreate the files after they are deleted
+        flush();
         deleteAddressBook(event.data);
         deleteSalesHistory();
     }
@@ -242,28 +279,201 @@ public class StorageManager extends ComponentManager implements Storage {
         salesHistoryStorage.deleteSalesHistory();
     }
 
+    @Override
+    public int archiveMonth(long monthStart) throws IOException {
+        flush();
+        return salesHistoryStorage.archiveMonth(monthStart);
+    }
+
     @Override
     @Subscribe
     public void handleSalesHistoryChangedEvent(SalesHistoryChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage
                 (event, "Sales history data changed, saving to file"));
+        synchronized (unsavedTransactions) {
+            setUnsavedSalesHistory(event.data);
+        }
+        submitSalesHistorySave();
+    }
+
+    @Override
+    public void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException {
+        logger.fine("Attempting to append to the journal of data file: " + filePath);
+        salesHistoryStorage.appendTransactions(transactions, filePath);
+    }
+
+    @Override
+    @Subscribe
+    public void handleTransactionAddedEvent(TransactionAddedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Transaction added, appending to journal"));
+        synchronized (unsavedTransactions) {
+            if (journaledTransactionCount + unsavedTransactions.size() + 1 >= JOURNAL_COMPACTION_THRESHOLD) {
+                setUnsavedSalesHistory(event.data);
+            } else {
+                unsavedTransactions.add(event.transaction);
+            }
+        }
+        submitSalesHistorySave();
+    }
+
+    /**
+     * Replaces the unsaved sales history changes with a full copy of {@code salesHistory}.
+     * Must be called while holding the lock on {@code unsavedTransactions}.
+     */
+    private void setUnsavedSalesHistory(ReadOnlySalesHistory salesHistory) {
+        unsavedSalesHistory = new SalesHistorySnapshot(salesHistory);
+        unsavedTransactions.clear();
+    }
+
+    /**
+     * Schedules the unsaved sales history changes to be written to the current sales history file.
+     */
+    private void submitSalesHistorySave() {
+        SalesHistoryStorage storage = salesHistoryStorage;
+        Path filePath = storage.getSalesHistoryFilePath();
+        fileWriter.submit(filePath, () -> writeUnsavedSalesHistory(storage, filePath));
+    }
+
+    /**
+     * Writes the full sales history, if it has changed beyond added transactions, and then journals the
+     * transactions added after it.
+     * If a write fails, the changes it did not write are kept unsaved, so that the next save writes them again.
+     */
+    private void writeUnsavedSalesHistory(SalesHistoryStorage storage, Path filePath) throws IOException {
+        ReadOnlySalesHistory salesHistory;
+        List<Transaction> transactions;
+        synchronized (unsavedTransactions) {
+            salesHistory = unsavedSalesHistory;
+            transactions = new ArrayList<>(unsavedTransactions);
+            unsavedSalesHistory = null;
+            unsavedTransactions.clear();
+        }
+
+        if (salesHistory != null) {
+            try {
+                storage.saveSalesHistory(salesHistory, filePath);
+            } catch (IOException e) {
+                restoreUnsavedSalesHistory(salesHistory, transactions);
+                throw e;
+            }
+            synchronized (unsavedTransactions) {
+                journaledTransactionCount = 0;
+            }
+        }
         try {
-            saveSalesHistory(event.data);
+            storage.appendTransactions(transactions, filePath);
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            restoreUnsavedSalesHistory(null, transactions);
+            throw e;
+        }
+        synchronized (unsavedTransactions) {
+            journaledTransactionCount += transactions.size();
+        }
+    }
+
+    /**
+     * Puts back {@code salesHistory}, if not null, and {@code transactions} as unsaved changes, ahead of any changes
+     * made while they were being written. Nothing is put back if a full copy of the sales history was taken since,
+     * as it includes them.
+     */
+    private void restoreUnsavedSalesHistory(ReadOnlySalesHistory salesHistory, List<Transaction> transactions) {
+        synchronized (unsavedTransactions) {
+            if (unsavedSalesHistory != null) {
+                return;
+            }
+            unsavedSalesHistory = salesHistory;
+            unsavedTransactions.addAll(0, transactions);
         }
     }
 
     // ============== Storage updater =====================
 
+    /**
+     * {@inheritDoc}
+     * Sales history changes whose write failed are written once more, so that they are not lost on exit.
+     */
+    @Override
+    public void flush() {
+        fileWriter.flush();
+        if (hasUnsavedSalesHistory()) {
+            submitSalesHistorySave();
+            fileWriter.flush();
+        }
+    }
+
+    private boolean hasUnsavedSalesHistory() {
+        synchronized (unsavedTransactions) {
+            return unsavedSalesHistory != null || !unsavedTransactions.isEmpty();
+        }
+    }
+
     /**
      * Updates the storage with data from files.
+     * Pending saves are written first, so that the new user's files are read in their latest state.
      * @param user
      */
     public void update(User user) {
-        this.productDatabaseStorage = new XmlProductDatabaseStorage(user.getAddressBookFilePath());
-        this.salesHistoryStorage = new XmlSalesHistoryStorage(user.getSalesHistoryFilePath());
-        this.distributorBookStorage = new XmlDistributorBookStorage(user.getDistributorBookFilePath());
+        flush();
+        this.productDatabaseStorage = DataStorageFactory.createProductDatabaseStorage(storageFormat,
+                user.getAddressBookFilePath());
+        this.salesHistoryStorage = DataStorageFactory.createSalesHistoryStorage(storageFormat,
+                user.getSalesHistoryFilePath());
+        synchronized (unsavedTransactions) {
+            if (unsavedSalesHistory != null || !unsavedTransactions.isEmpty()) {
+                logger.warning("Discarding sales history changes that could not be saved before the user changed");
+            }
+            unsavedSalesHistory = null;
+            unsavedTransactions.clear();
+            journaledTransactionCount = countJournaledTransactions(salesHistoryStorage);
+        }
+        this.distributorBookStorage = DataStorageFactory.createDistributorBookStorage(storageFormat,
+                user.getDistributorBookFilePath());
+    }
+
+    /**
+     * Returns the number of transactions in the journal of the sales history file of {@code storage}, so that
+     * transactions journaled in earlier sessions count towards compacting it.
+     */
+    private static int countJournaledTransactions(SalesHistoryStorage storage) {
+        if (storage == null || storage.getSalesHistoryFilePath() == null) {
+            return 0;
+        }
+        try {
+            return new SalesJournal(storage.getSalesHistoryFilePath()).countRecords();
+        } catch (IOException e) {
+            logger.warning("Could not count the journaled transactions: " + e.getMessage());
+            return 0;
+        }
     }
 
+    /**
+     * A copy of the transaction and reminder lists and the rollup of a sales history, taken so that they can be
+     * saved on the background writer thread while the model keeps changing.
+     */
+    private static class SalesHistorySnapshot implements ReadOnlySalesHistory {
+        private final ObservableList<Transaction> transactions;
+        private final ObservableList<Reminder> reminders;
+        private final SalesRollup salesRollup;
+
+        SalesHistorySnapshot(ReadOnlySalesHistory salesHistory) {
+            transactions = FXCollections.observableArrayList(salesHistory.getTransactionsAsObservableList());
+            reminders = FXCollections.observableArrayList(salesHistory.getRemindersAsObservableList());
+            salesRollup = salesHistory.getSalesRollup().copy();
+        }
+
+        @Override
+        public ObservableList<Transaction> getTransactionsAsObservableList() {
+            return transactions;
+        }
+
+        @Override
+        public ObservableList<Reminder> getRemindersAsObservableList() {
+            return reminders;
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            return salesRollup;
+        }
+    }
 }
@@ -15,6 +15,7 @@ import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductInfo;
 import seedu.address.model.product.ProductsDistributorName;
 import seedu.address.model.product.RemainingItems;
+import seedu.address.model.product.ReorderLevel;
 import seedu.address.model.product.SerialNumber;
 import seedu.address.model.tag.Tag;
 
@@ -35,6 +36,8 @@ public class XmlAdaptedProduct {
     private String info;
     @XmlElement(required = true)
     private String remainingItems;
+    @XmlElement
+    private String reorderLevel;
 
 
     @XmlElement
@@ -51,11 +54,21 @@ public class XmlAdaptedProduct {
      */
     public XmlAdaptedProduct(String name, String serialNumber, String distributor,
                              String info, List<XmlAdaptedTag> tagged, String remainingItems) {
+        this(name, serialNumber, distributor, info, tagged, remainingItems, null);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedProduct} with the given product details, including a reorder level,
+     * which may be null if the product has none.
+     */
+    public XmlAdaptedProduct(String name, String serialNumber, String distributor, String info,
+                             List<XmlAdaptedTag> tagged, String remainingItems, String reorderLevel) {
         this.name = name;
         this.serialNumber = serialNumber;
         this.distributor = distributor;
         this.info = info;
         this.remainingItems = remainingItems;
+        this.reorderLevel = reorderLevel;
         if (tagged != null) {
             this.tagged = new ArrayList<>(tagged);
         }
@@ -71,7 +84,10 @@ public class XmlAdaptedProduct {
         serialNumber = source.getSerialNumber().value;
         distributor = source.getDistributor().fullDistName;
         info = source.getProductInfo().value;
-        remainingItems = source.getRemainingItems().value;
+        remainingItems = source.getRemainingItems().toString();
+        if (!source.getReorderLevel().equals(ReorderLevel.NONE)) {
+            reorderLevel = source.getReorderLevel().toString();
+        }
         tagged = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toList());
@@ -132,9 +148,16 @@ public class XmlAdaptedProduct {
         }
         final RemainingItems modelRemainingItems = new RemainingItems(remainingItems);
 
+        // products saved before reorder levels were added have none
+        if (reorderLevel != null && !ReorderLevel.isValidReorderLevel(reorderLevel)) {
+            throw new IllegalValueException(ReorderLevel.MESSAGE_REORDER_LEVEL_CONSTRAINTS);
+        }
+        final ReorderLevel modelReorderLevel =
+                reorderLevel == null ? ReorderLevel.NONE : new ReorderLevel(reorderLevel);
+
         final Set<Tag> modelTags = new HashSet<>(productTags);
         return new Product(modelName, modelSerialNumber,
-                modelDistName, modelProductInfo, modelRemainingItems, modelTags);
+                modelDistName, modelProductInfo, modelRemainingItems, modelReorderLevel, modelTags);
     }
 
     @Override
@@ -153,6 +176,7 @@ public class XmlAdaptedProduct {
                 && Objects.equals(distributor, otherProduct.distributor)
                 && Objects.equals(info, otherProduct.info)
                 && tagged.equals(otherProduct.tagged)
-              && Objects.equals(remainingItems, otherProduct.remainingItems);
+              && Objects.equals(remainingItems, otherProduct.remainingItems)
+                && Objects.equals(reorderLevel, otherProduct.reorderLevel);
     }
 }
@@ -1,11 +1,8 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -65,14 +62,11 @@ public class XmlAdaptedTransaction {
         productNames = new ArrayList<>();
         productQuantities = new ArrayList<>();
 
-        Set transactionSet = transaction.getTransactionRecord().entrySet();
-        Iterator it = transactionSet.iterator();
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            String productName = (String) entry.getKey();
-            if (productName != null && !productName.equals("")) {
-                productNames.add((String) entry.getKey());
-                productQuantities.add(entry.getValue().toString());
+        for (int line = 0; line < transaction.getLineCount(); line++) {
+            String productName = transaction.getProductName(line);
+            if (!productName.equals("")) {
+                productNames.add(productName);
+                productQuantities.add(Integer.toString(transaction.getQuantity(line)));
             }
         }
     }
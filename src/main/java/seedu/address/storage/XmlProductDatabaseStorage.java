@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,7 +10,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyProductDatabase;
 import seedu.address.model.login.User;
@@ -44,7 +42,7 @@ public class XmlProductDatabaseStorage implements ProductDatabaseStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyProductDatabase> readProductDatabaseBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -52,12 +50,11 @@ public class XmlProductDatabaseStorage implements ProductDatabaseStorage {
             return Optional.empty();
         }
 
-        XmlSerializableProductDatabase xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return Optional.of(XmlStreamingLoader.loadProductDatabase(filePath));
+        } catch (DataConversionException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
         }
     }
 
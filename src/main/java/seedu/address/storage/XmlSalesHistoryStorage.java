@@ -6,18 +6,22 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
 import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
 
 /**
  * A class to access and modify {@link SalesHistory} stored on the hard disk in xml form.
+ * Transactions added since the xml file was last saved are kept in a {@link SalesJournal} next to it.
+ * The store-wide sales rollup is saved next to it too, in a {@link SalesRollupFile}.
  */
 public class XmlSalesHistoryStorage implements SalesHistoryStorage {
     private static Logger logger = LogsCenter.getLogger(XmlSalesHistoryStorage.class);
@@ -42,18 +46,26 @@ public class XmlSalesHistoryStorage implements SalesHistoryStorage {
     public Optional<ReadOnlySalesHistory> readSalesHistory(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
+        SalesJournal journal = new SalesJournal(filePath);
+        List<Transaction> journaledTransactions = journal.readTransactions();
+        if (!Files.exists(filePath) && journaledTransactions.isEmpty()) {
             logger.info("Saleshistory file " + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableSalesHistory xmlSalesHistory = XmlFileStorage.loadSalesHistoryFromFile(filePath);
-        try {
-            return Optional.of(xmlSalesHistory.toModelType());
-        } catch (IllegalValueException e) {
-            logger.info("Invalid values found in " + filePath + e.getMessage());
-            throw new DataConversionException(e);
+        SalesHistory salesHistory = new SalesHistory();
+        if (Files.exists(filePath)) {
+            try {
+                salesHistory = XmlStreamingLoader.loadSalesHistory(filePath);
+            } catch (DataConversionException e) {
+                logger.info("Invalid values found in " + filePath + e.getMessage());
+                throw e;
+            }
         }
+
+        new SalesRollupFile(filePath).restoreInto(salesHistory);
+        SalesJournal.replay(journaledTransactions, salesHistory);
+        return Optional.of(salesHistory);
     }
 
     @Override
@@ -65,13 +77,30 @@ public class XmlSalesHistoryStorage implements SalesHistoryStorage {
     public void saveSalesHistory(ReadOnlySalesHistory salesHistory, Path filePath) throws IOException {
         requireAllNonNull(salesHistory, filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveSalesHistoryToFile(filePath, new XmlSerializableSalesHistory(salesHistory));
+        // writes a temporary file first, so that a crash while saving cannot leave a half-written sales history
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(temporaryFilePath);
+        XmlFileStorage.saveSalesHistoryToFile(temporaryFilePath, new XmlSerializableSalesHistory(salesHistory));
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        new SalesRollupFile(filePath).save(salesHistory);
+
+        // the saved file now contains the journaled transactions
+        new SalesJournal(filePath).clear();
+    }
+
+    @Override
+    public void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException {
+        requireAllNonNull(transactions, filePath);
+        new SalesJournal(filePath).append(transactions);
     }
 
     @Override
     public void deleteSalesHistory() throws IOException {
         requireNonNull(filePath);
-        Files.delete(filePath);
+        // the journal goes first, as sales that were only ever journaled leave no sales history file
+        new SalesJournal(filePath).clear();
+        new SalesRollupFile(filePath).delete();
+        Files.deleteIfExists(filePath);
     }
 }
@@ -1,18 +1,16 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
 import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.TimeKeyedMap;
 import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
 import seedu.address.model.timeidentifiedclass.Transaction;
 
 /**
@@ -68,20 +66,12 @@ public class XmlSerializableSalesHistory {
         transactionList = new ArrayList<>();
         reminderList = new ArrayList<>();
 
-        Set transactionSet = salesHistory.getTransactionRecord().entrySet();
-        Iterator it = transactionSet.iterator();
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            XmlAdaptedTransaction toAdd = new XmlAdaptedTransaction((Transaction) entry.getValue());
-            transactionList.add(toAdd);
+        for (Transaction transaction : salesHistory.getTransactionRecord().values()) {
+            transactionList.add(new XmlAdaptedTransaction(transaction));
         }
 
-        Set reminderSet = salesHistory.getReminderRecord().entrySet();
-        it = reminderSet.iterator();
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            XmlAdaptedReminder toAdd = new XmlAdaptedReminder((Reminder) entry.getValue());
-            reminderList.add(toAdd);
+        for (Reminder reminder : salesHistory.getReminderRecord().values()) {
+            reminderList.add(new XmlAdaptedReminder(reminder));
         }
     }
 
@@ -91,27 +81,44 @@ public class XmlSerializableSalesHistory {
      * @throws IllegalValueException
      */
     public SalesHistory toModelType() throws IllegalValueException {
-        TreeMap<String, Transaction> transactionTreeMap = new TreeMap<>();
-        TreeMap<String, Reminder> reminderTreeMap = new TreeMap<>();
+        TimeKeyedMap<Transaction> transactionRecord = new TimeKeyedMap<>();
+        TimeKeyedMap<Reminder> reminderRecord = new TimeKeyedMap<>();
 
         for (XmlAdaptedTransaction xmlTransaction : transactionList) {
-            Transaction transaction = xmlTransaction.toModelType();
-            if (transactionTreeMap.containsKey(transaction.getTransactionTime())) {
-                throw new IllegalValueException(String.format(DUPLICATE_TIMINGS_MESSAGE,
-                        Transaction.class.getSimpleName()));
-            }
-            transactionTreeMap.put(transaction.getTransactionTime(), transaction);
+            addTransaction(transactionRecord, xmlTransaction.toModelType());
         }
 
         for (XmlAdaptedReminder xmlReminder : reminderList) {
-            Reminder reminder = xmlReminder.toModelType();
-            if (reminderTreeMap.containsKey(reminder.getReminderTime())) {
-                throw new IllegalValueException(String.format(DUPLICATE_TIMINGS_MESSAGE,
-                        Reminder.class.getSimpleName()));
-            }
-            reminderTreeMap.put(reminder.getReminderTime(), reminder);
+            addReminder(reminderRecord, xmlReminder.toModelType());
+        }
+
+        return new SalesHistory(transactionRecord, reminderRecord);
+    }
+
+    /**
+     * Adds {@code transaction} to the {@code transactionRecord} of a sales history being loaded.
+     *
+     * @throws IllegalValueException if there is already a transaction at the same time.
+     */
+    static void addTransaction(TimeKeyedMap<Transaction> transactionRecord, Transaction transaction)
+            throws IllegalValueException {
+        long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+        if (transactionRecord.putIfAbsent(time, transaction) != null) {
+            throw new IllegalValueException(String.format(DUPLICATE_TIMINGS_MESSAGE,
+                    Transaction.class.getSimpleName()));
         }
+    }
 
-        return new SalesHistory(transactionTreeMap, reminderTreeMap);
+    /**
+     * Adds {@code reminder} to the {@code reminderRecord} of a sales history being loaded.
+     *
+     * @throws IllegalValueException if there is already a reminder at the same time.
+     */
+    static void addReminder(TimeKeyedMap<Reminder> reminderRecord, Reminder reminder) throws IllegalValueException {
+        long time = TimeIdentifiedClass.toEpochSecond(reminder.getReminderTime());
+        if (reminderRecord.putIfAbsent(time, reminder) != null) {
+            throw new IllegalValueException(String.format(DUPLICATE_TIMINGS_MESSAGE,
+                    Reminder.class.getSimpleName()));
+        }
     }
 }
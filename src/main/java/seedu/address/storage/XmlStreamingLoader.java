@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ProductDatabase;
+import seedu.address.model.product.Product;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.TimeKeyedMap;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+/**
+ * Loads the product database and sales history xml files with a streaming parser.
+ * Each product, transaction and reminder is converted into its model object as soon as its element has been read,
+ * so loading needs memory for the model objects only, rather than for the whole document as well.
+ * Invalid data is reported with the same messages as the {@code toModelType()} methods of the xml adapted classes.
+ */
+public class XmlStreamingLoader {
+
+    private static final String PRODUCT_DATABASE_ROOT = "addressbook";
+    private static final String SALES_HISTORY_ROOT = "SalesHistory";
+    private static final String MESSAGE_WRONG_ROOT_ELEMENT = "Expected root element %s but found %s";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * Returns the product database saved in {@code file}.
+     *
+     * @throws DataConversionException if the file is not valid xml or contains invalid or duplicate products.
+     */
+    public static ProductDatabase loadProductDatabase(Path file) throws DataConversionException, IOException {
+        ProductDatabase productDatabase = new ProductDatabase();
+        readRecords(file, PRODUCT_DATABASE_ROOT, (recordName, fields) -> {
+            if (!recordName.equals("products")) {
+                return;
+            }
+            Product product = toAdaptedProduct(fields).toModelType();
+            if (productDatabase.hasProduct(product)) {
+                throw new IllegalValueException(XmlSerializableProductDatabase.MESSAGE_DUPLICATE_PRODUCT);
+            }
+            productDatabase.addProduct(product);
+        });
+        return productDatabase;
+    }
+
+    /**
+     * Returns the sales history saved in {@code file}.
+     *
+     * @throws DataConversionException if the file is not valid xml or contains invalid or duplicate records.
+     */
+    public static SalesHistory loadSalesHistory(Path file) throws DataConversionException, IOException {
+        TimeKeyedMap<Transaction> transactions = new TimeKeyedMap<>();
+        TimeKeyedMap<Reminder> reminders = new TimeKeyedMap<>();
+        readRecords(file, SALES_HISTORY_ROOT, (recordName, fields) -> {
+            if (recordName.equals("transactionList")) {
+                Transaction transaction = new XmlAdaptedTransaction(getValue(fields, "transactionTime"),
+                        getValues(fields, "productNames"), getValues(fields, "productQuantities")).toModelType();
+                XmlSerializableSalesHistory.addTransaction(transactions, transaction);
+            } else if (recordName.equals("reminderList")) {
+                Reminder reminder = new XmlAdaptedReminder(getValue(fields, "reminderTime"),
+                        getValue(fields, "reminderMessage")).toModelType();
+                XmlSerializableSalesHistory.addReminder(reminders, reminder);
+            }
+        });
+        return new SalesHistory(transactions, reminders);
+    }
+
+    /**
+     * Returns the xml adapted product with the field values of a {@code products} element.
+     */
+    private static XmlAdaptedProduct toAdaptedProduct(Map<String, List<String>> fields) {
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : fields.getOrDefault("tagged", Collections.emptyList())) {
+            tags.add(new XmlAdaptedTag(tagName));
+        }
+        return new XmlAdaptedProduct(getValue(fields, "name"), getValue(fields, "serialNumber"),
+                getValue(fields, "distributor"), getValue(fields, "info"), tags, getValue(fields, "remainingItems"),
+                getValue(fields, "reorderLevel"));
+    }
+
+    /**
+     * Returns the text of the first {@code fieldName} element, or null if the record has none.
+     */
+    private static String getValue(Map<String, List<String>> fields, String fieldName) {
+        List<String> values = fields.get(fieldName);
+        return values == null ? null : values.get(0);
+    }
+
+    /**
+     * Returns the texts of every {@code fieldName} element of the record, or null if it has none,
+     * just as JAXB leaves a list field without elements unset.
+     */
+    private static List<String> getValues(Map<String, List<String>> fields, String fieldName) {
+        return fields.get(fieldName);
+    }
+
+    /**
+     * Passes each child element of the {@code rootName} element of {@code file} to {@code handler}, one at a time,
+     * as its name and the texts of its own child elements.
+     */
+    private static void readRecords(Path file, String rootName, RecordHandler handler)
+            throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getLocalName().equals(rootName)) {
+                    throw new IllegalValueException(String.format(MESSAGE_WRONG_ROOT_ELEMENT, rootName,
+                            reader.getLocalName()));
+                }
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    String recordName = reader.getLocalName();
+                    handler.handle(recordName, readFields(reader));
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the child elements of the current element up to its end tag.
+     * Elements nested deeper than the fields, which JAXB would ignore, are skipped.
+     */
+    private static Map<String, List<String>> readFields(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, List<String>> fields = new HashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String fieldName = reader.getLocalName();
+            String text = readTextOrSkip(reader);
+            if (text != null) {
+                fields.computeIfAbsent(fieldName, unused -> new ArrayList<>()).add(text);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the text of the current element, or null after skipping it if it has child elements.
+     */
+    private static String readTextOrSkip(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        boolean hasChildElements = false;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                hasChildElements = true;
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (depth == 1 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE)) {
+                text.append(reader.getText());
+            }
+        }
+        return hasChildElements ? null : text.toString();
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Converts one record element of a data file into the model.
+     */
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(String recordName, Map<String, List<String>> fields) throws IllegalValueException;
+    }
+}
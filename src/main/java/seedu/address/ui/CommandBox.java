@@ -1,25 +1,17 @@
 package seedu.address.ui;
 
-import static seedu.address.logic.commands.ThreadDueRemindersCommand.NO_THREAD_REMINDERS;
-
 import java.util.logging.Logger;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.ThreadDueRemindersCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -36,7 +28,6 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
-    private Timeline reminderChecker;
 
     @FXML
     private TextField commandTextField;
@@ -47,27 +38,6 @@ public class CommandBox extends UiPart<Region> {
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
-
-        // Checks for due reminders every second ...
-        reminderChecker = new Timeline(new KeyFrame(Duration.seconds(1), new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                try {
-                    CommandResult commandResult = logic.execute(ThreadDueRemindersCommand.COMMAND_WORD);
-                    if (commandResult != null && !commandResult.feedbackToUser.equals(NO_THREAD_REMINDERS)) {
-                        logger.info("Reminders due: " + commandResult.feedbackToUser);
-                        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-                    }
-                } catch (CommandException | ParseException e) {
-                    // handle command failure
-                    setStyleToIndicateCommandFailure();
-                    logger.info("Invalid command: " + commandTextField.getText());
-                    raise(new NewResultAvailableEvent(e.getMessage()));
-                }
-            }
-        }));
-        reminderChecker.setCycleCount(Timeline.INDEFINITE);
-        reminderChecker.play();
     }
 
     /**
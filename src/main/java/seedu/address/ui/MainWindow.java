@@ -129,7 +129,8 @@ public class MainWindow extends UiPart<Stage> {
         ResultDisplay resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(prefs.getProductDatabaseFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(prefs.getProductDatabaseFilePath(),
+                logic.getLowStockProductCount());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(logic);
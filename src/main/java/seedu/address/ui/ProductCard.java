@@ -49,7 +49,8 @@ public class ProductCard extends UiPart<Region> {
         serialNumber.setText("Serial Number: " + product.getSerialNumber().value);
         info.setText("Product Info: " + product.getProductInfo().value);
         distributor.setText("Distributor: " + product.getDistributor().fullDistName);
-        remainingItems.setText("Remaining Items: " + product.getRemainingItems().value);
+        remainingItems.setText("Remaining Items: " + product.getRemainingItems().value
+                + (product.isLowOnStock() ? " (below reorder level " + product.getReorderLevel() + ")" : ""));
 
         product.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
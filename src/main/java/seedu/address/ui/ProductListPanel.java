@@ -11,6 +11,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.ProductPanelSelectionChangedEvent;
 import seedu.address.model.product.Product;
@@ -57,6 +58,12 @@ public class ProductListPanel extends UiPart<Region> {
         });
     }
 
+    @Subscribe
+    private void handleProductDatabaseChangedEvent(ProductDatabaseChangedEvent event) {
+        // sales change the remaining items of the products in place, without a change to the list
+        productListView.refresh();
+    }
+
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
@@ -14,6 +14,7 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.LowStockChangedEvent;
 import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
 
 /**
@@ -23,6 +24,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String LOW_STOCK_STATUS = "Low on stock: %d";
 
     /**
      * Used to generate time stamps.
@@ -42,12 +44,15 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar syncStatus;
     @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar lowStockStatus;
 
 
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, int lowStockProductCount) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
+        setLowStockStatus(lowStockProductCount);
         registerAsAnEventHandler(this);
     }
 
@@ -73,6 +78,10 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setLowStockStatus(int lowStockProductCount) {
+        Platform.runLater(() -> lowStockStatus.setText(String.format(LOW_STOCK_STATUS, lowStockProductCount)));
+    }
+
     @Subscribe
     public void handleAddressBookChangedEvent(ProductDatabaseChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +89,10 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleLowStockChangedEvent(LowStockChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        setLowStockStatus(event.lowStockProductCount);
+    }
 }
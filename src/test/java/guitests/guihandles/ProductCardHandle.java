@@ -87,7 +87,7 @@ public class ProductCardHandle extends NodeHandle<Node> {
                 && getProductInfo().equals(product.getProductInfo().value)
                 && getSerialNumber().equals(product.getSerialNumber().value)
                 && getDistributor().equals(product.getDistributor().fullDistName)
-                && getRemainingItems().equals(product.getRemainingItems().value)
+                && getRemainingItems().equals(product.getRemainingItems().toString())
                 && ImmutableMultiset.copyOf(getTags()).equals(ImmutableMultiset.copyOf(product.getTags().stream()
                         .map(tag -> tag.tagName)
                         .collect(Collectors.toList())));
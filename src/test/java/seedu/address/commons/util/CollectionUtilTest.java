@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -72,6 +73,21 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void findDuplicatePairs() {
+        // no duplicates
+        assertEquals("", findDuplicatePositions(Arrays.asList("a", "b", "c")));
+
+        // every duplicate pair is reported, including all pairs within a group
+        assertEquals("1 and 3, 2 and 4, 1 and 5, 3 and 5",
+                findDuplicatePositions(Arrays.asList("a", "b", "a", "b", "a")));
+
+        // elements with equal keys are only duplicates if the predicate agrees
+        List<String> words = Arrays.asList("ant", "axe", "ant");
+        assertEquals("1 and 3", CollectionUtil.toPositionPairsString(CollectionUtil.findDuplicatePairs(words,
+            word -> word.charAt(0), String::equals)));
+    }
+
     @Test
     public void isAnyNonNull() {
         assertFalse(CollectionUtil.isAnyNonNull());
@@ -114,4 +130,9 @@ public class CollectionUtilTest {
     private void assertNullPointerExceptionNotThrown(Collection<?> collection) {
         requireAllNonNull(collection);
     }
+
+    private String findDuplicatePositions(List<String> items) {
+        return CollectionUtil.toPositionPairsString(CollectionUtil.findDuplicatePairs(items, item -> item,
+                String::equals));
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.ProductDatabase;
+import seedu.address.storage.XmlSerializableProductDatabase;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalProducts;
+
+public class XmlUtilTest {
+
+    private static final Path MISSING_FILE = TestUtil.getFilePathInSandboxFolder("missing.xml");
+    private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempProductDatabase.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getDataFromFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.getDataFromFile(MISSING_FILE, XmlSerializableProductDatabase.class);
+    }
+
+    @Test
+    public void saveDataToFile_repeatedSaves_readsBackLatestData() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        ProductDatabase productDatabase = new ProductDatabase();
+        for (int i = 0; i < 3; i++) {
+            XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableProductDatabase(productDatabase));
+            productDatabase = TypicalProducts.getTypicalAddressBook();
+        }
+        XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableProductDatabase(productDatabase));
+
+        XmlSerializableProductDatabase dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE,
+                XmlSerializableProductDatabase.class);
+        assertEquals(productDatabase, dataFromFile.toModelType());
+    }
+
+    @Test
+    public void getDataFromFile_concurrentReads_eachThreadReadsFullData() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        ProductDatabase productDatabase = TypicalProducts.getTypicalAddressBook();
+        XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableProductDatabase(productDatabase));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ProductDatabase>> reads = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                reads.add(executor.submit(() -> XmlUtil.getDataFromFile(TEMP_FILE,
+                        XmlSerializableProductDatabase.class).toModelType()));
+            }
+            for (Future<ProductDatabase> read : reads) {
+                assertEquals(productDatabase, read.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -16,6 +18,7 @@ import org.junit.rules.ExpectedException;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.CheckoutService;
 import seedu.address.model.DistributorBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDistributorBook;
@@ -26,8 +29,14 @@ import seedu.address.model.login.UniqueUserList;
 import seedu.address.model.login.User;
 import seedu.address.model.login.Username;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
 import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
 import seedu.address.testutil.DistributorBuilder;
 
@@ -253,6 +262,66 @@ public class AddDistributorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Product> getLowStockProducts(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getLowStockProductCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Movement> getStockMovements(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CheckoutService getCheckoutService() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTransaction(String transactionTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> addTransactions(List<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesAggregates getSalesAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesVelocity getSalesVelocity() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveSalesPeriod(long monthStart) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitSalesHistory() {
             throw new AssertionError("This method should not be called.");
@@ -268,6 +337,12 @@ public class AddDistributorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+                NoSuchElementException, DuplicateReminderException {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ArrayList<Reminder> getAllReminders() {
             throw new AssertionError("This method should not be called.");
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -17,6 +19,7 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CheckoutService;
 import seedu.address.model.Model;
 import seedu.address.model.ProductDatabase;
 import seedu.address.model.ReadOnlyDistributorBook;
@@ -30,6 +33,11 @@ import seedu.address.model.login.exceptions.AuthenticatedException;
 import seedu.address.model.login.exceptions.DuplicateUserException;
 import seedu.address.model.login.exceptions.UserNotFoundException;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
 import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
@@ -280,6 +288,12 @@ public class AddProductCommandTest {
 
         }
 
+        @Override
+        public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+                NoSuchElementException, DuplicateReminderException {
+
+        }
+
         @Override
         public ArrayList<Reminder> getAllReminders() {
             return null;
@@ -310,6 +324,65 @@ public class AddProductCommandTest {
             return null;
         }
 
+        @Override
+        public List<Product> getLowStockProducts(int limit) {
+            return null;
+        }
+
+        @Override
+        public int getLowStockProductCount() {
+            return 0;
+        }
+
+        @Override
+        public List<Movement> getStockMovements(int limit) {
+            return null;
+        }
+
+        @Override
+        public CheckoutService getCheckoutService() {
+            return null;
+        }
+
+        @Override
+        public void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals) {
+        }
+
+        @Override
+        public boolean hasTransaction(String transactionTime) {
+            return false;
+        }
+
+        @Override
+        public List<String> addTransactions(List<Transaction> transactions) {
+            return null;
+        }
+
+        @Override
+        public SalesAggregates getSalesAggregates() {
+            return null;
+        }
+
+        @Override
+        public SalesVelocity getSalesVelocity() {
+            return null;
+        }
+
+        @Override
+        public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+            return null;
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            return null;
+        }
+
+        @Override
+        public int archiveSalesPeriod(long monthStart) {
+            return 0;
+        }
+
         @Override
         public void commitSalesHistory() {
 
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TestStorage;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
+
+public class ChangeReminderTimeCommandTest {
+
+    private final Model model = new ModelManager(new TestStorage());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() throws Exception {
+        model.addReminder(new Reminder("2018/10/26 12:30:00", "restock milk"));
+        model.addReminder(new Reminder("2018/10/27 09:00:00", "count eggs"));
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void execute_existingReminder_moved() throws Exception {
+        CommandResult result = new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/28 08:00:00")
+                .execute(model, commandHistory);
+        assertEquals(String.format(ChangeReminderTimeCommand.MESSAGE_SUCCESS, "2018/10/26 12:30:00",
+                "2018/10/28 08:00:00"), result.feedbackToUser);
+        assertEquals(2, model.getAllReminders().size());
+        assertEquals("restock milk", model.getAllReminders().get(0).getReminderMessage());
+        assertEquals("2018/10/28 08:00:00", model.getAllReminders().get(0).getReminderTime());
+    }
+
+    @Test
+    public void execute_noReminderAtTime_throwsCommandException() {
+        assertCommandFailure(new ChangeReminderTimeCommand("2018/10/26 12:30:01", "2018/10/28 08:00:00"), model,
+                commandHistory, ChangeReminderTimeCommand.MESSAGE_NO_SUCH_REMINDER);
+    }
+
+    @Test
+    public void execute_newTimeTaken_throwsCommandException() {
+        assertCommandFailure(new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/27 09:00:00"), model,
+                commandHistory, DuplicateReminderException.EXCEPTION_MESSAGE);
+    }
+
+    @Test
+    public void equals() {
+        ChangeReminderTimeCommand command = new ChangeReminderTimeCommand("2018/10/26 12:30:00",
+                "2018/10/28 08:00:00");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/28 08:00:00")));
+        assertFalse(command.equals(new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/29 08:00:00")));
+        assertFalse(command.equals(new ChangeReminderTimeCommand("2018/10/25 12:30:00", "2018/10/28 08:00:00")));
+        assertFalse(command.equals(null));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -16,6 +18,7 @@ import javafx.collections.ObservableList;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CheckoutService;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDistributorBook;
 import seedu.address.model.ReadOnlyProductDatabase;
@@ -28,8 +31,14 @@ import seedu.address.model.login.exceptions.AuthenticatedException;
 import seedu.address.model.login.exceptions.DuplicateUserException;
 import seedu.address.model.login.exceptions.UserNotFoundException;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
 import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
 
 
@@ -331,6 +340,77 @@ public class DeregisterCommandTest {
             return null;
         }
 
+        @Override
+        public List<Product> getLowStockProducts(int limit) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public int getLowStockProductCount() {
+            fail("This method should not be called.");
+            return 0;
+        }
+
+        @Override
+        public List<Movement> getStockMovements(int limit) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public CheckoutService getCheckoutService() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTransaction(String transactionTime) {
+            fail("This method should not be called.");
+            return false;
+        }
+
+        @Override
+        public List<String> addTransactions(List<Transaction> transactions) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesAggregates getSalesAggregates() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesVelocity getSalesVelocity() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public int archiveSalesPeriod(long monthStart) {
+            fail("This method should not be called.");
+            return 0;
+        }
+
     }
 
     /**
@@ -347,6 +427,10 @@ public class DeregisterCommandTest {
         @Override
         public void removeReminder(String reminderTime) throws InvalidTimeFormatException, NoSuchElementException {}
 
+        @Override
+        public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+                NoSuchElementException, DuplicateReminderException {}
+
         @Override
         public ArrayList<Reminder> getAllReminders() {
             return null;
@@ -389,6 +473,10 @@ public class DeregisterCommandTest {
         @Override
         public void removeReminder(String reminderTime) throws InvalidTimeFormatException, NoSuchElementException {}
 
+        @Override
+        public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+                NoSuchElementException, DuplicateReminderException {}
+
         @Override
         public ArrayList<Reminder> getAllReminders() {
             return null;
@@ -429,6 +517,10 @@ public class DeregisterCommandTest {
         @Override
         public void removeReminder(String reminderTime) throws InvalidTimeFormatException, NoSuchElementException {}
 
+        @Override
+        public void changeReminderTime(String reminderTime, String newTime) throws InvalidTimeFormatException,
+                NoSuchElementException, DuplicateReminderException {}
+
         @Override
         public ArrayList<Reminder> getAllReminders() {
             return null;
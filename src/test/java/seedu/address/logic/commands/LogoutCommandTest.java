@@ -5,6 +5,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -14,6 +16,7 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.ObservableList;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.CheckoutService;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDistributorBook;
 import seedu.address.model.ReadOnlyProductDatabase;
@@ -25,6 +28,11 @@ import seedu.address.model.login.Username;
 import seedu.address.model.login.exceptions.DuplicateUserException;
 import seedu.address.model.login.exceptions.UserNotFoundException;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.Withdrawal;
+import seedu.address.model.saleshistory.SalesAggregates;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.saleshistory.SalesVelocity;
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
 import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
@@ -280,6 +288,10 @@ public class LogoutCommandTest {
             fail("This method should not be called.");
         }
 
+        public void changeReminderTime(String reminderTime, String newTime) {
+            fail("This method should not be called.");
+        }
+
         public ArrayList<Reminder> getOverdueReminders() {
             fail("This method should not be called.");
             return null;
@@ -300,6 +312,77 @@ public class LogoutCommandTest {
             return null;
         }
 
+        @Override
+        public List<Product> getLowStockProducts(int limit) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public int getLowStockProductCount() {
+            fail("This method should not be called.");
+            return 0;
+        }
+
+        @Override
+        public List<Movement> getStockMovements(int limit) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public CheckoutService getCheckoutService() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void addCheckedOutTransactions(List<Transaction> transactions, List<Withdrawal> withdrawals) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTransaction(String transactionTime) {
+            fail("This method should not be called.");
+            return false;
+        }
+
+        @Override
+        public List<String> addTransactions(List<Transaction> transactions) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesAggregates getSalesAggregates() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesVelocity getSalesVelocity() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public Iterator<Transaction> getTransactions(long fromEpochSecond, long toEpochSecond) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SalesRollup getSalesRollup() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public int archiveSalesPeriod(long monthStart) {
+            fail("This method should not be called.");
+            return 0;
+        }
+
     }
 
     /**
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDistributors.getTypicalDistributorBook;
+import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TestStorage;
+import seedu.address.model.UserDatabase;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class SalesReportCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(),
+            new UserPrefs(), new UserDatabase(), new TestStorage());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() throws Exception {
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction("2018/01/05 09:00:00", 6));
+        // 2018/10/01 is a Monday
+        transactions.add(createTransaction("2018/10/01 10:00:00", 1));
+        transactions.add(createTransaction("2018/10/03 12:00:00", 2));
+        transactions.add(createTransaction("2018/10/08 09:00:00", 3));
+        transactions.add(createTransaction("2018/11/15 09:00:00", 4));
+        transactions.add(createTransaction("2019/01/01 09:00:00", 5));
+        model.addTransactions(transactions);
+    }
+
+    @Test
+    public void execute_singleDay_salesOfDayShown() {
+        assertSalesReport("2018/10/01", "2018/10/01", 1, 1);
+    }
+
+    @Test
+    public void execute_wholeWeek_salesOfWeekShown() {
+        assertSalesReport("2018/10/01", "2018/10/07", 2, 3);
+    }
+
+    @Test
+    public void execute_wholeMonth_salesOfMonthShown() {
+        assertSalesReport("2018/10/01", "2018/10/31", 3, 6);
+    }
+
+    @Test
+    public void execute_wholeYear_salesOfYearShown() {
+        assertSalesReport("2018/01/01", "2018/12/31", 5, 16);
+    }
+
+    @Test
+    public void execute_rangeAcrossYears_salesOfEveryPartShown() {
+        assertSalesReport("2018/09/30", "2019/01/01", 5, 15);
+    }
+
+    @Test
+    public void execute_noSalesInRange_zeroShown() {
+        assertSalesReport("2018/10/04", "2018/10/06", 0, 0);
+    }
+
+    @Test
+    public void equals() {
+        SalesReportCommand command = new SalesReportCommand("2018/10/01", "2018/10/07");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SalesReportCommand("2018/10/01", "2018/10/07")));
+        assertFalse(command.equals(new SalesReportCommand("2018/10/02", "2018/10/07")));
+        assertFalse(command.equals(new SalesReportCommand("2018/10/01", "2018/10/08")));
+        assertFalse(command.equals(null));
+    }
+
+    /**
+     * Asserts that the sales report from {@code startDate} to {@code endDate} shows {@code transactionCount}
+     * transactions and {@code unitsSold} units sold.
+     */
+    private void assertSalesReport(String startDate, String endDate, long transactionCount, long unitsSold) {
+        CommandResult result = new SalesReportCommand(startDate, endDate).execute(model, commandHistory);
+        assertEquals(String.format(SalesReportCommand.MESSAGE_SALES_REPORT, startDate, endDate, transactionCount,
+                unitsSold), result.feedbackToUser);
+    }
+
+    private static Transaction createTransaction(String time, int quantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Orange", quantity);
+        return new Transaction(time, record);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDistributors.getTypicalDistributorBook;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TestStorage;
+import seedu.address.model.UserDatabase;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.ProductBuilder;
+
+public class StockMovementsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(),
+            new UserPrefs(), new UserDatabase(), new TestStorage());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_productsOnlyLoaded_noMovements() {
+        assertEquals(StockMovementsCommand.MESSAGE_NO_MOVEMENTS,
+                new StockMovementsCommand(StockMovementsCommand.DEFAULT_COUNT)
+                        .execute(model, commandHistory).feedbackToUser);
+    }
+
+    @Test
+    public void execute_saleAndRestock_newestFirst() throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Orange", 5);
+        model.addTransactions(Collections.singletonList(new Transaction("2018/10/01 10:00:00", record)));
+        model.updateProduct(model.getFilteredProductList().get(0),
+                new ProductBuilder(ORANGE).withRemainingItems("20").build());
+
+        String expectedMessage = StockMovementsCommand.MESSAGE_MOVEMENTS
+                + String.format(StockMovementsCommand.MESSAGE_MOVEMENT, 1, "restock", ORANGE.getSerialNumber(), 13, 20)
+                + String.format(StockMovementsCommand.MESSAGE_MOVEMENT, 2, "sale", ORANGE.getSerialNumber(), -5, 7);
+        assertEquals(expectedMessage, new StockMovementsCommand(5).execute(model, commandHistory).feedbackToUser);
+
+        // only the latest movement
+        assertEquals(StockMovementsCommand.MESSAGE_MOVEMENTS
+                + String.format(StockMovementsCommand.MESSAGE_MOVEMENT, 1, "restock", ORANGE.getSerialNumber(), 13, 20),
+                new StockMovementsCommand(1).execute(model, commandHistory).feedbackToUser);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new StockMovementsCommand(5).equals(new StockMovementsCommand(5)));
+        assertFalse(new StockMovementsCommand(5).equals(new StockMovementsCommand(20)));
+        assertFalse(new StockMovementsCommand(5).equals(null));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDistributors.getTypicalDistributorBook;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TestStorage;
+import seedu.address.model.UserDatabase;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.ProductBuilder;
+
+public class SuggestOrdersCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(),
+            new UserPrefs(), new UserDatabase(), new TestStorage());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noSales_noOrders() {
+        assertEquals(String.format(SuggestOrdersCommand.MESSAGE_NO_ORDERS, 14),
+                new SuggestOrdersCommand(14).execute(model, commandHistory).feedbackToUser);
+    }
+
+    @Test
+    public void execute_productSelling_orderedFromItsDistributor() throws Exception {
+        sellTwoOrangesADay();
+
+        String feedback = new SuggestOrdersCommand(7).execute(model, commandHistory).feedbackToUser;
+        assertTrue(feedback, feedback.startsWith(String.format(SuggestOrdersCommand.MESSAGE_ORDERS, 7)
+                + String.format(SuggestOrdersCommand.MESSAGE_DISTRIBUTOR, "Ah Huat") + "\n  Orange: 1"));
+        assertTrue(feedback, feedback.endsWith(", 2 remaining)"));
+        assertFalse(feedback, feedback.contains("Grape"));
+    }
+
+    @Test
+    public void execute_productsSharingName_orderedForShortestStocked() throws Exception {
+        model.addProduct(new ProductBuilder(ORANGE).withSerialNumber("099").withRemainingItems("30").build());
+        sellTwoOrangesADay();
+
+        // every sale takes from both oranges, so the one left with two needs restocking however many the other has
+        String feedback = new SuggestOrdersCommand(7).execute(model, commandHistory).feedbackToUser;
+        assertTrue(feedback, feedback.contains("\n  Orange: 1"));
+        assertTrue(feedback, feedback.endsWith(", 2 remaining)"));
+    }
+
+    /**
+     * Sells two oranges a day for the past five days, leaving two of the typical oranges.
+     */
+    private void sellTwoOrangesADay() throws Exception {
+        List<Transaction> transactions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int day = 5; day >= 1; day--) {
+            TreeMap<String, Integer> record = new TreeMap<>();
+            record.put("Orange", 2);
+            transactions.add(new Transaction(now.minusDays(day)
+                    .format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")), record));
+        }
+        model.addTransactions(transactions);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new SuggestOrdersCommand(7).equals(new SuggestOrdersCommand(7)));
+        assertFalse(new SuggestOrdersCommand(7).equals(new SuggestOrdersCommand(14)));
+        assertFalse(new SuggestOrdersCommand(7).equals(null));
+    }
+}
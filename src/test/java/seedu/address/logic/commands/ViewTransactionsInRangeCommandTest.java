@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDistributors.getTypicalDistributorBook;
+import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TestStorage;
+import seedu.address.model.UserDatabase;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class ViewTransactionsInRangeCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(),
+            new UserPrefs(), new UserDatabase(), new TestStorage());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() throws Exception {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int hour = 10; hour < 15; hour++) {
+            TreeMap<String, Integer> record = new TreeMap<>();
+            record.put("Orange", 1);
+            transactions.add(new Transaction("2018/10/02 " + hour + ":00:00", record));
+        }
+        model.addTransactions(transactions);
+    }
+
+    @Test
+    public void execute_pagesWithCursor_everyTransactionShownOnce() throws Exception {
+        String firstPage = execute(new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/02", 3, null, null));
+        long cursor = TimeIdentifiedClass.toEpochSecond("2018/10/02 13:00:00");
+        assertEquals(String.format(ViewTransactionsInRangeCommand.MESSAGE_TRANSACTIONS, "2018/10/01", "2018/10/02")
+                + "\n2018/10/02 10:00:00: Orange x1\n2018/10/02 11:00:00: Orange x1\n2018/10/02 12:00:00: Orange x1"
+                + String.format(ViewTransactionsInRangeCommand.MESSAGE_MORE_TRANSACTIONS, cursor), firstPage);
+
+        String lastPage = execute(new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/02", 3, cursor, null));
+        assertTrue(lastPage, lastPage.endsWith("\n2018/10/02 13:00:00: Orange x1\n2018/10/02 14:00:00: Orange x1"));
+    }
+
+    @Test
+    public void execute_noTransactionsInRange_noTransactionsMessage() throws Exception {
+        assertEquals(String.format(ViewTransactionsInRangeCommand.MESSAGE_NO_TRANSACTIONS, "2018/10/03",
+                "2018/10/05"), execute(new ViewTransactionsInRangeCommand("2018/10/03", "2018/10/05", 3, null, null)));
+    }
+
+    @Test
+    public void equals() {
+        ViewTransactionsInRangeCommand command =
+                new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/02", 3, null, null);
+        assertTrue(command.equals(new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/02", 3, null, null)));
+        assertFalse(command.equals(new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/02", 3, 1L, null)));
+        assertFalse(command.equals(new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/03", 3, null, null)));
+    }
+
+    private String execute(ViewTransactionsInRangeCommand command) throws Exception {
+        return command.execute(model, commandHistory).feedbackToUser;
+    }
+}
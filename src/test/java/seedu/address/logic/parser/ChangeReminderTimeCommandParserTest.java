@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ChangeReminderTimeCommand;
+import seedu.address.model.timeidentifiedclass.Reminder;
+
+public class ChangeReminderTimeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            ChangeReminderTimeCommand.MESSAGE_USAGE);
+
+    private ChangeReminderTimeCommandParser parser = new ChangeReminderTimeCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " time/ 2018/10/26 12:30:00 newtime/ 2018/10/27 09:00:00",
+                new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/27 09:00:00"));
+        // prefixes in the other order
+        assertParseSuccess(parser, " newtime/2018/10/27 09:00:00 time/2018/10/26 12:30:00",
+                new ChangeReminderTimeCommand("2018/10/26 12:30:00", "2018/10/27 09:00:00"));
+    }
+
+    @Test
+    public void parse_missingArgs_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " time/ 2018/10/26 12:30:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " newtime/ 2018/10/27 09:00:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " soon time/ 2018/10/26 12:30:00 newtime/ 2018/10/27 09:00:00",
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTime_failure() {
+        assertParseFailure(parser, " time/ 2018/10/26 12:30:00 newtime/ 2018/02/30 09:00:00",
+                Reminder.REMINDER_TIME_CONSTRAINTS);
+        assertParseFailure(parser, " time/ 2018/10/26 newtime/ 2018/10/27 09:00:00",
+                Reminder.REMINDER_TIME_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SalesReportCommand;
+
+public class SalesReportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            SalesReportCommand.COMMAND_WORD + SalesReportCommand.MESSAGE_USAGE);
+    private static final String MESSAGE_INVALID_DATE = "Dates must be valid and in yyyy/MM/dd format";
+
+    private SalesReportCommandParser parser = new SalesReportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 2018/10/01 2018/10/07", new SalesReportCommand("2018/10/01", "2018/10/07"));
+        // extra whitespace between and around the dates
+        assertParseSuccess(parser, "  2018/10/01 \t 2018/10/07  ",
+                new SalesReportCommand("2018/10/01", "2018/10/07"));
+        // single day range
+        assertParseSuccess(parser, " 2018/10/01 2018/10/01", new SalesReportCommand("2018/10/01", "2018/10/01"));
+    }
+
+    @Test
+    public void parse_missingArgs_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 2018/10/01", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // too many dates
+        assertParseFailure(parser, " 2018/10/01 2018/10/07 2018/10/08", MESSAGE_INVALID_FORMAT);
+
+        // dates in the wrong format or not on the calendar
+        assertParseFailure(parser, " 01/10/2018 2018/10/07", MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " 2018/10/01 2018/13/01", MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " 2018/10/01 tomorrow", MESSAGE_INVALID_DATE);
+
+        // dates out of order
+        assertParseFailure(parser, " 2018/10/07 2018/10/01", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.TopSellersCommand;
+
+public class TopSellersCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            TopSellersCommand.COMMAND_WORD + TopSellersCommand.MESSAGE_USAGE);
+
+    private TopSellersCommandParser parser = new TopSellersCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 5", new TopSellersCommand(5));
+        assertParseSuccess(parser, " 3 from/2018/10/01 to/2018/10/07",
+                new TopSellersCommand(3, "2018/10/01", "2018/10/07"));
+        // single day range
+        assertParseSuccess(parser, " 3 from/2018/10/01 to/2018/10/01",
+                new TopSellersCommand(3, "2018/10/01", "2018/10/01"));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing or invalid number of products
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " three", MESSAGE_INVALID_FORMAT);
+
+        // only one end of the date range
+        assertParseFailure(parser, " 3 from/2018/10/01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 3 to/2018/10/01", MESSAGE_INVALID_FORMAT);
+
+        // dates out of order
+        assertParseFailure(parser, " 3 from/2018/10/07 to/2018/10/01", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ViewTransactionsInRangeCommand;
+
+public class ViewTransactionsInRangeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            ViewTransactionsInRangeCommand.COMMAND_WORD + ViewTransactionsInRangeCommand.MESSAGE_USAGE);
+
+    private ViewTransactionsInRangeCommandParser parser = new ViewTransactionsInRangeCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " from/2018/10/01 to/2018/10/07", new ViewTransactionsInRangeCommand(
+                "2018/10/01", "2018/10/07", ViewTransactionsInRangeCommand.DEFAULT_LIMIT, null, null));
+        assertParseSuccess(parser, " from/2018/10/01 to/2018/10/07 limit/50 cursor/1538388000",
+                new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/07", 50, 1538388000L, null));
+        assertParseSuccess(parser, " from/2018/10/01 to/2018/10/01 export/data/sales.csv",
+                new ViewTransactionsInRangeCommand("2018/10/01", "2018/10/01",
+                        ViewTransactionsInRangeCommand.DEFAULT_LIMIT, null, Paths.get("data/sales.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing dates
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2018/10/01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 5 from/2018/10/01 to/2018/10/07", MESSAGE_INVALID_FORMAT);
+
+        // invalid limit, cursor or export file
+        assertParseFailure(parser, " from/2018/10/01 to/2018/10/07 limit/0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2018/10/01 to/2018/10/07 cursor/next", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2018/10/01 to/2018/10/07 export/", MESSAGE_INVALID_FORMAT);
+
+        // dates out of order
+        assertParseFailure(parser, " from/2018/10/07 to/2018/10/01", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,287 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDistributors.getTypicalDistributorBook;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.exceptions.ProductNotFoundException;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.testutil.ProductBuilder;
+
+public class CheckoutServiceTest {
+
+    private static final Logger logger = LogsCenter.getLogger(CheckoutServiceTest.class);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
+    private static final long FIRST_TRANSACTION_TIME = 1514764800L;
+    private static final int REGISTER_COUNT = 8;
+    private static final int CHECKOUTS_PER_REGISTER = 500;
+    private static final int PRODUCT_COUNT = 16;
+    private static final long INITIAL_STOCK = 1_000_000;
+
+    private final Queue<Runnable> modelTasks = new ArrayDeque<>();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void checkout_concurrentRegisters_noLostUpdates() throws Exception {
+        runRegisters(REGISTER_COUNT);
+    }
+
+    @Test
+    public void checkout_oneToEightRegisters_throughputMeasured() throws Exception {
+        for (int registerCount = 1; registerCount <= REGISTER_COUNT; registerCount *= 2) {
+            long elapsedNanos = runRegisters(registerCount);
+            logger.info(String.format("%d registers: %.0f checkouts per second", registerCount,
+                    registerCount * CHECKOUTS_PER_REGISTER * 1e9 / elapsedNanos));
+        }
+    }
+
+    @Test
+    public void checkout_duplicatePendingTime_throwsDuplicateTransactionException() throws Exception {
+        ModelManager model = createTypicalModel();
+        CheckoutService checkoutService = model.getCheckoutService();
+        checkoutService.checkout(createTransaction(FIRST_TRANSACTION_TIME, ORANGE.getName().fullName, 1));
+        try {
+            checkoutService.checkout(createTransaction(FIRST_TRANSACTION_TIME, ORANGE.getName().fullName, 1));
+            throw new AssertionError("The expected DuplicateTransactionException was not thrown.");
+        } catch (DuplicateTransactionException e) {
+            assertEquals("11", getRemainingItems(model, ORANGE.getName().fullName));
+        }
+    }
+
+    @Test
+    public void checkout_unknownProduct_takesNothing() throws Exception {
+        ModelManager model = createTypicalModel();
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put(ORANGE.getName().fullName, 1);
+        record.put("Durian", 1);
+        try {
+            model.getCheckoutService().checkout(new Transaction(formatTime(FIRST_TRANSACTION_TIME), record));
+            throw new AssertionError("The expected ProductNotFoundException was not thrown.");
+        } catch (ProductNotFoundException e) {
+            assertEquals("12", getRemainingItems(model, ORANGE.getName().fullName));
+            assertTrue(modelTasks.isEmpty());
+        }
+    }
+
+    @Test
+    public void checkout_saleQueued_stockTakenAtOnceAndUndoable() throws Exception {
+        ModelManager model = createTypicalModel();
+        String orange = ORANGE.getName().fullName;
+
+        assertEquals(Collections.emptyList(),
+                model.getCheckoutService().checkout(createTransaction(FIRST_TRANSACTION_TIME, orange, 3)));
+        assertEquals("9", getRemainingItems(model, orange));
+        assertTrue(model.getSalesHistory().getTransactionsAsObservableList().isEmpty());
+
+        runModelTasks();
+        assertEquals(1, model.getSalesHistory().getTransactionsAsObservableList().size());
+        model.undoProductDatabase();
+        assertEquals("12", getRemainingItems(model, orange));
+    }
+
+    @Test
+    public void checkout_moreThanRemaining_productRunShortReturned() throws Exception {
+        ModelManager model = createTypicalModel();
+        String orange = ORANGE.getName().fullName;
+
+        assertEquals(Collections.singletonList(orange),
+                model.getCheckoutService().checkout(createTransaction(FIRST_TRANSACTION_TIME, orange, 20)));
+        assertEquals("0", getRemainingItems(model, orange));
+    }
+
+    @Test
+    public void checkout_productEditedBeforePublish_editedRemainingItemsKept() throws Exception {
+        ModelManager model = createTypicalModel();
+        String orange = ORANGE.getName().fullName;
+
+        model.getCheckoutService().checkout(createTransaction(FIRST_TRANSACTION_TIME, orange, 3));
+        // the remaining items typed in after the sale are the count of the shelf
+        model.updateProduct(findProduct(model, orange), new ProductBuilder(ORANGE).withRemainingItems("20").build());
+        model.commitProductDatabase();
+
+        runModelTasks();
+        assertEquals("20", getRemainingItems(model, orange));
+        model.undoProductDatabase();
+        assertEquals("20", getRemainingItems(model, orange));
+    }
+
+    @Test
+    public void checkout_timeRecordedBeforePublish_saleDroppedAndStockReturned() throws Exception {
+        ModelManager model = createTypicalModel();
+        String orange = ORANGE.getName().fullName;
+
+        model.getCheckoutService().checkout(createTransaction(FIRST_TRANSACTION_TIME, orange, 3));
+        model.addTransactions(Collections.singletonList(createTransaction(FIRST_TRANSACTION_TIME, orange, 1)));
+        assertEquals("8", getRemainingItems(model, orange));
+
+        runModelTasks();
+        assertEquals("11", getRemainingItems(model, orange));
+        assertEquals(1, model.getSalesHistory().getTransactionsAsObservableList().size());
+    }
+
+    /**
+     * Runs {@code registerCount} registers at once, each checking out {@code CHECKOUTS_PER_REGISTER} transactions,
+     * and checks that the model has every sale.
+     * @return the nanoseconds taken by the registers
+     */
+    private long runRegisters(int registerCount) throws Exception {
+        ProductDatabase productDatabase = new ProductDatabase();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productDatabase.addProduct(new ProductBuilder().withName(getProductName(i))
+                    .withSerialNumber(Integer.toString(1000 + i)).withRemainingItems(Long.toString(INITIAL_STOCK))
+                    .build());
+        }
+        ExecutorService modelThread = Executors.newSingleThreadExecutor();
+        ModelManager model = modelThread.submit(() -> new ModelManager(productDatabase, getTypicalDistributorBook(),
+                new UserPrefs(), new UserDatabase(), new SalesHistory(), new TestStorage(), modelThread)).get();
+        CheckoutService checkoutService = model.getCheckoutService();
+
+        AtomicLongArray unitsSold = new AtomicLongArray(PRODUCT_COUNT);
+        AtomicReference<Throwable> registerFailure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> registers = new ArrayList<>();
+        for (int register = 0; register < registerCount; register++) {
+            int registerIndex = register;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    runRegister(registerIndex, registerCount, checkoutService, unitsSold);
+                } catch (Throwable e) {
+                    registerFailure.compareAndSet(null, e);
+                }
+            });
+            registers.add(thread);
+            thread.start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread register : registers) {
+            register.join();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        // every publish is scheduled before its register finishes, so this task runs after all of them
+        modelThread.submit(() -> { }).get();
+        modelThread.shutdown();
+        assertTrue(modelThread.awaitTermination(10, TimeUnit.SECONDS));
+
+        if (registerFailure.get() != null) {
+            throw new AssertionError("A register failed.", registerFailure.get());
+        }
+        assertEquals(registerCount * CHECKOUTS_PER_REGISTER,
+                model.getSalesHistory().getTransactionsAsObservableList().size());
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            long expectedStock = INITIAL_STOCK - unitsSold.get(i);
+            assertEquals(Long.toString(expectedStock), getRemainingItems(model, getProductName(i)));
+            assertEquals(unitsSold.get(i), model.getSalesAggregates().getUnitsSold(getProductName(i)));
+        }
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks out {@code CHECKOUTS_PER_REGISTER} transactions of random products, adding the units sold to
+     * {@code unitsSold}.
+     */
+    private void runRegister(int registerIndex, int registerCount, CheckoutService checkoutService,
+            AtomicLongArray unitsSold) throws Exception {
+        Random random = new Random(registerIndex);
+        for (int i = 0; i < CHECKOUTS_PER_REGISTER; i++) {
+            long time = FIRST_TRANSACTION_TIME + (long) i * registerCount + registerIndex;
+            TreeMap<String, Integer> record = new TreeMap<>();
+            int lineCount = 1 + random.nextInt(3);
+            for (int line = 0; line < lineCount; line++) {
+                int product = random.nextInt(PRODUCT_COUNT);
+                int quantity = 1 + random.nextInt(3);
+                record.merge(getProductName(product), quantity, Integer::sum);
+                unitsSold.addAndGet(product, quantity);
+            }
+            checkoutService.checkout(new Transaction(formatTime(time), record));
+        }
+    }
+
+    /**
+     * Runs the tasks given to the model executor so far.
+     */
+    private void runModelTasks() {
+        Runnable task;
+        while ((task = modelTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Returns a model of the typical products whose tasks are queued in {@code modelTasks}.
+     */
+    private ModelManager createTypicalModel() {
+        return new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(), new UserPrefs(),
+                new UserDatabase(), new SalesHistory(), new TestStorage(), modelTasks::add);
+    }
+
+    private static String getProductName(int index) {
+        return "Product " + (char) ('A' + index);
+    }
+
+    private static String formatTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(TIME_FORMATTER);
+    }
+
+    /**
+     * Returns a transaction at {@code epochSecond} selling {@code quantity} of {@code productName}.
+     */
+    private static Transaction createTransaction(long epochSecond, String productName, int quantity)
+            throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put(productName, quantity);
+        return new Transaction(formatTime(epochSecond), record);
+    }
+
+    /**
+     * Returns the product named {@code name} in {@code model}.
+     */
+    private static Product findProduct(Model model, String name) {
+        for (Product product : model.getProductInfoBook().getProductList()) {
+            if (product.getName().fullName.equals(name)) {
+                return product;
+            }
+        }
+        throw new AssertionError(name + " is not in the product database.");
+    }
+
+    /**
+     * Returns the remaining items of the product named {@code name} in {@code model}.
+     */
+    private static String getRemainingItems(Model model, String name) {
+        return findProduct(model, name).getRemainingItems().toString();
+    }
+}
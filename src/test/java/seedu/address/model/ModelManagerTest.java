@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PRODUCTS;
@@ -9,13 +10,25 @@ import static seedu.address.testutil.TypicalProducts.GRAPE;
 import static seedu.address.testutil.TypicalProducts.ORANGE;
 import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.LowStockChangedEvent;
 import seedu.address.model.product.NameContainsKeywordsPredicate;
+import seedu.address.model.product.Product;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.testutil.ProductBuilder;
 import seedu.address.testutil.ProductDatabaseBuilder;
 
 public class ModelManagerTest {
@@ -48,6 +61,50 @@ public class ModelManagerTest {
         modelManager.getFilteredProductList().remove(0);
     }
 
+    @Test
+    public void constructor_undoHistoryLimitNotPositive_defaultLimitUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(0);
+        new ModelManager(getTypicalAddressBook(), getTypicalDistributorBook(), userPrefs, new UserDatabase(),
+                new TestStorage());
+        assertEquals(VersionedProductDatabase.DEFAULT_HISTORY_LIMIT, userPrefs.getUndoHistoryLimit());
+    }
+
+    @Test
+    public void addTransactions_validTransactions_addedAndStockReduced() throws Exception {
+        TreeMap<String, Integer> firstRecord = new TreeMap<>();
+        firstRecord.put("Orange", 3);
+        firstRecord.put("Grape", 1);
+        TreeMap<String, Integer> secondRecord = new TreeMap<>();
+        secondRecord.put("Grape", 4);
+
+        assertEquals(Collections.singletonList("Grape"), modelManager.addTransactions(Arrays.asList(
+                new Transaction("2018/11/01 10:00:00", firstRecord),
+                new Transaction("2018/11/01 11:00:00", secondRecord))));
+
+        assertTrue(modelManager.hasTransaction("2018/11/01 10:00:00"));
+        assertTrue(modelManager.hasTransaction("2018/11/01 11:00:00"));
+        assertEquals("9", getRemainingItems("Orange"));
+        assertEquals("0", getRemainingItems("Grape"));
+        assertEquals(5, modelManager.getSalesAggregates().getUnitsSold("Grape"));
+    }
+
+    @Test
+    public void addTransactions_duplicateTime_nothingChanged() throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Orange", 3);
+        Transaction first = new Transaction("2018/11/01 10:00:00", record);
+        Transaction second = new Transaction("2018/11/01 10:00:00", record);
+
+        try {
+            modelManager.addTransactions(Arrays.asList(first, second));
+            throw new AssertionError("The expected DuplicateTransactionException was not thrown.");
+        } catch (DuplicateTransactionException e) {
+            assertFalse(modelManager.hasTransaction("2018/11/01 10:00:00"));
+            assertEquals("12", getRemainingItems("Orange"));
+        }
+    }
+
     @Test
     public void equals() {
         ProductDatabase productDatabase = new ProductDatabaseBuilder().withProduct(GRAPE).withProduct(ORANGE).build();
@@ -83,4 +140,42 @@ public class ModelManagerTest {
         // resets modelManager to initial state for upcoming tests
         modelManager.updateFilteredProductList(PREDICATE_SHOW_ALL_PRODUCTS);
     }
+
+    @Test
+    public void addTransactions_stockFallsBelowReorderLevel_lowStockChangedEventRaised() throws Exception {
+        List<LowStockChangedEvent> events = new ArrayList<>();
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            public void handleLowStockChangedEvent(LowStockChangedEvent event) {
+                events.add(event);
+            }
+        });
+        try {
+            modelManager.updateProduct(ORANGE, new ProductBuilder(ORANGE).withReorderLevel("10").build());
+            assertTrue(events.isEmpty());
+
+            TreeMap<String, Integer> record = new TreeMap<>();
+            record.put("Orange", 3);
+            modelManager.addTransactions(Collections.singletonList(new Transaction("2018/11/01 10:00:00", record)));
+
+            assertEquals(1, events.size());
+            assertEquals(1, events.get(0).lowStockProductCount);
+            assertEquals(modelManager.getLowStockProducts(10), events.get(0).newlyLowProducts);
+            assertEquals("Orange", events.get(0).newlyLowProducts.get(0).getName().fullName);
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+    }
+
+    /**
+     * Returns the remaining items of the product named {@code name} in {@code modelManager}.
+     */
+    private String getRemainingItems(String name) {
+        for (Product product : modelManager.getProductInfoBook().getProductList()) {
+            if (product.getName().fullName.equals(name)) {
+                return product.getRemainingItems().toString();
+            }
+        }
+        throw new AssertionError(name + " is not in the product database.");
+    }
 }
@@ -0,0 +1,160 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.RemindersDueEvent;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+
+public class ReminderSchedulerTest {
+
+    private static final String CURRENT_TIME = "2018/11/01 12:00:00";
+    private static final long DELIVERY_TIMEOUT_MILLIS = 5000;
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final BlockingQueue<RemindersDueEvent> deliveries = new LinkedBlockingQueue<>();
+    private ReminderScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+        EventsCenter.clearSubscribers();
+    }
+
+    @Subscribe
+    public void collectRemindersDueEvent(RemindersDueEvent event) {
+        deliveries.add(event);
+    }
+
+    @Test
+    public void start_dueReminders_deliveredTogether() throws Exception {
+        Reminder first = new Reminder("2018/11/01 11:00:00", "first");
+        Reminder second = new Reminder("2018/11/01 12:00:00", "second");
+        Reminder later = new Reminder("2018/11/01 13:00:00", "later");
+        startScheduler(first, later, second);
+
+        RemindersDueEvent event = deliveries.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(event);
+        assertEquals(Arrays.asList(first, second), event.reminders);
+        assertTrue(first.hasBeenShownByThread());
+        assertNull(deliveries.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void start_noDueReminders_nothingDelivered() throws Exception {
+        startScheduler(new Reminder("2018/11/02 12:00:00", "tomorrow"));
+        assertNull(deliveries.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void start_reminderAlreadyShown_notDeliveredAgain() throws Exception {
+        Reminder shown = new Reminder("2018/11/01 11:00:00", "shown");
+        shown.declareAsShownByThread();
+        startScheduler(shown);
+        assertNull(deliveries.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void schedule_whileWaiting_wakesScheduler() throws Exception {
+        startScheduler(new Reminder("2018/11/02 12:00:00", "tomorrow"));
+
+        Reminder due = new Reminder("2018/11/01 11:30:00", "due");
+        scheduler.schedule(due);
+        RemindersDueEvent event = deliveries.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(event);
+        assertEquals(Collections.singletonList(due), event.reminders);
+    }
+
+    @Test
+    public void cancel_dueReminder_notDelivered() throws Exception {
+        Reminder due = new Reminder("2018/11/01 11:30:00", "due");
+        scheduler = new ReminderScheduler(Collections.singletonList(due), this::getCurrentTime);
+        scheduler.cancel(due);
+        scheduler.start();
+        assertNull(deliveries.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void reschedule_timeChangedToPast_delivered() throws Exception {
+        Reminder reminder = new Reminder("2018/11/02 12:00:00", "moved");
+        startScheduler(reminder);
+
+        reminder.changeTime("2018/11/01 09:00:00");
+        scheduler.reschedule(reminder);
+        RemindersDueEvent event = deliveries.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(event);
+        assertEquals(Collections.singletonList(reminder), event.reminders);
+    }
+
+    @Test
+    public void changeReminderTime_throughModel_rescheduled() throws Exception {
+        scheduler = new ReminderScheduler(Collections.emptyList(), this::getCurrentTime);
+        scheduler.start();
+        Model model = new ModelManager(new TestStorage());
+        Reminder reminder = new Reminder("2018/11/02 12:00:00", "moved");
+        model.addReminder(reminder);
+        assertNull(deliveries.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+
+        model.changeReminderTime("2018/11/02 12:00:00", "2018/11/01 09:00:00");
+        RemindersDueEvent event = deliveries.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(event);
+        assertEquals(Collections.singletonList(reminder), event.reminders);
+    }
+
+    @Test
+    public void reset_replacesPendingReminders() throws Exception {
+        startScheduler(new Reminder("2018/11/02 12:00:00", "old"));
+
+        Reminder due = new Reminder("2018/11/01 11:30:00", "new");
+        scheduler.reset(Collections.singletonList(due));
+        RemindersDueEvent event = deliveries.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(event);
+        assertEquals(Collections.singletonList(due), event.reminders);
+    }
+
+    @Test
+    public void getMessage_listsRemindersInOrder() throws Exception {
+        RemindersDueEvent event = new RemindersDueEvent(Arrays.asList(
+                new Reminder("2018/11/01 11:00:00", "first"), new Reminder("2018/11/01 12:00:00", "second")));
+        assertEquals("Reminders due:\n2018/11/01 11:00:00\t\tfirst\n2018/11/01 12:00:00\t\tsecond\n",
+                event.getMessage());
+    }
+
+    /**
+     * Starts a scheduler for {@code reminders} whose clock is fixed at {@code CURRENT_TIME}.
+     */
+    private void startScheduler(Reminder... reminders) {
+        scheduler = new ReminderScheduler(Arrays.asList(reminders), this::getCurrentTime);
+        scheduler.start();
+    }
+
+    /**
+     * Returns the epoch second of {@code CURRENT_TIME}.
+     */
+    private long getCurrentTime() {
+        return TimeIdentifiedClass.toEpochSecond(CURRENT_TIME);
+    }
+}
@@ -3,18 +3,21 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.events.model.DistributorBookChangedEvent;
 import seedu.address.commons.events.model.ProductDatabaseChangedEvent;
 import seedu.address.commons.events.model.SalesHistoryChangedEvent;
+import seedu.address.commons.events.model.TransactionAddedEvent;
 import seedu.address.commons.events.model.UserDatabaseChangedEvent;
 import seedu.address.commons.events.model.UserDeletedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.login.User;
 import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
 import seedu.address.storage.Storage;
 
 /**
@@ -125,6 +128,10 @@ public class TestStorage extends ComponentManager implements Storage {
     public void update(User user) {
     }
 
+    @Override
+    public void flush() {
+    }
+
     @Override
     public void deleteAddressBook(User user) {
     }
@@ -154,11 +161,21 @@ public class TestStorage extends ComponentManager implements Storage {
 
     }
 
+    @Override
+    public void appendTransactions(List<Transaction> transactions, Path filePath) throws IOException {
+
+    }
+
     @Override
     public void deleteSalesHistory() throws IOException {
 
     }
 
+    @Override
+    public int archiveMonth(long monthStart) {
+        return 0;
+    }
+
     public void deleteDistributorBook(User user) {
 
     }
@@ -174,6 +191,11 @@ public class TestStorage extends ComponentManager implements Storage {
 
     }
 
+    @Override
+    public void handleTransactionAddedEvent(TransactionAddedEvent event) {
+
+    }
+
 
     @Override
     public void handleUserDatabaseChangedEvent(UserDatabaseChangedEvent abce) {
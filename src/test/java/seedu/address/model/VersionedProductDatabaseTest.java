@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalProducts.APPLE;
+import static seedu.address.testutil.TypicalProducts.BANANA;
+import static seedu.address.testutil.TypicalProducts.GRAPE;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.product.Product;
+import seedu.address.testutil.ProductBuilder;
+import seedu.address.testutil.ProductDatabaseBuilder;
+
+public class VersionedProductDatabaseTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ReadOnlyProductDatabase initialState = new ProductDatabaseBuilder()
+            .withProduct(ORANGE).withProduct(GRAPE).withProduct(APPLE).build();
+    private final VersionedProductDatabase versionedProductDatabase = new VersionedProductDatabase(initialState);
+
+    @Test
+    public void undo_afterRemovingProduct_restoresProductAtSamePosition() {
+        versionedProductDatabase.removeProduct(GRAPE);
+        versionedProductDatabase.commit();
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+        assertFalse(versionedProductDatabase.canUndo());
+        assertTrue(versionedProductDatabase.canRedo());
+    }
+
+    @Test
+    public void undoAndRedo_multipleChangesInOneCommit_revertsAndReappliesAll() {
+        Product editedOrange = new ProductBuilder(ORANGE).withRemainingItems("0").build();
+        versionedProductDatabase.updateProducts(ORANGE, editedOrange);
+        versionedProductDatabase.addProduct(BANANA);
+        versionedProductDatabase.removeProduct(APPLE);
+        versionedProductDatabase.commit();
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+
+        versionedProductDatabase.redo();
+        assertProductList(editedOrange, GRAPE, BANANA);
+        assertFalse(versionedProductDatabase.canRedo());
+    }
+
+    @Test
+    public void undo_afterResetData_restoresPreviousProducts() {
+        versionedProductDatabase.resetData(new ProductDatabase());
+        versionedProductDatabase.commit();
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+    }
+
+    @Test
+    public void undo_withUncommittedChanges_discardsThem() {
+        versionedProductDatabase.removeProduct(ORANGE);
+        versionedProductDatabase.commit();
+        versionedProductDatabase.addProduct(BANANA);
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+    }
+
+    @Test
+    public void commit_afterUndo_removesRedoableStates() {
+        versionedProductDatabase.removeProduct(ORANGE);
+        versionedProductDatabase.commit();
+        versionedProductDatabase.undo();
+
+        versionedProductDatabase.addProduct(BANANA);
+        versionedProductDatabase.commit();
+        assertFalse(versionedProductDatabase.canRedo());
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_dropsOldestState() {
+        VersionedProductDatabase limitedDatabase = new VersionedProductDatabase(initialState, 2);
+        List<Product> removedProducts = new ArrayList<>(limitedDatabase.getProductList());
+        for (Product product : removedProducts) {
+            limitedDatabase.removeProduct(product);
+            limitedDatabase.commit();
+        }
+
+        limitedDatabase.undo();
+        limitedDatabase.undo();
+        assertFalse(limitedDatabase.canUndo());
+        assertEquals(Arrays.asList(GRAPE, APPLE), limitedDatabase.getProductList());
+    }
+
+    @Test
+    public void undoAndRedo_stockTaken_restoresRemainingItemsWithoutReplacingProduct() {
+        Product storedOrange = versionedProductDatabase.getProductList().get(0);
+        assertEquals(5, versionedProductDatabase.takeStock(ORANGE.getSerialNumber(), 5));
+        versionedProductDatabase.commit();
+        assertSame(storedOrange, versionedProductDatabase.getProductList().get(0));
+        assertEquals("7", storedOrange.getRemainingItems().toString());
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+
+        versionedProductDatabase.redo();
+        assertEquals("7", versionedProductDatabase.getProductList().get(0).getRemainingItems().toString());
+    }
+
+    @Test
+    public void undoAndRedo_onlyRemainingItemsEdited_restoresRemainingItems() {
+        Product restockedOrange = new ProductBuilder(ORANGE).withRemainingItems("30").build();
+        versionedProductDatabase.updateProducts(ORANGE, restockedOrange);
+        versionedProductDatabase.commit();
+        assertTrue(versionedProductDatabase.canUndo());
+
+        versionedProductDatabase.undo();
+        assertProductList(ORANGE, GRAPE, APPLE);
+
+        versionedProductDatabase.redo();
+        assertProductList(restockedOrange, GRAPE, APPLE);
+    }
+
+    @Test
+    public void undo_noUndoableState_throwsNoUndoableStateException() {
+        thrown.expect(VersionedProductDatabase.NoUndoableStateException.class);
+        versionedProductDatabase.undo();
+    }
+
+    @Test
+    public void redo_noRedoableState_throwsNoRedoableStateException() {
+        thrown.expect(VersionedProductDatabase.NoRedoableStateException.class);
+        versionedProductDatabase.redo();
+    }
+
+    /**
+     * Asserts that the product list holds {@code expectedProducts}, with their remaining items, in order.
+     */
+    private void assertProductList(Product... expectedProducts) {
+        List<Product> productList = versionedProductDatabase.getProductList();
+        assertEquals(Arrays.asList(expectedProducts), productList);
+        for (int i = 0; i < expectedProducts.length; i++) {
+            assertEquals(expectedProducts[i].getRemainingItems(), productList.get(i).getRemainingItems());
+        }
+    }
+}
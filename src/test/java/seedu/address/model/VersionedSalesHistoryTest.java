@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class VersionedSalesHistoryTest {
+
+    @Test
+    public void commit_changesKept() throws Exception {
+        VersionedSalesHistory versionedSalesHistory = new VersionedSalesHistory(new SalesHistory());
+        versionedSalesHistory.addTransaction(new Transaction("2018/10/10 10:10:10"));
+        versionedSalesHistory.commit();
+        versionedSalesHistory.addTransaction(new Transaction("2018/10/10 10:10:11"));
+        versionedSalesHistory.addReminder(new Reminder("2018/10/10 10:10:12", "restock"));
+        versionedSalesHistory.commit();
+
+        assertEquals(2, versionedSalesHistory.getTransactionsAsObservableList().size());
+        assertEquals(1, versionedSalesHistory.getRemindersAsObservableList().size());
+    }
+
+    @Test
+    public void resetData_replacesRecordsWithoutDuplicatingThem() throws Exception {
+        SalesHistory newData = new SalesHistory();
+        newData.addTransaction(new Transaction("2018/10/10 10:10:10"));
+        newData.addReminder(new Reminder("2018/10/10 10:10:12", "restock"));
+
+        VersionedSalesHistory versionedSalesHistory = new VersionedSalesHistory(newData);
+        versionedSalesHistory.removeReminder("2018/10/10 10:10:12");
+        versionedSalesHistory.commit();
+        versionedSalesHistory.resetData(newData);
+
+        assertEquals(newData.getTransactionsAsObservableList(),
+                versionedSalesHistory.getTransactionsAsObservableList());
+        assertEquals(newData.getRemindersAsObservableList(), versionedSalesHistory.getRemindersAsObservableList());
+    }
+}
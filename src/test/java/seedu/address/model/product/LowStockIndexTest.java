@@ -0,0 +1,66 @@
+package seedu.address.model.product;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalProducts.APPLE;
+import static seedu.address.testutil.TypicalProducts.GRAPE;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.ProductDatabase;
+import seedu.address.testutil.ProductBuilder;
+
+public class LowStockIndexTest {
+
+    private final ProductDatabase productDatabase = new ProductDatabase();
+
+    @Test
+    public void getLowStockProducts_furthestBelowReorderLevelFirst() {
+        Product orange = new ProductBuilder(ORANGE).withReorderLevel("15").build(); // 3 below
+        Product grape = new ProductBuilder(GRAPE).withReorderLevel("10").build(); // 8 below
+        Product apple = new ProductBuilder(APPLE).withReorderLevel("1").build(); // not low
+        productDatabase.setProducts(Arrays.asList(orange, grape, apple));
+
+        assertEquals(Arrays.asList(grape, orange), productDatabase.getLowStockProducts(5));
+        assertEquals(Collections.singletonList(grape), productDatabase.getLowStockProducts(1));
+        assertEquals(2, productDatabase.getLowStockProductCount());
+        // products low on stock when loaded have not newly fallen below their reorder level
+        assertEquals(Collections.emptyList(), productDatabase.takeNewlyLowStockProducts());
+    }
+
+    @Test
+    public void takeStock_fallsBelowReorderLevel_newlyLowOnce() {
+        productDatabase.addProduct(new ProductBuilder(ORANGE).withReorderLevel("10").build());
+        assertEquals(Collections.emptyList(), productDatabase.takeNewlyLowStockProducts());
+
+        productDatabase.takeStock(ORANGE.getSerialNumber(), 2);
+        assertEquals(Collections.emptyList(), productDatabase.takeNewlyLowStockProducts());
+
+        productDatabase.takeStock(ORANGE.getSerialNumber(), 1);
+        productDatabase.takeStock(ORANGE.getSerialNumber(), 1);
+        assertEquals(productDatabase.getProductList(), productDatabase.takeNewlyLowStockProducts());
+        assertEquals(Collections.emptyList(), productDatabase.takeNewlyLowStockProducts());
+        assertEquals(1, productDatabase.getLowStockProductCount());
+    }
+
+    @Test
+    public void updateProducts_restockedAndEditedWhileLow_countsFollowEdits() {
+        Product orange = new ProductBuilder(ORANGE).withRemainingItems("5").withReorderLevel("10").build();
+        productDatabase.addProduct(orange);
+        productDatabase.takeNewlyLowStockProducts();
+
+        // editing a product already low on stock does not make it newly low
+        Product retaggedOrange = new ProductBuilder(orange).withTags("citrus").build();
+        productDatabase.updateProducts(orange, retaggedOrange);
+        assertEquals(Collections.emptyList(), productDatabase.takeNewlyLowStockProducts());
+        assertEquals(1, productDatabase.getLowStockProductCount());
+
+        productDatabase.updateProducts(retaggedOrange, new ProductBuilder(retaggedOrange).withRemainingItems("50")
+                .build());
+        assertEquals(0, productDatabase.getLowStockProductCount());
+        assertEquals(Collections.emptyList(), productDatabase.getLowStockProducts(5));
+    }
+}
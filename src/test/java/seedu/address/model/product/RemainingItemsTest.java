@@ -31,6 +31,7 @@ public class RemainingItemsTest {
         assertFalse(RemainingItems.isValidRemainingItems("phone")); // non-numeric
         assertFalse(RemainingItems.isValidRemainingItems("9011p041")); // alphabets within digits
         assertFalse(RemainingItems.isValidRemainingItems("9312 1534")); // spaces within digits
+        assertFalse(RemainingItems.isValidRemainingItems("9223372036854775808")); // too large to count
 
         // valid phone numbers
         assertTrue(RemainingItems.isValidRemainingItems("93121534"));
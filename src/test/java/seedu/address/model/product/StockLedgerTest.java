@@ -0,0 +1,108 @@
+package seedu.address.model.product;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalProducts.GRAPE;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.product.StockLedger.Movement;
+import seedu.address.model.product.StockLedger.MovementKind;
+import seedu.address.model.product.exceptions.ProductNotFoundException;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.ProductBuilder;
+
+public class StockLedgerTest {
+
+    private final StockLedger stockLedger = new StockLedger();
+
+    @Test
+    public void take_moreThanRemaining_takesAllAndLogsUnitsTaken() {
+        Product orange = new ProductBuilder(ORANGE).build();
+        stockLedger.keep(orange);
+
+        assertEquals(5, stockLedger.take(ORANGE.getSerialNumber(), 5, MovementKind.SALE));
+        assertEquals(7, stockLedger.take(ORANGE.getSerialNumber(), 10, MovementKind.SALE));
+        assertEquals(0, stockLedger.take(ORANGE.getSerialNumber(), 1, MovementKind.SALE));
+
+        assertEquals("0", orange.getRemainingItems().toString());
+        assertEquals(Arrays.asList(new Movement(MovementKind.SALE, ORANGE.getSerialNumber(), -7, 0),
+                new Movement(MovementKind.SALE, ORANGE.getSerialNumber(), -5, 7)),
+                stockLedger.getLatestMovements(10));
+    }
+
+    @Test
+    public void replace_moreRemainingItems_logsRestock() {
+        stockLedger.keep(new ProductBuilder(ORANGE).build());
+        Product restockedOrange = new ProductBuilder(ORANGE).withRemainingItems("20").build();
+
+        stockLedger.replace(ORANGE.getSerialNumber(), restockedOrange);
+        stockLedger.add(ORANGE.getSerialNumber(), 5, MovementKind.RESTOCK);
+
+        assertEquals(25, stockLedger.getRemainingItems(ORANGE.getSerialNumber()));
+        assertEquals("25", restockedOrange.getRemainingItems().toString());
+        assertEquals(Arrays.asList(new Movement(MovementKind.RESTOCK, ORANGE.getSerialNumber(), 5, 25),
+                new Movement(MovementKind.RESTOCK, ORANGE.getSerialNumber(), 8, 20)),
+                stockLedger.getLatestMovements(10));
+    }
+
+    @Test
+    public void reset_productsKeptWithoutLogging() {
+        stockLedger.keep(new ProductBuilder(ORANGE).build());
+        stockLedger.reset(Arrays.asList(new ProductBuilder(ORANGE).build(), new ProductBuilder(GRAPE).build()));
+
+        assertEquals(2, stockLedger.getRemainingItems(GRAPE.getSerialNumber()));
+        assertEquals(0, stockLedger.getMovementCount());
+    }
+
+    @Test
+    public void getLatestMovements_beyondLogCapacity_oldestMovementsDropped() {
+        stockLedger.keep(new ProductBuilder(ORANGE).build());
+        for (int i = 0; i < StockLedger.MOVEMENT_LOG_CAPACITY + 5; i++) {
+            stockLedger.add(ORANGE.getSerialNumber(), 1, MovementKind.RESTOCK);
+        }
+
+        assertEquals(StockLedger.MOVEMENT_LOG_CAPACITY, stockLedger.getMovementCount());
+        List<Movement> movements = stockLedger.getLatestMovements(StockLedger.MOVEMENT_LOG_CAPACITY + 5);
+        assertEquals(StockLedger.MOVEMENT_LOG_CAPACITY, movements.size());
+        long finalRemainingItems = 12 + StockLedger.MOVEMENT_LOG_CAPACITY + 5;
+        assertEquals(new Movement(MovementKind.RESTOCK, ORANGE.getSerialNumber(), 1, finalRemainingItems),
+                movements.get(0));
+        assertEquals(new Movement(MovementKind.RESTOCK, ORANGE.getSerialNumber(), 1,
+                finalRemainingItems - StockLedger.MOVEMENT_LOG_CAPACITY + 1),
+                movements.get(StockLedger.MOVEMENT_LOG_CAPACITY - 1));
+    }
+
+    @Test
+    public void hasSameRemainingItems() {
+        StockLedger otherLedger = new StockLedger();
+        stockLedger.keep(new ProductBuilder(ORANGE).build());
+        otherLedger.keep(new ProductBuilder(ORANGE).build());
+        assertTrue(stockLedger.hasSameRemainingItems(otherLedger));
+
+        // different remaining items -> returns false
+        otherLedger.take(ORANGE.getSerialNumber(), 1, MovementKind.SALE);
+        assertFalse(stockLedger.hasSameRemainingItems(otherLedger));
+
+        // different products -> returns false
+        otherLedger.replace(ORANGE.getSerialNumber(), new ProductBuilder(GRAPE).withRemainingItems("12").build());
+        assertFalse(stockLedger.hasSameRemainingItems(otherLedger));
+    }
+
+    @Test
+    public void release_productKeepsRemainingItems() {
+        Product grape = new ProductBuilder(GRAPE).build();
+        stockLedger.keep(grape);
+        stockLedger.release(GRAPE.getSerialNumber());
+
+        assertEquals(GRAPE.getRemainingItems(), grape.getRemainingItems());
+        assertEquals(0, stockLedger.getMovementCount());
+        Assert.assertThrows(ProductNotFoundException.class, () ->
+                stockLedger.take(GRAPE.getSerialNumber(), 1, MovementKind.SALE));
+    }
+}
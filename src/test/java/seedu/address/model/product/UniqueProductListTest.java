@@ -0,0 +1,210 @@
+package seedu.address.model.product;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalProducts.APPLE;
+import static seedu.address.testutil.TypicalProducts.BANANA;
+import static seedu.address.testutil.TypicalProducts.GRAPE;
+import static seedu.address.testutil.TypicalProducts.ORANGE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.product.exceptions.DuplicateProductException;
+import seedu.address.model.product.exceptions.ProductNotFoundException;
+import seedu.address.testutil.ProductBuilder;
+
+public class UniqueProductListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueProductList uniqueProductList = new UniqueProductList();
+
+    @Test
+    public void contains_nullProduct_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueProductList.contains(null);
+    }
+
+    @Test
+    public void contains_productNotInList_returnsFalse() {
+        assertFalse(uniqueProductList.contains(APPLE));
+    }
+
+    @Test
+    public void contains_productWithSameSerialNumberInList_returnsTrue() {
+        uniqueProductList.add(APPLE);
+        Product editedApple = new ProductBuilder(APPLE).withName("Green Apple").withRemainingItems("3").build();
+        assertTrue(uniqueProductList.contains(editedApple));
+    }
+
+    @Test
+    public void containsName_afterAddEditAndRemove_tracksNames() {
+        uniqueProductList.add(APPLE);
+        uniqueProductList.add(BANANA);
+        assertTrue(uniqueProductList.containsName(APPLE.getName().fullName));
+
+        Product editedApple = new ProductBuilder(APPLE).withName("Green Apple").build();
+        uniqueProductList.setProduct(APPLE, editedApple);
+        assertFalse(uniqueProductList.containsName(APPLE.getName().fullName));
+        assertTrue(uniqueProductList.containsName("Green Apple"));
+
+        uniqueProductList.remove(editedApple);
+        assertFalse(uniqueProductList.containsName("Green Apple"));
+        assertTrue(uniqueProductList.containsName(BANANA.getName().fullName));
+    }
+
+    @Test
+    public void containsName_twoProductsWithSameName_removingOneKeepsName() {
+        Product otherApple = new ProductBuilder(APPLE).withSerialNumber("99999").build();
+        uniqueProductList.add(APPLE);
+        uniqueProductList.add(otherApple);
+        uniqueProductList.remove(APPLE);
+        assertTrue(uniqueProductList.containsName(APPLE.getName().fullName));
+    }
+
+    @Test
+    public void getProductsWithName_twoProductsWithSameName_returnsBoth() {
+        Product otherApple = new ProductBuilder(APPLE).withSerialNumber("99999").build();
+        uniqueProductList.add(APPLE);
+        uniqueProductList.add(BANANA);
+        uniqueProductList.add(otherApple);
+
+        List<Product> apples = uniqueProductList.getProductsWithName(APPLE.getName().fullName);
+        assertEquals(2, apples.size());
+        assertTrue(apples.contains(APPLE));
+        assertTrue(apples.contains(otherApple));
+        assertTrue(uniqueProductList.getProductsWithName("Durian").isEmpty());
+
+        // the returned list is a copy, so products can be edited while iterating over it
+        uniqueProductList.setProduct(APPLE, new ProductBuilder(APPLE).withRemainingItems("0").build());
+        assertEquals(2, apples.size());
+    }
+
+    @Test
+    public void add_duplicateProduct_throwsDuplicateProductException() {
+        uniqueProductList.add(APPLE);
+        thrown.expect(DuplicateProductException.class);
+        uniqueProductList.add(new ProductBuilder(APPLE).withName("Green Apple").build());
+    }
+
+    @Test
+    public void setProduct_targetProductNotInList_throwsProductNotFoundException() {
+        thrown.expect(ProductNotFoundException.class);
+        uniqueProductList.setProduct(APPLE, APPLE);
+    }
+
+    @Test
+    public void setProduct_targetWithSameSerialNumberButDifferentFields_throwsProductNotFoundException() {
+        uniqueProductList.add(APPLE);
+        thrown.expect(ProductNotFoundException.class);
+        uniqueProductList.setProduct(new ProductBuilder(APPLE).withInfo("Another orchard").build(), BANANA);
+    }
+
+    @Test
+    public void setProduct_targetWithDifferentRemainingItems_success() {
+        uniqueProductList.add(APPLE);
+        uniqueProductList.setProduct(new ProductBuilder(APPLE).withRemainingItems("0").build(), BANANA);
+        UniqueProductList expectedUniqueProductList = new UniqueProductList();
+        expectedUniqueProductList.add(BANANA);
+        assertEquals(expectedUniqueProductList, uniqueProductList);
+    }
+
+    @Test
+    public void setProduct_editedProductHasDifferentIdentity_success() {
+        uniqueProductList.add(APPLE);
+        uniqueProductList.setProduct(APPLE, BANANA);
+        UniqueProductList expectedUniqueProductList = new UniqueProductList();
+        expectedUniqueProductList.add(BANANA);
+        assertEquals(expectedUniqueProductList, uniqueProductList);
+        assertFalse(uniqueProductList.contains(APPLE));
+    }
+
+    @Test
+    public void setProduct_editedProductHasNonUniqueIdentity_throwsDuplicateProductException() {
+        uniqueProductList.add(APPLE);
+        uniqueProductList.add(BANANA);
+        thrown.expect(DuplicateProductException.class);
+        uniqueProductList.setProduct(APPLE, BANANA);
+    }
+
+    @Test
+    public void remove_productDoesNotExist_throwsProductNotFoundException() {
+        thrown.expect(ProductNotFoundException.class);
+        uniqueProductList.remove(APPLE);
+    }
+
+    @Test
+    public void remove_productBeforeOthers_keepsLaterProductsEditable() {
+        uniqueProductList.add(APPLE);
+        uniqueProductList.add(BANANA);
+        uniqueProductList.add(ORANGE);
+        uniqueProductList.remove(APPLE);
+
+        Product editedOrange = new ProductBuilder(ORANGE).withRemainingItems("1").build();
+        uniqueProductList.setProduct(ORANGE, editedOrange);
+        assertEquals(Arrays.asList(BANANA, editedOrange), uniqueProductList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setProducts_list_replacesOwnListAndIndexes() {
+        uniqueProductList.add(APPLE);
+        List<Product> productList = Collections.singletonList(GRAPE);
+        uniqueProductList.setProducts(productList);
+        assertFalse(uniqueProductList.contains(APPLE));
+        assertFalse(uniqueProductList.containsName(APPLE.getName().fullName));
+        assertTrue(uniqueProductList.contains(GRAPE));
+        assertTrue(uniqueProductList.containsName(GRAPE.getName().fullName));
+    }
+
+    @Test
+    public void setProducts_uniqueProductList_replacesOwnListAndIndexes() {
+        uniqueProductList.add(APPLE);
+        UniqueProductList replacement = new UniqueProductList();
+        replacement.add(BANANA);
+        uniqueProductList.setProducts(replacement);
+        assertEquals(replacement, uniqueProductList);
+        assertFalse(uniqueProductList.contains(APPLE));
+        assertTrue(uniqueProductList.contains(BANANA));
+    }
+
+    @Test
+    public void setProducts_listWithDuplicateProducts_throwsDuplicateProductException() {
+        List<Product> listWithDuplicateProducts = Arrays.asList(APPLE, APPLE);
+        thrown.expect(DuplicateProductException.class);
+        uniqueProductList.setProducts(listWithDuplicateProducts);
+    }
+
+    @Test
+    public void setProducts_listWithDuplicateProducts_reportsEveryDuplicatePair() {
+        List<Product> listWithDuplicateProducts = Arrays.asList(APPLE, BANANA, APPLE, BANANA);
+        thrown.expect(DuplicateProductException.class);
+        thrown.expectMessage("1 and 3, 2 and 4");
+        uniqueProductList.setProducts(listWithDuplicateProducts);
+    }
+
+    @Test(timeout = 5000)
+    public void setProducts_largeList_validatesInLinearTime() {
+        // a pairwise uniqueness check needs over a billion comparisons for this many products
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            products.add(new ProductBuilder(APPLE).withSerialNumber(String.format("%06d", i)).build());
+        }
+        uniqueProductList.setProducts(products);
+        assertEquals(products, uniqueProductList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueProductList.asUnmodifiableObservableList().remove(0);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.saleshistory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class ColdSalesPartitionsTest {
+
+    private static final String[] MONTHS = {"2018/08", "2018/09", "2018/10"};
+
+    private final Map<Long, List<Transaction>> monthTransactions = new TreeMap<>();
+    private final List<Long> loadedMonths = new ArrayList<>();
+
+    @Test
+    public void getTransactions_moreMonthsThanResident_leastRecentlyUsedMonthDropped() throws Exception {
+        ColdSalesPartitions coldPartitions = createColdPartitions(2);
+        long august = TimeIdentifiedClass.toEpochSecond("2018/08/01 00:00:00");
+
+        List<Transaction> transactions = new ArrayList<>();
+        coldPartitions.getTransactions(Long.MIN_VALUE, Long.MAX_VALUE).forEachRemaining(transactions::add);
+        assertEquals(6, transactions.size());
+        assertEquals(3, loadedMonths.size());
+        assertEquals(2, coldPartitions.getResidentMonthCount());
+
+        // august was dropped to make room for october, so it is loaded again
+        assertEquals("2018/08/15 10:00:00",
+                coldPartitions.get(TimeIdentifiedClass.toEpochSecond("2018/08/15 10:00:00")).getTransactionTime());
+        assertEquals(Long.valueOf(august), loadedMonths.get(3));
+        assertNull(coldPartitions.get(TimeIdentifiedClass.toEpochSecond("2018/08/15 10:00:01")));
+        assertEquals(4, loadedMonths.size());
+    }
+
+    @Test
+    public void getTransactions_range_onlyMonthsInRangeLoaded() throws Exception {
+        ColdSalesPartitions coldPartitions = createColdPartitions(ColdSalesPartitions.DEFAULT_MAX_RESIDENT_MONTHS);
+        List<Transaction> transactions = new ArrayList<>();
+        coldPartitions.getTransactions(TimeIdentifiedClass.toEpochSecond("2018/09/10 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/09/30 00:00:00")).forEachRemaining(transactions::add);
+
+        assertEquals(1, transactions.size());
+        assertEquals(Collections.singletonList(TimeIdentifiedClass.toEpochSecond("2018/09/01 00:00:00")),
+                loadedMonths);
+    }
+
+    @Test
+    public void setColdPartitions_manifestsAddedToAggregatesAndRollup() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/11/01 10:00:00", 5));
+        salesHistory.setColdPartitions(createColdPartitions(1));
+
+        assertEquals(17, salesHistory.getSalesAggregates().getUnitsSold("Apple"));
+        assertEquals(3, salesHistory.getSalesAggregates().getUnitsSold("Apple",
+                TimeIdentifiedClass.toEpochSecond("2018/08/01 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/09/01 00:00:00")));
+        assertEquals(7, salesHistory.getSalesRollup().getTransactionCount());
+        assertEquals(3, salesHistory.getSalesRollup().getUnitsSold(
+                TimeIdentifiedClass.toEpochSecond("2018/10/01 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/10/02 00:00:00")));
+        assertEquals(0, salesHistory.getColdPartitions().getResidentMonthCount());
+    }
+
+    /**
+     * Returns cold partitions of two transactions in each of {@code MONTHS}, holding at most
+     * {@code maxResidentMonths} months at once.
+     */
+    private ColdSalesPartitions createColdPartitions(int maxResidentMonths) throws Exception {
+        List<SalesPartition> partitions = new ArrayList<>();
+        for (int i = 0; i < MONTHS.length; i++) {
+            long monthStart = TimeIdentifiedClass.toEpochSecond(MONTHS[i] + "/01 00:00:00");
+            List<Transaction> transactions = new ArrayList<>();
+            transactions.add(createTransaction(MONTHS[i] + "/01 12:00:00", i + 1));
+            transactions.add(createTransaction(MONTHS[i] + "/15 10:00:00", 2));
+            monthTransactions.put(monthStart, transactions);
+            partitions.add(SalesPartition.summarize(monthStart, transactions));
+        }
+        return new ColdSalesPartitions(partitions, monthStart -> {
+            loadedMonths.add(monthStart);
+            return monthTransactions.get(monthStart);
+        }, maxResidentMonths);
+    }
+
+    private Transaction createTransaction(String time, int quantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", quantity);
+        return new Transaction(time, record);
+    }
+}
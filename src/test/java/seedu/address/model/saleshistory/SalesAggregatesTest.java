@@ -0,0 +1,158 @@
+package seedu.address.model.saleshistory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.Assert;
+
+public class SalesAggregatesTest {
+
+    private static final String[] PRODUCTS = {"Apple", "Banana", "Cherry", "Durian"};
+
+    @Test
+    public void getUnitsSold_afterTransactionsAdded_sameAsScanningTransactions() throws Exception {
+        SalesHistory salesHistory = createSalesHistory();
+        SalesAggregates salesAggregates = salesHistory.getSalesAggregates();
+
+        long from = TimeIdentifiedClass.toEpochSecond("2018/10/03 00:00:00");
+        long to = TimeIdentifiedClass.toEpochSecond("2018/10/10 00:00:00");
+        for (String product : PRODUCTS) {
+            assertEquals(product, scanUnitsSold(salesHistory, product, Long.MIN_VALUE, Long.MAX_VALUE),
+                    salesAggregates.getUnitsSold(product));
+            assertEquals(product, scanUnitsSold(salesHistory, product, from, to),
+                    salesAggregates.getUnitsSold(product, from, to));
+        }
+        assertEquals(0, salesAggregates.getUnitsSold("Eggplant"));
+    }
+
+    @Test
+    public void getSalesAggregates_loadedSalesHistory_rebuiltFromTransactions() throws Exception {
+        SalesHistory salesHistory = createSalesHistory();
+        SalesHistory loaded = new SalesHistory(salesHistory.getTransactionRecord(), new TimeKeyedMap<>());
+        SalesHistory copied = new SalesHistory(salesHistory);
+        for (String product : PRODUCTS) {
+            long unitsSold = salesHistory.getSalesAggregates().getUnitsSold(product);
+            assertEquals(unitsSold, loaded.getSalesAggregates().getUnitsSold(product));
+            assertEquals(unitsSold, copied.getSalesAggregates().getUnitsSold(product));
+        }
+
+        copied.resetData(new SalesHistory());
+        assertEquals(0, copied.getSalesAggregates().getUnitsSold(PRODUCTS[0]));
+    }
+
+    @Test
+    public void getSalesRollup_sameAsScanningTransactions() throws Exception {
+        SalesHistory salesHistory = createSalesHistory();
+        SalesRollup salesRollup = salesHistory.getSalesRollup();
+        salesHistory.addTransaction(createTransaction("2018/10/20 10:30:00", "Apple", 4, "Banana", 1));
+
+        long from = TimeIdentifiedClass.toEpochSecond("2018/09/30 00:00:00");
+        long to = TimeIdentifiedClass.toEpochSecond("2018/10/21 00:00:00");
+        long units = 0;
+        for (String product : PRODUCTS) {
+            units += scanUnitsSold(salesHistory, product, from, to);
+        }
+        assertEquals(units, salesRollup.getUnitsSold(from, to));
+        assertEquals(salesHistory.getTransactionRecord().valuesInRange(from, to).size(),
+                salesRollup.getTransactionCount(from, to));
+        assertEquals(salesHistory.getTransactionRecord().size(), salesRollup.getTransactionCount());
+    }
+
+    @Test
+    public void restoreSalesRollup_onlyMatchingRollupUsed() throws Exception {
+        SalesHistory salesHistory = createSalesHistory();
+        SalesRollup rollup = salesHistory.getSalesRollup();
+
+        SalesHistory loaded = new SalesHistory(salesHistory.getTransactionRecord(), new TimeKeyedMap<>());
+        assertFalse(loaded.restoreSalesRollup(new SalesRollup()));
+        assertTrue(loaded.restoreSalesRollup(rollup.copy()));
+        assertEquals(rollup.getUnitsSold(), loaded.getSalesRollup().getUnitsSold());
+    }
+
+    @Test
+    public void getTopSellers_sortedByUnitsSoldThenName() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Banana", 3, "Apple", 3));
+        salesHistory.addTransaction(createTransaction("2018/10/02 10:00:00", "Cherry", 5, "Durian", 1));
+        SalesAggregates salesAggregates = salesHistory.getSalesAggregates();
+
+        List<Map.Entry<String, Long>> topSellers = salesAggregates.getTopSellers(3);
+        assertEquals(3, topSellers.size());
+        assertEquals("Cherry", topSellers.get(0).getKey());
+        assertEquals(Long.valueOf(5), topSellers.get(0).getValue());
+        assertEquals("Apple", topSellers.get(1).getKey());
+        assertEquals("Banana", topSellers.get(2).getKey());
+
+        // products without sales in the range are left out
+        long from = TimeIdentifiedClass.toEpochSecond("2018/10/01 00:00:00");
+        long to = TimeIdentifiedClass.toEpochSecond("2018/10/02 00:00:00");
+        topSellers = salesAggregates.getTopSellers(10, from, to);
+        assertEquals(2, topSellers.size());
+        assertEquals("Apple", topSellers.get(0).getKey());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> salesAggregates.getTopSellers(0));
+    }
+
+    /**
+     * Returns a sales history with a transaction every few hours over three weeks.
+     */
+    private static SalesHistory createSalesHistory() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        long start = TimeIdentifiedClass.toEpochSecond("2018/09/25 00:00:00");
+        for (int i = 0; i < 21 * 8; i++) {
+            long time = start + i * 3 * 60 * 60 + i % 7 * 60;
+            String product = PRODUCTS[i % PRODUCTS.length];
+            String otherProduct = PRODUCTS[(i * 7) % PRODUCTS.length];
+            salesHistory.addTransaction(createTransaction(toDateAndTime(time), product, 1 + i % 5, otherProduct, 2));
+        }
+        return salesHistory;
+    }
+
+    /**
+     * Returns a transaction at {@code time} selling the given quantities of two products.
+     */
+    private static Transaction createTransaction(String time, String product, int quantity, String otherProduct,
+            int otherQuantity) throws Exception {
+        Map<String, Integer> record = new HashMap<>();
+        record.merge(product, quantity, Integer::sum);
+        record.merge(otherProduct, otherQuantity, Integer::sum);
+        return new Transaction(time, new TreeMap<>(record));
+    }
+
+    /**
+     * Returns {@code epochSecond} in the yyyy/MM/dd HH:mm:ss format.
+     */
+    private static String toDateAndTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC)
+                .format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+    }
+
+    /**
+     * Returns the units of {@code product} sold in {@code salesHistory} from {@code from} inclusive to {@code to}
+     * exclusive, found by going through every transaction.
+     */
+    private static long scanUnitsSold(SalesHistory salesHistory, String product, long from, long to) {
+        long unitsSold = 0;
+        for (Transaction transaction : salesHistory.getTransactionsAsObservableList()) {
+            long time = TimeIdentifiedClass.toEpochSecond(transaction.getTransactionTime());
+            Integer quantity = transaction.getTransactionRecord().get(product);
+            if (quantity != null && time >= from && time < to) {
+                unitsSold += quantity;
+            }
+        }
+        return unitsSold;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.saleshistory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.testutil.Assert;
+
+public class SalesBucketsTest {
+
+    private static final long HOUR = 60 * 60;
+
+    @Test
+    public void getTotal_randomRanges_sameAsSummingEachSale() {
+        Random random = new Random(2113);
+        long start = TimeIdentifiedClass.toEpochSecond("2018/01/01 00:00:00");
+        long[] saleTimes = new long[3000];
+        long[] saleCounts = new long[saleTimes.length];
+        SalesBuckets buckets = new SalesBuckets();
+        for (int i = 0; i < saleTimes.length; i++) {
+            // about two years of sales, so ranges cover hours, days and months
+            saleTimes[i] = start + (long) (random.nextDouble() * 730 * TimeIdentifiedClass.SECONDS_IN_DAY);
+            saleCounts[i] = 1 + random.nextInt(10);
+            buckets.add(saleTimes[i], saleCounts[i]);
+        }
+
+        long allSales = 0;
+        for (long count : saleCounts) {
+            allSales += count;
+        }
+        assertEquals(allSales, buckets.getTotal());
+
+        for (int i = 0; i < 500; i++) {
+            long from = start + (random.nextInt(800 * 24) - 24) * HOUR;
+            long to = from + random.nextInt(400 * 24) * HOUR;
+            long expected = 0;
+            for (int j = 0; j < saleTimes.length; j++) {
+                if (saleTimes[j] >= from && saleTimes[j] < to) {
+                    expected += saleCounts[j];
+                }
+            }
+            assertEquals(expected, buckets.getTotal(from, to));
+        }
+    }
+
+    @Test
+    public void getTotal_rangesOverYears_sameAsSummingEachSale() {
+        Random random = new Random(2113);
+        long start = TimeIdentifiedClass.toEpochSecond("2015/06/15 00:00:00");
+        long[] saleTimes = new long[2000];
+        SalesBuckets buckets = new SalesBuckets();
+        for (int i = 0; i < saleTimes.length; i++) {
+            saleTimes[i] = start + (long) (random.nextDouble() * 6 * 365 * TimeIdentifiedClass.SECONDS_IN_DAY);
+            buckets.add(saleTimes[i], 1);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            long from = start + random.nextInt(3 * 365 * 24) * HOUR;
+            long to = from + random.nextInt(4 * 365 * 24) * HOUR;
+            long expected = 0;
+            for (long saleTime : saleTimes) {
+                if (saleTime >= from && saleTime < to) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, buckets.getTotal(from, to));
+        }
+    }
+
+    @Test
+    public void getTotal_wholeMonths_countsMonthBoundariesOnce() {
+        SalesBuckets buckets = new SalesBuckets();
+        buckets.add(TimeIdentifiedClass.toEpochSecond("2018/01/31 23:59:59"), 1);
+        buckets.add(TimeIdentifiedClass.toEpochSecond("2018/02/01 00:00:00"), 2);
+        buckets.add(TimeIdentifiedClass.toEpochSecond("2018/02/28 23:00:00"), 4);
+        buckets.add(TimeIdentifiedClass.toEpochSecond("2018/03/01 00:00:00"), 8);
+
+        long february = TimeIdentifiedClass.toEpochSecond("2018/02/01 00:00:00");
+        long march = TimeIdentifiedClass.toEpochSecond("2018/03/01 00:00:00");
+        assertEquals(6, buckets.getTotal(february, march));
+        assertEquals(15, buckets.getTotal(february - HOUR, march + HOUR));
+        assertEquals(0, buckets.getTotal(march, march));
+    }
+
+    @Test
+    public void getTotal_boundsNotOnTheHour_throwsIllegalArgumentException() {
+        SalesBuckets buckets = new SalesBuckets();
+        Assert.assertThrows(IllegalArgumentException.class, () -> buckets.getTotal(1, HOUR));
+        Assert.assertThrows(IllegalArgumentException.class, () -> buckets.getTotal(0, HOUR + 1));
+    }
+}
@@ -1,11 +1,19 @@
 package seedu.address.model.saleshistory;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.junit.Test;
 
 import seedu.address.model.timeidentifiedclass.Reminder;
 import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateReminderException;
 import seedu.address.model.timeidentifiedclass.exceptions.InvalidTimeFormatException;
 import seedu.address.testutil.Assert;
 
@@ -66,6 +74,57 @@ public class SalesHistoryTest {
         }
     }
 
+    @Test
+    public void getDaysTransactions_transactionsAroundMidnight_onlyThatDay() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(new Transaction("2018/10/28 00:00:00"));
+        salesHistory.addTransaction(new Transaction("2018/10/27 23:59:59"));
+        salesHistory.addTransaction(new Transaction("2018/10/29 00:00:00"));
+        salesHistory.addTransaction(new Transaction("2018/10/28 23:59:59"));
+
+        List<Transaction> daysTransactions = salesHistory.getDaysTransactions("2018/10/28");
+        assertEquals(2, daysTransactions.size());
+        assertEquals("2018/10/28 00:00:00", daysTransactions.get(0).getTransactionTime());
+        assertEquals("2018/10/28 23:59:59", daysTransactions.get(1).getTransactionTime());
+    }
+
+    @Test
+    public void removeReminder_existingReminder_removed() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addReminder(new Reminder("2018/10/28 10:00:00", "first"));
+        salesHistory.addReminder(new Reminder("2018/10/28 09:00:00", "second"));
+
+        salesHistory.removeReminder(" 2018/10/28 10:00:00 ");
+        assertNull(salesHistory.getReminder("2018/10/28 10:00:00"));
+        assertEquals("second", salesHistory.getReminder("2018/10/28 09:00:00").getReminderMessage());
+        assertEquals(1, salesHistory.getRemindersAsObservableList().size());
+        Assert.assertThrows(NoSuchElementException.class, () -> salesHistory.removeReminder("2018/10/28 10:00:00"));
+    }
+
+    @Test
+    public void changeReminderTime_existingReminder_movedAndShownAgain() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        Reminder reminder = new Reminder("2018/10/28 10:00:00", "first");
+        salesHistory.addReminder(reminder);
+        salesHistory.addReminder(new Reminder("2018/10/28 09:00:00", "second"));
+        reminder.declareAsShownByThread();
+
+        assertSame(reminder, salesHistory.changeReminderTime(" 2018/10/28 10:00:00 ", "2018/10/29 10:00:00"));
+        assertNull(salesHistory.getReminder("2018/10/28 10:00:00"));
+        assertSame(reminder, salesHistory.getReminder("2018/10/29 10:00:00"));
+        assertEquals("2018/10/29 10:00:00", reminder.getReminderTime());
+        assertFalse(reminder.hasBeenShownByThread());
+        assertEquals(2, salesHistory.getRemindersAsObservableList().size());
+
+        Assert.assertThrows(NoSuchElementException.class, () ->
+                salesHistory.changeReminderTime("2018/10/28 10:00:00", "2018/10/30 10:00:00"));
+        Assert.assertThrows(DuplicateReminderException.class, () ->
+                salesHistory.changeReminderTime("2018/10/29 10:00:00", "2018/10/28 09:00:00"));
+        Assert.assertThrows(InvalidTimeFormatException.class, () ->
+                salesHistory.changeReminderTime("2018/10/29 10:00:00", "tomorrow"));
+        assertSame(reminder, salesHistory.getReminder("2018/10/29 10:00:00"));
+    }
+
     /**
      * =============================== STUBS ====================================================
      * In the following stubs, we often use valid and invalid times. To understand what these {@code String} are,
@@ -0,0 +1,78 @@
+package seedu.address.model.saleshistory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class SalesVelocityTest {
+
+    private static final long FIRST_DAY = TimeIdentifiedClass.toEpochSecond("2018/08/01 12:00:00");
+    private static final int DAYS = 60;
+
+    @Test
+    public void getDailySalesRate_steadySales_unitsSoldPerDay() throws Exception {
+        SalesHistory salesHistory = createSalesHistory(false);
+        SalesVelocity salesVelocity = salesHistory.getSalesVelocity();
+        long lastDay = FIRST_DAY + (DAYS - 1) * TimeIdentifiedClass.SECONDS_IN_DAY;
+
+        assertEquals(10, salesVelocity.getDailySalesRate("Apple", lastDay + TimeIdentifiedClass.SECONDS_IN_DAY / 2),
+                0.5);
+        assertEquals(0, salesVelocity.getDailySalesRate("Banana", lastDay), 0);
+    }
+
+    @Test
+    public void getDailySalesRate_noSalesForHalfLife_rateHalved() throws Exception {
+        SalesVelocity salesVelocity = createSalesHistory(false).getSalesVelocity();
+        long lastSale = salesVelocity.getLastSaleTime();
+        long halfLifeLater = lastSale + SalesVelocity.HALF_LIFE_IN_DAYS * TimeIdentifiedClass.SECONDS_IN_DAY;
+
+        assertEquals(0.5, salesVelocity.getDailySalesRate("Apple", halfLifeLater)
+                / salesVelocity.getDailySalesRate("Apple", lastSale), 0.01);
+    }
+
+    @Test
+    public void getDailySalesRate_transactionsOutOfOrderOrReloaded_sameRate() throws Exception {
+        SalesHistory salesHistory = createSalesHistory(false);
+        long time = salesHistory.getSalesVelocity().getLastSaleTime();
+        double rate = salesHistory.getSalesVelocity().getDailySalesRate("Apple", time);
+
+        assertEquals(rate, createSalesHistory(true).getSalesVelocity().getDailySalesRate("Apple", time), 1e-9);
+        SalesHistory loaded = new SalesHistory(salesHistory.getTransactionRecord(), new TimeKeyedMap<>());
+        assertEquals(rate, loaded.getSalesVelocity().getDailySalesRate("Apple", time), 1e-9);
+
+        loaded.resetData(new SalesHistory());
+        assertEquals(0, loaded.getSalesVelocity().getDailySalesRate("Apple", time), 0);
+    }
+
+    /**
+     * Returns a sales history selling 10 apples a day, in two transactions, for {@code DAYS} days.
+     * If {@code isReversed}, the transactions are added from the latest to the earliest.
+     */
+    private static SalesHistory createSalesHistory(boolean isReversed) throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        for (int i = 0; i < DAYS; i++) {
+            long day = FIRST_DAY + (isReversed ? DAYS - 1 - i : i) * TimeIdentifiedClass.SECONDS_IN_DAY;
+            salesHistory.addTransaction(createTransaction(day, 4));
+            salesHistory.addTransaction(createTransaction(day + 3 * 60 * 60, 6));
+        }
+        return salesHistory;
+    }
+
+    /**
+     * Returns a transaction at {@code epochSecond} selling {@code quantity} apples.
+     */
+    private static Transaction createTransaction(long epochSecond, int quantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", quantity);
+        return new Transaction(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC)
+                .format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")), record);
+    }
+}
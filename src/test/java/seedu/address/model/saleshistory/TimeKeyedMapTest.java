@@ -0,0 +1,99 @@
+package seedu.address.model.saleshistory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TimeKeyedMapTest {
+
+    @Test
+    public void put_keysOutOfOrder_valuesInKeyOrder() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        for (long key : new long[] {50, 10, 40, 20, 30}) {
+            assertNull(map.put(key, "v" + key));
+        }
+        assertEquals(Arrays.asList("v10", "v20", "v30", "v40", "v50"), map.values());
+        assertEquals(10, map.keyAt(0));
+        assertEquals("v50", map.lastValue());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        map.put(1, "old");
+        assertEquals("old", map.put(1, "new"));
+        assertEquals("new", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putIfAbsent_existingKey_keepsValue() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        assertNull(map.putIfAbsent(1, "first"));
+        assertEquals("first", map.putIfAbsent(1, "second"));
+        assertEquals("first", map.get(1));
+    }
+
+    @Test
+    public void remove_manyKeys_remainingKeysInOrder() {
+        TimeKeyedMap<Long> map = new TimeKeyedMap<>();
+        for (long key = 0; key < 100; key++) {
+            map.put(key, key);
+        }
+        for (long key = 0; key < 100; key += 2) {
+            assertEquals(Long.valueOf(key), map.remove(key));
+        }
+        assertNull(map.remove(0));
+        assertEquals(50, map.size());
+        for (int i = 0; i < map.size(); i++) {
+            assertEquals(2 * i + 1, map.keyAt(i));
+        }
+        assertFalse(map.containsKey(10));
+        assertTrue(map.containsKey(11));
+    }
+
+    @Test
+    public void valuesInRange_fromInclusiveToExclusive() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        map.put(10, "a");
+        map.put(20, "b");
+        map.put(30, "c");
+        assertEquals(Arrays.asList("a", "b"), map.valuesInRange(10, 30));
+        assertEquals(Arrays.asList("b", "c"), map.valuesInRange(11, 31));
+        assertEquals(Collections.emptyList(), map.valuesInRange(21, 30));
+        assertEquals(Collections.emptyList(), map.valuesInRange(30, 10));
+    }
+
+    @Test
+    public void valuesInRangeIterator_sameValuesAsValuesInRange() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        map.put(10, "a");
+        map.put(20, "b");
+        map.put(30, "c");
+        Iterator<String> iterator = map.valuesInRangeIterator(11, 31);
+        assertEquals("b", iterator.next());
+        assertEquals("c", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertFalse(map.valuesInRangeIterator(30, 10).hasNext());
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void clear_thenLastValue_returnsNull() {
+        TimeKeyedMap<String> map = new TimeKeyedMap<>();
+        map.put(1, "a");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.lastValue());
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.model.timeidentifiedclass;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
 import org.junit.Test;
 
+import seedu.address.testutil.Assert;
+
 public class TimeIdentifiedClassTest {
 
     private static final String CORRECT_DATETIME_FORMAT = "\\d{4}/\\d{2}/\\d{2} \\d{2}:\\d{2}:\\d{2}";
@@ -175,4 +182,148 @@ public class TimeIdentifiedClassTest {
         // february 29th on leap year
         assertTrue(TimeIdentifiedClass.isValidDateAndTime("2020/02/29 12:32:30"));
     }
+
+    @Test
+    public void toEpochSecond_validDateAndTime_matchesUnixEpoch() {
+        assertEquals(0, TimeIdentifiedClass.toEpochSecond("1970/01/01 00:00:00"));
+        assertEquals(LocalDateTime.of(2018, 10, 27, 13, 5, 9).toEpochSecond(ZoneOffset.UTC),
+                TimeIdentifiedClass.toEpochSecond("2018/10/27 13:05:09"));
+        assertEquals(LocalDateTime.of(2020, 2, 29, 23, 59, 59).toEpochSecond(ZoneOffset.UTC),
+                TimeIdentifiedClass.toEpochSecond(" 2020/02/29 23:59:59 "));
+        assertEquals(LocalDateTime.of(1960, 3, 1, 0, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                TimeIdentifiedClass.toEpochSecond("1960/03/01 00:00:00"));
+    }
+
+    @Test
+    public void toEpochSecond_laterTime_largerKey() {
+        assertTrue(TimeIdentifiedClass.toEpochSecond("2018/12/31 23:59:59")
+                < TimeIdentifiedClass.toEpochSecond("2019/01/01 00:00:00"));
+        // the 29th of February of 2100 is valid here, so it must not share a key with the 1st of March
+        assertTrue(TimeIdentifiedClass.toEpochSecond("2100/02/29 00:00:00")
+                < TimeIdentifiedClass.toEpochSecond("2100/03/01 00:00:00"));
+    }
+
+    @Test
+    public void toEpochSecond_invalidDateAndTime_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                TimeIdentifiedClass.toEpochSecond("2018/02/30 10:00:00"));
+    }
+
+    @Test
+    public void getStartOfMonth_anyTimeInMonth_returnsFirstOfMonth() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 2000; i++) {
+            int year = 1900 + random.nextInt(300);
+            int month = 1 + random.nextInt(12);
+            String date = String.format("%04d/%02d/%02d %02d:%02d:%02d", year, month, 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            long startOfMonth = TimeIdentifiedClass.toEpochSecond(String.format("%04d/%02d/01 00:00:00", year, month));
+            long startOfNextMonth = TimeIdentifiedClass.toEpochSecond(month == 12
+                    ? String.format("%04d/01/01 00:00:00", year + 1)
+                    : String.format("%04d/%02d/01 00:00:00", year, month + 1));
+            assertEquals(date, startOfMonth,
+                    TimeIdentifiedClass.getStartOfMonth(TimeIdentifiedClass.toEpochSecond(date)));
+            assertEquals(date, startOfNextMonth,
+                    TimeIdentifiedClass.getStartOfNextMonth(TimeIdentifiedClass.toEpochSecond(date)));
+        }
+
+        // last second of a month
+        assertEquals(TimeIdentifiedClass.toEpochSecond("2020/02/01 00:00:00"),
+                TimeIdentifiedClass.getStartOfMonth(TimeIdentifiedClass.toEpochSecond("2020/02/29 23:59:59")));
+        assertEquals(TimeIdentifiedClass.toEpochSecond("1969/12/01 00:00:00"),
+                TimeIdentifiedClass.getStartOfMonth(-1));
+    }
+
+    @Test
+    public void toDateAndTime_epochSecondOfDateAndTime_returnsDateAndTime() {
+        Random random = new Random(2114);
+        for (int i = 0; i < 2000; i++) {
+            String date = String.format("%04d/%02d/%02d %02d:%02d:%02d", 1900 + random.nextInt(300),
+                    1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60),
+                    random.nextInt(60));
+            assertEquals(date, TimeIdentifiedClass.toDateAndTime(TimeIdentifiedClass.toEpochSecond(date)));
+        }
+        assertEquals("2020/02/29 23:59:59",
+                TimeIdentifiedClass.toDateAndTime(TimeIdentifiedClass.toEpochSecond("2020/02/29 23:59:59")));
+        assertEquals("1969/12/31 23:59:59", TimeIdentifiedClass.toDateAndTime(-1));
+    }
+
+    @Test
+    public void isValidDateAndTime_sameResultsAsSplittingOnSeparators() {
+        String[] inputs = {"2018/10/27 13:05:09", " 2018/10/27 13:05:09\t", "2018+10+27+13+05+09",
+            "2018/10/27\t13:05:09::/", "/2018/10/27 13:05:09", "2018/10/27  13:05:09", "2018/10/27 13:05:9",
+            "2016/02/29 00:00:00", "2018/02/29 00:00:00", "2018/04/31 00:00:00", "2018/10/27 24:00:00",
+            "2018/10/27 23:60:00", "2018/10/27 23:59:60", "0000/01/01 00:00:00", "2018-10-27 13:05:09",
+            "20181027 13:05:09", "2018/10/27 13:05:09 +", "", " ", "2018/1a/27 13:05:09"};
+        for (String input : inputs) {
+            assertEquals(input, isValidDateAndTimeBySplitting(input), TimeIdentifiedClass.isValidDateAndTime(input));
+        }
+
+        // random mutations of valid times
+        Random random = new Random(2113);
+        String alphabet = "0123456789/: +\t-a";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder input = new StringBuilder(String.format("%04d/%02d/%02d %02d:%02d:%02d",
+                    random.nextInt(3000), random.nextInt(14), random.nextInt(33), random.nextInt(25),
+                    random.nextInt(61), random.nextInt(61)));
+            for (int mutations = random.nextInt(3); mutations > 0; mutations--) {
+                int position = random.nextInt(input.length() + 1);
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                if (random.nextBoolean() && position < input.length()) {
+                    input.setCharAt(position, c);
+                } else {
+                    input.insert(position, c);
+                }
+            }
+            String mutated = input.toString();
+            assertEquals(mutated, isValidDateAndTimeBySplitting(mutated),
+                    TimeIdentifiedClass.isValidDateAndTime(mutated));
+        }
+    }
+
+    @Test
+    public void isValidDate_sameResultsAsSplittingOnSlashes() {
+        String[] inputs = {"2018/10/27", "2018/10/27/", "2018/10/27//", " 2018/10/27", "2018/10/27 ", "2016/02/29",
+            "2018/02/29", "2018/13/01", "2018/00/01", "2018/10/00", "2018/10", "2018-10-27", "2018/1/27", ""};
+        for (String input : inputs) {
+            assertEquals(input, isValidDateBySplitting(input), TimeIdentifiedClass.isValidDate(input));
+        }
+    }
+
+    /**
+     * Checks {@code dateAndTime} by splitting it into fields on a regular expression,
+     * the way times were validated before they were parsed a character at a time.
+     */
+    private static boolean isValidDateAndTimeBySplitting(String dateAndTime) {
+        String[] fields = dateAndTime.trim().split("[/ \\s+ :]");
+        return fields.length == 6 && isValidDateFieldsBySplitting(fields[0], fields[1], fields[2])
+                && fields[3].matches("\\d{2}") && Integer.parseInt(fields[3]) < 24
+                && fields[4].matches("\\d{2}") && Integer.parseInt(fields[4]) < 60
+                && fields[5].matches("\\d{2}") && Integer.parseInt(fields[5]) < 60;
+    }
+
+    /**
+     * Checks {@code date} by splitting it into fields on slashes.
+     */
+    private static boolean isValidDateBySplitting(String date) {
+        String[] fields = date.split("/");
+        return fields.length == 3 && isValidDateFieldsBySplitting(fields[0], fields[1], fields[2]);
+    }
+
+    /**
+     * Checks the year, month and day fields of a date with regular expressions.
+     */
+    private static boolean isValidDateFieldsBySplitting(String year, String month, String day) {
+        if (!year.matches("\\d{4}") || !month.matches("\\d{2}") || !day.matches("\\d{2}")) {
+            return false;
+        }
+        int monthValue = Integer.parseInt(month);
+        int dayValue = Integer.parseInt(day);
+        if (monthValue < 1 || monthValue > 12 || dayValue < 1) {
+            return false;
+        }
+        int[] daysInMonth = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+        boolean isLeapFebruary = Integer.parseInt(year) % 4 == 0 && monthValue == 2;
+        return dayValue <= (isLeapFebruary ? 29 : daysInMonth[monthValue - 1]);
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.timeidentifiedclass;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -83,4 +84,47 @@ public class TransactionTest {
             fail("Product should be added without exception");
         }
     }
+
+    @Test
+    public void addProduct_linesKeptInNameOrderWithQuantitiesMerged() throws Exception {
+        Transaction toTest = new Transaction();
+        toTest.addProduct("Cherry", 2);
+        toTest.addProduct("Apple");
+        toTest.addProduct("Banana", 4);
+        toTest.addProduct("Apple", 3);
+
+        assertEquals(3, toTest.getLineCount());
+        assertEquals("Apple", toTest.getProductName(0));
+        assertEquals(4, toTest.getQuantity(0));
+        assertEquals("Banana", toTest.getProductName(1));
+        assertEquals("Cherry", toTest.getProductName(2));
+
+        TreeMap<String, Integer> expectedRecord = new TreeMap<>();
+        expectedRecord.put("Apple", 4);
+        expectedRecord.put("Banana", 4);
+        expectedRecord.put("Cherry", 2);
+        assertEquals(expectedRecord, toTest.getTransactionRecord());
+    }
+
+    @Test
+    public void getTransactionRecord_changingReturnedMap_transactionUnchanged() throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", 2);
+        Transaction toTest = new Transaction("2018/10/01 10:00:00", record);
+
+        toTest.getTransactionRecord().put("Banana", 1);
+        record.put("Cherry", 1);
+        assertEquals(1, toTest.getLineCount());
+        assertEquals(Integer.valueOf(2), toTest.getTransactionRecord().get("Apple"));
+    }
+
+    @Test
+    public void getProductId_sameNameInDifferentTransactions_sameId() throws Exception {
+        Transaction first = new Transaction();
+        Transaction second = new Transaction();
+        first.addProduct(new String("Durian"));
+        second.addProduct(new String("Durian"));
+        assertEquals(first.getProductId(0), second.getProductId(0));
+        assertEquals("Durian", ProductNameDictionary.getName(first.getProductId(0)));
+    }
 }
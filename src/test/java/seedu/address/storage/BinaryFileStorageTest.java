@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ProductDatabase;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.TypicalDistributors;
+import seedu.address.testutil.TypicalProducts;
+
+public class BinaryFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void productDatabase_saveThenLoad_sameData() throws Exception {
+        Path file = getTempFilePath("products.bin");
+        ProductDatabase original = TypicalProducts.getTypicalAddressBook();
+        BinaryFileStorage.saveProductDatabase(file, original);
+        assertEquals(original, BinaryFileStorage.loadProductDatabase(file));
+    }
+
+    @Test
+    public void distributorBook_saveThenLoad_sameData() throws Exception {
+        Path file = getTempFilePath("distributors.bin");
+        BinaryFileStorage.saveDistributorBook(file, TypicalDistributors.getTypicalDistributorBook());
+        assertEquals(TypicalDistributors.getTypicalDistributorBook(), BinaryFileStorage.loadDistributorBook(file));
+    }
+
+    @Test
+    public void salesHistory_saveThenLoad_sameData() throws Exception {
+        Path file = getTempFilePath("saleshistory.bin");
+        SalesHistory original = getTypicalSalesHistory(500);
+        BinaryFileStorage.saveSalesHistory(file, original);
+        SalesHistory loaded = BinaryFileStorage.loadSalesHistory(file);
+
+        assertSameSalesHistory(original, loaded);
+    }
+
+    @Test
+    public void salesHistory_binaryFile_smallerThanXmlFile() throws Exception {
+        SalesHistory salesHistory = getTypicalSalesHistory(2000);
+        Path binaryFile = getTempFilePath("saleshistory.bin");
+        Path xmlFile = getTempFilePath("saleshistory.xml");
+        BinaryFileStorage.saveSalesHistory(binaryFile, salesHistory);
+        FileUtil.createIfMissing(xmlFile);
+        XmlUtil.saveDataToFile(xmlFile, new XmlSerializableSalesHistory(salesHistory));
+
+        assertTrue(Files.size(binaryFile) * 3 < Files.size(xmlFile));
+    }
+
+    @Test
+    public void loadProductDatabase_xmlFile_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("products.xml");
+        FileUtil.writeToFile(file, "<addressbook></addressbook>");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(BinaryRecordReader.MESSAGE_NOT_BINARY_DATA_FILE);
+        BinaryFileStorage.loadProductDatabase(file);
+    }
+
+    @Test
+    public void loadProductDatabase_distributorBookFile_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("distributors.bin");
+        BinaryFileStorage.saveDistributorBook(file, TypicalDistributors.getTypicalDistributorBook());
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("Expected products data");
+        BinaryFileStorage.loadProductDatabase(file);
+    }
+
+    @Test
+    public void loadProductDatabase_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("products.bin");
+        BinaryFileStorage.saveProductDatabase(file, TypicalProducts.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(BinaryRecordReader.MESSAGE_CORRUPTED_RECORD);
+        BinaryFileStorage.loadProductDatabase(file);
+    }
+
+    @Test
+    public void loadProductDatabase_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("products.bin");
+        BinaryFileStorage.saveProductDatabase(file, TypicalProducts.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        // the version follows the four byte magic number
+        bytes[7]++;
+        Files.write(file, bytes);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(BinaryRecordReader.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryRecordWriter.FORMAT_VERSION + 1));
+        BinaryFileStorage.loadProductDatabase(file);
+    }
+
+    /**
+     * Returns a sales history with {@code transactionCount} transactions of a few products and one reminder.
+     */
+    private SalesHistory getTypicalSalesHistory(int transactionCount) throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        for (int i = 0; i < transactionCount; i++) {
+            TreeMap<String, Integer> record = new TreeMap<>();
+            record.put("Apple", i % 7 + 1);
+            record.put("Banana", i % 3 + 1);
+            salesHistory.addTransaction(new Transaction(String.format("2018/10/%02d %02d:%02d:%02d",
+                    i / 1440 + 1, i / 60 % 24, i % 60, i % 60), record));
+        }
+        salesHistory.addReminder(new Reminder("2018/11/01 09:00:00", "Order apples"));
+        return salesHistory;
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    /**
+     * Asserts that {@code actual} has the same transactions and reminders as {@code expected}, in the same order.
+     */
+    private void assertSameSalesHistory(SalesHistory expected, SalesHistory actual) {
+        List<Transaction> expectedTransactions = expected.getTransactionsAsObservableList();
+        List<Transaction> actualTransactions = actual.getTransactionsAsObservableList();
+        assertEquals(expectedTransactions.size(), actualTransactions.size());
+        for (int i = 0; i < expectedTransactions.size(); i++) {
+            assertEquals(expectedTransactions.get(i).getTransactionTime(),
+                    actualTransactions.get(i).getTransactionTime());
+            assertEquals(expectedTransactions.get(i).getTransactionRecord(),
+                    actualTransactions.get(i).getTransactionRecord());
+        }
+
+        List<Reminder> expectedReminders = expected.getRemindersAsObservableList();
+        List<Reminder> actualReminders = actual.getRemindersAsObservableList();
+        assertEquals(expectedReminders.size(), actualReminders.size());
+        for (int i = 0; i < expectedReminders.size(); i++) {
+            assertEquals(expectedReminders.get(i).getReminderTime(), actualReminders.get(i).getReminderTime());
+            assertEquals(expectedReminders.get(i).getReminderMessage(), actualReminders.get(i).getReminderMessage());
+        }
+    }
+}
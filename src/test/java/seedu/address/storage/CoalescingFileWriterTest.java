@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CoalescingFileWriterTest {
+
+    private static final Path FIRST_FILE = Paths.get("first.xml");
+    private static final Path SECOND_FILE = Paths.get("second.xml");
+    private static final long LONG_DELAY_MILLIS = 60000;
+
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private final CoalescingFileWriter fileWriter = new CoalescingFileWriter(LONG_DELAY_MILLIS, failures::add);
+
+    @Test
+    public void flush_burstOfSavesToSameFile_writesOnlyNewest() {
+        for (int i = 0; i < 100; i++) {
+            String data = "version " + i;
+            fileWriter.submit(FIRST_FILE, () -> writes.add(data));
+        }
+        assertTrue(writes.isEmpty());
+
+        fileWriter.flush();
+        assertEquals(Collections.singletonList("version 99"), writes);
+    }
+
+    @Test
+    public void flush_savesToDifferentFiles_writesEachFile() {
+        fileWriter.submit(FIRST_FILE, () -> writes.add("first"));
+        fileWriter.submit(SECOND_FILE, () -> writes.add("second"));
+        fileWriter.flush();
+        assertEquals(2, writes.size());
+        assertTrue(writes.contains("first") && writes.contains("second"));
+
+        // nothing is written twice
+        fileWriter.flush();
+        assertEquals(2, writes.size());
+    }
+
+    @Test
+    public void flush_saveFails_passesExceptionToFailureHandler() {
+        IOException exception = new IOException("disk full");
+        fileWriter.submit(FIRST_FILE, () -> {
+            throw exception;
+        });
+        fileWriter.flush();
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test(timeout = 5000)
+    public void submit_shortDelay_writesWithoutFlush() throws InterruptedException {
+        CoalescingFileWriter quickFileWriter = new CoalescingFileWriter(1, failures::add);
+        quickFileWriter.submit(FIRST_FILE, () -> writes.add("saved"));
+        while (writes.isEmpty()) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList("saved"), writes);
+    }
+}
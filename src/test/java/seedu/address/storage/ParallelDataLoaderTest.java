@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ParallelDataLoaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test(timeout = 5000)
+    public void load_independentLoads_runConcurrently() throws Exception {
+        // each load only finishes once every load has started, which cannot happen if they run one after another
+        CountDownLatch started = new CountDownLatch(3);
+        CompletableFuture<String> first = ParallelDataLoader.load("first", () -> awaitOthers(started, "a"));
+        CompletableFuture<String> second = ParallelDataLoader.load("second", () -> awaitOthers(started, "b"));
+        CompletableFuture<String> third = ParallelDataLoader.load("third", () -> awaitOthers(started, "c"));
+
+        assertEquals("a", ParallelDataLoader.join(first));
+        assertEquals("b", ParallelDataLoader.join(second));
+        assertEquals("c", ParallelDataLoader.join(third));
+    }
+
+    @Test
+    public void join_loaderThrowsUncheckedException_rethrowsSameException() {
+        CompletableFuture<String> load = ParallelDataLoader.load("failing", () -> {
+            throw new IllegalStateException("broken file");
+        });
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("broken file");
+        ParallelDataLoader.join(load);
+    }
+
+    /**
+     * Marks this load as started, waits for the other loads to start, and returns {@code result}.
+     */
+    private String awaitOthers(CountDownLatch started, String result) {
+        started.countDown();
+        try {
+            if (!started.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Loads did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+}
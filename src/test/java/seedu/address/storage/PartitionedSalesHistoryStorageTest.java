@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesHistoryManager;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.model.timeidentifiedclass.exceptions.DuplicateTransactionException;
+import seedu.address.testutil.Assert;
+
+public class PartitionedSalesHistoryStorageTest {
+
+    /** Never in a past month, so it stays in the sales history file. */
+    private static final String CURRENT_TIME = "2099/01/01 10:00:00";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveSalesHistory_pastMonths_readBackOnlyWhenQueried() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        PartitionedSalesHistoryStorage storage = createStorage(StorageFormat.XML, filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        salesHistory.addTransaction(createTransaction("2018/10/31 23:00:00", "Banana", 3));
+        salesHistory.addTransaction(createTransaction("2018/11/15 09:30:00", "Apple", 4));
+        salesHistory.addTransaction(createTransaction(CURRENT_TIME, "Banana", 1));
+        storage.saveSalesHistory(salesHistory);
+
+        assertTrue(Files.exists(filePath.resolveSibling("saleshistory.2018-10.xml")));
+        assertTrue(Files.exists(filePath.resolveSibling("saleshistory.2018-11.manifest")));
+        assertEquals(1, new XmlSalesHistoryStorage(filePath).readSalesHistory().get()
+                .getTransactionsAsObservableList().size());
+
+        SalesHistoryManager readBack = new SalesHistoryManager(storage.readSalesHistory().get());
+        assertEquals(1, readBack.getTransactionsAsObservableList().size());
+        assertEquals(3, readBack.getColdPartitions().getTransactionCount());
+        assertEquals(0, readBack.getColdPartitions().getResidentMonthCount());
+        assertEquals(6, readBack.getSalesAggregates().getUnitsSold("Apple"));
+        assertEquals(4, readBack.getSalesRollup().getTransactionCount());
+
+        long from = TimeIdentifiedClass.toEpochSecond("2018/10/31 00:00:00");
+        long to = TimeIdentifiedClass.toEpochSecond("2018/11/16 00:00:00");
+        Iterator<Transaction> transactions = readBack.getTransactions(from, to);
+        assertEquals("2018/10/31 23:00:00", transactions.next().getTransactionTime());
+        assertEquals("2018/11/15 09:30:00", transactions.next().getTransactionTime());
+        assertFalse(transactions.hasNext());
+        assertEquals(2, readBack.getColdPartitions().getResidentMonthCount());
+        assertEquals(CURRENT_TIME, readBack.getLastTransaction().getTransactionTime());
+    }
+
+    @Test
+    public void saveSalesHistory_transactionAddedToPastMonth_mergedIntoPartition() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.bin");
+        PartitionedSalesHistoryStorage storage = createStorage(StorageFormat.BINARY, filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        storage.saveSalesHistory(salesHistory);
+
+        SalesHistory readBack = new SalesHistory(createStorage(StorageFormat.BINARY, filePath)
+                .readSalesHistory().get());
+        Assert.assertThrows(DuplicateTransactionException.class, () ->
+                readBack.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 1)));
+        Transaction lateTransaction = createTransaction("2018/10/02 10:00:00", "Apple", 5);
+        readBack.addTransaction(lateTransaction);
+        storage.appendTransactions(Collections.singletonList(lateTransaction), filePath);
+
+        // the journaled transaction is not in the partition yet
+        SalesHistory journaled = new SalesHistory(storage.readSalesHistory().get());
+        assertEquals(7, journaled.getSalesAggregates().getUnitsSold("Apple"));
+
+        storage.saveSalesHistory(readBack);
+        SalesHistory saved = new SalesHistory(storage.readSalesHistory().get());
+        assertEquals(0, saved.getTransactionsAsObservableList().size());
+        assertEquals(2, saved.getColdPartitions().getTransactionCount());
+        assertEquals(7, saved.getSalesAggregates().getUnitsSold("Apple"));
+        assertTrue(saved.hasTransaction(TimeIdentifiedClass.toEpochSecond("2018/10/02 10:00:00")));
+    }
+
+    @Test
+    public void archiveMonth_partitionReplacedByArchive() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        PartitionedSalesHistoryStorage storage = createStorage(StorageFormat.XML, filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        salesHistory.addTransaction(createTransaction("2018/10/20 15:00:00", "Banana", 3));
+        storage.saveSalesHistory(salesHistory);
+        long october = TimeIdentifiedClass.toEpochSecond("2018/10/01 00:00:00");
+
+        assertEquals(2, storage.archiveMonth(october));
+        assertEquals(0, storage.archiveMonth(october));
+        assertTrue(Files.exists(filePath.resolveSibling("saleshistory.2018-10.archive")));
+        assertFalse(Files.exists(filePath.resolveSibling("saleshistory.2018-10.xml")));
+
+        // a transaction added to the archived month afterwards stays in the sales history file
+        SalesHistory readBack = new SalesHistory(storage.readSalesHistory().get());
+        readBack.addTransaction(createTransaction("2018/10/05 09:00:00", "Apple", 1));
+        storage.saveSalesHistory(readBack);
+        assertEquals(1, new XmlSalesHistoryStorage(filePath).readSalesHistory().get()
+                .getTransactionsAsObservableList().size());
+
+        SalesHistory archived = new SalesHistory(storage.readSalesHistory().get());
+        Iterator<Transaction> transactions = archived.getTransactions(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals("2018/10/01 10:00:00", transactions.next().getTransactionTime());
+        assertEquals("2018/10/05 09:00:00", transactions.next().getTransactionTime());
+        assertEquals("2018/10/20 15:00:00", transactions.next().getTransactionTime());
+        assertFalse(transactions.hasNext());
+        assertEquals(0, archived.getColdPartitions().getResidentMonthCount());
+        assertEquals(3, archived.getSalesAggregates().getUnitsSold("Apple"));
+        // archived months are scanned to the second, together with the transactions added to them afterwards
+        assertEquals(2, archived.getSalesAggregates().getUnitsSold("Apple",
+                TimeIdentifiedClass.toEpochSecond("2018/10/01 10:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/10/01 11:00:00")));
+        assertEquals(1, archived.getSalesAggregates().getUnitsSold("Apple",
+                TimeIdentifiedClass.toEpochSecond("2018/10/02 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/11/01 00:00:00")));
+        List<Map.Entry<String, Long>> topSellers = archived.getSalesAggregates().getTopSellers(1,
+                TimeIdentifiedClass.toEpochSecond("2018/10/01 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/11/01 00:00:00"));
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>("Apple", 3L), topSellers.get(0));
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>("Banana", 3L),
+                archived.getSalesAggregates().getTopSellers(2).get(1));
+        assertTrue(archived.hasTransaction(TimeIdentifiedClass.toEpochSecond("2018/10/20 15:00:00")));
+
+        storage.deleteSalesHistory();
+        assertFalse(Files.exists(filePath.resolveSibling("saleshistory.2018-10.archive")));
+    }
+
+    @Test
+    public void deleteSalesHistory_partitionsDeleted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        PartitionedSalesHistoryStorage storage = createStorage(StorageFormat.XML, filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        storage.saveSalesHistory(salesHistory);
+
+        storage.deleteSalesHistory();
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling("saleshistory.2018-10.xml")));
+        assertFalse(Files.exists(filePath.resolveSibling("saleshistory.2018-10.manifest")));
+    }
+
+    private PartitionedSalesHistoryStorage createStorage(StorageFormat format, Path filePath) {
+        return new PartitionedSalesHistoryStorage(format, DataStorageFactory.newSalesHistoryStorage(format, filePath));
+    }
+
+    private Transaction createTransaction(String time, String productName, int quantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put(productName, quantity);
+        return new Transaction(time, record);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.Assert;
+
+public class SalesArchiveFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_transactions_readBackFromColumns() throws Exception {
+        Path archivePath = testFolder.getRoot().toPath().resolve("saleshistory.2018-10.archive");
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction("2018/10/01 10:00:00", "Apple", 2, "Banana", 1));
+        transactions.add(createTransaction("2018/10/15 12:30:00", "Banana", 4, null, 0));
+        transactions.add(createTransaction("2018/10/31 23:59:59", "Apple", 3, "Cherry", 5));
+        SalesArchiveFile.write(archivePath, transactions);
+
+        SalesArchiveFile archive = new SalesArchiveFile(archivePath);
+        assertEquals(3, archive.getTransactionCount());
+        assertEquals(5, archive.getLineCount());
+        for (int i = 0; i < transactions.size(); i++) {
+            assertEquals(transactions.get(i).getTransactionTime(), archive.getTransaction(i).getTransactionTime());
+            assertEquals(transactions.get(i).getTransactionRecord(), archive.getTransaction(i).getTransactionRecord());
+        }
+
+        assertEquals(1, archive.ceilingIndex(TimeIdentifiedClass.toEpochSecond("2018/10/01 10:00:01")));
+        assertEquals(3, archive.ceilingIndex(TimeIdentifiedClass.toEpochSecond("2018/11/01 00:00:00")));
+        assertTrue(archive.hasTransaction(TimeIdentifiedClass.toEpochSecond("2018/10/15 12:30:00")));
+        assertFalse(archive.hasTransaction(TimeIdentifiedClass.toEpochSecond("2018/10/15 12:30:01")));
+        assertEquals(5, archive.getUnitsSold("Apple", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(4, archive.getUnitsSold("Banana", TimeIdentifiedClass.toEpochSecond("2018/10/02 00:00:00"),
+                TimeIdentifiedClass.toEpochSecond("2018/10/31 00:00:00")));
+        assertEquals(0, archive.getUnitsSold("Durian", Long.MIN_VALUE, Long.MAX_VALUE));
+
+        Map<String, Long> unitsSold = new HashMap<>();
+        unitsSold.put("Apple", 10L);
+        archive.addUnitsSold(unitsSold, TimeIdentifiedClass.toEpochSecond("2018/10/15 00:00:00"), Long.MAX_VALUE);
+        assertEquals(3, unitsSold.size());
+        assertEquals(Long.valueOf(13), unitsSold.get("Apple"));
+        assertEquals(Long.valueOf(4), unitsSold.get("Banana"));
+        assertEquals(Long.valueOf(5), unitsSold.get("Cherry"));
+    }
+
+    @Test
+    public void constructor_damagedFile_throwsDataConversionException() throws Exception {
+        Path archivePath = testFolder.getRoot().toPath().resolve("saleshistory.2018-10.archive");
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction("2018/10/01 10:00:00", "Apple", 2, null, 0));
+        SalesArchiveFile.write(archivePath, transactions);
+
+        byte[] archiveBytes = Files.readAllBytes(archivePath);
+        Files.write(archivePath, Arrays.copyOf(archiveBytes, archiveBytes.length - 1));
+        Assert.assertThrows(DataConversionException.class, () -> new SalesArchiveFile(archivePath));
+
+        // cut off part way through the dictionary
+        Files.write(archivePath, Arrays.copyOf(archiveBytes, 5 * Integer.BYTES + 2));
+        Assert.assertThrows(DataConversionException.class, () -> new SalesArchiveFile(archivePath));
+
+        Files.write(archivePath, "not an archive file".getBytes());
+        Assert.assertThrows(DataConversionException.class, () -> new SalesArchiveFile(archivePath));
+    }
+
+    /**
+     * Returns a transaction at {@code time} selling {@code firstQuantity} of {@code firstProduct}, and
+     * {@code secondQuantity} of {@code secondProduct} unless it is null.
+     */
+    private Transaction createTransaction(String time, String firstProduct, int firstQuantity, String secondProduct,
+            int secondQuantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put(firstProduct, firstQuantity);
+        if (secondProduct != null) {
+            record.put(secondProduct, secondQuantity);
+        }
+        return new Transaction(time, record);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class SalesImportFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<String> sales = new ArrayList<>();
+    private final List<String> rejectedLines = new ArrayList<>();
+
+    private final SalesImportFile.SaleHandler handler = new SalesImportFile.SaleHandler() {
+        @Override
+        public void handleSale(int lineNumber, String time, String productName, int quantity) {
+            sales.add(lineNumber + " " + time + " " + productName + " " + quantity);
+        }
+
+        @Override
+        public void handleRejectedLine(int lineNumber, String reason) {
+            rejectedLines.add(lineNumber + " " + reason);
+        }
+    };
+
+    @Test
+    public void read_csv_salesAndRejectedLinesInOrder() throws Exception {
+        read("sales.csv",
+                "time,product,quantity",
+                "2018/11/01 10:00:00, Apple ,2",
+                "",
+                "2018/11/01 10:00:00,Milk",
+                "2018/11/01 10:05:00",
+                "2018/11/01 10:06:00,Apple,zero",
+                "2018/11/01 10:07:00,Apple,-1");
+
+        assertEquals(Arrays.asList("2 2018/11/01 10:00:00 Apple 2", "4 2018/11/01 10:00:00 Milk 1"), sales);
+        assertEquals(Arrays.asList("5 " + SalesImportFile.MESSAGE_MALFORMED_LINE,
+                "6 " + SalesImportFile.MESSAGE_INVALID_QUANTITY,
+                "7 " + SalesImportFile.MESSAGE_INVALID_QUANTITY), rejectedLines);
+    }
+
+    @Test
+    public void read_jsonLines_salesAndRejectedLinesInOrder() throws Exception {
+        read("sales.jsonl",
+                "{\"time\": \"2018/11/01 10:00:00\", \"product\": \"Apple\", \"quantity\": 2}",
+                "{\"time\": \"2018/11/01 10:01:00\", \"product\": \"Milk\"}",
+                "{\"time\": \"2018/11/01 10:02:00\"}",
+                "not json",
+                "{\"time\": \"2018/11/01 10:03:00\", \"product\": \"Apple\", \"quantity\": 1.5}");
+
+        assertEquals(Arrays.asList("1 2018/11/01 10:00:00 Apple 2", "2 2018/11/01 10:01:00 Milk 1"), sales);
+        assertEquals(Arrays.asList("3 " + SalesImportFile.MESSAGE_MALFORMED_LINE,
+                "4 " + SalesImportFile.MESSAGE_MALFORMED_LINE,
+                "5 " + SalesImportFile.MESSAGE_INVALID_QUANTITY), rejectedLines);
+    }
+
+    @Test
+    public void read_exportedFile_sameSales() throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", 2);
+        record.put("Milk", 1);
+        List<Transaction> transactions = Arrays.asList(new Transaction("2018/11/01 10:00:00", record),
+                new Transaction("2018/11/02 09:30:00", new TreeMap<>(Collections.singletonMap("Apple", 5))));
+        Path filePath = testFolder.getRoot().toPath().resolve("export").resolve("sales.csv");
+
+        assertEquals(2, SalesExportFile.write(filePath, transactions.iterator()));
+        SalesImportFile.read(filePath, handler);
+
+        assertEquals(Arrays.asList("2 2018/11/01 10:00:00 Apple 2", "3 2018/11/01 10:00:00 Milk 1",
+                "4 2018/11/02 09:30:00 Apple 5"), sales);
+        assertEquals(Collections.emptyList(), rejectedLines);
+    }
+
+    @Test(expected = IOException.class)
+    public void read_missingFile_throwsIoException() throws Exception {
+        SalesImportFile.read(testFolder.getRoot().toPath().resolve("missing.csv"), handler);
+    }
+
+    /**
+     * Writes {@code lines} to a file named {@code fileName} and reads it.
+     */
+    private void read(String fileName, String... lines) throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        SalesImportFile.read(filePath, handler);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.ProductDatabase;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.TypicalDistributors;
+import seedu.address.testutil.TypicalProducts;
+
+public class StorageFormatConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convertProductDatabase_xmlToBinaryAndBack_sameData() throws Exception {
+        Path filePath = getTempFilePath("products.xml");
+        new XmlProductDatabaseStorage(filePath).saveAddressBook(TypicalProducts.getTypicalAddressBook());
+
+        assertTrue(StorageFormatConverter.convertProductDatabase(filePath, StorageFormat.XML, StorageFormat.BINARY));
+        Path binaryFilePath = getTempFilePath("products.bin");
+        assertEquals(TypicalProducts.getTypicalAddressBook(),
+                new BinaryProductDatabaseStorage(binaryFilePath).readProductDatabaseBook().get());
+
+        Files.delete(filePath);
+        assertTrue(StorageFormatConverter.convertProductDatabase(filePath, StorageFormat.BINARY, StorageFormat.XML));
+        assertEquals(TypicalProducts.getTypicalAddressBook(),
+                new XmlProductDatabaseStorage(filePath).readProductDatabaseBook().get());
+    }
+
+    @Test
+    public void convertProductDatabase_missingSourceFile_returnsFalse() throws Exception {
+        Path filePath = getTempFilePath("products.xml");
+        assertFalse(StorageFormatConverter.convertProductDatabase(filePath, StorageFormat.XML, StorageFormat.BINARY));
+        assertFalse(Files.exists(getTempFilePath("products.bin")));
+    }
+
+    @Test
+    public void createDistributorBookStorage_onlyXmlFileExists_convertsToBinary() throws Exception {
+        Path filePath = getTempFilePath("distributors.xml");
+        new XmlDistributorBookStorage(filePath).saveDistributorBook(TypicalDistributors.getTypicalDistributorBook());
+
+        DistributorBookStorage storage = DataStorageFactory.createDistributorBookStorage(StorageFormat.BINARY,
+                filePath);
+        assertEquals(getTempFilePath("distributors.bin"), storage.getDistributorBookFilePath());
+        assertEquals(TypicalDistributors.getTypicalDistributorBook(), storage.readDistributorBook().get());
+    }
+
+    @Test
+    public void createProductDatabaseStorage_xmlToBinaryEditedAndBack_editedDataRead() throws Exception {
+        Path filePath = getTempFilePath("products.xml");
+        new XmlProductDatabaseStorage(filePath).saveAddressBook(TypicalProducts.getTypicalAddressBook());
+
+        ProductDatabaseStorage binaryStorage = DataStorageFactory.createProductDatabaseStorage(StorageFormat.BINARY,
+                filePath);
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(getTempFilePath("products.xml" + DataStorageFactory.RETIRED_FILE_SUFFIX)));
+        ProductDatabase editedProductDatabase = TypicalProducts.getTypicalAddressBook();
+        editedProductDatabase.removeProduct(TypicalProducts.GRAPE);
+        binaryStorage.saveAddressBook(editedProductDatabase);
+
+        ProductDatabaseStorage xmlStorage = DataStorageFactory.createProductDatabaseStorage(StorageFormat.XML,
+                filePath);
+        assertEquals(filePath, xmlStorage.getProductInfoBookFilePath());
+        assertEquals(editedProductDatabase, xmlStorage.readProductDatabaseBook().get());
+        assertFalse(Files.exists(getTempFilePath("products.bin")));
+    }
+
+    @Test
+    public void createSalesHistoryStorage_xmlFileWithJournal_convertsJournaledTransactions() throws Exception {
+        Path filePath = getTempFilePath("saleshistory.xml");
+        XmlSalesHistoryStorage xmlStorage = new XmlSalesHistoryStorage(filePath);
+        xmlStorage.saveSalesHistory(new SalesHistory());
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", 2);
+        xmlStorage.appendTransactions(Collections.singletonList(new Transaction("2018/10/01 10:00:00", record)),
+                filePath);
+
+        SalesHistoryStorage storage = DataStorageFactory.createSalesHistoryStorage(StorageFormat.BINARY, filePath);
+        ReadOnlySalesHistory salesHistory = storage.readSalesHistory().get();
+        assertEquals(1, salesHistory.getTransactionsAsObservableList().size());
+        assertEquals(record, salesHistory.getTransactionsAsObservableList().get(0).getTransactionRecord());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
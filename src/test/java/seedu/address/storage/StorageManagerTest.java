@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.SalesHistoryChangedEvent;
+import seedu.address.commons.events.model.TransactionAddedEvent;
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class StorageManagerTest {
+
+    /** One below the number of journaled transactions at which the journal is compacted. */
+    private static final int JOURNALED_TRANSACTION_COUNT = 499;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void flush_failedSalesHistoryWrite_writtenAgain() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        FailingSalesHistoryStorage salesHistoryStorage = new FailingSalesHistoryStorage(filePath);
+        salesHistoryStorage.remainingFailures = 1;
+        StorageManager storageManager = new StorageManager(null, null, null, null, salesHistoryStorage);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00"));
+        storageManager.handleSalesHistoryChangedEvent(new SalesHistoryChangedEvent(salesHistory));
+        Transaction added = createTransaction("2018/10/01 11:00:00");
+        salesHistory.addTransaction(added);
+        storageManager.handleTransactionAddedEvent(new TransactionAddedEvent(salesHistory, added));
+        storageManager.flush();
+
+        assertEquals(2, salesHistoryStorage.readSalesHistory().get().getTransactionsAsObservableList().size());
+    }
+
+    @Test
+    public void handleTransactionAddedEvent_journalFilledInEarlierSessions_compacted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        SalesJournal journal = new SalesJournal(filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        List<Transaction> journaledTransactions = new ArrayList<>();
+        long startTime = TimeIdentifiedClass.toEpochSecond("2018/10/01 00:00:00");
+        for (int i = 0; i < JOURNALED_TRANSACTION_COUNT; i++) {
+            Transaction transaction = createTransaction(TimeIdentifiedClass.toDateAndTime(startTime + i));
+            journaledTransactions.add(transaction);
+            salesHistory.addTransaction(transaction);
+        }
+        journal.append(journaledTransactions);
+        assertEquals(JOURNALED_TRANSACTION_COUNT, journal.countRecords());
+
+        StorageManager storageManager = new StorageManager(null, null, null, null,
+                new XmlSalesHistoryStorage(filePath));
+        Transaction added = createTransaction("2018/11/01 10:00:00");
+        salesHistory.addTransaction(added);
+        storageManager.handleTransactionAddedEvent(new TransactionAddedEvent(salesHistory, added));
+        storageManager.flush();
+
+        assertFalse(Files.exists(journal.getJournalPath()));
+        assertEquals(JOURNALED_TRANSACTION_COUNT + 1, new XmlSalesHistoryStorage(filePath).readSalesHistory().get()
+                .getTransactionsAsObservableList().size());
+    }
+
+    private Transaction createTransaction(String time) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put("Apple", 1);
+        return new Transaction(time, record);
+    }
+
+    /**
+     * A sales history storage whose saves fail until {@code remainingFailures} saves have failed.
+     */
+    private static class FailingSalesHistoryStorage extends XmlSalesHistoryStorage {
+        private volatile int remainingFailures;
+
+        FailingSalesHistoryStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSalesHistory(ReadOnlySalesHistory salesHistory, Path filePath) throws IOException {
+            if (remainingFailures > 0) {
+                remainingFailures--;
+                throw new IOException("Simulated failure");
+            }
+            super.saveSalesHistory(salesHistory, filePath);
+        }
+    }
+}
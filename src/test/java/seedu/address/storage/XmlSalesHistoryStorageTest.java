@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.saleshistory.ReadOnlySalesHistory;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.saleshistory.SalesRollup;
+import seedu.address.model.timeidentifiedclass.TimeIdentifiedClass;
+import seedu.address.model.timeidentifiedclass.Transaction;
+
+public class XmlSalesHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSalesHistory_missingFileAndJournal_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        assertFalse(new XmlSalesHistoryStorage(filePath).readSalesHistory().isPresent());
+    }
+
+    @Test
+    public void readSalesHistory_journaledTransactions_replayedOverSavedFile() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        Transaction first = createTransaction("2018/10/01 10:00:00", "Apple", 2);
+        Transaction second = createTransaction("2018/10/01 11:00:00", "Banana", 3);
+
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(first);
+        storage.saveSalesHistory(salesHistory);
+        storage.appendTransactions(Collections.singletonList(second), filePath);
+
+        assertTransactionTimes(storage.readSalesHistory().get(), first, second);
+    }
+
+    @Test
+    public void readSalesHistory_onlyJournal_recoversTransactions() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        Transaction transaction = createTransaction("2018/10/01 10:00:00", "Apple", 2);
+        storage.appendTransactions(Collections.singletonList(transaction), filePath);
+
+        ReadOnlySalesHistory readBack = storage.readSalesHistory().get();
+        assertTransactionTimes(readBack, transaction);
+        assertEquals(transaction.getTransactionRecord(),
+                readBack.getTransactionsAsObservableList().get(0).getTransactionRecord());
+    }
+
+    @Test
+    public void saveSalesHistory_afterAppends_compactsJournalIntoFile() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        Transaction first = createTransaction("2018/10/01 10:00:00", "Apple", 2);
+        Transaction second = createTransaction("2018/10/01 11:00:00", "Banana", 3);
+        storage.appendTransactions(Arrays.asList(first, second), filePath);
+
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(first);
+        salesHistory.addTransaction(second);
+        storage.saveSalesHistory(salesHistory);
+
+        assertFalse(Files.exists(new SalesJournal(filePath).getJournalPath()));
+        assertTransactionTimes(storage.readSalesHistory().get(), first, second);
+    }
+
+    @Test
+    public void readSalesHistory_savedRollup_usedAndUpdatedByJournal() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        storage.saveSalesHistory(salesHistory);
+        storage.appendTransactions(Collections.singletonList(
+                createTransaction("2018/10/01 11:00:00", "Banana", 3)), filePath);
+
+        // a rollup that matches the saved transactions, but with different units sold, shows that it is used
+        SalesRollup savedRollup = new SalesRollup();
+        savedRollup.addHour(TimeIdentifiedClass.toEpochSecond("2018/10/01 10:00:00"), 1, 20);
+        BinaryFileStorage.saveSalesRollup(new SalesRollupFile(filePath).getRollupPath(), savedRollup);
+
+        SalesRollup readBack = storage.readSalesHistory().get().getSalesRollup();
+        assertEquals(2, readBack.getTransactionCount());
+        assertEquals(23, readBack.getUnitsSold());
+    }
+
+    @Test
+    public void readSalesHistory_damagedOrOutdatedRollup_rebuiltFromTransactions() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        SalesHistory salesHistory = new SalesHistory();
+        salesHistory.addTransaction(createTransaction("2018/10/01 10:00:00", "Apple", 2));
+        storage.saveSalesHistory(salesHistory);
+        Path rollupPath = new SalesRollupFile(filePath).getRollupPath();
+
+        Files.write(rollupPath, new byte[] {1, 2, 3});
+        assertEquals(2, storage.readSalesHistory().get().getSalesRollup().getUnitsSold());
+
+        BinaryFileStorage.saveSalesRollup(rollupPath, new SalesRollup());
+        assertEquals(2, storage.readSalesHistory().get().getSalesRollup().getUnitsSold());
+    }
+
+    @Test
+    public void readTransactions_incompleteLastRecord_dropsAndTruncatesIt() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        SalesJournal journal = new SalesJournal(filePath);
+        Transaction first = createTransaction("2018/10/01 10:00:00", "Apple", 2);
+        Transaction second = createTransaction("2018/10/01 11:00:00", "Banana", 3);
+        journal.append(Collections.singletonList(first));
+        long completeLength = Files.size(journal.getJournalPath());
+        journal.append(Collections.singletonList(second));
+
+        // simulates a crash part way through the second append
+        try (FileChannel channel = FileChannel.open(journal.getJournalPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journal.getJournalPath()) - 3);
+        }
+
+        List<Transaction> transactions = journal.readTransactions();
+        assertEquals(1, transactions.size());
+        assertEquals(first.getTransactionTime(), transactions.get(0).getTransactionTime());
+        assertEquals(completeLength, Files.size(journal.getJournalPath()));
+
+        journal.append(Collections.singletonList(second));
+        assertEquals(2, journal.readTransactions().size());
+    }
+
+    @Test
+    public void deleteSalesHistory_withJournalAndRollup_deletesAll() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        storage.saveSalesHistory(new SalesHistory());
+        storage.appendTransactions(Collections.singletonList(
+                createTransaction("2018/10/01 10:00:00", "Apple", 2)), filePath);
+        assertTrue(Files.exists(new SalesJournal(filePath).getJournalPath()));
+        assertTrue(Files.exists(new SalesRollupFile(filePath).getRollupPath()));
+
+        storage.deleteSalesHistory();
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(new SalesJournal(filePath).getJournalPath()));
+        assertFalse(Files.exists(new SalesRollupFile(filePath).getRollupPath()));
+    }
+
+    @Test
+    public void deleteSalesHistory_onlyJournal_deletesJournal() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        XmlSalesHistoryStorage storage = new XmlSalesHistoryStorage(filePath);
+        storage.appendTransactions(Collections.singletonList(
+                createTransaction("2018/10/01 10:00:00", "Apple", 2)), filePath);
+
+        storage.deleteSalesHistory();
+        assertFalse(Files.exists(new SalesJournal(filePath).getJournalPath()));
+        assertFalse(storage.readSalesHistory().isPresent());
+    }
+
+    private Transaction createTransaction(String time, String productName, int quantity) throws Exception {
+        TreeMap<String, Integer> record = new TreeMap<>();
+        record.put(productName, quantity);
+        return new Transaction(time, record);
+    }
+
+    /**
+     * Asserts that {@code salesHistory} has transactions at the times of {@code expectedTransactions}, in order.
+     */
+    private void assertTransactionTimes(ReadOnlySalesHistory salesHistory, Transaction... expectedTransactions) {
+        List<Transaction> transactions = salesHistory.getTransactionsAsObservableList();
+        assertEquals(expectedTransactions.length, transactions.size());
+        for (int i = 0; i < expectedTransactions.length; i++) {
+            assertEquals(expectedTransactions[i].getTransactionTime(), transactions.get(i).getTransactionTime());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.saleshistory.SalesHistory;
+import seedu.address.model.timeidentifiedclass.Reminder;
+import seedu.address.model.timeidentifiedclass.Transaction;
+import seedu.address.testutil.TypicalProducts;
+
+public class XmlStreamingLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "XmlSerializableProductDatabaseTest");
+    private static final Path TYPICAL_PRODUCTS_FILE = TEST_DATA_FOLDER.resolve("typicalProductsProductDatabase.xml");
+    private static final Path INVALID_PRODUCT_FILE = TEST_DATA_FOLDER.resolve("invalidProductProductDatabase.xml");
+    private static final Path DUPLICATE_PRODUCT_FILE = TEST_DATA_FOLDER.resolve("duplicateProductProductDatabase.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadProductDatabase_typicalProductsFile_success() throws Exception {
+        assertEquals(TypicalProducts.getTypicalAddressBook(),
+                XmlStreamingLoader.loadProductDatabase(TYPICAL_PRODUCTS_FILE));
+    }
+
+    @Test
+    public void loadProductDatabase_invalidProductFile_sameMessageAsToModelType() throws Exception {
+        String expectedMessage = null;
+        try {
+            XmlUtil.getDataFromFile(INVALID_PRODUCT_FILE, XmlSerializableProductDatabase.class).toModelType();
+            fail();
+        } catch (IllegalValueException e) {
+            expectedMessage = e.getMessage();
+        }
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(expectedMessage);
+        XmlStreamingLoader.loadProductDatabase(INVALID_PRODUCT_FILE);
+    }
+
+    @Test
+    public void loadProductDatabase_duplicateProducts_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableProductDatabase.MESSAGE_DUPLICATE_PRODUCT);
+        XmlStreamingLoader.loadProductDatabase(DUPLICATE_PRODUCT_FILE);
+    }
+
+    @Test
+    public void loadProductDatabase_salesHistoryFile_throwsDataConversionException() throws Exception {
+        Path file = saveSalesHistory(new SalesHistory());
+        thrown.expect(DataConversionException.class);
+        XmlStreamingLoader.loadProductDatabase(file);
+    }
+
+    @Test
+    public void loadSalesHistory_savedByJaxb_sameAsToModelType() throws Exception {
+        SalesHistory salesHistory = new SalesHistory();
+        for (int i = 0; i < 2000; i++) {
+            TreeMap<String, Integer> record = new TreeMap<>();
+            record.put("Apple", i % 7 + 1);
+            record.put("Banana", i % 3 + 1);
+            salesHistory.addTransaction(new Transaction(String.format("2018/10/%02d %02d:%02d:%02d",
+                    i / 1440 + 1, i / 60 % 24, i % 60, i % 60), record));
+        }
+        salesHistory.addReminder(new Reminder("2018/11/01 09:00:00", "Order apples"));
+        Path file = saveSalesHistory(salesHistory);
+
+        SalesHistory expected = XmlUtil.getDataFromFile(file, XmlSerializableSalesHistory.class).toModelType();
+        SalesHistory loaded = XmlStreamingLoader.loadSalesHistory(file);
+        assertSameSalesHistory(expected, loaded);
+    }
+
+    @Test
+    public void loadSalesHistory_transactionWithoutProductNames_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("missingProductNames.xml");
+        FileUtil.writeToFile(file, "<SalesHistory><transactionList>"
+                + "<transactionTime>2018/10/01 10:00:00</transactionTime>"
+                + "</transactionList></SalesHistory>");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("product names");
+        XmlStreamingLoader.loadSalesHistory(file);
+    }
+
+    /**
+     * Saves {@code salesHistory} with JAXB and returns the file it was saved in.
+     */
+    private Path saveSalesHistory(SalesHistory salesHistory) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("saleshistory.xml");
+        FileUtil.createIfMissing(file);
+        XmlUtil.saveDataToFile(file, new XmlSerializableSalesHistory(salesHistory));
+        return file;
+    }
+
+    /**
+     * Asserts that {@code actual} has the same transactions and reminders as {@code expected}, in the same order.
+     */
+    private void assertSameSalesHistory(SalesHistory expected, SalesHistory actual) {
+        List<Transaction> expectedTransactions = expected.getTransactionsAsObservableList();
+        List<Transaction> actualTransactions = actual.getTransactionsAsObservableList();
+        assertEquals(expectedTransactions.size(), actualTransactions.size());
+        for (int i = 0; i < expectedTransactions.size(); i++) {
+            assertEquals(expectedTransactions.get(i).getTransactionTime(),
+                    actualTransactions.get(i).getTransactionTime());
+            assertEquals(expectedTransactions.get(i).getTransactionRecord(),
+                    actualTransactions.get(i).getTransactionRecord());
+        }
+
+        List<Reminder> expectedReminders = expected.getRemindersAsObservableList();
+        List<Reminder> actualReminders = actual.getRemindersAsObservableList();
+        assertEquals(expectedReminders.size(), actualReminders.size());
+        for (int i = 0; i < expectedReminders.size(); i++) {
+            assertEquals(expectedReminders.get(i).getReminderTime(), actualReminders.get(i).getReminderTime());
+            assertEquals(expectedReminders.get(i).getReminderMessage(), actualReminders.get(i).getReminderMessage());
+        }
+    }
+}
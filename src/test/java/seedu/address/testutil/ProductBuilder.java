@@ -8,6 +8,7 @@ import seedu.address.model.product.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductInfo;
 import seedu.address.model.product.RemainingItems;
+import seedu.address.model.product.ReorderLevel;
 import seedu.address.model.product.SerialNumber;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
@@ -29,6 +30,7 @@ public class ProductBuilder {
     private DistributorName distname;
     private ProductInfo info;
     private RemainingItems remainingItems;
+    private ReorderLevel reorderLevel;
     private Set<Tag> tags;
 
     public ProductBuilder() {
@@ -37,6 +39,7 @@ public class ProductBuilder {
         distname = new DistributorName(DEFAULT_DIST);
         info = new ProductInfo(DEFAULT_INFO);
         remainingItems = new RemainingItems(DEFAULT_REMAINING_ITEMS);
+        reorderLevel = ReorderLevel.NONE;
         tags = new HashSet<>();
     }
 
@@ -49,6 +52,7 @@ public class ProductBuilder {
         distname = productToCopy.getDistributor();
         info = productToCopy.getProductInfo();
         remainingItems = productToCopy.getRemainingItems();
+        reorderLevel = productToCopy.getReorderLevel();
         tags = new HashSet<>(productToCopy.getTags());
     }
 
@@ -100,8 +104,16 @@ public class ProductBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code ReorderLevel} of the {@code Product} that we are building.
+     */
+    public ProductBuilder withReorderLevel(String reorderLevel) {
+        this.reorderLevel = new ReorderLevel(reorderLevel);
+        return this;
+    }
+
     public Product build() {
-        return new Product(name, serialNumber, distname, info, remainingItems, tags);
+        return new Product(name, serialNumber, distname, info, remainingItems, reorderLevel, tags);
     }
 
 }
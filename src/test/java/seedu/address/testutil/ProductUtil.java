@@ -4,6 +4,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRIBUTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_INFO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMAINING_ITEMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REORDER_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -37,7 +38,8 @@ public class ProductUtil {
         sb.append(PREFIX_SERIAL_NR + product.getSerialNumber().value + " ");
         sb.append(PREFIX_DISTRIBUTOR + product.getDistributor().fullDistName + " ");
         sb.append(PREFIX_PRODUCT_INFO + product.getProductInfo().value + " ");
-        sb.append(PREFIX_REMAINING_ITEMS + product.getRemainingItems().value + " ");
+        sb.append(PREFIX_REMAINING_ITEMS + product.getRemainingItems().toString() + " ");
+        sb.append(PREFIX_REORDER_LEVEL + product.getReorderLevel().toString() + " ");
         product.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
@@ -57,6 +59,8 @@ public class ProductUtil {
                 .append(" "));
         descriptor.getRemainingItems().ifPresent(remainingItems ->
                 sb.append(PREFIX_REMAINING_ITEMS).append(remainingItems.value).append(" "));
+        descriptor.getReorderLevel().ifPresent(reorderLevel ->
+                sb.append(PREFIX_REORDER_LEVEL).append(reorderLevel.value).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();
             if (tags.isEmpty()) {
@@ -32,7 +32,7 @@ public class GuiTestAssert {
     public static void assertCardDisplaysProduct(Product expectedProduct, ProductCardHandle actualCard) {
         assertEquals(expectedProduct.getName().fullName, actualCard.getName());
         assertEquals(expectedProduct.getSerialNumber().value, actualCard.getSerialNumber());
-        assertEquals(expectedProduct.getRemainingItems().value, actualCard.getRemainingItems());
+        assertEquals(expectedProduct.getRemainingItems().toString(), actualCard.getRemainingItems());
         assertEquals(expectedProduct.getProductInfo().value, actualCard.getProductInfo());
         assertEquals(expectedProduct.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()),
                 actualCard.getTags());